@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.microbenchmark.StubMongoServer;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.result.UpdateResult;
+
+/**
+ * End to end benchmarks for {@link MongoTemplate} including cursor batching and conversion. Runs against a
+ * {@link StubMongoServer} serving canned replies and therefore measures client side overhead only.
+ *
+ * @since 4.0
+ */
+@State(Scope.Benchmark)
+public class MongoTemplateBenchmark extends AbstractMicrobenchmark {
+
+	private static final String DB_NAME = "mongo-template-benchmark";
+	private static final String COLLECTION = "person";
+	private static final int DOCUMENT_COUNT = 1000;
+
+	private StubMongoServer server;
+	private MongoClient client;
+	private MongoTemplate template;
+
+	private Person person;
+
+	@Setup
+	public void setUp() throws Exception {
+
+		server = StubMongoServer.start().withDocuments(COLLECTION, documents(DOCUMENT_COUNT));
+		client = MongoClients.create(server.getConnectionString());
+		template = new MongoTemplate(client, DB_NAME);
+
+		person = Person.of("Dave", "Matthews", Address.of("ABCDE", "Charlottesville"));
+		person.id = ObjectId.get();
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		client.close();
+		server.close();
+	}
+
+	@Benchmark
+	public List<Person> findAllUsingGetMore() {
+		return template.findAll(Person.class, COLLECTION);
+	}
+
+	@Benchmark
+	public List<Person> findWithLimit() {
+		return template.find(query(where("lastname").is("Matthews")).limit(10), Person.class, COLLECTION);
+	}
+
+	@Benchmark
+	public Person findOne() {
+		return template.findOne(query(where("firstname").is("Dave")), Person.class, COLLECTION);
+	}
+
+	@Benchmark
+	public Person insert() {
+
+		Person toInsert = Person.of("Dave", "Matthews", person.address);
+		return template.insert(toInsert, COLLECTION);
+	}
+
+	@Benchmark
+	public Person save() {
+		return template.save(person, COLLECTION);
+	}
+
+	@Benchmark
+	public UpdateResult updateFirst() {
+		return template.updateFirst(query(where("id").is(person.id)), Update.update("address.city", "Seattle"),
+				Person.class, COLLECTION);
+	}
+
+	static List<Document> documents(int count) {
+
+		List<Document> documents = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document("_id", ObjectId.get()) //
+					.append("firstname", "Dave-" + i) //
+					.append("last_name", "Matthews") //
+					.append("age", i % 100) //
+					.append("address", new Document("zipCode", "ABCDE").append("city", "Charlottesville")));
+		}
+
+		return documents;
+	}
+
+	static class Person {
+
+		@Id ObjectId id;
+		String firstname;
+		@Field("last_name") String lastname;
+		int age;
+		Address address;
+
+		static Person of(String firstname, String lastname, Address address) {
+
+			Person person = new Person();
+			person.firstname = firstname;
+			person.lastname = lastname;
+			person.address = address;
+			return person;
+		}
+	}
+
+	static class Address {
+
+		String zipCode, city;
+
+		static Address of(String zipCode, String city) {
+
+			Address address = new Address();
+			address.zipCode = zipCode;
+			address.city = city;
+			return address;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.mongodb.core.MongoTemplateBenchmark.Address;
+import org.springframework.data.mongodb.core.MongoTemplateBenchmark.Person;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.microbenchmark.StubMongoServer;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+/**
+ * End to end benchmarks for {@link ReactiveMongoTemplate} including cursor batching and conversion. Runs against a
+ * {@link StubMongoServer} serving canned replies and therefore measures client side overhead only.
+ *
+ * @since 4.0
+ */
+@State(Scope.Benchmark)
+public class ReactiveMongoTemplateBenchmark extends AbstractMicrobenchmark {
+
+	private static final String DB_NAME = "reactive-mongo-template-benchmark";
+	private static final String COLLECTION = "person";
+	private static final int DOCUMENT_COUNT = 1000;
+
+	private StubMongoServer server;
+	private MongoClient client;
+	private ReactiveMongoTemplate template;
+
+	private Person person;
+
+	@Setup
+	public void setUp() throws Exception {
+
+		server = StubMongoServer.start().withDocuments(COLLECTION, MongoTemplateBenchmark.documents(DOCUMENT_COUNT));
+		client = MongoClients.create(server.getConnectionString());
+		template = new ReactiveMongoTemplate(client, DB_NAME);
+
+		person = Person.of("Dave", "Matthews", Address.of("ABCDE", "Charlottesville"));
+		person.id = ObjectId.get();
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		client.close();
+		server.close();
+	}
+
+	@Benchmark
+	public List<Person> findAllUsingGetMore() {
+		return template.findAll(Person.class, COLLECTION).collectList().block();
+	}
+
+	@Benchmark
+	public Person findOne() {
+		return template.findOne(query(where("firstname").is("Dave")), Person.class, COLLECTION).block();
+	}
+
+	@Benchmark
+	public Person insert() {
+		return template.insert(Person.of("Dave", "Matthews", person.address), COLLECTION).block();
+	}
+
+	@Benchmark
+	public Person save() {
+		return template.save(person, COLLECTION).block();
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for rendering {@link Aggregation} pipelines with and without type based field mapping.
+ *
+ * @since 4.0
+ */
+@State(Scope.Benchmark)
+public class AggregationRenderingBenchmark extends AbstractMicrobenchmark {
+
+	private Aggregation aggregation;
+	private AggregationOperationContext typedContext;
+
+	@Setup
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.afterPropertiesSet();
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		this.aggregation = createAggregation();
+		this.typedContext = new TypeBasedAggregationOperationContext(Order.class, mappingContext,
+				new QueryMapper(converter));
+	}
+
+	@Benchmark
+	public Aggregation buildPipeline() {
+		return createAggregation();
+	}
+
+	@Benchmark
+	public List<Document> renderUntypedPipeline() {
+		return aggregation.toPipeline(DEFAULT_CONTEXT);
+	}
+
+	@Benchmark
+	public List<Document> renderTypedPipeline() {
+		return aggregation.toPipeline(typedContext);
+	}
+
+	private static Aggregation createAggregation() {
+
+		return newAggregation( //
+				match(Criteria.where("status").is("SHIPPED").and("total").gte(100)), //
+				unwind("items"), //
+				group("customerId").sum("total").as("revenue").count().as("orders").addToSet("items.sku").as("skus"), //
+				project("revenue", "orders", "skus").and("customerId").previousOperation(), //
+				sort(Direction.DESC, "revenue"), //
+				limit(10));
+	}
+
+	static class Order {
+
+		@Id String id;
+		@Field("customer_id") String customerId;
+		String status;
+		double total;
+		List<Item> items;
+	}
+
+	static class Item {
+		String sku;
+		int quantity;
+	}
+}
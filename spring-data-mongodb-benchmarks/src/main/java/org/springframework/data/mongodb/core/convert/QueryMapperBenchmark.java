@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link QueryMapper#getMappedObject(org.bson.conversions.Bson, MongoPersistentEntity)}. Does not
+ * require a running server.
+ *
+ * @since 4.0
+ */
+@State(Scope.Benchmark)
+public class QueryMapperBenchmark extends AbstractMicrobenchmark {
+
+	private QueryMapper queryMapper;
+	private MongoPersistentEntity<?> entity;
+
+	private Document simpleQuery, renamedFieldQuery, nestedPathQuery, idQuery, inQuery, complexQuery;
+
+	@Setup
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.afterPropertiesSet();
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		this.queryMapper = new QueryMapper(converter);
+		this.entity = mappingContext.getRequiredPersistentEntity(Customer.class);
+
+		List<String> ids = Arrays.asList(ObjectId.get().toHexString(), ObjectId.get().toHexString(),
+				ObjectId.get().toHexString());
+
+		this.simpleQuery = Query.query(Criteria.where("firstname").is("Dave")).getQueryObject();
+		this.renamedFieldQuery = Query.query(Criteria.where("lastname").is("Matthews")).getQueryObject();
+		this.nestedPathQuery = Query.query(Criteria.where("address.zipCode").is("ABCDE")).getQueryObject();
+		this.idQuery = Query.query(Criteria.where("id").is(ObjectId.get().toHexString())).getQueryObject();
+		this.inQuery = Query.query(Criteria.where("id").in(ids)).getQueryObject();
+		this.complexQuery = Query.query(new Criteria().orOperator( //
+				Criteria.where("firstname").is("Dave").and("age").gte(18).lt(65), //
+				Criteria.where("address.city").regex("^Sea").and("lastname").ne("Vedder"))).getQueryObject();
+	}
+
+	@Benchmark
+	public Document mapSimpleProperty() {
+		return queryMapper.getMappedObject(simpleQuery, entity);
+	}
+
+	@Benchmark
+	public Document mapRenamedProperty() {
+		return queryMapper.getMappedObject(renamedFieldQuery, entity);
+	}
+
+	@Benchmark
+	public Document mapNestedPath() {
+		return queryMapper.getMappedObject(nestedPathQuery, entity);
+	}
+
+	@Benchmark
+	public Document mapIdConvertingToObjectId() {
+		return queryMapper.getMappedObject(idQuery, entity);
+	}
+
+	@Benchmark
+	public Document mapIdInList() {
+		return queryMapper.getMappedObject(inQuery, entity);
+	}
+
+	@Benchmark
+	public Document mapOrWithRangeAndRegex() {
+		return queryMapper.getMappedObject(complexQuery, entity);
+	}
+
+	@Benchmark
+	public Document mapWithoutEntity() {
+		return queryMapper.getMappedObject(complexQuery, (MongoPersistentEntity<?>) null);
+	}
+
+	static class Customer {
+
+		@Id String id;
+		String firstname;
+		@Field("last_name") String lastname;
+		int age;
+		Address address;
+	}
+
+	static class Address {
+		String zipCode, city;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link UpdateMapper#getMappedObject(org.bson.conversions.Bson, MongoPersistentEntity)}. Does not
+ * require a running server.
+ *
+ * @since 4.0
+ */
+@State(Scope.Benchmark)
+public class UpdateMapperBenchmark extends AbstractMicrobenchmark {
+
+	private UpdateMapper updateMapper;
+	private MongoPersistentEntity<?> entity;
+
+	private Document setUpdate, nestedSetUpdate, pushEachUpdate, mixedUpdate;
+
+	@Setup
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.afterPropertiesSet();
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		this.updateMapper = new UpdateMapper(converter);
+		this.entity = mappingContext.getRequiredPersistentEntity(Customer.class);
+
+		this.setUpdate = new Update().set("firstname", "Dave").set("lastname", "Matthews").getUpdateObject();
+		this.nestedSetUpdate = new Update().set("address", new Address("ABCDE", "Some Place")).getUpdateObject();
+		this.pushEachUpdate = new Update().push("addresses")
+				.each(new Address("zip-1", "city-1"), new Address("zip-2", "city-2")).getUpdateObject();
+		this.mixedUpdate = new Update().set("address.city", "Seattle").inc("visits", 1).unset("lastname")
+				.addToSet("tags").each("one", "two", "three").currentDate("lastModified")
+				.getUpdateObject();
+	}
+
+	@Benchmark
+	public Document mapSetOfSimpleProperties() {
+		return updateMapper.getMappedObject(setUpdate, entity);
+	}
+
+	@Benchmark
+	public Document mapSetOfComplexProperty() {
+		return updateMapper.getMappedObject(nestedSetUpdate, entity);
+	}
+
+	@Benchmark
+	public Document mapPushEachOfComplexValues() {
+		return updateMapper.getMappedObject(pushEachUpdate, entity);
+	}
+
+	@Benchmark
+	public Document mapMixedOperators() {
+		return updateMapper.getMappedObject(mixedUpdate, entity);
+	}
+
+	static class Customer {
+
+		@Id String id;
+		String firstname;
+		@Field("last_name") String lastname;
+		int visits;
+		Date lastModified;
+		Address address;
+		List<Address> addresses;
+		List<String> tags;
+	}
+
+	static class Address {
+
+		String zipCode, city;
+
+		Address(String zipCode, String city) {
+			this.zipCode = zipCode;
+			this.city = city;
+		}
+	}
+}
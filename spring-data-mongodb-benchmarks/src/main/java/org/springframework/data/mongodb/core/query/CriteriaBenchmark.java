@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for building {@link Criteria} and {@link Query} objects and rendering them to {@link Document}.
+ *
+ * @since 4.0
+ */
+@State(Scope.Benchmark)
+public class CriteriaBenchmark extends AbstractMicrobenchmark {
+
+	private List<String> values;
+	private Query query;
+
+	@Setup
+	public void setUp() {
+
+		this.values = Arrays.asList("one", "two", "three", "four", "five");
+		this.query = buildQuery();
+	}
+
+	@Benchmark
+	public Criteria buildSingleCriteria() {
+		return Criteria.where("firstname").is("Dave");
+	}
+
+	@Benchmark
+	public Document buildAndRenderChainedCriteria() {
+		return Criteria.where("firstname").is("Dave").and("age").gte(18).lt(65).and("tags").in(values)
+				.getCriteriaObject();
+	}
+
+	@Benchmark
+	public Query buildQueryWithOrSortAndLimit() {
+		return buildQuery();
+	}
+
+	@Benchmark
+	public Document renderQueryObject() {
+		return query.getQueryObject();
+	}
+
+	@Benchmark
+	public Document renderSortObject() {
+		return query.getSortObject();
+	}
+
+	private Query buildQuery() {
+
+		return Query.query(new Criteria().orOperator( //
+				Criteria.where("firstname").is("Dave").and("lastname").ne("Matthews"), //
+				Criteria.where("address.city").regex("^Sea").and("tags").all(values))) //
+				.with(Sort.by(Direction.DESC, "age").and(Sort.by("lastname"))) //
+				.skip(10) //
+				.limit(20);
+	}
+}
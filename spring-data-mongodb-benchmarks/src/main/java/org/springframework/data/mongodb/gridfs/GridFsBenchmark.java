@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.microbenchmark.StubMongoServer;
+import org.springframework.util.StreamUtils;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * End to end benchmarks for storing and reading files via {@link GridFsTemplate}. Runs against a
+ * {@link StubMongoServer} serving a single canned file and therefore measures client side overhead only.
+ *
+ * @since 4.0
+ */
+@State(Scope.Benchmark)
+public class GridFsBenchmark extends AbstractMicrobenchmark {
+
+	private static final String DB_NAME = "gridfs-benchmark";
+	private static final String FILENAME = "benchmark.bin";
+	private static final int CHUNK_SIZE = 255 * 1024;
+	private static final int FILE_SIZE = 1024 * 1024;
+
+	private StubMongoServer server;
+	private MongoClient client;
+	private GridFsTemplate template;
+
+	private byte[] content;
+
+	@Setup
+	public void setUp() throws Exception {
+
+		content = new byte[FILE_SIZE];
+		Arrays.fill(content, (byte) 42);
+
+		ObjectId fileId = ObjectId.get();
+
+		server = StubMongoServer.start() //
+				.withDocuments("fs.files", List.of(fileDocument(fileId))) //
+				.withDocuments("fs.chunks", chunkDocuments(fileId, content));
+		client = MongoClients.create(server.getConnectionString());
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.afterPropertiesSet();
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		template = new GridFsTemplate(new SimpleMongoClientDatabaseFactory(client, DB_NAME), converter);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		client.close();
+		server.close();
+	}
+
+	@Benchmark
+	public ObjectId store() {
+
+		InputStream stream = new ByteArrayInputStream(content);
+		return template.store(stream, FILENAME);
+	}
+
+	@Benchmark
+	public byte[] read() throws IOException {
+
+		try (InputStream stream = template.getResource(FILENAME).getInputStream()) {
+			return StreamUtils.copyToByteArray(stream);
+		}
+	}
+
+	private static Document fileDocument(ObjectId fileId) {
+
+		return new Document("_id", fileId) //
+				.append("filename", FILENAME) //
+				.append("length", (long) FILE_SIZE) //
+				.append("chunkSize", CHUNK_SIZE) //
+				.append("uploadDate", new Date());
+	}
+
+	private static List<Document> chunkDocuments(ObjectId fileId, byte[] content) {
+
+		List<Document> chunks = new ArrayList<>();
+
+		for (int n = 0, offset = 0; offset < content.length; n++, offset += CHUNK_SIZE) {
+
+			byte[] data = Arrays.copyOfRange(content, offset, Math.min(content.length, offset + CHUNK_SIZE));
+			chunks.add(new Document("_id", ObjectId.get()).append("files_id", fileId).append("n", n).append("data",
+					new Binary(data)));
+		}
+
+		return chunks;
+	}
+}
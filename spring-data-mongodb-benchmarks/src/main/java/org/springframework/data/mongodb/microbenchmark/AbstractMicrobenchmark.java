@@ -27,6 +27,7 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
@@ -71,7 +72,10 @@ public class AbstractMicrobenchmark {
 			return;
 		}
 
-		publishResults(new Runner(options(includes).build()).run());
+		Collection<RunResult> results = new Runner(options(includes).build()).run();
+
+		publishResults(results);
+		compareWithBaseline(results);
 	}
 
 	/**
@@ -114,6 +118,7 @@ public class AbstractMicrobenchmark {
 		optionsBuilder = measure(optionsBuilder);
 		optionsBuilder = forks(optionsBuilder);
 		optionsBuilder = report(optionsBuilder);
+		optionsBuilder = profilers(optionsBuilder);
 
 		return optionsBuilder;
 	}
@@ -185,6 +190,51 @@ public class AbstractMicrobenchmark {
 		return environment.getProperty("warmupTime", Long.class, -1L);
 	}
 
+	/**
+	 * Read {@code profileGc} property from {@link org.springframework.core.env.Environment}.
+	 *
+	 * @return {@literal true} if not set.
+	 */
+	protected boolean isGcProfilingEnabled() {
+		return environment.getProperty("profileGc", Boolean.class, true);
+	}
+
+	/**
+	 * Read {@code baselineDir} property from {@link org.springframework.core.env.Environment}.
+	 *
+	 * @return {@literal null} if not set.
+	 */
+	protected String getBaselineDirectory() {
+		return environment.getProperty("baselineDir");
+	}
+
+	/**
+	 * Read {@code allocationThreshold} property from {@link org.springframework.core.env.Environment}.
+	 *
+	 * @return {@literal 0.1} (10%) if not set.
+	 */
+	protected double getAllocationThreshold() {
+		return environment.getProperty("allocationThreshold", Double.class, 0.1D);
+	}
+
+	/**
+	 * Read {@code scoreThreshold} property from {@link org.springframework.core.env.Environment}.
+	 *
+	 * @return -1 (disabled) if not set.
+	 */
+	protected double getScoreThreshold() {
+		return environment.getProperty("scoreThreshold", Double.class, -1D);
+	}
+
+	/**
+	 * Read {@code updateBaseline} property from {@link org.springframework.core.env.Environment}.
+	 *
+	 * @return {@literal false} if not set.
+	 */
+	protected boolean isUpdateBaseline() {
+		return environment.getProperty("updateBaseline", Boolean.class, false);
+	}
+
 	/**
 	 * {@code project.version_yyyy-MM-dd_ClassName.json} eg.
 	 * {@literal 1.11.0.BUILD-SNAPSHOT_2017-03-07_MappingMongoConverterBenchmark.json}
@@ -307,6 +357,40 @@ public class AbstractMicrobenchmark {
 		return optionsBuilder;
 	}
 
+	/**
+	 * Apply profiler options to {@link ChainedOptionsBuilder}.
+	 *
+	 * @param optionsBuilder must not be {@literal null}.
+	 * @return {@link ChainedOptionsBuilder} with options applied.
+	 * @see #isGcProfilingEnabled()
+	 */
+	private ChainedOptionsBuilder profilers(ChainedOptionsBuilder optionsBuilder) {
+
+		if (!isGcProfilingEnabled()) {
+			return optionsBuilder;
+		}
+
+		return optionsBuilder.addProfiler(GCProfiler.class);
+	}
+
+	/**
+	 * Compare results with the baseline stored in {@link #getBaselineDirectory()} failing on regressions.
+	 *
+	 * @param results must not be {@literal null}.
+	 * @see BaselineResultsWriter
+	 */
+	private void compareWithBaseline(Collection<RunResult> results) {
+
+		String baselineDir = getBaselineDirectory();
+
+		if (CollectionUtils.isEmpty(results) || !StringUtils.hasText(baselineDir)) {
+			return;
+		}
+
+		new BaselineResultsWriter(new File(baselineDir), getAllocationThreshold(), getScoreThreshold(), isUpdateBaseline())
+				.write(results);
+	}
+
 	/**
 	 * Publish results to an external system.
 	 *
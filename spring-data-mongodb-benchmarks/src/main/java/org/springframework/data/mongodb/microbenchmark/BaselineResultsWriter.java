@@ -0,0 +1,241 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.microbenchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link ResultsWriter} comparing the primary score and the normalized allocation rate ({@literal bytes/op}) reported
+ * by the {@link org.openjdk.jmh.profile.GCProfiler} against a baseline stored as one properties file per benchmark
+ * class. Fails with an {@link AssertionError} listing all benchmarks that regressed beyond the configured thresholds.
+ * <br />
+ * Benchmarks not yet contained in the baseline are added to it. Setting {@code updateBaseline} replaces existing
+ * values with the current results instead of comparing them.
+ *
+ * @since 4.0
+ */
+class BaselineResultsWriter implements ResultsWriter {
+
+	static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+	/**
+	 * Absolute slack in {@literal bytes/op} tolerating measurement noise of benchmarks allocating next to nothing.
+	 */
+	private static final double ALLOCATION_NOISE = 16;
+
+	private final File directory;
+	private final double allocationThreshold;
+	private final double scoreThreshold;
+	private final boolean updateBaseline;
+
+	/**
+	 * @param directory the directory containing the baseline files.
+	 * @param allocationThreshold relative allocation increase considered a regression, eg. {@literal 0.1} for 10%.
+	 *          Values less or equal to zero disable the allocation comparison.
+	 * @param scoreThreshold relative score decrease (or increase of time based modes) considered a regression. Values
+	 *          less or equal to zero disable the score comparison.
+	 * @param updateBaseline whether to replace the baseline with the current results.
+	 */
+	BaselineResultsWriter(File directory, double allocationThreshold, double scoreThreshold, boolean updateBaseline) {
+
+		this.directory = directory;
+		this.allocationThreshold = allocationThreshold;
+		this.scoreThreshold = scoreThreshold;
+		this.updateBaseline = updateBaseline;
+	}
+
+	@Override
+	public void write(Collection<RunResult> results) {
+
+		if (CollectionUtils.isEmpty(results)) {
+			return;
+		}
+
+		List<String> regressions = new ArrayList<>();
+
+		for (Map.Entry<String, List<RunResult>> entry : groupByBenchmarkClass(results).entrySet()) {
+
+			File file = new File(directory, entry.getKey() + ".properties");
+			Properties baseline = load(file);
+			boolean modified = false;
+
+			for (RunResult result : entry.getValue()) {
+
+				String key = key(result.getParams());
+				String scoreKey = key + ".score";
+				String allocationKey = key + ".allocation";
+
+				double score = result.getPrimaryResult().getScore();
+				Double allocation = allocation(result);
+
+				if (!updateBaseline) {
+
+					String baselineScore = baseline.getProperty(scoreKey);
+					if (baselineScore != null && isScoreRegression(result.getParams().getMode(), score,
+							Double.parseDouble(baselineScore))) {
+						regressions.add(String.format("%s.%s score %.3f %s (baseline %s)", entry.getKey(), key, score,
+								result.getPrimaryResult().getScoreUnit(), baselineScore));
+					}
+
+					String baselineAllocation = baseline.getProperty(allocationKey);
+					if (baselineAllocation != null && allocation != null
+							&& isAllocationRegression(allocation, Double.parseDouble(baselineAllocation))) {
+						regressions.add(String.format("%s.%s allocation %.1f B/op (baseline %s B/op)", entry.getKey(), key,
+								allocation, baselineAllocation));
+					}
+				}
+
+				modified |= store(baseline, scoreKey, score);
+
+				if (allocation != null) {
+					modified |= store(baseline, allocationKey, allocation);
+				}
+			}
+
+			if (modified) {
+				save(baseline, file);
+			}
+		}
+
+		if (!regressions.isEmpty()) {
+			throw new AssertionError(String.format("Benchmarks regressed compared to baseline in '%s':%n  %s", directory,
+					StringUtils.collectionToDelimitedString(regressions, String.format("%n  "))));
+		}
+	}
+
+	/**
+	 * Extract the normalized allocation rate from the {@link RunResult#getSecondaryResults() secondary results}.
+	 *
+	 * @param result must not be {@literal null}.
+	 * @return {@literal null} if the run did not use the {@link org.openjdk.jmh.profile.GCProfiler}.
+	 */
+	@Nullable
+	static Double allocation(RunResult result) {
+
+		for (Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+
+			// older JMH versions prefix profiler metrics with a middle dot
+			if (entry.getKey().endsWith(ALLOCATION_METRIC)) {
+				return entry.getValue().getScore();
+			}
+		}
+
+		return null;
+	}
+
+	private boolean isScoreRegression(Mode mode, double score, double baseline) {
+
+		if (scoreThreshold <= 0) {
+			return false;
+		}
+
+		return mode == Mode.Throughput ? score < baseline * (1 - scoreThreshold) : score > baseline * (1 + scoreThreshold);
+	}
+
+	private boolean isAllocationRegression(double allocation, double baseline) {
+		return allocationThreshold > 0 && allocation > baseline * (1 + allocationThreshold) + ALLOCATION_NOISE;
+	}
+
+	private boolean store(Properties baseline, String key, double value) {
+
+		if (!updateBaseline && baseline.containsKey(key)) {
+			return false;
+		}
+
+		baseline.setProperty(key, String.format(Locale.ROOT, "%.3f", value));
+		return true;
+	}
+
+	private static Map<String, List<RunResult>> groupByBenchmarkClass(Collection<RunResult> results) {
+
+		Map<String, List<RunResult>> grouped = new LinkedHashMap<>();
+
+		for (RunResult result : results) {
+
+			String benchmark = result.getParams().getBenchmark();
+			String className = StringUtils.unqualify(benchmark.substring(0, benchmark.lastIndexOf('.')));
+			grouped.computeIfAbsent(className, key -> new ArrayList<>()).add(result);
+		}
+
+		return grouped;
+	}
+
+	/**
+	 * {@code methodName} or {@code methodName[param=value,…]} for parameterized benchmarks.
+	 */
+	private static String key(BenchmarkParams params) {
+
+		String method = StringUtils.unqualify(params.getBenchmark());
+
+		if (params.getParamsKeys().isEmpty()) {
+			return method;
+		}
+
+		List<String> values = new ArrayList<>();
+		for (String param : params.getParamsKeys()) {
+			values.add(param + "=" + params.getParam(param));
+		}
+
+		return method + "[" + StringUtils.collectionToCommaDelimitedString(values) + "]";
+	}
+
+	private static Properties load(File file) {
+
+		Properties properties = new Properties();
+
+		if (!file.exists()) {
+			return properties;
+		}
+
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			properties.load(in);
+		} catch (IOException e) {
+			throw new IllegalStateException(String.format("Cannot read benchmark baseline '%s'", file), e);
+		}
+
+		return properties;
+	}
+
+	private static void save(Properties properties, File file) {
+
+		file.getParentFile().mkdirs();
+
+		try (OutputStream out = Files.newOutputStream(file.toPath())) {
+			properties.store(out, "Benchmark baseline");
+		} catch (IOException e) {
+			throw new IllegalStateException(String.format("Cannot write benchmark baseline '%s'", file), e);
+		}
+	}
+}
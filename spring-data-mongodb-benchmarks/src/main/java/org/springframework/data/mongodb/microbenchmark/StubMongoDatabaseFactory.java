@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.microbenchmark;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * {@link MongoDatabaseFactory} not backed by a server. Allows creating a
+ * {@link org.springframework.data.mongodb.core.MongoTemplate} for benchmarks measuring client side work only, such as
+ * query mapping and query derivation. Any attempt to access the database fails.
+ *
+ * @since 4.0
+ */
+public class StubMongoDatabaseFactory implements MongoDatabaseFactory {
+
+	private final PersistenceExceptionTranslator exceptionTranslator = new MongoExceptionTranslator();
+
+	@Override
+	public MongoDatabase getMongoDatabase() throws DataAccessException {
+		throw new DataAccessResourceFailureException("No database available in benchmarks without a server");
+	}
+
+	@Override
+	public MongoDatabase getMongoDatabase(String dbName) throws DataAccessException {
+		return getMongoDatabase();
+	}
+
+	@Override
+	public PersistenceExceptionTranslator getExceptionTranslator() {
+		return exceptionTranslator;
+	}
+
+	@Override
+	public ClientSession getSession(ClientSessionOptions options) {
+		throw new UnsupportedOperationException("Sessions are not supported in benchmarks without a server");
+	}
+
+	@Override
+	public MongoDatabaseFactory withSession(ClientSession session) {
+		return this;
+	}
+}
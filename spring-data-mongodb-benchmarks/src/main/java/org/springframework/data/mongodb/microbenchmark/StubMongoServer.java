@@ -0,0 +1,582 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.microbenchmark;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * In-process stand-in for a standalone MongoDB server speaking just enough of the wire protocol ({@literal OP_MSG}
+ * and the legacy {@literal OP_QUERY} handshake) to run end to end benchmarks without a database. Replies are canned:
+ * <ul>
+ * <li>{@literal find} and {@literal aggregate} return the documents registered via
+ * {@link #withDocuments(String, List)} for the collection, ignoring filters, sort and pipeline stages but honoring
+ * {@literal skip}, {@literal limit} and {@literal batchSize}. Remaining documents are served via
+ * {@literal getMore}.</li>
+ * <li>{@literal insert}, {@literal update} and {@literal delete} acknowledge every given statement without storing
+ * anything.</li>
+ * <li>{@literal aggregate} pipelines ending with a {@literal $group} stage counting documents via
+ * <code>{ $sum : 1 }</code>, as issued by {@code countDocuments}, return the number of registered documents.</li>
+ * <li>{@literal findAndModify} returns the first registered document.</li>
+ * <li>Any other command replies {@literal ok}.</li>
+ * </ul>
+ * Documents are registered by collection name regardless of the database and kept in their encoded form so that
+ * serving them adds as little server side overhead as possible.
+ *
+ * <pre class="code">
+ * StubMongoServer server = StubMongoServer.start().withDocuments("person", documents);
+ * MongoClient client = MongoClients.create(server.getConnectionString());
+ * </pre>
+ *
+ * @since 4.0
+ */
+public class StubMongoServer implements Closeable {
+
+	private static final int OP_REPLY = 1;
+	private static final int OP_QUERY = 2004;
+	private static final int OP_MSG = 2013;
+
+	private static final int CHECKSUM_PRESENT = 1;
+	private static final int MORE_TO_COME = 1 << 1;
+
+	private static final int MAX_WIRE_VERSION = 13;
+	private static final int DEFAULT_BATCH_SIZE = 101;
+	private static final long ACCEPT_BACKOFF_MILLIS = 10;
+	private static final long MAX_ACCEPT_BACKOFF_MILLIS = 500;
+
+	private static final BsonDouble OK = new BsonDouble(1);
+
+	private final ServerSocket serverSocket;
+	private final ExecutorService executor;
+	private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+	private final Map<String, List<RawBsonDocument>> collections = new ConcurrentHashMap<>();
+	private final Map<Long, ServerCursor> cursors = new ConcurrentHashMap<>();
+	private final AtomicLong cursorIds = new AtomicLong();
+	private final AtomicInteger connectionIds = new AtomicInteger();
+	private final AtomicInteger requestIds = new AtomicInteger();
+	private final Codec<Document> documentCodec = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+
+	private volatile boolean running = true;
+
+	private StubMongoServer(ServerSocket serverSocket) {
+
+		this.serverSocket = serverSocket;
+		this.executor = Executors.newCachedThreadPool(runnable -> {
+
+			Thread thread = new Thread(runnable, "stub-mongo-server");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Start a new {@link StubMongoServer} listening on a random port of the loopback interface.
+	 *
+	 * @return the running server.
+	 * @throws IOException if the server socket cannot be opened.
+	 */
+	public static StubMongoServer start() throws IOException {
+
+		StubMongoServer server = new StubMongoServer(new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+		server.executor.execute(server::acceptConnections);
+		return server;
+	}
+
+	/**
+	 * Register the {@code documents} returned when querying the given collection. Replaces previously registered
+	 * documents.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param documents must not be {@literal null}.
+	 * @return this.
+	 */
+	public StubMongoServer withDocuments(String collectionName, List<Document> documents) {
+
+		Assert.notNull(collectionName, "Collection name must not be null");
+		Assert.notNull(documents, "Documents must not be null");
+
+		List<RawBsonDocument> encoded = new ArrayList<>(documents.size());
+		for (Document document : documents) {
+			encoded.add(new RawBsonDocument(document, documentCodec));
+		}
+
+		collections.put(collectionName, Collections.unmodifiableList(encoded));
+		return this;
+	}
+
+	/**
+	 * @return the port the server is listening on.
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * @return the {@literal mongodb://} connection string pointing to this server.
+	 */
+	public String getConnectionString() {
+		return String.format("mongodb://%s:%s", serverSocket.getInetAddress().getHostAddress(), getPort());
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		running = false;
+
+		try {
+			serverSocket.close();
+			for (Socket connection : connections) {
+				connection.close();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void acceptConnections() {
+
+		int failures = 0;
+
+		while (running && !serverSocket.isClosed()) {
+			try {
+
+				Socket socket = serverSocket.accept();
+				failures = 0;
+				socket.setTcpNoDelay(true);
+				connections.add(socket);
+				executor.execute(() -> serve(socket));
+			} catch (IOException e) {
+
+				if (!running || serverSocket.isClosed()) {
+					return;
+				}
+
+				// back off on repeated failures instead of spinning
+				try {
+					Thread.sleep(Math.min(ACCEPT_BACKOFF_MILLIS << Math.min(failures++, 6), MAX_ACCEPT_BACKOFF_MILLIS));
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+
+		int connectionId = connectionIds.incrementAndGet();
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+				OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+
+			byte[] header = new byte[16];
+
+			while (running) {
+
+				in.readFully(header);
+
+				ByteBuffer headerBuffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+				int messageLength = headerBuffer.getInt();
+				int requestId = headerBuffer.getInt();
+				headerBuffer.getInt(); // responseTo
+				int opCode = headerBuffer.getInt();
+
+				byte[] body = new byte[messageLength - header.length];
+				in.readFully(body);
+				ByteBuffer bodyBuffer = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+
+				if (opCode == OP_MSG) {
+
+					int flagBits = bodyBuffer.getInt();
+					BsonDocument reply = execute(readMessageSections(bodyBuffer, flagBits), connectionId);
+
+					if ((flagBits & MORE_TO_COME) == 0) {
+						writeMessage(out, requestId, reply);
+					}
+				} else if (opCode == OP_QUERY) {
+
+					bodyBuffer.getInt(); // flags
+					readCString(bodyBuffer); // fullCollectionName
+					bodyBuffer.getInt(); // numberToSkip
+					bodyBuffer.getInt(); // numberToReturn
+					writeReply(out, requestId, execute(readDocument(bodyBuffer), connectionId));
+				} else {
+					throw new IOException(String.format("Unsupported opCode %s", opCode));
+				}
+
+				out.flush();
+			}
+		} catch (IOException e) {
+			// connection closed by client
+		} finally {
+			connections.remove(socket);
+			closeQuietly(socket);
+		}
+	}
+
+	private BsonDocument execute(BsonDocument command, int connectionId) {
+
+		String commandName = command.keySet().iterator().next();
+
+		switch (commandName) {
+			case "hello":
+			case "isMaster":
+			case "ismaster":
+				return hello(connectionId);
+			case "find":
+				return openCursor(command, command.getString("find").getValue(), command.getNumber("batchSize", null),
+						command.getBoolean("singleBatch", BsonBoolean.FALSE).getValue());
+			case "aggregate":
+				return aggregate(command);
+			case "getMore":
+				return getMore(command);
+			case "killCursors":
+				return killCursors(command);
+			case "insert":
+				return acknowledge(command, "documents");
+			case "update":
+				return acknowledge(command, "updates").append("nModified", new BsonInt32(statementCount(command, "updates")));
+			case "delete":
+				return acknowledge(command, "deletes");
+			case "findAndModify":
+				return findAndModify(command);
+			case "count":
+				return new BsonDocument("n", new BsonInt32(documents(command.getString("count").getValue()).size()))
+						.append("ok", OK);
+			case "listIndexes":
+			case "listCollections":
+				return cursorReply(0, namespace(command, "$cmd"), "firstBatch", new BsonArray());
+			default:
+				return new BsonDocument("ok", OK);
+		}
+	}
+
+	private BsonDocument hello(int connectionId) {
+
+		return new BsonDocument("helloOk", BsonBoolean.TRUE) //
+				.append("ismaster", BsonBoolean.TRUE) //
+				.append("isWritablePrimary", BsonBoolean.TRUE) //
+				.append("maxBsonObjectSize", new BsonInt32(16 * 1024 * 1024)) //
+				.append("maxMessageSizeBytes", new BsonInt32(48_000_000)) //
+				.append("maxWriteBatchSize", new BsonInt32(100_000)) //
+				.append("localTime", new BsonDateTime(System.currentTimeMillis())) //
+				.append("logicalSessionTimeoutMinutes", new BsonInt32(30)) //
+				.append("connectionId", new BsonInt32(connectionId)) //
+				.append("minWireVersion", new BsonInt32(0)) //
+				.append("maxWireVersion", new BsonInt32(MAX_WIRE_VERSION)) //
+				.append("readOnly", BsonBoolean.FALSE) //
+				.append("ok", OK);
+	}
+
+	private BsonDocument openCursor(BsonDocument command, String collectionName, BsonValue batchSize,
+			boolean singleBatch) {
+
+		List<RawBsonDocument> documents = documents(collectionName);
+
+		int skip = Math.min(command.getNumber("skip", new BsonInt32(0)).intValue(), documents.size());
+		int limit = Math.abs(command.getNumber("limit", new BsonInt32(0)).intValue());
+		int end = limit > 0 ? Math.min(documents.size(), skip + limit) : documents.size();
+
+		ServerCursor cursor = new ServerCursor(namespace(command, collectionName), documents.subList(skip, end));
+		BsonArray batch = cursor.next(batchSize(batchSize));
+
+		long cursorId = 0;
+		if (cursor.hasNext() && !singleBatch) {
+
+			cursorId = cursorIds.incrementAndGet();
+			cursors.put(cursorId, cursor);
+		}
+
+		return cursorReply(cursorId, cursor.namespace, "firstBatch", batch);
+	}
+
+	private BsonDocument aggregate(BsonDocument command) {
+
+		String collectionName = command.get("aggregate").isString() ? command.getString("aggregate").getValue() : "";
+		BsonArray pipeline = command.getArray("pipeline", new BsonArray());
+		BsonValue lastStage = pipeline.isEmpty() ? null : pipeline.get(pipeline.size() - 1);
+
+		if (lastStage != null && lastStage.isDocument() && lastStage.asDocument().containsKey("$group")) {
+
+			BsonDocument group = lastStage.asDocument().getDocument("$group");
+			BsonDocument result = new BsonDocument("_id", group.get("_id", BsonNull.VALUE));
+
+			for (Map.Entry<String, BsonValue> field : group.entrySet()) {
+				if (field.getValue().isDocument() && isCountingSum(field.getValue().asDocument().get("$sum"))) {
+					result.put(field.getKey(), new BsonInt32(documents(collectionName).size()));
+				}
+			}
+
+			return cursorReply(0, namespace(command, collectionName), "firstBatch", new BsonArray(List.of(result)));
+		}
+
+		return openCursor(command, collectionName,
+				command.getDocument("cursor", new BsonDocument()).getNumber("batchSize", null), false);
+	}
+
+	private static boolean isCountingSum(BsonValue value) {
+		return value != null && value.isNumber() && value.asNumber().intValue() == 1;
+	}
+
+	private BsonDocument getMore(BsonDocument command) {
+
+		long cursorId = command.getNumber("getMore").longValue();
+		ServerCursor cursor = cursors.get(cursorId);
+
+		if (cursor == null) {
+			return new BsonDocument("ok", new BsonDouble(0)).append("code", new BsonInt32(43)) //
+					.append("codeName", new BsonString("CursorNotFound")) //
+					.append("errmsg", new BsonString(String.format("cursor id %s not found", cursorId)));
+		}
+
+		BsonArray batch = cursor.next(batchSize(command.getNumber("batchSize", null)));
+
+		if (!cursor.hasNext()) {
+			cursors.remove(cursorId);
+			cursorId = 0;
+		}
+
+		return cursorReply(cursorId, cursor.namespace, "nextBatch", batch);
+	}
+
+	private BsonDocument killCursors(BsonDocument command) {
+
+		BsonArray killed = command.getArray("cursors", new BsonArray());
+		for (BsonValue cursorId : killed) {
+			cursors.remove(cursorId.asNumber().longValue());
+		}
+
+		return new BsonDocument("cursorsKilled", killed).append("ok", OK);
+	}
+
+	private BsonDocument findAndModify(BsonDocument command) {
+
+		List<RawBsonDocument> documents = documents(command.getString("findAndModify").getValue());
+		BsonValue value = documents.isEmpty() ? BsonNull.VALUE : documents.get(0);
+
+		return new BsonDocument("lastErrorObject",
+				new BsonDocument("n", new BsonInt32(documents.isEmpty() ? 0 : 1)).append("updatedExisting",
+						BsonBoolean.valueOf(!documents.isEmpty()))) //
+				.append("value", value) //
+				.append("ok", OK);
+	}
+
+	private static BsonDocument acknowledge(BsonDocument command, String statements) {
+		return new BsonDocument("n", new BsonInt32(statementCount(command, statements))).append("ok", OK);
+	}
+
+	private static int statementCount(BsonDocument command, String statements) {
+		return command.getArray(statements, new BsonArray()).size();
+	}
+
+	private static BsonDocument cursorReply(long cursorId, String namespace, String batchName, BsonArray batch) {
+
+		return new BsonDocument("cursor", new BsonDocument(batchName, batch) //
+				.append("id", new BsonInt64(cursorId)) //
+				.append("ns", new BsonString(namespace))) //
+				.append("ok", OK);
+	}
+
+	private List<RawBsonDocument> documents(String collectionName) {
+		return collections.getOrDefault(collectionName, Collections.emptyList());
+	}
+
+	private static String namespace(BsonDocument command, String collectionName) {
+		return command.getString("$db", new BsonString("test")).getValue() + "." + collectionName;
+	}
+
+	private static int batchSize(BsonValue batchSize) {
+
+		if (batchSize == null || !batchSize.isNumber() || batchSize.asNumber().intValue() <= 0) {
+			return DEFAULT_BATCH_SIZE;
+		}
+
+		return batchSize.asNumber().intValue();
+	}
+
+	/**
+	 * Read the body and document sequence sections of an {@literal OP_MSG} merging sequences into the command.
+	 */
+	private static BsonDocument readMessageSections(ByteBuffer buffer, int flagBits) {
+
+		int end = buffer.limit() - ((flagBits & CHECKSUM_PRESENT) != 0 ? 4 : 0);
+		BsonDocument command = new BsonDocument();
+
+		while (buffer.position() < end) {
+
+			byte kind = buffer.get();
+
+			if (kind == 0) {
+				command.putAll(readDocument(buffer));
+				continue;
+			}
+
+			int sectionStart = buffer.position();
+			int sectionEnd = sectionStart + buffer.getInt();
+			String identifier = readCString(buffer);
+
+			BsonArray sequence = new BsonArray();
+			while (buffer.position() < sectionEnd) {
+				sequence.add(readDocument(buffer));
+			}
+
+			command.put(identifier, sequence);
+		}
+
+		return command;
+	}
+
+	private static RawBsonDocument readDocument(ByteBuffer buffer) {
+
+		int size = buffer.getInt(buffer.position());
+		RawBsonDocument document = new RawBsonDocument(buffer.array(), buffer.position(), size);
+		buffer.position(buffer.position() + size);
+		return document;
+	}
+
+	private static String readCString(ByteBuffer buffer) {
+
+		int start = buffer.position();
+		while (buffer.get() != 0) {
+			// advance to the terminating null byte
+		}
+
+		return new String(buffer.array(), start, buffer.position() - start - 1, StandardCharsets.UTF_8);
+	}
+
+	private void writeMessage(OutputStream out, int responseTo, BsonDocument reply) throws IOException {
+
+		byte[] document = encode(reply);
+
+		ByteBuffer buffer = header(21 + document.length, responseTo, OP_MSG);
+		buffer.putInt(0); // flagBits
+		buffer.put((byte) 0); // body section
+		buffer.put(document);
+
+		out.write(buffer.array());
+	}
+
+	private void writeReply(OutputStream out, int responseTo, BsonDocument reply) throws IOException {
+
+		byte[] document = encode(reply);
+
+		ByteBuffer buffer = header(36 + document.length, responseTo, OP_REPLY);
+		buffer.putInt(0); // responseFlags
+		buffer.putLong(0); // cursorID
+		buffer.putInt(0); // startingFrom
+		buffer.putInt(1); // numberReturned
+		buffer.put(document);
+
+		out.write(buffer.array());
+	}
+
+	private ByteBuffer header(int messageLength, int responseTo, int opCode) {
+
+		ByteBuffer buffer = ByteBuffer.allocate(messageLength).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(messageLength);
+		buffer.putInt(requestIds.incrementAndGet());
+		buffer.putInt(responseTo);
+		buffer.putInt(opCode);
+		return buffer;
+	}
+
+	private static byte[] encode(BsonDocument document) {
+
+		BasicOutputBuffer buffer = new BasicOutputBuffer();
+		try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+			new BsonDocumentCodec().encode(writer, document, EncoderContext.builder().build());
+		}
+		return buffer.toByteArray();
+	}
+
+	private static void closeQuietly(Socket socket) {
+
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * Server side state of an open cursor.
+	 */
+	private static class ServerCursor {
+
+		private final String namespace;
+		private final List<RawBsonDocument> documents;
+		private int position;
+
+		ServerCursor(String namespace, List<RawBsonDocument> documents) {
+
+			this.namespace = namespace;
+			this.documents = documents;
+		}
+
+		synchronized boolean hasNext() {
+			return position < documents.size();
+		}
+
+		synchronized BsonArray next(int batchSize) {
+
+			int end = Math.min(documents.size(), position + batchSize);
+			BsonArray batch = new BsonArray(new ArrayList<>(documents.subList(position, end)));
+			position = end;
+			return batch;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.microbenchmark.StubMongoServer;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * End to end benchmarks for repository query methods including query derivation, string query binding, cursor
+ * batching and conversion. Runs against a {@link StubMongoServer} serving canned replies and therefore measures client
+ * side overhead only.
+ *
+ * @since 4.0
+ */
+@State(Scope.Benchmark)
+public class MongoRepositoryBenchmark extends AbstractMicrobenchmark {
+
+	private static final String DB_NAME = "mongo-repository-benchmark";
+	private static final int DOCUMENT_COUNT = 500;
+
+	private StubMongoServer server;
+	private MongoClient client;
+	private PersonRepository repository;
+
+	private List<Person> people;
+
+	@Setup
+	public void setUp() throws Exception {
+
+		server = StubMongoServer.start().withDocuments("person", documents(DOCUMENT_COUNT));
+		client = MongoClients.create(server.getConnectionString());
+		repository = new MongoRepositoryFactory(new MongoTemplate(client, DB_NAME)).getRepository(PersonRepository.class);
+
+		people = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			people.add(Person.of(ObjectId.get(), "Dave-" + i, "Matthews"));
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		client.close();
+		server.close();
+	}
+
+	@Benchmark
+	public List<Person> findAll() {
+		return repository.findAll();
+	}
+
+	@Benchmark
+	public List<Person> derivedQuery() {
+		return repository.findByLastname("Matthews");
+	}
+
+	@Benchmark
+	public List<Person> stringQuery() {
+		return repository.findByLastnameUsingStringQuery("Matthews");
+	}
+
+	@Benchmark
+	public Page<Person> pagedDerivedQuery() {
+		return repository.findByFirstnameStartingWith("Dave", PageRequest.of(0, 50));
+	}
+
+	@Benchmark
+	public List<Person> saveAll() {
+		return repository.saveAll(people);
+	}
+
+	static List<org.bson.Document> documents(int count) {
+
+		List<org.bson.Document> documents = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			documents.add(new org.bson.Document("_id", ObjectId.get()).append("firstname", "Dave-" + i)
+					.append("lastname", "Matthews"));
+		}
+
+		return documents;
+	}
+
+	interface PersonRepository extends MongoRepository<Person, ObjectId> {
+
+		List<Person> findByLastname(String lastname);
+
+		@Query("{ 'lastname' : ?0 }")
+		List<Person> findByLastnameUsingStringQuery(String lastname);
+
+		Page<Person> findByFirstnameStartingWith(String firstname, Pageable pageable);
+	}
+
+	@Document("person")
+	static class Person {
+
+		@Id ObjectId id;
+		String firstname, lastname;
+
+		static Person of(ObjectId id, String firstname, String lastname) {
+
+			Person person = new Person();
+			person.id = id;
+			person.firstname = firstname;
+			person.lastname = lastname;
+			return person;
+		}
+	}
+}
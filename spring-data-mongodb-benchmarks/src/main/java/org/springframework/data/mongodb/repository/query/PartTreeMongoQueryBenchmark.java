@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.microbenchmark.StubMongoDatabaseFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Benchmarks for creating {@link PartTreeMongoQuery derived queries} and the {@link Query} for a given set of method
+ * arguments. Uses a {@link MongoTemplate} backed by a {@link StubMongoDatabaseFactory} and therefore does not require a
+ * running server.
+ *
+ * @since 4.0
+ */
+@State(Scope.Benchmark)
+public class PartTreeMongoQueryBenchmark extends AbstractMicrobenchmark {
+
+	private MongoMappingContext mappingContext;
+	private MappingMongoConverter converter;
+	private MongoTemplate template;
+
+	private MongoQueryMethod simpleMethod, complexMethod;
+	private PartTreeMongoQuery simpleQuery, complexQuery;
+	private Object[] simpleArguments, complexArguments;
+
+	@Setup
+	public void setUp() throws Exception {
+
+		this.mappingContext = new MongoMappingContext();
+		this.mappingContext.afterPropertiesSet();
+
+		this.converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		this.converter.afterPropertiesSet();
+
+		this.template = new MongoTemplate(new StubMongoDatabaseFactory(), converter);
+
+		this.simpleMethod = queryMethod("findByFirstname", String.class);
+		this.complexMethod = queryMethod("findByFirstnameAndAgeBetweenOrLastnameStartingWithOrderByAgeDesc",
+				String.class, int.class, int.class, String.class, Pageable.class);
+
+		this.simpleQuery = createQuery(simpleMethod);
+		this.complexQuery = createQuery(complexMethod);
+
+		this.simpleArguments = new Object[] { "Dave" };
+		this.complexArguments = new Object[] { "Dave", 18, 65, "Mat", PageRequest.of(1, 20) };
+	}
+
+	@Benchmark
+	public PartTreeMongoQuery createSimpleDerivedQuery() {
+		return createQuery(simpleMethod);
+	}
+
+	@Benchmark
+	public PartTreeMongoQuery createComplexDerivedQuery() {
+		return createQuery(complexMethod);
+	}
+
+	@Benchmark
+	public Query bindSimpleDerivedQuery() {
+		return simpleQuery.createQuery(accessor(simpleMethod, simpleArguments));
+	}
+
+	@Benchmark
+	public Query bindComplexDerivedQuery() {
+		return complexQuery.createQuery(accessor(complexMethod, complexArguments));
+	}
+
+	private MongoQueryMethod queryMethod(String name, Class<?>... parameters) throws NoSuchMethodException {
+
+		Method method = PersonRepository.class.getMethod(name, parameters);
+		return new MongoQueryMethod(method, new DefaultRepositoryMetadata(PersonRepository.class),
+				new SpelAwareProxyProjectionFactory(), mappingContext);
+	}
+
+	private PartTreeMongoQuery createQuery(MongoQueryMethod method) {
+		return new PartTreeMongoQuery(method, template, new SpelExpressionParser(),
+				QueryMethodEvaluationContextProvider.DEFAULT);
+	}
+
+	private ConvertingParameterAccessor accessor(MongoQueryMethod method, Object[] arguments) {
+		return new ConvertingParameterAccessor(converter, new MongoParametersParameterAccessor(method, arguments));
+	}
+
+	interface PersonRepository extends Repository<Person, String> {
+
+		List<Person> findByFirstname(String firstname);
+
+		List<Person> findByFirstnameAndAgeBetweenOrLastnameStartingWithOrderByAgeDesc(String firstname, int from, int to,
+				String lastname, Pageable pageable);
+	}
+
+	static class Person {
+
+		@Id String id;
+		String firstname, lastname;
+		int age;
+	}
+}
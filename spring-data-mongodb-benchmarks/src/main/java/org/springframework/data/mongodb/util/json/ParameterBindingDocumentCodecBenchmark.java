@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util.json;
+
+import java.util.Arrays;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Benchmarks for decoding {@link org.springframework.data.mongodb.repository.Query string queries} binding method
+ * arguments via {@link ParameterBindingDocumentCodec}.
+ *
+ * @since 4.0
+ */
+@State(Scope.Benchmark)
+public class ParameterBindingDocumentCodecBenchmark extends AbstractMicrobenchmark {
+
+	private static final String STATIC_QUERY = "{ 'firstname' : 'Dave', 'age' : { '$gte' : 18 } }";
+	private static final String SIMPLE_QUERY = "{ 'firstname' : ?0 }";
+	private static final String COMPLEX_QUERY = "{ '$or' : [ { 'firstname' : ?0, 'lastname' : ?1 }, { 'age' : { '$gte' : ?2, '$lt' : ?3 } }, { 'tags' : { '$in' : ?4 } } ] }";
+	private static final String QUOTED_PLACEHOLDER_QUERY = "{ 'lastname' : { '$regex' : '^?1' }, 'address.city' : '?0' }";
+	private static final String EXPRESSION_QUERY = "{ 'firstname' : ?#{[0]}, 'age' : ?#{[2] + 1} }";
+
+	private ParameterBindingDocumentCodec codec;
+	private Object[] values;
+	private ParameterBindingContext expressionContext;
+
+	@Setup
+	public void setUp() {
+
+		this.codec = new ParameterBindingDocumentCodec();
+		this.values = new Object[] { "Dave", "Matthews", 18, 65, Arrays.asList("one", "two", "three") };
+
+		StandardEvaluationContext evaluationContext = new StandardEvaluationContext(values);
+		this.expressionContext = new ParameterBindingContext(index -> values[index], new SpelExpressionParser(),
+				() -> evaluationContext);
+	}
+
+	@Benchmark
+	public Document decodeWithoutPlaceholders() {
+		return codec.decode(STATIC_QUERY, values);
+	}
+
+	@Benchmark
+	public Document decodeWithSinglePlaceholder() {
+		return codec.decode(SIMPLE_QUERY, values);
+	}
+
+	@Benchmark
+	public Document decodeWithMultiplePlaceholders() {
+		return codec.decode(COMPLEX_QUERY, values);
+	}
+
+	@Benchmark
+	public Document decodeWithQuotedPlaceholders() {
+		return codec.decode(QUOTED_PLACEHOLDER_QUERY, values);
+	}
+
+	@Benchmark
+	public Document decodeWithExpressions() {
+		return codec.decode(EXPRESSION_QUERY, expressionContext);
+	}
+}
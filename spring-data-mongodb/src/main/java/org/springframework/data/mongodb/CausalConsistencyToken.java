@@ -0,0 +1,279 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.ByteBuf;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import com.mongodb.session.ClientSession;
+
+/**
+ * Value object capturing the {@literal operation time} and {@literal cluster time} observed by a causally consistent
+ * {@link ClientSession}. Tokens allow to carry causal consistency across sessions, e.g. from one request of a user to
+ * the next one, so that reads routed to secondaries observe previous writes of the same user.
+ * <br />
+ * Use {@link #of(ClientSession)} to capture the state of a session after performing operations,
+ * {@link #applyTo(ClientSession)} to advance a new session and {@link #serialize()}/{@link #parse(String)} to transfer
+ * tokens as opaque {@link String strings}. The cluster time is signed by the server and must not be altered.
+ *
+ * @since 4.0
+ * @see <a href="https://docs.mongodb.com/manual/core/read-isolation-consistency-recency/#causal-consistency">Causal
+ *      Consistency</a>
+ */
+public final class CausalConsistencyToken {
+
+	private static final CausalConsistencyToken NONE = new CausalConsistencyToken(null, null);
+
+	private static final String OPERATION_TIME = "operationTime";
+	private static final String CLUSTER_TIME = "clusterTime";
+
+	private final @Nullable BsonTimestamp operationTime;
+	private final @Nullable BsonDocument clusterTime;
+
+	private CausalConsistencyToken(@Nullable BsonTimestamp operationTime, @Nullable BsonDocument clusterTime) {
+
+		this.operationTime = operationTime;
+		this.clusterTime = clusterTime;
+	}
+
+	/**
+	 * @return an empty {@link CausalConsistencyToken} that does not advance sessions.
+	 */
+	public static CausalConsistencyToken none() {
+		return NONE;
+	}
+
+	/**
+	 * Capture the operation and cluster time of the given {@link ClientSession}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @return new instance of {@link CausalConsistencyToken}.
+	 */
+	public static CausalConsistencyToken of(ClientSession session) {
+
+		Assert.notNull(session, "ClientSession must not be null");
+
+		return of(session.getOperationTime(), session.getClusterTime());
+	}
+
+	/**
+	 * Create a {@link CausalConsistencyToken} for the given operation and cluster time.
+	 *
+	 * @param operationTime can be {@literal null}.
+	 * @param clusterTime can be {@literal null}.
+	 * @return new instance of {@link CausalConsistencyToken}.
+	 */
+	public static CausalConsistencyToken of(@Nullable BsonTimestamp operationTime, @Nullable BsonDocument clusterTime) {
+		return operationTime == null && clusterTime == null ? NONE : new CausalConsistencyToken(operationTime, clusterTime);
+	}
+
+	/**
+	 * Parse a token previously created via {@link #serialize()}.
+	 *
+	 * @param token can be {@literal null} or empty.
+	 * @return the parsed {@link CausalConsistencyToken} or {@link #none()} if the given {@code token} has no text.
+	 * @throws IllegalArgumentException if the given {@code token} cannot be parsed.
+	 */
+	public static CausalConsistencyToken parse(@Nullable String token) {
+
+		if (!StringUtils.hasText(token)) {
+			return NONE;
+		}
+
+		try {
+
+			byte[] bytes = Base64.getUrlDecoder().decode(token);
+
+			Assert.isTrue(
+					bytes.length >= 5 && ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getInt() == bytes.length,
+					"Token does not contain a BSON document");
+
+			RawBsonDocument document = new RawBsonDocument(bytes);
+
+			BsonValue operationTime = document.get(OPERATION_TIME);
+			BsonValue clusterTime = document.get(CLUSTER_TIME);
+
+			return of(operationTime != null ? operationTime.asTimestamp() : null,
+					clusterTime != null ? clusterTime.asDocument() : null);
+		} catch (RuntimeException ex) {
+			throw new IllegalArgumentException(String.format("Invalid causal consistency token '%s'", token), ex);
+		}
+	}
+
+	/**
+	 * Advance the operation and cluster time of the given {@link ClientSession} to the one captured by this token.
+	 * Sessions already ahead of this token remain unchanged.
+	 *
+	 * @param session must not be {@literal null}.
+	 */
+	public void applyTo(ClientSession session) {
+
+		Assert.notNull(session, "ClientSession must not be null");
+
+		if (clusterTime != null) {
+			session.advanceClusterTime(clusterTime);
+		}
+
+		if (operationTime != null) {
+			session.advanceOperationTime(operationTime);
+		}
+	}
+
+	/**
+	 * Return the token representing the later state of this and the given {@link CausalConsistencyToken}.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return the {@link CausalConsistencyToken} combining the later operation and cluster time.
+	 */
+	public CausalConsistencyToken latest(CausalConsistencyToken other) {
+
+		Assert.notNull(other, "Other token must not be null");
+
+		BsonTimestamp operationTime = later(this.operationTime, other.operationTime);
+		BsonTimestamp thisClusterTime = extractTimestamp(this.clusterTime);
+		BsonDocument clusterTime = this.clusterTime != null
+				&& later(thisClusterTime, extractTimestamp(other.clusterTime)) == thisClusterTime ? this.clusterTime
+						: other.clusterTime;
+
+		if (operationTime == this.operationTime && clusterTime == this.clusterTime) {
+			return this;
+		}
+
+		return of(operationTime, clusterTime);
+	}
+
+	/**
+	 * @return {@literal true} if the token carries neither operation nor cluster time.
+	 */
+	public boolean isEmpty() {
+		return operationTime == null && clusterTime == null;
+	}
+
+	/**
+	 * @return the operation time. Can be {@literal null}.
+	 */
+	@Nullable
+	public BsonTimestamp getOperationTime() {
+		return operationTime;
+	}
+
+	/**
+	 * @return the cluster time. Can be {@literal null}.
+	 */
+	@Nullable
+	public BsonDocument getClusterTime() {
+		return clusterTime;
+	}
+
+	/**
+	 * Serialize the token into an opaque, URL safe {@link String}.
+	 *
+	 * @return never {@literal null}. An empty {@link String} for {@link #none()}.
+	 */
+	public String serialize() {
+
+		if (isEmpty()) {
+			return "";
+		}
+
+		BsonDocument document = new BsonDocument();
+
+		if (operationTime != null) {
+			document.put(OPERATION_TIME, operationTime);
+		}
+
+		if (clusterTime != null) {
+			document.put(CLUSTER_TIME, clusterTime);
+		}
+
+		ByteBuf buffer = new RawBsonDocument(document, new BsonDocumentCodec()).getByteBuffer();
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	@Nullable
+	private static BsonTimestamp later(@Nullable BsonTimestamp left, @Nullable BsonTimestamp right) {
+
+		if (left == null) {
+			return right;
+		}
+
+		if (right == null) {
+			return left;
+		}
+
+		return left.compareTo(right) >= 0 ? left : right;
+	}
+
+	@Nullable
+	private static BsonTimestamp extractTimestamp(@Nullable BsonDocument clusterTime) {
+
+		if (clusterTime == null) {
+			return null;
+		}
+
+		BsonValue value = clusterTime.get(CLUSTER_TIME);
+		return value != null && value.isTimestamp() ? value.asTimestamp() : null;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+
+		CausalConsistencyToken that = (CausalConsistencyToken) o;
+
+		if (!ObjectUtils.nullSafeEquals(operationTime, that.operationTime)) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(clusterTime, that.clusterTime);
+	}
+
+	@Override
+	public int hashCode() {
+
+		int result = ObjectUtils.nullSafeHashCode(operationTime);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(clusterTime);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "CausalConsistencyToken{operationTime=" + operationTime + ", clusterTime=" + extractTimestamp(clusterTime)
+				+ "}";
+	}
+}
@@ -15,7 +15,10 @@
  */
 package org.springframework.data.mongodb;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.MongoTransactionRetryPolicy.RetryReason;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
@@ -53,6 +56,10 @@ import com.mongodb.client.ClientSession;
  * {@link #doCommit(MongoTransactionObject)} to implement the
  * <a href="https://docs.mongodb.com/manual/core/transactions/#retry-commit-operation">Retry Commit Operation</a>
  * behavior as outlined in the MongoDB reference manual.
+ * <br />
+ * Alternatively configure a {@link MongoTransactionRetryPolicy} via {@link #setRetryPolicy(MongoTransactionRetryPolicy)}
+ * to retry commit operations with an unknown result. Use {@link RetryingMongoTransactionManager} to also retry whole
+ * transactions failing with a {@literal TransientTransactionError}.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -66,6 +73,7 @@ public class MongoTransactionManager extends AbstractPlatformTransactionManager
 
 	private @Nullable MongoDatabaseFactory dbFactory;
 	private @Nullable TransactionOptions options;
+	private MongoTransactionRetryPolicy retryPolicy = MongoTransactionRetryPolicy.none();
 
 	/**
 	 * Create a new {@link MongoTransactionManager} for bean-style usage.
@@ -185,9 +193,10 @@ public class MongoTransactionManager extends AbstractPlatformTransactionManager
 	 * Customization hook to perform an actual commit of the given transaction.<br />
 	 * If a commit operation encounters an error, the MongoDB driver throws a {@link MongoException} holding
 	 * {@literal error labels}. <br />
-	 * By default those labels are ignored, nevertheless one might check for
-	 * {@link MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL transient commit errors labels} and retry the the
-	 * commit. <br />
+	 * The default implementation retries commits with an unknown result according to the configured
+	 * {@link #setRetryPolicy(MongoTransactionRetryPolicy) retry policy} and ignores those labels otherwise. Overriding
+	 * methods might check for {@link MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL transient commit errors
+	 * labels} and retry the the commit. <br />
 	 * <pre>
 	 * <code>
 	 * int retries = 3;
@@ -209,7 +218,36 @@ public class MongoTransactionManager extends AbstractPlatformTransactionManager
 	 * @throws Exception in case of transaction errors.
 	 */
 	protected void doCommit(MongoTransactionObject transactionObject) throws Exception {
-		transactionObject.commitTransaction();
+
+		for (int attempt = 1;; attempt++) {
+
+			try {
+				transactionObject.commitTransaction();
+				return;
+			} catch (MongoException ex) {
+
+				if (!ex.hasErrorLabel(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL)
+						|| !retryPolicy.isRetryEnabled()) {
+					throw ex;
+				}
+
+				if (!retryPolicy.canRetry(attempt)) {
+
+					retryPolicy.getListener().onRetriesExhausted(RetryReason.UNKNOWN_TRANSACTION_COMMIT_RESULT, attempt, ex);
+					throw ex;
+				}
+
+				Duration backoff = retryPolicy.getBackoff(attempt);
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Retrying commit for session %s after attempt %d; Backoff %s.",
+							debugString(transactionObject.getSession()), attempt, backoff));
+				}
+
+				retryPolicy.getListener().onRetry(RetryReason.UNKNOWN_TRANSACTION_COMMIT_RESULT, attempt, backoff, ex);
+				sleep(backoff, ex);
+			}
+		}
 	}
 
 	@Override
@@ -279,6 +317,26 @@ public class MongoTransactionManager extends AbstractPlatformTransactionManager
 		this.options = options;
 	}
 
+	/**
+	 * Set the {@link MongoTransactionRetryPolicy} to apply. Defaults to {@link MongoTransactionRetryPolicy#none()}.
+	 *
+	 * @param retryPolicy must not be {@literal null}.
+	 * @since 4.0
+	 */
+	public void setRetryPolicy(MongoTransactionRetryPolicy retryPolicy) {
+
+		Assert.notNull(retryPolicy, "RetryPolicy must not be null");
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * @return the {@link MongoTransactionRetryPolicy} in use. Never {@literal null}.
+	 * @since 4.0
+	 */
+	public MongoTransactionRetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
 	/**
 	 * Get the {@link MongoDatabaseFactory} that this instance manages transactions for.
 	 *
@@ -320,6 +378,29 @@ public class MongoTransactionManager extends AbstractPlatformTransactionManager
 		return dbFactory;
 	}
 
+	/**
+	 * Block the calling thread for the given {@code backoff}. Retries of imperative transactions hold on to the thread
+	 * for the whole backoff, so the retry policy should use short backoff bounds when transactions run on a limited
+	 * number of threads, e.g. a servlet container's request threads.
+	 *
+	 * @param backoff the duration to wait.
+	 * @param ex the exception to rethrow if the thread is interrupted while waiting.
+	 */
+	static void sleep(Duration backoff, RuntimeException ex) {
+
+		if (backoff.isZero()) {
+			return;
+		}
+
+		try {
+			Thread.sleep(backoff.toMillis(), backoff.toNanosPart() % 1_000_000);
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw ex;
+		}
+	}
+
 	private static MongoTransactionObject extractMongoTransaction(Object transaction) {
 
 		Assert.isInstanceOf(MongoTransactionObject.class, transaction,
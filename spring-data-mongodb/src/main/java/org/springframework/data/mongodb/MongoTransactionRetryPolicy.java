@@ -0,0 +1,270 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoException;
+
+/**
+ * Policy defining how {@link RetryingMongoTransactionManager} and {@link ReactiveMongoTransactionManager} retry
+ * transactions that failed with an error labeled
+ * {@link MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL TransientTransactionError} and how
+ * {@link MongoTransactionManager} and {@link ReactiveMongoTransactionManager} retry commit operations that failed with
+ * an error labeled {@link MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL UnknownTransactionCommitResult}.
+ * <br />
+ * Retries are delayed using exponential backoff with full jitter. Each delay is picked at random between zero and the
+ * exponentially growing backoff capped at {@link #backoff(Duration, Duration) max backoff} so that concurrent
+ * transactions competing for the same documents do not retry in lock step. Imperative transaction managers block the
+ * calling thread for the duration of the backoff.
+ * <br />
+ * The {@link RetryListener} is notified about each retry and about retries being exhausted and can be used to record
+ * metrics.
+ *
+ * <pre class="code">
+ * MongoTransactionRetryPolicy policy = MongoTransactionRetryPolicy.maxAttempts(5)
+ * 		.backoff(Duration.ofMillis(10), Duration.ofMillis(500))
+ * 		.listener(new RetryListener() { … });
+ * </pre>
+ *
+ * @since 4.0
+ * @see <a href="https://docs.mongodb.com/manual/core/transactions-in-applications/">Drivers API</a>
+ */
+public final class MongoTransactionRetryPolicy {
+
+	private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(10);
+	private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(1);
+	private static final double DEFAULT_MULTIPLIER = 2D;
+
+	private static final MongoTransactionRetryPolicy NONE = new MongoTransactionRetryPolicy(1, DEFAULT_INITIAL_BACKOFF,
+			DEFAULT_MAX_BACKOFF, DEFAULT_MULTIPLIER, RetryListener.NONE);
+
+	private final int maxAttempts;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+	private final double multiplier;
+	private final RetryListener listener;
+
+	private MongoTransactionRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff,
+			double multiplier, RetryListener listener) {
+
+		this.maxAttempts = maxAttempts;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.multiplier = multiplier;
+		this.listener = listener;
+	}
+
+	/**
+	 * Obtain a {@link MongoTransactionRetryPolicy} that does not retry.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public static MongoTransactionRetryPolicy none() {
+		return NONE;
+	}
+
+	/**
+	 * Create a new {@link MongoTransactionRetryPolicy} that attempts a transaction at most {@code maxAttempts} times
+	 * using the default backoff of {@literal 10ms} doubled on each attempt up to {@literal 1s}.
+	 *
+	 * @param maxAttempts the total number of attempts including the initial one. Must be greater than zero.
+	 * @return new instance of {@link MongoTransactionRetryPolicy}.
+	 */
+	public static MongoTransactionRetryPolicy maxAttempts(int maxAttempts) {
+
+		Assert.isTrue(maxAttempts > 0, "MaxAttempts must be greater than zero");
+
+		return new MongoTransactionRetryPolicy(maxAttempts, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF,
+				DEFAULT_MULTIPLIER, RetryListener.NONE);
+	}
+
+	/**
+	 * Create a new {@link MongoTransactionRetryPolicy} using the given backoff bounds.
+	 *
+	 * @param initialBackoff the backoff before the first retry. Must not be {@literal null} or negative.
+	 * @param maxBackoff the upper bound for the backoff. Must not be {@literal null} or less than {@code initialBackoff}.
+	 * @return new instance of {@link MongoTransactionRetryPolicy}.
+	 */
+	public MongoTransactionRetryPolicy backoff(Duration initialBackoff, Duration maxBackoff) {
+
+		Assert.notNull(initialBackoff, "Initial backoff must not be null");
+		Assert.notNull(maxBackoff, "Max backoff must not be null");
+		Assert.isTrue(!initialBackoff.isNegative(), "Initial backoff must not be negative");
+		Assert.isTrue(maxBackoff.compareTo(initialBackoff) >= 0, "Max backoff must not be less than initial backoff");
+
+		return new MongoTransactionRetryPolicy(maxAttempts, initialBackoff, maxBackoff, multiplier, listener);
+	}
+
+	/**
+	 * Create a new {@link MongoTransactionRetryPolicy} growing the backoff by the given {@code multiplier} on each
+	 * attempt.
+	 *
+	 * @param multiplier must be greater or equal to {@literal 1}.
+	 * @return new instance of {@link MongoTransactionRetryPolicy}.
+	 */
+	public MongoTransactionRetryPolicy multiplier(double multiplier) {
+
+		Assert.isTrue(multiplier >= 1D, "Multiplier must be greater or equal to one");
+
+		return new MongoTransactionRetryPolicy(maxAttempts, initialBackoff, maxBackoff, multiplier, listener);
+	}
+
+	/**
+	 * Create a new {@link MongoTransactionRetryPolicy} notifying the given {@link RetryListener}.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @return new instance of {@link MongoTransactionRetryPolicy}.
+	 */
+	public MongoTransactionRetryPolicy listener(RetryListener listener) {
+
+		Assert.notNull(listener, "RetryListener must not be null");
+
+		return new MongoTransactionRetryPolicy(maxAttempts, initialBackoff, maxBackoff, multiplier, listener);
+	}
+
+	/**
+	 * @return the total number of attempts including the initial one.
+	 */
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * @return the {@link RetryListener} to notify. Never {@literal null}.
+	 */
+	public RetryListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * @return {@literal true} if the policy allows more than a single attempt.
+	 */
+	public boolean isRetryEnabled() {
+		return maxAttempts > 1;
+	}
+
+	/**
+	 * @param attempt the number of the attempt that just failed, starting at {@literal 1}.
+	 * @return {@literal true} if another attempt is allowed.
+	 */
+	public boolean canRetry(int attempt) {
+		return attempt < maxAttempts;
+	}
+
+	/**
+	 * Compute the jittered delay to apply after the given failed {@code attempt}.
+	 *
+	 * @param attempt the number of the attempt that just failed, starting at {@literal 1}.
+	 * @return never {@literal null}.
+	 */
+	public Duration getBackoff(int attempt) {
+
+		double backoff = initialBackoff.toNanos() * Math.pow(multiplier, Math.max(0, attempt - 1));
+		long cap = (long) Math.min(backoff, maxBackoff.toNanos());
+
+		return cap > 0 ? Duration.ofNanos(ThreadLocalRandom.current().nextLong(cap + 1)) : Duration.ZERO;
+	}
+
+	/**
+	 * Find the {@link MongoException} carrying the error label of the given {@link RetryReason} within the causal chain
+	 * of {@code ex}.
+	 *
+	 * @param ex can be {@literal null}.
+	 * @param reason must not be {@literal null}.
+	 * @return the labeled {@link MongoException} or {@literal null} if none found.
+	 */
+	@Nullable
+	static MongoException findLabeledError(@Nullable Throwable ex, RetryReason reason) {
+
+		Throwable current = ex;
+
+		while (current != null) {
+
+			if (current instanceof MongoException && ((MongoException) current).hasErrorLabel(reason.getErrorLabel())) {
+				return (MongoException) current;
+			}
+
+			current = current.getCause() != current ? current.getCause() : null;
+		}
+
+		return null;
+	}
+
+	/**
+	 * The reason for retrying.
+	 */
+	public enum RetryReason {
+
+		/**
+		 * The transaction failed with a transient error and the whole transaction is retried.
+		 */
+		TRANSIENT_TRANSACTION_ERROR(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL),
+
+		/**
+		 * The outcome of the commit is unknown and the commit operation is retried.
+		 */
+		UNKNOWN_TRANSACTION_COMMIT_RESULT(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL);
+
+		private final String errorLabel;
+
+		RetryReason(String errorLabel) {
+			this.errorLabel = errorLabel;
+		}
+
+		/**
+		 * @return the MongoDB error label associated with the reason.
+		 */
+		public String getErrorLabel() {
+			return errorLabel;
+		}
+	}
+
+	/**
+	 * Callback interface notified about transaction retries. Use {@link MongoException#getCode()} and
+	 * {@link MongoException#getErrorLabels()} of the given cause to categorize abort reasons.
+	 */
+	public interface RetryListener {
+
+		/**
+		 * {@link RetryListener} that does nothing.
+		 */
+		RetryListener NONE = new RetryListener() {};
+
+		/**
+		 * Called before retrying after a failed attempt.
+		 *
+		 * @param reason the {@link RetryReason}.
+		 * @param attempt the number of the attempt that failed, starting at {@literal 1}.
+		 * @param backoff the delay before the next attempt.
+		 * @param cause the labeled {@link MongoException} that caused the retry.
+		 */
+		default void onRetry(RetryReason reason, int attempt, Duration backoff, MongoException cause) {}
+
+		/**
+		 * Called when an attempt failed with a retryable error but no more attempts are allowed.
+		 *
+		 * @param reason the {@link RetryReason}.
+		 * @param attempts the total number of attempts made.
+		 * @param cause the labeled {@link MongoException} of the last attempt.
+		 */
+		default void onRetriesExhausted(RetryReason reason, int attempts, MongoException cause) {}
+	}
+}
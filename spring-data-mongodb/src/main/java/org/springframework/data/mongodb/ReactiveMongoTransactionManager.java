@@ -15,16 +15,24 @@
  */
 package org.springframework.data.mongodb;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.MongoTransactionRetryPolicy.RetryReason;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.TransactionSystemException;
 import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
 import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionCallback;
 import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.transaction.support.SmartTransactionObject;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -57,6 +65,11 @@ import com.mongodb.reactivestreams.client.ClientSession;
  * {@link #doCommit(TransactionSynchronizationManager, ReactiveMongoTransactionObject)} to implement the
  * <a href="https://docs.mongodb.com/manual/core/transactions/#retry-commit-operation">Retry Commit Operation</a>
  * behavior as outlined in the MongoDB reference manual.
+ * <br />
+ * Alternatively configure a {@link MongoTransactionRetryPolicy} via {@link #setRetryPolicy(MongoTransactionRetryPolicy)}
+ * to retry commit operations with an unknown result. Whole transactions failing with a
+ * {@literal TransientTransactionError} are retried when running them through
+ * {@link #execute(TransactionDefinition, TransactionCallback)}.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -68,6 +81,7 @@ public class ReactiveMongoTransactionManager extends AbstractReactiveTransaction
 
 	private @Nullable ReactiveMongoDatabaseFactory databaseFactory;
 	private @Nullable TransactionOptions options;
+	private MongoTransactionRetryPolicy retryPolicy = MongoTransactionRetryPolicy.none();
 
 	/**
 	 * Create a new {@link ReactiveMongoTransactionManager} for bean-style usage.
@@ -110,6 +124,69 @@ public class ReactiveMongoTransactionManager extends AbstractReactiveTransaction
 		this.options = options;
 	}
 
+	/**
+	 * Execute the given {@link TransactionCallback} within a transaction using a {@link TransactionalOperator}. If the
+	 * transaction is not participating in an existing one, the whole callback is resubscribed according to the
+	 * {@link #setRetryPolicy(MongoTransactionRetryPolicy) retry policy} when it fails with a
+	 * {@literal TransientTransactionError} before emitting any element. Elements already emitted cannot be taken back,
+	 * so attempts failing after emitting elements are not retried.
+	 *
+	 * @param definition must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return the result of the callback.
+	 * @since 4.0
+	 */
+	public <T> Flux<T> execute(TransactionDefinition definition, TransactionCallback<T> callback) {
+
+		Assert.notNull(definition, "TransactionDefinition must not be null");
+		Assert.notNull(callback, "TransactionCallback must not be null");
+
+		TransactionalOperator operator = TransactionalOperator.create(this, definition);
+
+		if (!retryPolicy.isRetryEnabled()) {
+			return operator.execute(callback);
+		}
+
+		return TransactionSynchronizationManager.forCurrentTransaction()
+				.map(it -> it.hasResource(getRequiredDatabaseFactory())) //
+				.onErrorResume(NoTransactionException.class, ex -> Mono.just(false)) //
+				.flatMapMany(existing -> existing ? operator.execute(callback) : executeWithRetry(operator, callback, 1));
+	}
+
+	private <T> Flux<T> executeWithRetry(TransactionalOperator operator, TransactionCallback<T> callback, int attempt) {
+
+		return Flux.defer(() -> {
+
+			AtomicBoolean emitted = new AtomicBoolean();
+
+			return operator.execute(callback).doOnNext(it -> emitted.set(true)).onErrorResume(ex -> {
+
+				MongoException cause = MongoTransactionRetryPolicy.findLabeledError(ex,
+						RetryReason.TRANSIENT_TRANSACTION_ERROR);
+
+				if (cause == null || emitted.get()) {
+					return Flux.error(ex);
+				}
+
+				if (!retryPolicy.canRetry(attempt)) {
+
+					retryPolicy.getListener().onRetriesExhausted(RetryReason.TRANSIENT_TRANSACTION_ERROR, attempt, cause);
+					return Flux.error(ex);
+				}
+
+				Duration backoff = retryPolicy.getBackoff(attempt);
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Retrying transaction after attempt %d failed with %s; Backoff %s.", attempt,
+							cause.getMessage(), backoff));
+				}
+
+				retryPolicy.getListener().onRetry(RetryReason.TRANSIENT_TRANSACTION_ERROR, attempt, backoff, cause);
+				return Mono.delay(backoff).thenMany(executeWithRetry(operator, callback, attempt + 1));
+			});
+		});
+	}
+
 	@Override
 	protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager)
 			throws TransactionException {
@@ -207,16 +284,48 @@ public class ReactiveMongoTransactionManager extends AbstractReactiveTransaction
 	 * Customization hook to perform an actual commit of the given transaction.<br />
 	 * If a commit operation encounters an error, the MongoDB driver throws a {@link MongoException} holding
 	 * {@literal error labels}. <br />
-	 * By default those labels are ignored, nevertheless one might check for
-	 * {@link MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL transient commit errors labels} and retry the the
-	 * commit.
+	 * The default implementation retries commits with an unknown result according to the configured
+	 * {@link #setRetryPolicy(MongoTransactionRetryPolicy) retry policy} and ignores those labels otherwise. Overriding
+	 * methods might check for {@link MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL transient commit errors
+	 * labels} and retry the the commit.
 	 *
 	 * @param synchronizationManager reactive synchronization manager.
 	 * @param transactionObject never {@literal null}.
 	 */
 	protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
 			ReactiveMongoTransactionObject transactionObject) {
-		return transactionObject.commitTransaction();
+
+		if (!retryPolicy.isRetryEnabled()) {
+			return transactionObject.commitTransaction();
+		}
+
+		return commitWithRetry(transactionObject, 1);
+	}
+
+	private Mono<Void> commitWithRetry(ReactiveMongoTransactionObject transactionObject, int attempt) {
+
+		return transactionObject.commitTransaction().onErrorResume(MongoException.class, ex -> {
+
+			if (!ex.hasErrorLabel(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL)) {
+				return Mono.error(ex);
+			}
+
+			if (!retryPolicy.canRetry(attempt)) {
+
+				retryPolicy.getListener().onRetriesExhausted(RetryReason.UNKNOWN_TRANSACTION_COMMIT_RESULT, attempt, ex);
+				return Mono.error(ex);
+			}
+
+			Duration backoff = retryPolicy.getBackoff(attempt);
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Retrying commit for session %s after attempt %d; Backoff %s.",
+						debugString(transactionObject.getSession()), attempt, backoff));
+			}
+
+			retryPolicy.getListener().onRetry(RetryReason.UNKNOWN_TRANSACTION_COMMIT_RESULT, attempt, backoff, ex);
+			return Mono.delay(backoff).then(Mono.defer(() -> commitWithRetry(transactionObject, attempt + 1)));
+		});
 	}
 
 	@Override
@@ -294,6 +403,26 @@ public class ReactiveMongoTransactionManager extends AbstractReactiveTransaction
 		this.options = options;
 	}
 
+	/**
+	 * Set the {@link MongoTransactionRetryPolicy} to apply. Defaults to {@link MongoTransactionRetryPolicy#none()}.
+	 *
+	 * @param retryPolicy must not be {@literal null}.
+	 * @since 4.0
+	 */
+	public void setRetryPolicy(MongoTransactionRetryPolicy retryPolicy) {
+
+		Assert.notNull(retryPolicy, "RetryPolicy must not be null");
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * @return the {@link MongoTransactionRetryPolicy} in use. Never {@literal null}.
+	 * @since 4.0
+	 */
+	public MongoTransactionRetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
 	/**
 	 * Get the {@link ReactiveMongoDatabaseFactory} that this instance manages transactions for.
 	 *
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+
+import org.springframework.data.mongodb.MongoTransactionRetryPolicy.RetryReason;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.CallbackPreferringPlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoException;
+import com.mongodb.TransactionOptions;
+
+/**
+ * {@link MongoTransactionManager} that re-runs whole transactions failing with an error labeled
+ * {@link MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL TransientTransactionError} according to its
+ * {@link MongoTransactionRetryPolicy}. Being a {@link CallbackPreferringPlatformTransactionManager}, the transactional
+ * code is handed over by {@link org.springframework.transaction.support.TransactionTemplate} and
+ * {@code @Transactional} so that it can be invoked again in a fresh {@link com.mongodb.client.ClientSession}.
+ * Transactions participating in an outer transaction are never retried.
+ * <br />
+ * Backoff between attempts blocks the calling thread.
+ *
+ * <pre class="code">
+ * RetryingMongoTransactionManager txManager = new RetryingMongoTransactionManager(dbFactory,
+ * 		MongoTransactionRetryPolicy.maxAttempts(5).backoff(Duration.ofMillis(10), Duration.ofMillis(500)));
+ * </pre>
+ *
+ * @since 4.0
+ * @see MongoTransactionRetryPolicy
+ */
+public class RetryingMongoTransactionManager extends MongoTransactionManager
+		implements CallbackPreferringPlatformTransactionManager {
+
+	/**
+	 * Create a new {@link RetryingMongoTransactionManager} for bean-style usage. The {@link MongoDatabaseFactory db
+	 * factory} and the {@link #setRetryPolicy(MongoTransactionRetryPolicy) retry policy} have to be set before using the
+	 * instance.
+	 */
+	public RetryingMongoTransactionManager() {}
+
+	/**
+	 * Create a new {@link RetryingMongoTransactionManager} obtaining sessions from the given {@link MongoDatabaseFactory}
+	 * and retrying transactions according to the given {@link MongoTransactionRetryPolicy}.
+	 *
+	 * @param dbFactory must not be {@literal null}.
+	 * @param retryPolicy must not be {@literal null}.
+	 */
+	public RetryingMongoTransactionManager(MongoDatabaseFactory dbFactory, MongoTransactionRetryPolicy retryPolicy) {
+		this(dbFactory, null, retryPolicy);
+	}
+
+	/**
+	 * Create a new {@link RetryingMongoTransactionManager} obtaining sessions from the given {@link MongoDatabaseFactory}
+	 * applying the given {@link TransactionOptions options}, if present, when starting a new transaction and retrying
+	 * transactions according to the given {@link MongoTransactionRetryPolicy}.
+	 *
+	 * @param dbFactory must not be {@literal null}.
+	 * @param options can be {@literal null}.
+	 * @param retryPolicy must not be {@literal null}.
+	 */
+	public RetryingMongoTransactionManager(MongoDatabaseFactory dbFactory, @Nullable TransactionOptions options,
+			MongoTransactionRetryPolicy retryPolicy) {
+
+		super(dbFactory, options);
+		setRetryPolicy(retryPolicy);
+	}
+
+	/**
+	 * Execute the given {@link TransactionCallback} within a transaction. If the transaction is not participating in an
+	 * existing one, the whole callback is retried according to the {@link #setRetryPolicy(MongoTransactionRetryPolicy)
+	 * retry policy} when it fails with a {@literal TransientTransactionError}. Without retry policy the callback is
+	 * executed exactly like {@link org.springframework.transaction.support.TransactionTemplate} does.
+	 *
+	 * @param definition can be {@literal null} to use the default {@link TransactionDefinition}.
+	 * @param callback must not be {@literal null}.
+	 * @return the result of the callback.
+	 * @throws TransactionException in case of initialization, rollback or system errors.
+	 */
+	@Nullable
+	@Override
+	public <T> T execute(@Nullable TransactionDefinition definition, TransactionCallback<T> callback)
+			throws TransactionException {
+
+		Assert.notNull(callback, "TransactionCallback must not be null");
+
+		TransactionDefinition definitionToUse = definition != null ? definition : TransactionDefinition.withDefaults();
+		MongoTransactionRetryPolicy retryPolicy = getRetryPolicy();
+
+		if (!retryPolicy.isRetryEnabled() || TransactionSynchronizationManager.hasResource(getResourceFactory())) {
+			return executeInTransaction(definitionToUse, callback);
+		}
+
+		for (int attempt = 1;; attempt++) {
+
+			try {
+				return executeInTransaction(definitionToUse, callback);
+			} catch (RuntimeException ex) {
+
+				MongoException cause = MongoTransactionRetryPolicy.findLabeledError(ex,
+						RetryReason.TRANSIENT_TRANSACTION_ERROR);
+
+				if (cause == null) {
+					throw ex;
+				}
+
+				if (!retryPolicy.canRetry(attempt)) {
+
+					retryPolicy.getListener().onRetriesExhausted(RetryReason.TRANSIENT_TRANSACTION_ERROR, attempt, cause);
+					throw ex;
+				}
+
+				Duration backoff = retryPolicy.getBackoff(attempt);
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Retrying transaction after attempt %d failed with %s; Backoff %s.", attempt,
+							cause.getMessage(), backoff));
+				}
+
+				retryPolicy.getListener().onRetry(RetryReason.TRANSIENT_TRANSACTION_ERROR, attempt, backoff, cause);
+				sleep(backoff, ex);
+			}
+		}
+	}
+
+	@Nullable
+	private <T> T executeInTransaction(TransactionDefinition definition, TransactionCallback<T> callback) {
+
+		TransactionStatus status = getTransaction(definition);
+		T result;
+
+		try {
+			result = callback.doInTransaction(status);
+		} catch (RuntimeException | Error ex) {
+			rollbackOnException(status, ex);
+			throw ex;
+		} catch (Throwable ex) {
+			rollbackOnException(status, ex);
+			throw new UndeclaredThrowableException(ex, "TransactionCallback threw undeclared checked exception");
+		}
+
+		commit(status);
+		return result;
+	}
+
+	private void rollbackOnException(TransactionStatus status, Throwable ex) {
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Initiating transaction rollback on application exception", ex);
+		}
+
+		try {
+			rollback(status);
+		} catch (TransactionSystemException ex2) {
+
+			logger.error("Application exception overridden by rollback exception", ex);
+			ex2.initApplicationException(ex);
+			throw ex2;
+		} catch (RuntimeException | Error ex2) {
+
+			logger.error("Application exception overridden by rollback exception", ex);
+			throw ex2;
+		}
+	}
+}
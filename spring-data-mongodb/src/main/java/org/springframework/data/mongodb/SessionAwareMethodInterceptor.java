@@ -15,14 +15,18 @@
  */
 package org.springframework.data.mongodb;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
-import org.springframework.core.MethodClassKey;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -39,6 +43,10 @@ import com.mongodb.session.ClientSession;
  * The {@link MethodInterceptor} is aware of methods on {@code MongoCollection} that my return new instances of itself
  * like (eg. {@link com.mongodb.reactivestreams.client.MongoCollection#withWriteConcern(WriteConcern)} and decorate them
  * if not already proxied.
+ * <br />
+ * The way a method is dispatched is resolved once per target type and {@link Method}. Target methods accepting a
+ * {@link ClientSession} are invoked through a pre-resolved {@link MethodHandle} so that invocations neither allocate
+ * cache keys nor use reflection.
  *
  * @param <D> Type of the actual Mongo Database.
  * @param <C> Type of the actual Mongo Collection.
@@ -58,6 +66,7 @@ public class SessionAwareMethodInterceptor<D, C> implements MethodInterceptor {
 	private final Class<?> collectionType;
 	private final Class<?> databaseType;
 	private final Class<? extends ClientSession> sessionType;
+	private final TargetMethods targetMethods;
 
 	/**
 	 * Create a new SessionAwareMethodInterceptor for given target.
@@ -93,13 +102,17 @@ public class SessionAwareMethodInterceptor<D, C> implements MethodInterceptor {
 
 		this.targetType = ClassUtils.isAssignable(databaseType, target.getClass()) ? databaseType : collectionType;
 		this.sessionType = sessionType;
+		this.targetMethods = METHOD_CACHE.forTarget(this.targetType, this.sessionType, this.databaseType,
+				this.collectionType);
 	}
 
 	@Nullable
 	@Override
 	public Object invoke(MethodInvocation methodInvocation) throws Throwable {
 
-		if (requiresDecoration(methodInvocation.getMethod())) {
+		SessionMethod sessionMethod = targetMethods.get(methodInvocation.getMethod());
+
+		if (sessionMethod.requiresDecoration()) {
 
 			Object target = methodInvocation.proceed();
 			if (target instanceof Proxy) {
@@ -109,21 +122,11 @@ public class SessionAwareMethodInterceptor<D, C> implements MethodInterceptor {
 			return decorate(target);
 		}
 
-		if (!requiresSession(methodInvocation.getMethod())) {
+		if (!sessionMethod.hasTargetMethod()) {
 			return methodInvocation.proceed();
 		}
 
-		Optional<Method> targetMethod = METHOD_CACHE.lookup(methodInvocation.getMethod(), targetType, sessionType);
-
-		return !targetMethod.isPresent() ? methodInvocation.proceed()
-				: ReflectionUtils.invokeMethod(targetMethod.get(), target,
-						prependSessionToArguments(session, methodInvocation));
-	}
-
-	private boolean requiresDecoration(Method method) {
-
-		return ClassUtils.isAssignable(databaseType, method.getReturnType())
-				|| ClassUtils.isAssignable(collectionType, method.getReturnType());
+		return sessionMethod.invoke(target, session, methodInvocation.getArguments());
 	}
 
 	@SuppressWarnings("unchecked")
@@ -143,16 +146,6 @@ public class SessionAwareMethodInterceptor<D, C> implements MethodInterceptor {
 		return false;
 	}
 
-	private static Object[] prependSessionToArguments(ClientSession session, MethodInvocation invocation) {
-
-		Object[] args = new Object[invocation.getArguments().length + 1];
-
-		args[0] = session;
-		System.arraycopy(invocation.getArguments(), 0, args, 1, invocation.getArguments().length);
-
-		return args;
-	}
-
 	/**
 	 * Simple {@link Method} to {@link Method} caching facility for {@link ClientSession} overloaded targets.
 	 *
@@ -161,7 +154,29 @@ public class SessionAwareMethodInterceptor<D, C> implements MethodInterceptor {
 	 */
 	static class MethodCache {
 
-		private final ConcurrentReferenceHashMap<MethodClassKey, Optional<Method>> cache = new ConcurrentReferenceHashMap<>();
+		private final ConcurrentReferenceHashMap<Class<?>, TargetMethods> cache = new ConcurrentReferenceHashMap<>();
+
+		/**
+		 * Obtain the {@link TargetMethods} for the given target type.
+		 *
+		 * @param targetClass the type of the proxied object.
+		 * @param sessionType the {@link ClientSession} type accepted by overloaded methods.
+		 * @param databaseType the database type.
+		 * @param collectionType the collection type.
+		 * @return never {@literal null}.
+		 */
+		TargetMethods forTarget(Class<?> targetClass, Class<? extends ClientSession> sessionType, Class<?> databaseType,
+				Class<?> collectionType) {
+
+			TargetMethods targetMethods = cache.get(targetClass);
+
+			if (targetMethods == null) {
+				targetMethods = cache.computeIfAbsent(targetClass,
+						key -> new TargetMethods(key, sessionType, databaseType, collectionType));
+			}
+
+			return targetMethods;
+		}
 
 		/**
 		 * Lookup the target {@link Method}.
@@ -172,20 +187,14 @@ public class SessionAwareMethodInterceptor<D, C> implements MethodInterceptor {
 		 */
 		Optional<Method> lookup(Method method, Class<?> targetClass, Class<? extends ClientSession> sessionType) {
 
-			return cache.computeIfAbsent(new MethodClassKey(method, targetClass),
-					val -> Optional.ofNullable(findTargetWithSession(method, targetClass, sessionType)));
-		}
-
-		@Nullable
-		private Method findTargetWithSession(Method sourceMethod, Class<?> targetType,
-				Class<? extends ClientSession> sessionType) {
+			TargetMethods targetMethods = cache.get(targetClass);
 
-			Class<?>[] argTypes = sourceMethod.getParameterTypes();
-			Class<?>[] args = new Class<?>[argTypes.length + 1];
-			args[0] = sessionType;
-			System.arraycopy(argTypes, 0, args, 1, argTypes.length);
+			if (targetMethods == null) {
+				return Optional.ofNullable(new TargetMethods(targetClass, sessionType, Void.class, Void.class)
+						.findTargetWithSession(method));
+			}
 
-			return ReflectionUtils.findMethod(targetType, sourceMethod.getName(), args);
+			return Optional.ofNullable(targetMethods.get(method).targetMethod);
 		}
 
 		/**
@@ -196,7 +205,130 @@ public class SessionAwareMethodInterceptor<D, C> implements MethodInterceptor {
 		 * @return
 		 */
 		boolean contains(Method method, Class<?> targetClass) {
-			return cache.containsKey(new MethodClassKey(method, targetClass));
+
+			TargetMethods targetMethods = cache.get(targetClass);
+			return targetMethods != null && targetMethods.contains(method);
+		}
+	}
+
+	/**
+	 * {@link SessionMethod}s of a particular target type.
+	 *
+	 * @since 4.0
+	 */
+	static class TargetMethods {
+
+		private final Map<Method, SessionMethod> methods = new ConcurrentHashMap<>();
+		private final Class<?> targetType;
+		private final Class<? extends ClientSession> sessionType;
+		private final Class<?> databaseType;
+		private final Class<?> collectionType;
+
+		TargetMethods(Class<?> targetType, Class<? extends ClientSession> sessionType, Class<?> databaseType,
+				Class<?> collectionType) {
+
+			this.targetType = targetType;
+			this.sessionType = sessionType;
+			this.databaseType = databaseType;
+			this.collectionType = collectionType;
+		}
+
+		SessionMethod get(Method method) {
+
+			SessionMethod sessionMethod = methods.get(method);
+			return sessionMethod != null ? sessionMethod : methods.computeIfAbsent(method, this::resolve);
+		}
+
+		boolean contains(Method method) {
+			return methods.containsKey(method);
+		}
+
+		private SessionMethod resolve(Method method) {
+
+			if (ClassUtils.isAssignable(databaseType, method.getReturnType())
+					|| ClassUtils.isAssignable(collectionType, method.getReturnType())) {
+				return SessionMethod.DECORATE;
+			}
+
+			if (!requiresSession(method)) {
+				return SessionMethod.PROCEED;
+			}
+
+			Method targetMethod = findTargetWithSession(method);
+			return targetMethod != null ? SessionMethod.invoking(targetMethod) : SessionMethod.PROCEED;
+		}
+
+		@Nullable
+		private Method findTargetWithSession(Method sourceMethod) {
+
+			Class<?>[] argTypes = sourceMethod.getParameterTypes();
+			Class<?>[] args = new Class<?>[argTypes.length + 1];
+			args[0] = sessionType;
+			System.arraycopy(argTypes, 0, args, 1, argTypes.length);
+
+			return ReflectionUtils.findMethod(targetType, sourceMethod.getName(), args);
+		}
+	}
+
+	/**
+	 * Pre-resolved dispatch of a proxied {@link Method}.
+	 *
+	 * @since 4.0
+	 */
+	static class SessionMethod {
+
+		static final SessionMethod DECORATE = new SessionMethod(true, null, null);
+		static final SessionMethod PROCEED = new SessionMethod(false, null, null);
+
+		private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class,
+				Object[].class);
+
+		private final boolean decorate;
+		private final @Nullable Method targetMethod;
+		private final @Nullable MethodHandle invoker;
+
+		private SessionMethod(boolean decorate, @Nullable Method targetMethod, @Nullable MethodHandle invoker) {
+
+			this.decorate = decorate;
+			this.targetMethod = targetMethod;
+			this.invoker = invoker;
+		}
+
+		static SessionMethod invoking(Method targetMethod) {
+
+			MethodHandle invoker;
+
+			try {
+				invoker = MethodHandles.publicLookup().unreflect(targetMethod)
+						.asSpreader(Object[].class, targetMethod.getParameterCount() - 1).asType(INVOKER_TYPE);
+			} catch (IllegalAccessException ex) {
+				invoker = null;
+			}
+
+			return new SessionMethod(false, targetMethod, invoker);
+		}
+
+		boolean requiresDecoration() {
+			return decorate;
+		}
+
+		boolean hasTargetMethod() {
+			return targetMethod != null;
+		}
+
+		@Nullable
+		@SuppressWarnings("ConstantConditions")
+		Object invoke(Object target, ClientSession session, Object[] arguments) throws Throwable {
+
+			if (invoker != null) {
+				return (Object) invoker.invokeExact(target, (Object) session, arguments);
+			}
+
+			Object[] args = new Object[arguments.length + 1];
+			args[0] = session;
+			System.arraycopy(arguments, 0, args, 1, arguments.length);
+
+			return ReflectionUtils.invokeMethod(targetMethod, target, args);
 		}
 	}
 
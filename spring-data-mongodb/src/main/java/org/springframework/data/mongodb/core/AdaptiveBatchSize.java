@@ -0,0 +1,273 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.io.BasicOutputBuffer;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * Adaptive sizing of cursor batches based on the observed size of documents per collection. Sizes are chosen when
+ * opening a cursor so that a single batch stays within {@link #getMaxBatchBytes() a memory bound}. Reactive queries
+ * additionally limit the demand requested from the cursor to a single batch at a time. Batch sizes do not adapt to the
+ * throughput of the consumer.
+ * <br />
+ * Document sizes are sampled from the results of previous queries by re-encoding every {@link #getSampleRate() n-th}
+ * document. Until the first sample of a collection is taken, the driver default is used for unbounded demand.
+ * <br />
+ * Queries defining an explicit {@link org.springframework.data.mongodb.core.query.Meta#getCursorBatchSize() cursor
+ * batch size} are not affected.
+ *
+ * <pre class="code">
+ * template.setAdaptiveBatchSize(AdaptiveBatchSize.bounded(4 * 1024 * 1024));
+ * </pre>
+ *
+ * @since 4.0
+ * @see MongoTemplate#setAdaptiveBatchSize(AdaptiveBatchSize)
+ * @see ReactiveMongoTemplate#setAdaptiveBatchSize(AdaptiveBatchSize)
+ */
+public class AdaptiveBatchSize {
+
+	private static final long DEFAULT_MAX_BATCH_BYTES = 4 * 1024 * 1024;
+	private static final int DEFAULT_MIN_BATCH_SIZE = 2;
+	private static final int DEFAULT_MAX_BATCH_SIZE = 10_000;
+	private static final int DEFAULT_SAMPLE_RATE = 32;
+
+	/**
+	 * Weight of a new sample in the exponentially weighted moving average of document sizes.
+	 */
+	private static final double SAMPLE_WEIGHT = 0.2;
+
+	private static final Codec<Document> DOCUMENT_CODEC = MongoClientSettings.getDefaultCodecRegistry()
+			.get(Document.class);
+
+	private final long maxBatchBytes;
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final int sampleRate;
+
+	private final Map<String, DocumentSizeStatistics> statistics = new ConcurrentHashMap<>();
+
+	private AdaptiveBatchSize(long maxBatchBytes, int minBatchSize, int maxBatchSize, int sampleRate) {
+
+		this.maxBatchBytes = maxBatchBytes;
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Create a new {@link AdaptiveBatchSize} limiting batches to {@literal 4 MiB}.
+	 *
+	 * @return new instance of {@link AdaptiveBatchSize}.
+	 */
+	public static AdaptiveBatchSize defaults() {
+		return bounded(DEFAULT_MAX_BATCH_BYTES);
+	}
+
+	/**
+	 * Create a new {@link AdaptiveBatchSize} limiting batches to the given number of bytes.
+	 *
+	 * @param maxBatchBytes the approximate maximum size of a single batch. Must be greater than zero.
+	 * @return new instance of {@link AdaptiveBatchSize}.
+	 */
+	public static AdaptiveBatchSize bounded(long maxBatchBytes) {
+
+		Assert.isTrue(maxBatchBytes > 0, "Max batch bytes must be greater than zero");
+
+		return new AdaptiveBatchSize(maxBatchBytes, DEFAULT_MIN_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE, DEFAULT_SAMPLE_RATE);
+	}
+
+	/**
+	 * Set the smallest batch size to use.
+	 *
+	 * @param minBatchSize must be greater than zero.
+	 * @return new instance of {@link AdaptiveBatchSize}.
+	 */
+	public AdaptiveBatchSize minBatchSize(int minBatchSize) {
+
+		Assert.isTrue(minBatchSize > 0, "Min batch size must be greater than zero");
+
+		return new AdaptiveBatchSize(maxBatchBytes, minBatchSize, Math.max(minBatchSize, maxBatchSize), sampleRate);
+	}
+
+	/**
+	 * Set the largest batch size to use regardless of the document size.
+	 *
+	 * @param maxBatchSize must be greater than zero.
+	 * @return new instance of {@link AdaptiveBatchSize}.
+	 */
+	public AdaptiveBatchSize maxBatchSize(int maxBatchSize) {
+
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+
+		return new AdaptiveBatchSize(maxBatchBytes, Math.min(minBatchSize, maxBatchSize), maxBatchSize, sampleRate);
+	}
+
+	/**
+	 * Set the sample rate. A rate of {@code n} measures every {@code n}-th document.
+	 *
+	 * @param sampleRate must be greater than zero.
+	 * @return new instance of {@link AdaptiveBatchSize}.
+	 */
+	public AdaptiveBatchSize sampleRate(int sampleRate) {
+
+		Assert.isTrue(sampleRate > 0, "Sample rate must be greater than zero");
+
+		return new AdaptiveBatchSize(maxBatchBytes, minBatchSize, maxBatchSize, sampleRate);
+	}
+
+	/**
+	 * Compute the batch size for a cursor consumed as fast as possible.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @return the batch size or {@literal 0} to use the driver default.
+	 */
+	public int getBatchSize(String collectionName) {
+		return getBatchSize(collectionName, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Compute the batch size for a cursor serving the given {@code demand}.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param demand the number of requested documents. {@link Long#MAX_VALUE} for unbounded demand.
+	 * @return the batch size or {@literal 0} to use the driver default.
+	 */
+	public int getBatchSize(String collectionName, long demand) {
+
+		OptionalDouble averageDocumentSize = getAverageDocumentSize(collectionName);
+
+		long batchSize = demand == Long.MAX_VALUE ? maxBatchSize : Math.min(demand, maxBatchSize);
+
+		if (averageDocumentSize.isPresent()) {
+			batchSize = Math.min(batchSize, (long) (maxBatchBytes / Math.max(1, averageDocumentSize.getAsDouble())));
+		} else if (demand == Long.MAX_VALUE) {
+			return 0;
+		}
+
+		return (int) Math.max(minBatchSize, batchSize);
+	}
+
+	/**
+	 * Record a document read from the given collection. Only every {@link #getSampleRate() n-th} document is measured.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 */
+	public void recordDocument(String collectionName, Document document) {
+
+		DocumentSizeStatistics stats = statistics.computeIfAbsent(collectionName, key -> new DocumentSizeStatistics());
+
+		if (!stats.shouldSample(sampleRate)) {
+			return;
+		}
+
+		try {
+			stats.record(encodedSize(document));
+		} catch (CodecConfigurationException e) {
+			// not a plain BSON document - skip the sample
+		}
+	}
+
+	/**
+	 * Record the size of a document read from the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param bytes the encoded document size.
+	 */
+	public void recordDocumentSize(String collectionName, int bytes) {
+		statistics.computeIfAbsent(collectionName, key -> new DocumentSizeStatistics()).record(bytes);
+	}
+
+	/**
+	 * @param collectionName must not be {@literal null}.
+	 * @return the average size of sampled documents. {@link OptionalDouble#empty()} if no document was sampled yet.
+	 */
+	public OptionalDouble getAverageDocumentSize(String collectionName) {
+
+		DocumentSizeStatistics stats = statistics.get(collectionName);
+		return stats != null ? stats.getAverage() : OptionalDouble.empty();
+	}
+
+	/**
+	 * @return the approximate maximum size of a single batch in bytes.
+	 */
+	public long getMaxBatchBytes() {
+		return maxBatchBytes;
+	}
+
+	/**
+	 * @return the smallest batch size used.
+	 */
+	public int getMinBatchSize() {
+		return minBatchSize;
+	}
+
+	/**
+	 * @return the largest batch size used.
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * @return the sample rate.
+	 */
+	public int getSampleRate() {
+		return sampleRate;
+	}
+
+	private static int encodedSize(Document document) {
+
+		BasicOutputBuffer buffer = new BasicOutputBuffer();
+		try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+			DOCUMENT_CODEC.encode(writer, document, EncoderContext.builder().build());
+		}
+		return buffer.getPosition();
+	}
+
+	private static class DocumentSizeStatistics {
+
+		private final AtomicLong documents = new AtomicLong();
+		private volatile double average = -1;
+
+		boolean shouldSample(int sampleRate) {
+			return documents.getAndIncrement() % sampleRate == 0;
+		}
+
+		synchronized void record(int bytes) {
+			average = average < 0 ? bytes : average + SAMPLE_WEIGHT * (bytes - average);
+		}
+
+		OptionalDouble getAverage() {
+
+			double current = average;
+			return current < 0 ? OptionalDouble.empty() : OptionalDouble.of(current);
+		}
+	}
+}
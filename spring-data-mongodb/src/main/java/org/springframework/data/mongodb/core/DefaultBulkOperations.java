@@ -25,6 +25,7 @@ import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mapping.callback.EntityCallback;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mongodb.BulkOperationException;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
@@ -432,7 +433,7 @@ class DefaultBulkOperations implements BulkOperations {
 
 	private Object maybeInvokeBeforeConvertCallback(Object value) {
 
-		if (bulkOperationContext.getEntityCallbacks() == null) {
+		if (!bulkOperationContext.hasCallbacks(BeforeConvertCallback.class, value)) {
 			return value;
 		}
 
@@ -441,7 +442,7 @@ class DefaultBulkOperations implements BulkOperations {
 
 	private Object maybeInvokeBeforeSaveCallback(Object value, Document mappedDocument) {
 
-		if (bulkOperationContext.getEntityCallbacks() == null) {
+		if (!bulkOperationContext.hasCallbacks(BeforeSaveCallback.class, value)) {
 			return value;
 		}
 
@@ -451,7 +452,7 @@ class DefaultBulkOperations implements BulkOperations {
 
 	private Object maybeInvokeAfterSaveCallback(Object value, Document mappedDocument) {
 
-		if (bulkOperationContext.getEntityCallbacks() == null) {
+		if (!bulkOperationContext.hasCallbacks(AfterSaveCallback.class, value)) {
 			return value;
 		}
 
@@ -512,10 +513,18 @@ class DefaultBulkOperations implements BulkOperations {
 		private final UpdateMapper updateMapper;
 		private final ApplicationEventPublisher eventPublisher;
 		private final EntityCallbacks entityCallbacks;
+		private final EntityCallbackPresence callbackPresence;
 
 		BulkOperationContext(BulkOperations.BulkMode bulkMode, Optional<? extends MongoPersistentEntity<?>> entity,
 				QueryMapper queryMapper, UpdateMapper updateMapper, ApplicationEventPublisher eventPublisher,
 				EntityCallbacks entityCallbacks) {
+			this(bulkMode, entity, queryMapper, updateMapper, eventPublisher, entityCallbacks,
+					EntityCallbackPresence.unknown());
+		}
+
+		BulkOperationContext(BulkOperations.BulkMode bulkMode, Optional<? extends MongoPersistentEntity<?>> entity,
+				QueryMapper queryMapper, UpdateMapper updateMapper, ApplicationEventPublisher eventPublisher,
+				EntityCallbacks entityCallbacks, EntityCallbackPresence callbackPresence) {
 
 			this.bulkMode = bulkMode;
 			this.entity = entity;
@@ -523,6 +532,7 @@ class DefaultBulkOperations implements BulkOperations {
 			this.updateMapper = updateMapper;
 			this.eventPublisher = eventPublisher;
 			this.entityCallbacks = entityCallbacks;
+			this.callbackPresence = callbackPresence;
 		}
 
 		public BulkMode getBulkMode() {
@@ -549,6 +559,19 @@ class DefaultBulkOperations implements BulkOperations {
 			return this.entityCallbacks;
 		}
 
+		/**
+		 * Check whether {@link EntityCallbacks} are configured and any callback of the given type might apply to
+		 * {@code value}.
+		 *
+		 * @param callbackType the callback type.
+		 * @param value the entity.
+		 * @return {@literal true} if callbacks need to be invoked.
+		 * @since 4.0
+		 */
+		<C extends EntityCallback<?>> boolean hasCallbacks(Class<C> callbackType, Object value) {
+			return this.entityCallbacks != null && this.callbackPresence.hasCallbacks(callbackType, value.getClass());
+		}
+
 		@Override
 		public boolean equals(Object o) {
 			if (this == o)
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.mapping.callback.EntityCallback;
+import org.springframework.lang.Nullable;
+
+/**
+ * Determines whether {@link EntityCallback} beans of a particular callback type apply to a given entity type. Allows
+ * templates to bypass callback dispatch for entity types without any callback. Callbacks are inspected once per
+ * callback and entity type after the bean factory configuration is frozen.
+ * <br />
+ * {@link #unknown()} reports callbacks for every type and is used if callbacks have been configured programmatically.
+ *
+ * @since 4.0
+ * @see org.springframework.data.mapping.callback.EntityCallbacks
+ * @see org.springframework.data.mapping.callback.ReactiveEntityCallbacks
+ */
+class EntityCallbackPresence {
+
+	private static final EntityCallbackPresence UNKNOWN = new EntityCallbackPresence(null);
+
+	private final @Nullable ListableBeanFactory beanFactory;
+	private final Map<Class<?>, Map<Class<?>, Boolean>> presence = new ConcurrentHashMap<>();
+
+	private EntityCallbackPresence(@Nullable ListableBeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * @return {@link EntityCallbackPresence} that considers callbacks present for every type.
+	 */
+	static EntityCallbackPresence unknown() {
+		return UNKNOWN;
+	}
+
+	/**
+	 * Create a new {@link EntityCallbackPresence} inspecting {@link EntityCallback} beans of the given
+	 * {@link ListableBeanFactory} and its ancestors.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @return new instance of {@link EntityCallbackPresence}.
+	 */
+	static EntityCallbackPresence of(ListableBeanFactory beanFactory) {
+		return new EntityCallbackPresence(beanFactory);
+	}
+
+	/**
+	 * Check whether any callback of the given {@code callbackType} might apply to the given {@code entityType}.
+	 *
+	 * @param callbackType the {@link EntityCallback} type.
+	 * @param entityType the runtime type of the entity.
+	 * @return {@literal true} if callbacks might apply.
+	 */
+	<C extends EntityCallback<?>> boolean hasCallbacks(Class<C> callbackType, Class<?> entityType) {
+
+		if (beanFactory == null) {
+			return true;
+		}
+
+		Map<Class<?>, Boolean> presenceByEntityType = presence.computeIfAbsent(callbackType,
+				key -> new ConcurrentHashMap<>());
+		Boolean present = presenceByEntityType.get(entityType);
+
+		if (present != null) {
+			return present;
+		}
+
+		present = discoverCallbacks(beanFactory, callbackType, entityType);
+
+		if (isConfigurationFrozen(beanFactory)) {
+			presenceByEntityType.put(entityType, present);
+		}
+
+		return present;
+	}
+
+	private static boolean discoverCallbacks(ListableBeanFactory beanFactory,
+			Class<? extends EntityCallback<?>> callbackType, Class<?> entityType) {
+
+		for (String beanName : BeanFactoryUtils.beanNamesForTypeIncludingAncestors(beanFactory, callbackType)) {
+
+			Class<?> beanType = beanFactory.getType(beanName, false);
+
+			if (beanType == null) {
+				return true;
+			}
+
+			Class<?> callbackEntityType = ResolvableType.forClass(beanType).as(callbackType).resolveGeneric();
+
+			if (callbackEntityType == null || callbackEntityType.isAssignableFrom(entityType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isConfigurationFrozen(ListableBeanFactory beanFactory) {
+
+		if (!(beanFactory instanceof ConfigurableApplicationContext)) {
+			return false;
+		}
+
+		ConfigurableApplicationContext context = (ConfigurableApplicationContext) beanFactory;
+		return context.isActive() && context.getBeanFactory().isConfigurationFrozen();
+	}
+}
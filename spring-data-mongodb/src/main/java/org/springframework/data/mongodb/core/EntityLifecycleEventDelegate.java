@@ -15,11 +15,42 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ApplicationContextEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextStoppedEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.mongodb.core.mapping.event.AbstractDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
 import org.springframework.lang.Nullable;
 
 /**
  * Delegate class to encapsulate lifecycle event configuration and publishing.
+ * <br />
+ * If the publisher is an {@link AbstractApplicationContext} that is running, the registered
+ * {@link ApplicationListener listeners} are inspected once per event and domain type to determine whether any of them
+ * is interested in a particular {@link MongoMappingEvent}. Events nobody listens to are neither created (see
+ * {@link #hasListeners(Class, Class)}) nor dispatched. The outcome is discarded whenever the context publishes an
+ * {@link ApplicationContextEvent}, i.e. when it is refreshed, started, stopped or closed. Listeners added
+ * programmatically to a running context are therefore considered after the next refresh or start. In all other cases
+ * events are published unconditionally.
+ * <br />
+ * Events are published synchronously and per entity. Batched publication of {@link AfterLoadEvent}s and
+ * {@link org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent}s is not supported as it would break the
+ * per-entity contract of {@link AbstractMongoEventListener}.
  *
  * @author Mark Paluch
  * @since 4.0
@@ -27,11 +58,26 @@ import org.springframework.lang.Nullable;
  */
 class EntityLifecycleEventDelegate {
 
+	private final Map<Class<?>, Map<Class<?>, Boolean>> listenerPresence = new ConcurrentHashMap<>();
+	private final ContextEventListener contextEventListener = new ContextEventListener();
+
 	private @Nullable ApplicationEventPublisher publisher;
 	private boolean eventsEnabled = true;
+	private volatile boolean inspectListeners;
 
 	public void setPublisher(@Nullable ApplicationEventPublisher publisher) {
+
 		this.publisher = publisher;
+		this.listenerPresence.clear();
+		this.inspectListeners = false;
+
+		if (publisher instanceof AbstractApplicationContext) {
+
+			AbstractApplicationContext context = (AbstractApplicationContext) publisher;
+
+			context.addApplicationListener(contextEventListener);
+			this.inspectListeners = isRunning(context);
+		}
 	}
 
 	public boolean isEventsEnabled() {
@@ -43,18 +89,172 @@ class EntityLifecycleEventDelegate {
 	}
 
 	/**
-	 * Publish an application event if event publishing is enabled.
+	 * Publish an application event if event publishing is enabled and, for {@link MongoMappingEvent}s, if any listener
+	 * is interested in the event.
 	 *
 	 * @param event the application event.
 	 */
 	public void publishEvent(Object event) {
 
-		if (canPublishEvent()) {
-			publisher.publishEvent(event);
+		if (!canPublishEvent()) {
+			return;
+		}
+
+		if (event instanceof MongoMappingEvent
+				&& !hasListeners(event.getClass(), getDomainType((MongoMappingEvent<?>) event))) {
+			return;
+		}
+
+		publisher.publishEvent(event);
+	}
+
+	/**
+	 * Check whether events of the given type and domain type would be published. Callers can use this method to avoid
+	 * creating events nobody listens to.
+	 *
+	 * @param eventType the {@link MongoMappingEvent} type.
+	 * @param domainType the domain type the event refers to.
+	 * @return {@literal true} if publishing is enabled and a listener might be interested in the event.
+	 */
+	public boolean hasListeners(Class<?> eventType, Class<?> domainType) {
+
+		if (!canPublishEvent()) {
+			return false;
+		}
+
+		if (!inspectListeners) {
+			return true;
 		}
+
+		Map<Class<?>, Boolean> presenceByDomainType = listenerPresence.computeIfAbsent(eventType,
+				key -> new ConcurrentHashMap<>());
+		Boolean present = presenceByDomainType.get(domainType);
+
+		if (present == null) {
+
+			present = hasListeners((ApplicationContext) publisher, eventType, domainType);
+			presenceByDomainType.put(domainType, present);
+		}
+
+		return present;
 	}
 
 	private boolean canPublishEvent() {
 		return publisher != null && eventsEnabled;
 	}
+
+	private static Class<?> getDomainType(MongoMappingEvent<?> event) {
+
+		if (event instanceof AfterLoadEvent) {
+			return ((AfterLoadEvent<?>) event).getType();
+		}
+
+		if (event instanceof AbstractDeleteEvent) {
+
+			Class<?> type = ((AbstractDeleteEvent<?>) event).getType();
+			return type != null ? type : Object.class;
+		}
+
+		return event.getSource().getClass();
+	}
+
+	private static boolean isRunning(ApplicationContext context) {
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+			if (!(current instanceof AbstractApplicationContext) || !((AbstractApplicationContext) current).isRunning()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean hasListeners(ApplicationContext context, Class<?> eventType, Class<?> domainType) {
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			Collection<ApplicationListener<?>> listeners = ((AbstractApplicationContext) current).getApplicationListeners();
+
+			for (ApplicationListener<?> listener : listeners) {
+				if (supports(listener, eventType, domainType)) {
+					return true;
+				}
+			}
+
+			for (String beanName : current.getBeanNamesForType(ApplicationListener.class, true, false)) {
+
+				Class<?> listenerType = current.getType(beanName, false);
+
+				if (listenerType == null || supports(listenerType, eventType, domainType)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean supports(ApplicationListener<?> listener, Class<?> eventType, Class<?> domainType) {
+
+		if (listener instanceof AbstractMongoEventListener) {
+			return supports(listener.getClass(), eventType, domainType);
+		}
+
+		if (listener instanceof GenericApplicationListener) {
+			return ((GenericApplicationListener) listener).supportsEventType(ResolvableType.forClass(eventType));
+		}
+
+		if (listener instanceof SmartApplicationListener) {
+			return ((SmartApplicationListener) listener).supportsEventType(eventType.asSubclass(MongoMappingEvent.class));
+		}
+
+		return supports(listener.getClass(), eventType, domainType);
+	}
+
+	private static boolean supports(Class<?> listenerType, Class<?> eventType, Class<?> domainType) {
+
+		if (AbstractMongoEventListener.class.isAssignableFrom(listenerType)) {
+
+			Class<?> listenerDomainType = GenericTypeResolver.resolveTypeArgument(listenerType,
+					AbstractMongoEventListener.class);
+
+			// events for a domain type may carry instances of its subtypes
+			return listenerDomainType == null || listenerDomainType.isAssignableFrom(domainType)
+					|| domainType.isAssignableFrom(listenerDomainType);
+		}
+
+		if (GenericApplicationListener.class.isAssignableFrom(listenerType)
+				|| SmartApplicationListener.class.isAssignableFrom(listenerType)) {
+			return true;
+		}
+
+		Class<?> declaredEventType = ResolvableType.forClass(listenerType).as(ApplicationListener.class).resolveGeneric();
+		return declaredEventType == null || declaredEventType.isAssignableFrom(eventType);
+	}
+
+	/**
+	 * Discards the cached listener presence on {@link ApplicationContextEvent}s and only inspects listeners while the
+	 * context is running.
+	 */
+	private class ContextEventListener implements GenericApplicationListener {
+
+		@Override
+		public boolean supportsEventType(ResolvableType eventType) {
+			return ApplicationContextEvent.class.isAssignableFrom(eventType.toClass());
+		}
+
+		@Override
+		public void onApplicationEvent(ApplicationEvent event) {
+
+			ApplicationContext context = ((ApplicationContextEvent) event).getApplicationContext();
+
+			if (context != publisher) {
+				return;
+			}
+
+			listenerPresence.clear();
+			inspectListeners = !(event instanceof ContextStoppedEvent || event instanceof ContextClosedEvent)
+					&& isRunning(context);
+		}
+	}
 }
@@ -15,7 +15,9 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -246,6 +248,60 @@ public interface MongoOperations extends FluentMongoOperations {
 	 */
 	<T> Stream<T> stream(Query query, Class<T> entityType, String collectionName);
 
+	/**
+	 * Executes the given {@link Query} on the entity collection of the specified {@code entityType} using multiple
+	 * cursors reading disjoint ranges concurrently as defined by the given {@link ParallelScan}.
+	 * <p>
+	 * Returns a {@link Stream} merging the results of all ranges in no particular order that needs to be closed.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification. Must not use skip or limit. Must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param scan must not be {@literal null}.
+	 * @param <T> element return type
+	 * @return the result {@link Stream}, containing mapped objects, needing to be closed once fully processed (e.g.
+	 *         through a try-with-resources clause).
+	 * @throws UnsupportedOperationException when invoked on a {@link ClientSession} bound template as a session must not
+	 *           be used by concurrent cursors.
+	 * @since 4.0
+	 */
+	default <T> Stream<T> scan(Query query, Class<T> entityType, ParallelScan scan) {
+		return scan(query, entityType, getCollectionName(entityType), scan);
+	}
+
+	/**
+	 * Executes the given {@link Query} on the entity collection of the specified {@code entityType} and collection using
+	 * multiple cursors reading disjoint ranges concurrently as defined by the given {@link ParallelScan}.
+	 * <p>
+	 * Returns a {@link Stream} merging the results of all ranges in no particular order that needs to be closed.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification. Must not use skip or limit. Must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param scan must not be {@literal null}.
+	 * @param <T> element return type
+	 * @return the result {@link Stream}, containing mapped objects, needing to be closed once fully processed (e.g.
+	 *         through a try-with-resources clause).
+	 * @throws UnsupportedOperationException when invoked on a {@link ClientSession} bound template as a session must not
+	 *           be used by concurrent cursors.
+	 * @since 4.0
+	 */
+	default <T> Stream<T> scan(Query query, Class<T> entityType, String collectionName, ParallelScan scan) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+		Assert.notNull(scan, "ParallelScan must not be null");
+
+		TypedAggregation<?> boundaries = scan.createBoundaryAggregation(query, entityType);
+		List<Query> ranges = boundaries != null
+				? scan.split(query, aggregate(boundaries, collectionName, Document.class).getMappedResults())
+				: Collections.singletonList(query);
+
+		return new ParallelScanIterator<>(ranges, range -> stream(range, entityType, collectionName),
+				scan.getExecutor(), scan.getBufferSize()).stream();
+	}
+
 	/**
 	 * Create an uncapped collection with a name based on the provided entity class.
 	 *
@@ -739,7 +795,10 @@ public interface MongoOperations extends FluentMongoOperations {
 	 * The object is converted from the MongoDB native representation using an instance of {@see MongoConverter}. Unless
 	 * configured otherwise, an instance of {@link MappingMongoConverter} will be used. <br />
 	 * The query is specified as a {@link Query} which can be created either using the {@link BasicQuery} or the more
-	 * feature rich {@link Query}.
+	 * feature rich {@link Query}. <br />
+	 * Requesting {@link org.bson.RawBsonDocument} returns the documents as received from the server. As there is no
+	 * domain type to map the query against, property names are used as field names as they are. Use
+	 * {@link #query(Class)} along with {@code as(RawBsonDocument.class)} to map the query against a domain type.
 	 *
 	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
 	 *          specification. Must not be {@literal null}.
@@ -1355,6 +1414,43 @@ public interface MongoOperations extends FluentMongoOperations {
 	 */
 	<T> T save(T objectToSave, String collectionName);
 
+	/**
+	 * Save the given objects to the specified collection performing an 'upsert' for each of them. Implementations may
+	 * prepare the batch as a whole, e.g. by looking up the stored {@literal shard key} values of all objects using a
+	 * single query. <br />
+	 * The objects must not be collection-like.
+	 *
+	 * @param objectsToSave the objects to store in the collection. Must not be {@literal null}.
+	 * @param collectionName name of the collection to store the objects in. Must not be {@literal null}.
+	 * @return the saved objects in the order of {@code objectsToSave}.
+	 * @throws IllegalArgumentException in case one of the {@code objectsToSave} is collection-like.
+	 * @since 4.0
+	 * @see #save(Object, String)
+	 */
+	default <T> List<T> saveAll(Collection<? extends T> objectsToSave, String collectionName) {
+
+		Assert.notNull(objectsToSave, "Objects to save must not be null");
+
+		List<T> saved = new ArrayList<>(objectsToSave.size());
+		for (T objectToSave : objectsToSave) {
+			saved.add(save(objectToSave, collectionName));
+		}
+		return saved;
+	}
+
+	/**
+	 * Check whether replacing existing documents of the given entity type requires looking up their stored
+	 * {@literal shard key} values because the entity is sharded by a mutable shard key other than its identifier. Such
+	 * entities benefit from being {@link #saveAll(Collection, String) saved as a batch}.
+	 *
+	 * @param entityClass the entity type. Must not be {@literal null}.
+	 * @return {@literal true} if replacing documents requires a shard key lookup.
+	 * @since 4.0
+	 */
+	default boolean requiresShardKeyLookup(Class<?> entityClass) {
+		return false;
+	}
+
 	/**
 	 * Performs an upsert. If no document is found that matches the query, a new document is created and inserted by
 	 * combining the query document and the update document. <br />
@@ -23,13 +23,24 @@ import java.math.RoundingMode;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
 
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
@@ -52,6 +63,7 @@ import org.springframework.data.geo.Metric;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.CausalConsistencyToken;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.MongoDatabaseUtils;
 import org.springframework.data.mongodb.SessionSynchronization;
@@ -71,6 +83,7 @@ import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.EncodableEntity;
 import org.springframework.data.mongodb.core.convert.JsonSchemaMapper;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -91,6 +104,7 @@ import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceResults;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Meta;
 import org.springframework.data.mongodb.core.query.Meta.CursorOption;
 import org.springframework.data.mongodb.core.query.NearQuery;
@@ -182,12 +196,16 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private @Nullable ReadPreference readPreference;
 	private @Nullable ApplicationEventPublisher eventPublisher;
 	private @Nullable EntityCallbacks entityCallbacks;
+	private EntityCallbackPresence callbackPresence = EntityCallbackPresence.unknown();
 	private @Nullable ResourceLoader resourceLoader;
 	private @Nullable MongoPersistentEntityIndexCreator indexCreator;
 
 	private SessionSynchronization sessionSynchronization = SessionSynchronization.ON_ACTUAL_TRANSACTION;
 
 	private CountExecution countExecution = this::doExactCount;
+	private @Nullable ShardKeyCache shardKeyCache;
+	private @Nullable AdaptiveBatchSize adaptiveBatchSize;
+	private boolean directEntityEncoding = false;
 
 	/**
 	 * Constructor used for a basic template configuration.
@@ -269,6 +287,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.propertyOperations = that.propertyOperations;
 		this.queryOperations = that.queryOperations;
 		this.eventDelegate = that.eventDelegate;
+		this.adaptiveBatchSize = that.adaptiveBatchSize;
+		this.directEntityEncoding = that.directEntityEncoding;
+		this.shardKeyCache = that.shardKeyCache;
 	}
 
 	/**
@@ -323,6 +344,65 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.eventDelegate.setEventsEnabled(enabled);
 	}
 
+	/**
+	 * Configure a {@link ShardTargetingListener} notified about whether operations against collections of
+	 * {@link org.springframework.data.mongodb.core.mapping.Sharded sharded} entities target specific shards or are
+	 * broadcast to all of them. Operations are classified when mapping their filter. Defaults to {@literal null}.
+	 *
+	 * @param shardTargetingListener can be {@literal null}.
+	 * @since 4.0
+	 * @see ShardTargetingListener#logScatterGather()
+	 * @see ShardTargetingListener#failOnScatterGather()
+	 */
+	public void setShardTargetingListener(@Nullable ShardTargetingListener shardTargetingListener) {
+		this.queryOperations.setShardTargetingListener(shardTargetingListener);
+	}
+
+	/**
+	 * Configure the number of last known {@link org.springframework.data.mongodb.core.mapping.ShardKey shard key} values
+	 * to retain for documents of entities with a mutable shard key. Shard keys are remembered when reading and saving
+	 * documents and used instead of looking up the stored shard key before replacing a document. <br />
+	 * Remembered values may be outdated if shard keys are changed by other processes. Saving an entity using an outdated
+	 * shard key does not match the stored document but inserts a new one. Disabled by default.
+	 *
+	 * @param maxSize the maximum number of remembered shard keys. Use {@literal 0} to disable the cache.
+	 * @since 4.0
+	 */
+	public void setShardKeyCacheSize(int maxSize) {
+
+		Assert.isTrue(maxSize >= 0, "Shard key cache size must not be negative");
+
+		this.shardKeyCache = maxSize > 0 ? new ShardKeyCache(maxSize) : null;
+	}
+
+	/**
+	 * Configure {@link AdaptiveBatchSize adaptive cursor batch sizing} for {@link #stream(Query, Class, String) streamed}
+	 * queries not defining an explicit {@link Meta#getCursorBatchSize() cursor batch size}. The batch size is chosen when
+	 * opening the cursor based on the size of documents observed in previous queries against the same collection.
+	 * Defaults to {@literal null} using the driver default.
+	 *
+	 * @param adaptiveBatchSize can be {@literal null}.
+	 * @since 4.0
+	 */
+	public void setAdaptiveBatchSize(@Nullable AdaptiveBatchSize adaptiveBatchSize) {
+		this.adaptiveBatchSize = adaptiveBatchSize;
+	}
+
+	/**
+	 * Configure whether inserted entities should be encoded straight to BSON instead of being converted into a
+	 * {@link Document} first. Applies to entity types without {@link BeforeSaveEvent}/{@link AfterSaveEvent} listeners
+	 * and {@link BeforeSaveCallback}/{@link AfterSaveCallback} callbacks as those require the converted
+	 * {@link Document}. A missing {@literal _id} is generated before encoding and populated once the insert succeeded.
+	 * Requires a {@link MappingMongoConverter}. Defaults to {@literal false}.
+	 *
+	 * @param directEntityEncoding {@literal true} to encode inserted entities directly.
+	 * @since 4.0
+	 * @see MappingMongoConverter#createEntityEncoder(CodecRegistry)
+	 */
+	public void setDirectEntityEncoding(boolean directEntityEncoding) {
+		this.directEntityEncoding = directEntityEncoding;
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 
@@ -333,6 +413,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		if (entityCallbacks == null) {
 			setEntityCallbacks(EntityCallbacks.create(applicationContext));
+			callbackPresence = EntityCallbackPresence.of(applicationContext);
 		}
 
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
@@ -356,6 +437,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		Assert.notNull(entityCallbacks, "EntityCallbacks must not be null");
 		this.entityCallbacks = entityCallbacks;
+		this.callbackPresence = EntityCallbackPresence.unknown();
 	}
 
 	/**
@@ -443,7 +525,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return doStream(query, entityType, collectionName, entityType);
 	}
 
-	@SuppressWarnings("ConstantConditions")
+	@SuppressWarnings({ "ConstantConditions", "unchecked" })
 	protected <T> Stream<T> doStream(Query query, Class<?> entityType, String collectionName, Class<T> returnType) {
 
 		Assert.notNull(query, "Query must not be null");
@@ -455,17 +537,38 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 			MongoPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entityType);
 
-			QueryContext queryContext = queryOperations.createQueryContext(query);
+			QueryContext queryContext = queryOperations.createQueryContext(query, collectionName);
 			EntityProjection<T, ?> projection = operations.introspectProjection(returnType, entityType);
 
 			Document mappedQuery = queryContext.getMappedQuery(persistentEntity);
 			Document mappedFields = queryContext.getMappedFields(persistentEntity, projection);
 
+			AdaptiveBatchSize adaptiveBatchSize = query.getMeta().getCursorBatchSize() == null ? this.adaptiveBatchSize
+					: null;
+			int batchSize = adaptiveBatchSize != null ? adaptiveBatchSize.getBatchSize(collectionName) : 0;
+
+			if (isRawDocument(returnType)) {
+
+				FindIterable<RawBsonDocument> cursor = initiateRawFind(collection, mappedQuery, mappedFields,
+						new QueryCursorPreparer(query, entityType));
+				if (batchSize > 0) {
+					cursor = cursor.batchSize(batchSize);
+				}
+				return (Stream<T>) new RawDocumentCursorAdapter(cursor.iterator(), exceptionTranslator).stream();
+			}
+
 			FindIterable<Document> cursor = new QueryCursorPreparer(query, entityType).initiateFind(collection,
 					col -> col.find(mappedQuery, Document.class).projection(mappedFields));
+			if (batchSize > 0) {
+				cursor = cursor.batchSize(batchSize);
+			}
+
+			DocumentCallback<T> readCallback = new ProjectingReadCallback<>(mongoConverter, projection, collectionName);
+			if (adaptiveBatchSize != null) {
+				readCallback = new SamplingDocumentCallback<>(readCallback, adaptiveBatchSize, collectionName);
+			}
 
-			return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator,
-					new ProjectingReadCallback<>(mongoConverter, projection, collectionName)).stream();
+			return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, readCallback).stream();
 		});
 	}
 
@@ -581,6 +684,63 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return withSession(() -> mongoDbFactory.getSession(options));
 	}
 
+	/**
+	 * Obtain a {@link SessionScoped} that runs each {@link SessionScoped#execute(SessionCallback, Consumer) execution}
+	 * within a new causally consistent {@link ClientSession} advanced to the given {@link CausalConsistencyToken}. Reads
+	 * are routed using the given {@link ReadPreference}, which allows to read from secondaries while still observing
+	 * writes captured by the token. Capture the session state via {@link CausalConsistencyToken#of(
+	 * com.mongodb.session.ClientSession)} within the {@code doFinally} callback to continue with the next request. The
+	 * session is closed after the callback. <br />
+	 * Causal consistency guarantees require operations to use {@link com.mongodb.ReadConcern#MAJORITY majority} read
+	 * and {@link WriteConcern#MAJORITY majority} write concern.
+	 *
+	 * <pre class="code">
+	 * CausalConsistencyToken token = CausalConsistencyToken.parse(request.getHeader("X-Causal-Token"));
+	 *
+	 * template.withCausalConsistency(token, ReadPreference.secondaryPreferred())
+	 * 		.execute(operations -&gt; operations.find(query, Person.class),
+	 * 				session -&gt; response.setHeader("X-Causal-Token", CausalConsistencyToken.of(session).serialize()));
+	 * </pre>
+	 *
+	 * @param token must not be {@literal null}.
+	 * @param readPreference can be {@literal null} to use the templates default.
+	 * @return new instance of {@link SessionScoped}. Never {@literal null}.
+	 * @since 4.0
+	 */
+	public SessionScoped withCausalConsistency(CausalConsistencyToken token, @Nullable ReadPreference readPreference) {
+
+		Assert.notNull(token, "CausalConsistencyToken must not be null");
+
+		return new SessionScoped() {
+
+			@Override
+			public <T> T execute(SessionCallback<T> action, Consumer<ClientSession> doFinally) {
+
+				ClientSession session = mongoDbFactory
+						.getSession(ClientSessionOptions.builder().causallyConsistent(true).build());
+
+				try {
+
+					token.applyTo(session);
+
+					MongoTemplate sessionBound = withSession(session);
+					if (readPreference != null) {
+						sessionBound.setReadPreference(readPreference);
+					}
+
+					return action.doInSession(sessionBound);
+				} finally {
+
+					try {
+						doFinally.accept(session);
+					} finally {
+						session.close();
+					}
+				}
+			}
+		};
+	}
+
 	@Override
 	public MongoTemplate withSession(ClientSession session) {
 
@@ -716,7 +876,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		DefaultBulkOperations operations = new DefaultBulkOperations(this, collectionName,
 				new BulkOperationContext(mode, Optional.ofNullable(getPersistentEntity(entityType)), queryMapper, updateMapper,
-						eventPublisher, entityCallbacks));
+						eventPublisher, entityCallbacks, callbackPresence));
 
 		operations.setDefaultWriteConcern(writeConcern);
 
@@ -774,7 +934,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 		Assert.notNull(collectionName, "CollectionName must not be null");
 
-		QueryContext queryContext = queryOperations.createQueryContext(query);
+		QueryContext queryContext = queryOperations.createQueryContext(query, collectionName);
 		Document mappedQuery = queryContext.getMappedQuery(entityClass, this::getPersistentEntity);
 
 		return execute(collectionName,
@@ -835,7 +995,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(resultClass, "ResultClass must not be null");
 
 		MongoPersistentEntity<?> entity = entityClass != Object.class ? getPersistentEntity(entityClass) : null;
-		DistinctQueryContext distinctQueryContext = queryOperations.distinctQueryContext(query, field);
+		DistinctQueryContext distinctQueryContext = queryOperations.distinctQueryContext(query, field, collectionName);
 
 		Document mappedQuery = distinctQueryContext.getMappedQuery(entity);
 		String mappedFieldName = distinctQueryContext.getMappedFieldName(entity);
@@ -986,7 +1146,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.isTrue(query.getSkip() <= 0, "Query must not define skip");
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
-		QueryContext queryContext = queryOperations.createQueryContext(query);
+		QueryContext queryContext = queryOperations.createQueryContext(query, collectionName);
 
 		EntityProjection<T, S> projection = operations.introspectProjection(resultType, entityType);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
@@ -1054,7 +1214,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(query, "Query must not be null");
 		Assert.hasText(collectionName, "Collection name must not be null or empty");
 
-		CountContext countContext = queryOperations.countQueryContext(query);
+		CountContext countContext = queryOperations.countQueryContext(query, collectionName);
 
 		CountOptions options = countContext.getCountOptions(entityClass);
 		Document mappedQuery = countContext.getMappedQuery(entityClass, mappingContext::getPersistentEntity);
@@ -1088,7 +1248,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	@Override
 	public long exactCount(Query query, @Nullable Class<?> entityClass, String collectionName) {
 
-		CountContext countContext = queryOperations.countQueryContext(query);
+		CountContext countContext = queryOperations.countQueryContext(query, collectionName);
 
 		CountOptions options = countContext.getCountOptions(entityClass);
 		Document mappedQuery = countContext.getMappedQuery(entityClass, mappingContext::getPersistentEntity);
@@ -1195,6 +1355,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> T doInsert(String collectionName, T objectToSave, MongoWriter<T> writer) {
 
+		if (objectToSave instanceof RawBsonDocument) {
+
+			insertRawDocuments(collectionName, Collections.singletonList((RawBsonDocument) objectToSave));
+			return objectToSave;
+		}
+
 		BeforeConvertEvent<T> event = new BeforeConvertEvent<>(objectToSave, collectionName);
 		T toConvert = maybeEmitEvent(event).getSource();
 		toConvert = maybeCallBeforeConvert(toConvert, collectionName);
@@ -1203,6 +1369,15 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		entity.assertUpdateableIdIfNotSet();
 
 		T initialized = entity.initializeVersionProperty();
+
+		if (writer == mongoConverter && isDirectEncodingApplicable(initialized.getClass())) {
+
+			EncodableEntity encodable = EncodableEntity.of(initialized, entity.getId() == null ? new ObjectId() : null);
+			insertEntities(collectionName, Collections.singletonList(encodable), initialized.getClass());
+
+			return encodable.getId() != null ? populateIdIfNecessary(initialized, encodable.getId()) : initialized;
+		}
+
 		Document dbDoc = entity.toMappedDocument(writer).getDocument();
 
 		maybeEmitEvent(new BeforeSaveEvent<>(initialized, dbDoc, collectionName));
@@ -1276,6 +1451,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		Assert.notNull(writer, "MongoWriter must not be null");
 
+		if (!batchToSave.isEmpty() && batchToSave.stream().allMatch(RawBsonDocument.class::isInstance)) {
+
+			insertRawDocuments(collectionName,
+					batchToSave.stream().map(RawBsonDocument.class::cast).collect(Collectors.toList()));
+			return new ArrayList<>(batchToSave);
+		}
+
+		if (writer == mongoConverter && !batchToSave.isEmpty()
+				&& batchToSave.stream().allMatch(it -> it != null && isDirectEncodingApplicable(it.getClass()))) {
+			return doInsertBatchEncoded(collectionName, batchToSave);
+		}
+
 		List<Document> documentList = new ArrayList<>();
 		List<T> initializedBatchToSave = new ArrayList<>(batchToSave.size());
 		for (T uninitialized : batchToSave) {
@@ -1316,6 +1503,64 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return savedObjects;
 	}
 
+	private <T> Collection<T> doInsertBatchEncoded(String collectionName, Collection<? extends T> batchToSave) {
+
+		List<EncodableEntity> encodables = new ArrayList<>(batchToSave.size());
+		List<T> initializedBatchToSave = new ArrayList<>(batchToSave.size());
+
+		for (T uninitialized : batchToSave) {
+
+			BeforeConvertEvent<T> event = new BeforeConvertEvent<>(uninitialized, collectionName);
+			T toConvert = maybeEmitEvent(event).getSource();
+			toConvert = maybeCallBeforeConvert(toConvert, collectionName);
+
+			AdaptibleEntity<T> entity = operations.forEntity(toConvert, mongoConverter.getConversionService());
+			entity.assertUpdateableIdIfNotSet();
+
+			T initialized = entity.initializeVersionProperty();
+
+			encodables.add(EncodableEntity.of(initialized, entity.getId() == null ? new ObjectId() : null));
+			initializedBatchToSave.add(initialized);
+		}
+
+		insertEntities(collectionName, encodables, null);
+
+		List<T> savedObjects = new ArrayList<>(initializedBatchToSave.size());
+
+		for (int i = 0; i < initializedBatchToSave.size(); i++) {
+
+			T initialized = initializedBatchToSave.get(i);
+			Object generatedId = encodables.get(i).getId();
+
+			savedObjects.add(generatedId != null ? populateIdIfNecessary(initialized, generatedId) : initialized);
+		}
+
+		return savedObjects;
+	}
+
+	/**
+	 * Check whether entities of the given type can be {@link #setDirectEntityEncoding(boolean) encoded directly}, that
+	 * is if nobody requires the converted {@link Document} of the entity.
+	 */
+	private boolean isDirectEncodingApplicable(Class<?> entityType) {
+
+		if (!directEntityEncoding || !(mongoConverter instanceof MappingMongoConverter)) {
+			return false;
+		}
+
+		if (eventDelegate.hasListeners(BeforeSaveEvent.class, entityType)
+				|| eventDelegate.hasListeners(AfterSaveEvent.class, entityType)) {
+			return false;
+		}
+
+		if (entityCallbacks != null && (callbackPresence.hasCallbacks(BeforeSaveCallback.class, entityType)
+				|| callbackPresence.hasCallbacks(AfterSaveCallback.class, entityType))) {
+			return false;
+		}
+
+		return ((MappingMongoConverter) mongoConverter).canEncode(entityType);
+	}
+
 	@Override
 	public <T> T save(T objectToSave) {
 
@@ -1338,6 +1583,137 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				: (T) doSave(collectionName, objectToSave, this.mongoConverter);
 	}
 
+	/**
+	 * Save the given objects. The stored shard key values of entities with a mutable
+	 * {@link org.springframework.data.mongodb.core.mapping.ShardKey shard key} are looked up using a single query for
+	 * all objects instead of one query before each replacement. To do so, all objects are converted, including
+	 * {@link BeforeConvertEvent before convert} and {@link BeforeSaveEvent before save} events and callbacks, before the
+	 * first one is saved.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> List<T> saveAll(Collection<? extends T> objectsToSave, String collectionName) {
+
+		Assert.notNull(objectsToSave, "Objects to save must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+
+		List<T> saved = new ArrayList<>(objectsToSave.size());
+
+		if (!requiresShardKeyLookup(objectsToSave)) {
+
+			for (T objectToSave : objectsToSave) {
+
+				Assert.notNull(objectToSave, "Object to save must not be null");
+				saved.add(save(objectToSave, collectionName));
+			}
+
+			return saved;
+		}
+
+		List<Object> prepared = new ArrayList<>(objectsToSave.size());
+		List<Object> ids = new ArrayList<>(objectsToSave.size());
+
+		for (T objectToSave : objectsToSave) {
+
+			Assert.notNull(objectToSave, "Object to save must not be null");
+			ensureNotCollectionLike(objectToSave);
+
+			AdaptibleEntity<T> source = operations.forEntity(objectToSave, mongoConverter.getConversionService());
+
+			if (source.isVersionedEntity()) {
+				prepared.add(source);
+				continue;
+			}
+
+			PreparedSave<Object> save = prepareSave(collectionName, objectToSave, this.mongoConverter);
+			prepared.add(save);
+
+			if (save.document.get("_id") != null) {
+				ids.add(save.document.get("_id"));
+			}
+		}
+
+		Map<Object, Document> shardKeys = prefetchShardKeys(objectsToSave.iterator().next().getClass(), ids,
+				collectionName);
+
+		for (Object save : prepared) {
+			saved.add(save instanceof PreparedSave //
+					? (T) completeSave(collectionName, (PreparedSave<Object>) save, shardKeys) //
+					: doSaveVersioned((AdaptibleEntity<T>) save, collectionName));
+		}
+
+		return saved;
+	}
+
+	/**
+	 * Saving existing objects requires looking up their stored shard key if they all are of a single entity type
+	 * {@link QueryOperations#requiresShardKeyLookup(MongoPersistentEntity) requiring a shard key lookup}.
+	 */
+	private boolean requiresShardKeyLookup(Collection<?> objectsToSave) {
+
+		Class<?> type = null;
+
+		for (Object objectToSave : objectsToSave) {
+
+			if (objectToSave == null || (type != null && type != objectToSave.getClass())) {
+				return false;
+			}
+
+			type = objectToSave.getClass();
+		}
+
+		if (type == null) {
+			return false;
+		}
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(ClassUtils.getUserClass(type));
+		return queryOperations.requiresShardKeyLookup(entity) && entity.getIdProperty() != null;
+	}
+
+	@Override
+	public boolean requiresShardKeyLookup(Class<?> entityClass) {
+
+		Assert.notNull(entityClass, "Entity class must not be null");
+
+		return queryOperations.requiresShardKeyLookup(mappingContext.getPersistentEntity(entityClass));
+	}
+
+	/**
+	 * Look up the stored shard key values for the given mapped {@literal _id} values using a single {@literal $in} query.
+	 * The returned {@link Map} contains an entry for each queried {@literal _id} that is {@literal null} if no document
+	 * is stored.
+	 *
+	 * @return empty {@link Map} if there are less than two ids to look up.
+	 */
+	private Map<Object, Document> prefetchShardKeys(Class<?> type, List<Object> ids, String collectionName) {
+
+		if (ids.size() < 2) {
+			return Collections.emptyMap();
+		}
+
+		MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(ClassUtils.getUserClass(type));
+		Document filter = new Document("_id", new Document("$in", ids));
+
+		Document projection = new Document();
+		queryOperations.getMappedShardKeyFields(entity).forEach(field -> projection.put(field, 1));
+
+		return execute(collectionName, collection -> {
+
+			Map<Object, Document> shardKeys = new HashMap<>(ids.size());
+			ids.forEach(id -> shardKeys.put(id, null));
+
+			try (MongoCursor<Document> cursor = collection.find(filter, Document.class).projection(projection).iterator()) {
+				while (cursor.hasNext()) {
+
+					Document document = cursor.next();
+					shardKeys.put(document.get("_id"), document);
+				}
+			}
+
+			return shardKeys;
+		});
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> T doSaveVersioned(AdaptibleEntity<T> source, String collectionName) {
 
@@ -1380,6 +1756,19 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	}
 
 	protected <T> T doSave(String collectionName, T objectToSave, MongoWriter<T> writer) {
+		return doSave(collectionName, objectToSave, writer, Collections.emptyMap());
+	}
+
+	private <T> T doSave(String collectionName, T objectToSave, MongoWriter<T> writer,
+			Map<Object, Document> shardKeys) {
+		return completeSave(collectionName, prepareSave(collectionName, objectToSave, writer), shardKeys);
+	}
+
+	/**
+	 * Convert the given object into the {@link Document} to save emitting {@link BeforeConvertEvent before convert} and
+	 * {@link BeforeSaveEvent before save} events and invoking the according callbacks.
+	 */
+	private <T> PreparedSave<T> prepareSave(String collectionName, T objectToSave, MongoWriter<T> writer) {
 
 		objectToSave = maybeEmitEvent(new BeforeConvertEvent<>(objectToSave, collectionName)).getSource();
 		objectToSave = maybeCallBeforeConvert(objectToSave, collectionName);
@@ -1392,7 +1781,17 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		maybeEmitEvent(new BeforeSaveEvent<>(objectToSave, dbDoc, collectionName));
 		objectToSave = maybeCallBeforeSave(objectToSave, dbDoc, collectionName);
-		Object id = saveDocument(collectionName, dbDoc, objectToSave.getClass());
+
+		return new PreparedSave<>(objectToSave, dbDoc);
+	}
+
+	private <T> T completeSave(String collectionName, PreparedSave<T> save, Map<Object, Document> shardKeys) {
+
+		T objectToSave = save.object;
+		Document dbDoc = save.document;
+
+		Object id = shardKeys.isEmpty() ? saveDocument(collectionName, dbDoc, objectToSave.getClass())
+				: saveDocument(collectionName, dbDoc, objectToSave.getClass(), shardKeys);
 
 		T saved = populateIdIfNecessary(objectToSave, id);
 		maybeEmitEvent(new AfterSaveEvent<>(saved, dbDoc, collectionName));
@@ -1423,6 +1822,88 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		});
 	}
 
+	/**
+	 * Insert the given {@link EncodableEntity entities} encoding them straight to BSON using the
+	 * {@link MappingMongoConverter#createEntityEncoder(CodecRegistry) entity encoder} of the {@link MappingMongoConverter}.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param entityClass can be {@literal null}.
+	 * @since 4.0
+	 */
+	protected void insertEntities(String collectionName, List<EncodableEntity> entities, @Nullable Class<?> entityClass) {
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Inserting %s encoded entities in collection: %s", entities.size(), collectionName));
+		}
+
+		MappingMongoConverter converter = (MappingMongoConverter) mongoConverter;
+
+		execute(collectionName, collection -> {
+
+			MongoAction mongoAction = new MongoAction(writeConcern,
+					entities.size() == 1 ? MongoActionOperation.INSERT : MongoActionOperation.INSERT_LIST, collectionName,
+					entityClass, null, null);
+			WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
+
+			CodecRegistry codecRegistry = collection.getCodecRegistry();
+			MongoCollection<EncodableEntity> collectionToUse = collection.withDocumentClass(EncodableEntity.class)
+					.withCodecRegistry(CodecRegistries.fromRegistries(
+							CodecRegistries.fromCodecs(new EncodeOnlyCodec<>(converter.createEntityEncoder(codecRegistry))),
+							codecRegistry));
+
+			if (writeConcernToUse != null) {
+				collectionToUse = collectionToUse.withWriteConcern(writeConcernToUse);
+			}
+
+			if (entities.size() == 1) {
+				collectionToUse.insertOne(entities.get(0));
+			} else {
+				collectionToUse.insertMany(entities);
+			}
+
+			return null;
+		});
+	}
+
+	/**
+	 * Insert the given {@link RawBsonDocument}s as they are, bypassing the {@link MongoConverter} along with lifecycle
+	 * events and entity callbacks. Raw documents are immutable so an {@literal _id} that is not contained in the
+	 * document is assigned by the server and not reported back.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param documents must not be {@literal null}.
+	 * @since 4.0
+	 */
+	protected void insertRawDocuments(String collectionName, List<RawBsonDocument> documents) {
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Inserting %s raw Documents in collection: %s", documents.size(), collectionName));
+		}
+
+		execute(collectionName, collection -> {
+
+			MongoAction mongoAction = new MongoAction(writeConcern,
+					documents.size() == 1 ? MongoActionOperation.INSERT : MongoActionOperation.INSERT_LIST, collectionName,
+					RawBsonDocument.class, null, null);
+			WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
+
+			MongoCollection<RawBsonDocument> collectionToUse = collection.withDocumentClass(RawBsonDocument.class);
+
+			if (writeConcernToUse != null) {
+				collectionToUse = collectionToUse.withWriteConcern(writeConcernToUse);
+			}
+
+			if (documents.size() == 1) {
+				collectionToUse.insertOne(documents.get(0));
+			} else {
+				collectionToUse.insertMany(documents);
+			}
+
+			return null;
+		});
+	}
+
 	protected List<Object> insertDocumentList(String collectionName, List<Document> documents) {
 
 		if (documents.isEmpty()) {
@@ -1452,6 +1933,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	}
 
 	protected Object saveDocument(String collectionName, Document dbDoc, Class<?> entityClass) {
+		return saveDocument(collectionName, dbDoc, entityClass, Collections.emptyMap());
+	}
+
+	private Object saveDocument(String collectionName, Document dbDoc, Class<?> entityClass,
+			Map<Object, Document> shardKeys) {
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(String.format("Saving Document containing fields: %s", dbDoc.keySet()));
@@ -1469,12 +1955,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					? collection //
 					: collection.withWriteConcern(writeConcernToUse);
 
+			MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+
 			if (!mapped.hasId()) {
 				collectionToUse.insertOne(dbDoc);
 			} else {
 
-				MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
-				UpdateContext updateContext = queryOperations.replaceSingleContext(mapped, true);
+				UpdateContext updateContext = queryOperations.replaceSingleContext(mapped, true, collectionName);
 				Document replacement = updateContext.getMappedUpdate(entity);
 
 				Document filter = updateContext.getMappedQuery(entity);
@@ -1485,16 +1972,46 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 						filter = updateContext.applyShardKey(entity, filter, null);
 					} else {
 						filter = updateContext.applyShardKey(entity, filter,
-								collection.find(filter, Document.class).projection(updateContext.getMappedShardKey(entity)).first());
+								lookupShardKey(collection, collectionName, entity, mapped.getId(), filter, shardKeys));
 					}
 				}
 
 				collectionToUse.replaceOne(filter, replacement, new ReplaceOptions().upsert(true));
 			}
+
+			rememberShardKey(collectionName, entity, mapped.getId(), dbDoc);
 			return mapped.getId();
 		});
 	}
 
+	/**
+	 * Look up the stored shard key of the document to replace. Uses shard keys looked up upfront for a batch or
+	 * remembered by the {@link ShardKeyCache} before querying the collection.
+	 *
+	 * @return the shard key source or {@literal null} if no document stored.
+	 */
+	@Nullable
+	private Document lookupShardKey(MongoCollection<Document> collection, String collectionName,
+			MongoPersistentEntity<?> entity, @Nullable Object id, Document filter, Map<Object, Document> shardKeys) {
+
+		if (id != null && shardKeys.containsKey(id)) {
+			return shardKeys.get(id);
+		}
+
+		Document shardKey = shardKeyCache != null ? shardKeyCache.get(collectionName, id) : null;
+
+		return shardKey != null ? shardKey
+				: collection.find(filter, Document.class).projection(queryOperations.getMappedShardKey(entity)).first();
+	}
+
+	private void rememberShardKey(String collectionName, @Nullable MongoPersistentEntity<?> entity, @Nullable Object id,
+			Document source) {
+
+		if (shardKeyCache != null && queryOperations.requiresShardKeyLookup(entity)) {
+			shardKeyCache.put(collectionName, id, source, queryOperations.getMappedShardKeyFields(entity));
+		}
+	}
+
 	@Override
 	public UpdateResult upsert(Query query, UpdateDefinition update, Class<?> entityClass) {
 		return doUpdate(getCollectionName(entityClass), query, update, entityClass, true, false);
@@ -1565,8 +2082,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		MongoPersistentEntity<?> entity = entityClass == null ? null : getPersistentEntity(entityClass);
 
-		UpdateContext updateContext = multi ? queryOperations.updateContext(update, query, upsert)
-				: queryOperations.updateSingleContext(update, query, upsert);
+		UpdateContext updateContext = multi ? queryOperations.updateContext(update, query, upsert, collectionName)
+				: queryOperations.updateSingleContext(update, query, upsert, collectionName);
 		updateContext.increaseVersionForUpdateIfNecessary(entity);
 
 		Document queryObj = updateContext.getMappedQuery(entity);
@@ -1610,18 +2127,26 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 				Document filter = new Document(queryObj);
 
+				Object id = filter.get("_id") instanceof Document ? null : filter.get("_id");
+
 				if (updateContext.requiresShardKey(filter, entity)) {
 
 					if (entity.getShardKey().isImmutable()) {
 						filter = updateContext.applyShardKey(entity, filter, null);
 					} else {
 						filter = updateContext.applyShardKey(entity, filter,
-								collection.find(filter, Document.class).projection(updateContext.getMappedShardKey(entity)).first());
+								lookupShardKey(collection, collectionName, entity, id, filter, Collections.emptyMap()));
 					}
 				}
 
 				ReplaceOptions replaceOptions = updateContext.getReplaceOptions(entityClass);
-				return collection.replaceOne(filter, updateObj, replaceOptions);
+				UpdateResult result = collection.replaceOne(filter, updateObj, replaceOptions);
+
+				if (result.getMatchedCount() > 0) {
+					rememberShardKey(collectionName, entity, id, updateObj);
+				}
+
+				return result;
 			} else {
 				return multi ? collection.updateMany(queryObj, updateObj, opts)
 						: collection.updateOne(queryObj, updateObj, opts);
@@ -1674,8 +2199,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		MongoPersistentEntity<?> entity = getPersistentEntity(entityClass);
 
-		DeleteContext deleteContext = multi ? queryOperations.deleteQueryContext(query)
-				: queryOperations.deleteSingleContext(query);
+		DeleteContext deleteContext = multi ? queryOperations.deleteQueryContext(query, collectionName)
+				: queryOperations.deleteSingleContext(query, collectionName);
 		Document queryObject = deleteContext.getMappedQuery(entity);
 		DeleteOptions options = deleteContext.getDeleteOptions(entityClass);
 
@@ -1885,8 +2410,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	public <O> AggregationResults<O> aggregate(Aggregation aggregation, Class<?> inputType, Class<O> outputType) {
 
 		Assert.notNull(aggregation, "Aggregation pipeline must not be null");
-		return aggregate(aggregation, getCollectionName(inputType), outputType,
-				queryOperations.createAggregation(aggregation, inputType).getAggregationOperationContext());
+
+		String collectionName = getCollectionName(inputType);
+		return aggregate(aggregation, collectionName, outputType,
+				queryOperations.createAggregation(aggregation, inputType, collectionName)
+						.getAggregationOperationContext());
 	}
 
 	@Override
@@ -1911,8 +2439,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	public <O> Stream<O> aggregateStream(Aggregation aggregation, Class<?> inputType, Class<O> outputType) {
 
 		Assert.notNull(aggregation, "Aggregation pipeline must not be null");
-		return aggregateStream(aggregation, getCollectionName(inputType), outputType,
-				queryOperations.createAggregation(aggregation, inputType).getAggregationOperationContext());
+
+		String collectionName = getCollectionName(inputType);
+		return aggregateStream(aggregation, collectionName, outputType,
+				queryOperations.createAggregation(aggregation, inputType, collectionName)
+						.getAggregationOperationContext());
 	}
 
 	@Override
@@ -1968,7 +2499,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(outputType, "Output type must not be null");
 
 		return doAggregate(aggregation, collectionName, outputType,
-				queryOperations.createAggregation(aggregation, context));
+				queryOperations.createAggregation(aggregation, context, collectionName));
 	}
 
 	private <O> AggregationResults<O> doAggregate(Aggregation aggregation, String collectionName, Class<O> outputType,
@@ -1976,7 +2507,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return doAggregate(aggregation, collectionName, outputType, context.getAggregationOperationContext());
 	}
 
-	@SuppressWarnings("ConstantConditions")
+	@SuppressWarnings({ "ConstantConditions", "unchecked" })
 	protected <O> AggregationResults<O> doAggregate(Aggregation aggregation, String collectionName, Class<O> outputType,
 			AggregationOperationContext context) {
 
@@ -2007,39 +2538,27 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		return execute(collectionName, collection -> {
 
-			List<Document> rawResult = new ArrayList<>();
-
-			Class<?> domainType = aggregation instanceof TypedAggregation ? ((TypedAggregation<?>) aggregation).getInputType()
-					: null;
+			if (isRawDocument(outputType)) {
 
-			Optional<Collation> collation = Optionals.firstNonEmpty(options::getCollation,
-					() -> operations.forType(domainType) //
-							.getCollation());
+				AggregateIterable<RawBsonDocument> aggregateIterable = prepareAggregation(
+						collection.aggregate(pipeline, RawBsonDocument.class), aggregation);
 
-			AggregateIterable<Document> aggregateIterable = collection.aggregate(pipeline, Document.class) //
-					.collation(collation.map(Collation::toMongoCollation).orElse(null)) //
-					.allowDiskUse(options.isAllowDiskUse());
+				if (options.isSkipResults()) {
+					return skipAggregationResults(aggregateIterable, aggregation);
+				}
 
-			if (options.getCursorBatchSize() != null) {
-				aggregateIterable = aggregateIterable.batchSize(options.getCursorBatchSize());
+				List<RawBsonDocument> results = aggregateIterable.into(new ArrayList<>());
+				List<O> mappedResults = (List<O>) (List<?>) results;
+				return new AggregationResults<>(mappedResults, new Document("results", mappedResults).append("ok", 1.0D));
 			}
 
-			options.getComment().ifPresent(aggregateIterable::comment);
-			options.getHint().ifPresent(aggregateIterable::hint);
+			List<Document> rawResult = new ArrayList<>();
 
-			if (options.hasExecutionTimeLimit()) {
-				aggregateIterable = aggregateIterable.maxTime(options.getMaxTime().toMillis(), TimeUnit.MILLISECONDS);
-			}
+			AggregateIterable<Document> aggregateIterable = prepareAggregation(collection.aggregate(pipeline, Document.class),
+					aggregation);
 
 			if (options.isSkipResults()) {
-
-				// toCollection only allowed for $out and $merge if those are the last stages
-				if (aggregation.getPipeline().isOutOrMerge()) {
-					aggregateIterable.toCollection();
-				} else {
-					aggregateIterable.first();
-				}
-				return new AggregationResults<>(Collections.emptyList(), new Document());
+				return skipAggregationResults(aggregateIterable, aggregation);
 			}
 
 			MongoIterable<O> iterable = aggregateIterable.map(val -> {
@@ -2053,6 +2572,47 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		});
 	}
 
+	private <R> AggregateIterable<R> prepareAggregation(AggregateIterable<R> aggregateIterable,
+			Aggregation aggregation) {
+
+		AggregationOptions options = aggregation.getOptions();
+		Class<?> domainType = aggregation instanceof TypedAggregation ? ((TypedAggregation<?>) aggregation).getInputType()
+				: null;
+
+		Optional<Collation> collation = Optionals.firstNonEmpty(options::getCollation,
+				() -> operations.forType(domainType) //
+						.getCollation());
+
+		AggregateIterable<R> iterable = aggregateIterable //
+				.collation(collation.map(Collation::toMongoCollation).orElse(null)) //
+				.allowDiskUse(options.isAllowDiskUse());
+
+		if (options.getCursorBatchSize() != null) {
+			iterable = iterable.batchSize(options.getCursorBatchSize());
+		}
+
+		options.getComment().ifPresent(iterable::comment);
+		options.getHint().ifPresent(iterable::hint);
+
+		if (options.hasExecutionTimeLimit()) {
+			iterable = iterable.maxTime(options.getMaxTime().toMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		return iterable;
+	}
+
+	private static <O> AggregationResults<O> skipAggregationResults(AggregateIterable<?> aggregateIterable,
+			Aggregation aggregation) {
+
+		// toCollection only allowed for $out and $merge if those are the last stages
+		if (aggregation.getPipeline().isOutOrMerge()) {
+			aggregateIterable.toCollection();
+		} else {
+			aggregateIterable.first();
+		}
+		return new AggregationResults<>(Collections.emptyList(), new Document());
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	protected <O> Stream<O> aggregateStream(Aggregation aggregation, String collectionName, Class<O> outputType,
 			@Nullable AggregationOperationContext context) {
@@ -2062,7 +2622,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(outputType, "Output type must not be null");
 		Assert.isTrue(!aggregation.getOptions().isExplain(), "Can't use explain option with streaming");
 
-		AggregationDefinition aggregationDefinition = queryOperations.createAggregation(aggregation, context);
+		AggregationDefinition aggregationDefinition = queryOperations.createAggregation(aggregation, context,
+				collectionName);
 
 		AggregationOptions options = aggregation.getOptions();
 		List<Document> pipeline = aggregationDefinition.getAggregationPipeline();
@@ -2076,28 +2637,44 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		return execute(collectionName, (CollectionCallback<Stream<O>>) collection -> {
 
-			AggregateIterable<Document> cursor = collection.aggregate(pipeline, Document.class) //
-					.allowDiskUse(options.isAllowDiskUse());
+			if (isRawDocument(outputType)) {
 
-			if (options.getCursorBatchSize() != null) {
-				cursor = cursor.batchSize(options.getCursorBatchSize());
+				AggregateIterable<RawBsonDocument> cursor = prepareAggregationStream(
+						collection.aggregate(pipeline, RawBsonDocument.class), aggregation);
+				return (Stream<O>) new RawDocumentCursorAdapter(cursor.iterator(), exceptionTranslator).stream();
 			}
 
-			options.getComment().ifPresent(cursor::comment);
-			options.getHint().ifPresent(cursor::hint);
-
-			Class<?> domainType = aggregation instanceof TypedAggregation ? ((TypedAggregation) aggregation).getInputType()
-					: null;
-
-			Optionals.firstNonEmpty(options::getCollation, //
-					() -> operations.forType(domainType).getCollation()) //
-					.map(Collation::toMongoCollation) //
-					.ifPresent(cursor::collation);
+			AggregateIterable<Document> cursor = prepareAggregationStream(collection.aggregate(pipeline, Document.class),
+					aggregation);
 
 			return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, readCallback).stream();
 		});
 	}
 
+	private <R> AggregateIterable<R> prepareAggregationStream(AggregateIterable<R> aggregateIterable,
+			Aggregation aggregation) {
+
+		AggregationOptions options = aggregation.getOptions();
+		AggregateIterable<R> cursor = aggregateIterable.allowDiskUse(options.isAllowDiskUse());
+
+		if (options.getCursorBatchSize() != null) {
+			cursor = cursor.batchSize(options.getCursorBatchSize());
+		}
+
+		options.getComment().ifPresent(cursor::comment);
+		options.getHint().ifPresent(cursor::hint);
+
+		Class<?> domainType = aggregation instanceof TypedAggregation ? ((TypedAggregation<?>) aggregation).getInputType()
+				: null;
+
+		Optionals.firstNonEmpty(options::getCollation, //
+				() -> operations.forType(domainType).getCollation()) //
+				.map(Collation::toMongoCollation) //
+				.ifPresent(cursor::collation);
+
+		return cursor;
+	}
+
 	@Override
 	public <T> ExecutableFind<T> query(Class<T> domainType) {
 		return new ExecutableFindOperationSupport(this).query(domainType);
@@ -2188,7 +2765,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> T maybeCallBeforeConvert(T object, String collection) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null && callbackPresence.hasCallbacks(BeforeConvertCallback.class, object.getClass())) {
 			return entityCallbacks.callback(BeforeConvertCallback.class, object, collection);
 		}
 
@@ -2197,7 +2774,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> T maybeCallBeforeSave(T object, Document document, String collection) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null && callbackPresence.hasCallbacks(BeforeSaveCallback.class, object.getClass())) {
 			return entityCallbacks.callback(BeforeSaveCallback.class, object, document, collection);
 		}
 
@@ -2206,7 +2783,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> T maybeCallAfterSave(T object, Document document, String collection) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null && callbackPresence.hasCallbacks(AfterSaveCallback.class, object.getClass())) {
 			return entityCallbacks.callback(AfterSaveCallback.class, object, document, collection);
 		}
 
@@ -2215,7 +2792,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> T maybeCallAfterConvert(T object, Document document, String collection) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null && callbackPresence.hasCallbacks(AfterConvertCallback.class, object.getClass())) {
 			return entityCallbacks.callback(AfterConvertCallback.class, object, document, collection);
 		}
 
@@ -2335,13 +2912,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 * @return the {@link List} of converted objects.
 	 * @since 2.2
 	 */
-	@SuppressWarnings("ConstantConditions")
+	@SuppressWarnings({ "ConstantConditions", "unchecked" })
 	protected <T> T doFindOne(String collectionName, Document query, Document fields, CursorPreparer preparer,
 			Class<T> entityClass) {
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
-		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
+		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields), collectionName);
 		Document mappedFields = queryContext.getMappedFields(entity, EntityProjection.nonProjecting(entityClass));
 		Document mappedQuery = queryContext.getMappedQuery(entity);
 
@@ -2350,6 +2927,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					serializeToJsonSafely(query), mappedFields, entityClass, collectionName));
 		}
 
+		if (isRawDocument(entityClass)) {
+			return (T) executeFindOneRawInternal(mappedQuery, mappedFields, preparer, collectionName);
+		}
+
 		return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, preparer),
 				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName);
 	}
@@ -2384,6 +2965,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 */
 	protected <T> List<T> doFind(String collectionName, Document query, Document fields, Class<T> entityClass,
 			CursorPreparer preparer) {
+
+		if (isRawDocument(entityClass)) {
+			return doFind(collectionName, query, fields, null, entityClass, preparer);
+		}
+
 		return doFind(collectionName, query, fields, entityClass, preparer,
 				new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName));
 	}
@@ -2393,7 +2979,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
-		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
+		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields), collectionName);
 		Document mappedFields = queryContext.getMappedFields(entity, EntityProjection.nonProjecting(entityClass));
 		Document mappedQuery = queryContext.getMappedQuery(entity);
 
@@ -2412,13 +2998,30 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 *
 	 * @since 2.0
 	 */
-	<S, T> List<T> doFind(String collectionName, Document query, Document fields, Class<S> sourceClass,
+	@SuppressWarnings("unchecked")
+	<S, T> List<T> doFind(String collectionName, Document query, Document fields, @Nullable Class<S> sourceClass,
 			Class<T> targetClass, CursorPreparer preparer) {
 
-		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceClass);
+		MongoPersistentEntity<?> entity = getPersistentEntity(sourceClass);
+
+		if (isRawDocument(targetClass)) {
+
+			QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields),
+					collectionName);
+			Document mappedFields = queryContext.getMappedFields(entity, EntityProjection.nonProjecting(targetClass));
+			Document mappedQuery = queryContext.getMappedQuery(entity);
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug(String.format("find using query: %s fields: %s for class: %s in collection: %s",
+						serializeToJsonSafely(mappedQuery), mappedFields, targetClass, collectionName));
+			}
+
+			return (List<T>) executeFindMultiRawInternal(mappedQuery, mappedFields, preparer, collectionName);
+		}
+
 		EntityProjection<T, S> projection = operations.introspectProjection(targetClass, sourceClass);
 
-		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
+		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields), collectionName);
 		Document mappedFields = queryContext.getMappedFields(entity, projection);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
 
@@ -2525,7 +3128,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
-		UpdateContext updateContext = queryOperations.updateSingleContext(update, query, false);
+		UpdateContext updateContext = queryOperations.updateSingleContext(update, query, false, collectionName);
 		updateContext.increaseVersionForUpdateIfNecessary(entity);
 
 		Document mappedQuery = updateContext.getMappedQuery(entity);
@@ -2696,6 +3299,52 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	@Nullable
+	private RawBsonDocument executeFindOneRawInternal(Document mappedQuery, Document mappedFields,
+			CursorPreparer preparer, String collectionName) {
+
+		try {
+			return initiateRawFind(getAndPrepareCollection(doGetDatabase(), collectionName), mappedQuery, mappedFields,
+					preparer).first();
+		} catch (RuntimeException e) {
+			throw potentiallyConvertRuntimeException(e, exceptionTranslator);
+		}
+	}
+
+	private List<RawBsonDocument> executeFindMultiRawInternal(Document mappedQuery, Document mappedFields,
+			CursorPreparer preparer, String collectionName) {
+
+		try {
+			return initiateRawFind(getAndPrepareCollection(doGetDatabase(), collectionName), mappedQuery, mappedFields,
+					preparer).into(new ArrayList<>());
+		} catch (RuntimeException e) {
+			throw potentiallyConvertRuntimeException(e, exceptionTranslator);
+		}
+	}
+
+	/**
+	 * Initiate a find operation that returns the server response as {@link RawBsonDocument}s without decoding them into
+	 * a {@link Document}. The {@link CursorPreparer} only applies cursor options and does not consume any elements, so
+	 * it is safe to let it operate on the raw {@link FindIterable}.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static FindIterable<RawBsonDocument> initiateRawFind(MongoCollection<Document> collection,
+			Document mappedQuery, Document mappedFields, CursorPreparer preparer) {
+
+		FindIterable prepared = preparer.initiateFind(collection,
+				col -> (FindIterable) col.find(mappedQuery, RawBsonDocument.class).projection(mappedFields));
+		return (FindIterable<RawBsonDocument>) prepared;
+	}
+
+	/**
+	 * @param type can be {@literal null}.
+	 * @return {@literal true} if results are requested as {@link RawBsonDocument} and should bypass the
+	 *         {@link MongoConverter}.
+	 */
+	private static boolean isRawDocument(@Nullable Class<?> type) {
+		return RawBsonDocument.class.equals(type);
+	}
+
 	private void executeQueryInternal(CollectionCallback<FindIterable<Document>> collectionCallback,
 			CursorPreparer preparer, DocumentCallbackHandler callbackHandler, String collectionName) {
 
@@ -3029,14 +3678,24 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		@Override
 		public T doWith(Document document) {
 
-			maybeEmitEvent(new AfterLoadEvent<>(document, type, collectionName));
+			if (eventDelegate.hasListeners(AfterLoadEvent.class, type)) {
+				maybeEmitEvent(new AfterLoadEvent<>(document, type, collectionName));
+			}
+
+			if (shardKeyCache != null) {
+				rememberShardKey(collectionName, mappingContext.getPersistentEntity(type), document.get("_id"), document);
+			}
+
 			T entity = reader.read(type, document);
 
 			if (entity == null) {
 				throw new MappingException(String.format("EntityReader %s returned null", reader));
 			}
 
-			maybeEmitEvent(new AfterConvertEvent<>(document, entity, collectionName));
+			if (eventDelegate.hasListeners(AfterConvertEvent.class, entity.getClass())) {
+				maybeEmitEvent(new AfterConvertEvent<>(document, entity, collectionName));
+			}
+
 			entity = maybeCallAfterConvert(entity, document, collectionName);
 
 			return entity;
@@ -3072,7 +3731,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				return null;
 			}
 
-			maybeEmitEvent(new AfterLoadEvent<>(document, projection.getMappedType().getType(), collectionName));
+			Class<T> mappedType = projection.getMappedType().getType();
+
+			if (eventDelegate.hasListeners(AfterLoadEvent.class, mappedType)) {
+				maybeEmitEvent(new AfterLoadEvent<>(document, mappedType, collectionName));
+			}
 
 			Object entity = mongoConverter.project(projection, document);
 
@@ -3080,11 +3743,89 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				throw new MappingException(String.format("EntityReader %s returned null", mongoConverter));
 			}
 
-			maybeEmitEvent(new AfterConvertEvent<>(document, entity, collectionName));
+			if (eventDelegate.hasListeners(AfterConvertEvent.class, entity.getClass())) {
+				maybeEmitEvent(new AfterConvertEvent<>(document, entity, collectionName));
+			}
+
 			return (T) maybeCallAfterConvert(entity, document, collectionName);
 		}
 	}
 
+	/**
+	 * {@link DocumentCallback} recording {@link Document}s with an {@link AdaptiveBatchSize} before delegating.
+	 *
+	 * @since 4.0
+	 */
+	private static class SamplingDocumentCallback<T> implements DocumentCallback<T> {
+
+		private final DocumentCallback<T> delegate;
+		private final AdaptiveBatchSize adaptiveBatchSize;
+		private final String collectionName;
+
+		SamplingDocumentCallback(DocumentCallback<T> delegate, AdaptiveBatchSize adaptiveBatchSize,
+				String collectionName) {
+
+			this.delegate = delegate;
+			this.adaptiveBatchSize = adaptiveBatchSize;
+			this.collectionName = collectionName;
+		}
+
+		@Override
+		public T doWith(Document document) {
+
+			adaptiveBatchSize.recordDocument(collectionName, document);
+			return delegate.doWith(document);
+		}
+	}
+
+	/**
+	 * An object converted into the {@link Document} to save.
+	 *
+	 * @since 4.0
+	 */
+	private static class PreparedSave<T> {
+
+		private final T object;
+		private final Document document;
+
+		PreparedSave(T object, Document document) {
+
+			this.object = object;
+			this.document = document;
+		}
+	}
+
+	/**
+	 * {@link Codec} adapting an {@link Encoder} so it can be registered for the document class of a
+	 * {@link MongoCollection} that is only used to insert documents.
+	 *
+	 * @since 4.0
+	 */
+	private static class EncodeOnlyCodec<T> implements Codec<T> {
+
+		private final Encoder<T> encoder;
+
+		EncodeOnlyCodec(Encoder<T> encoder) {
+			this.encoder = encoder;
+		}
+
+		@Override
+		public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+			encoder.encode(writer, value, encoderContext);
+		}
+
+		@Override
+		public Class<T> getEncoderClass() {
+			return encoder.getEncoderClass();
+		}
+
+		@Override
+		public T decode(BsonReader reader, DecoderContext decoderContext) {
+			throw new UnsupportedOperationException(
+					String.format("Decoding %s is not supported", encoder.getEncoderClass().getName()));
+		}
+	}
+
 	class QueryCursorPreparer implements CursorPreparer {
 
 		private final Query query;
@@ -3319,6 +4060,54 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	/**
+	 * {@link CloseableIterator} over a {@link MongoCursor} returning {@link RawBsonDocument}s as they are received from
+	 * the server.
+	 *
+	 * @since 4.0
+	 */
+	static class RawDocumentCursorAdapter implements CloseableIterator<RawBsonDocument> {
+
+		private final MongoCursor<RawBsonDocument> cursor;
+		private final PersistenceExceptionTranslator exceptionTranslator;
+
+		RawDocumentCursorAdapter(MongoCursor<RawBsonDocument> cursor, PersistenceExceptionTranslator exceptionTranslator) {
+
+			this.cursor = cursor;
+			this.exceptionTranslator = exceptionTranslator;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			try {
+				return cursor.hasNext();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+
+		@Override
+		public RawBsonDocument next() {
+
+			try {
+				return cursor.next();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+
+		@Override
+		public void close() {
+
+			try {
+				cursor.close();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+	}
+
 	/**
 	 * {@link MongoTemplate} extension bound to a specific {@link ClientSession} that is applied when interacting with the
 	 * server through the driver API. <br />
@@ -3363,6 +4152,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		protected boolean countCanBeEstimated(Document filter, CountOptions options) {
 			return false;
 		}
+
+		@Override
+		public <T> Stream<T> scan(Query query, Class<T> entityType, String collectionName, ParallelScan scan) {
+			throw new UnsupportedOperationException(
+					"Parallel scans cannot be run within a ClientSession as a session must not be used by concurrent cursors");
+		}
 	}
 
 	@FunctionalInterface
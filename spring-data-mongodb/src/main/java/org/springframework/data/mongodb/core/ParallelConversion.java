@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.springframework.util.Assert;
+
+/**
+ * Options for converting documents read by {@link ReactiveMongoTemplate} on a {@link Scheduler} using multiple
+ * threads instead of converting them one after another on the thread emitting the driver results. Useful when
+ * converting large or complex documents is CPU bound.
+ * <br />
+ * Results retain the order of the documents returned by the server unless {@link #unordered()} is used. At most
+ * {@link #getPrefetch() prefetch} documents per thread are buffered ahead of the subscriber. Note that
+ * {@link org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent after load} and
+ * {@link org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent after convert} events and callbacks are
+ * invoked concurrently.
+ *
+ * <pre class="code">
+ * template.setParallelConversion(ParallelConversion.on(Schedulers.parallel()));
+ * </pre>
+ *
+ * @since 4.0
+ * @see ReactiveMongoTemplate#setParallelConversion(ParallelConversion)
+ */
+public final class ParallelConversion {
+
+	private static final int DEFAULT_PREFETCH = 32;
+
+	private final Scheduler scheduler;
+	private final int parallelism;
+	private final int prefetch;
+	private final boolean ordered;
+
+	private ParallelConversion(Scheduler scheduler, int parallelism, int prefetch, boolean ordered) {
+
+		this.scheduler = scheduler;
+		this.parallelism = parallelism;
+		this.prefetch = prefetch;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Create new {@link ParallelConversion} converting documents on the given {@link Scheduler} using
+	 * {@link Schedulers#DEFAULT_POOL_SIZE} threads, preserving the result order.
+	 *
+	 * @param scheduler must not be {@literal null}.
+	 * @return new instance of {@link ParallelConversion}.
+	 */
+	public static ParallelConversion on(Scheduler scheduler) {
+
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		return new ParallelConversion(scheduler, Schedulers.DEFAULT_POOL_SIZE, DEFAULT_PREFETCH, true);
+	}
+
+	/**
+	 * Set the number of documents converted in parallel.
+	 *
+	 * @param parallelism must be greater than zero.
+	 * @return new instance of {@link ParallelConversion}.
+	 */
+	public ParallelConversion parallelism(int parallelism) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+
+		return new ParallelConversion(scheduler, parallelism, prefetch, ordered);
+	}
+
+	/**
+	 * Set the number of documents buffered per thread.
+	 *
+	 * @param prefetch must be greater than zero.
+	 * @return new instance of {@link ParallelConversion}.
+	 */
+	public ParallelConversion prefetch(int prefetch) {
+
+		Assert.isTrue(prefetch > 0, "Prefetch must be greater than zero");
+
+		return new ParallelConversion(scheduler, parallelism, prefetch, ordered);
+	}
+
+	/**
+	 * Emit results as soon as they are converted not retaining the order of documents returned by the server.
+	 *
+	 * @return new instance of {@link ParallelConversion}.
+	 */
+	public ParallelConversion unordered() {
+		return new ParallelConversion(scheduler, parallelism, prefetch, false);
+	}
+
+	/**
+	 * @return the {@link Scheduler} to convert documents on.
+	 */
+	public Scheduler getScheduler() {
+		return scheduler;
+	}
+
+	/**
+	 * @return the number of documents converted in parallel.
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return the number of documents buffered per thread.
+	 */
+	public int getPrefetch() {
+		return prefetch;
+	}
+
+	/**
+	 * @return {@literal true} if results retain the order of documents returned by the server.
+	 */
+	public boolean isOrdered() {
+		return ordered;
+	}
+
+	/**
+	 * Convert the given {@code documents} applying the {@code converter} in parallel.
+	 *
+	 * @param documents must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return the converted results.
+	 */
+	<T> Flux<T> convert(Flux<Document> documents, Function<Document, ? extends Publisher<T>> converter) {
+
+		if (!ordered) {
+			return documents.parallel(parallelism, prefetch) //
+					.runOn(scheduler, prefetch) //
+					.concatMap(converter) //
+					.sequential(prefetch);
+		}
+
+		// rails receive documents in index order so merging them by index restores the original order
+		return documents.index() //
+				.parallel(parallelism, prefetch) //
+				.runOn(scheduler, prefetch) //
+				.concatMap(indexed -> Flux.from(converter.apply(indexed.getT2())) //
+						.map(result -> Tuples.of(indexed.getT1(), result))) //
+				.ordered(Comparator.comparing((Tuple2<Long, T> tuple) -> tuple.getT1()), prefetch) //
+				.map(Tuple2::getT2);
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.bson.Document;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Options for reading the results of a {@link Query} using multiple cursors concurrently. The query is split into
+ * {@link #getPartitions() partitions} covering disjoint ranges of an indexed {@link #getField() field} (defaults to
+ * {@literal _id}). Range boundaries are computed by a {@literal $bucketAuto} aggregation over a {@literal $sample} of
+ * the matching documents, or over all of them if the {@link #sampleSize(int) sample size} is {@literal zero}.
+ * <br />
+ * Results of the individual ranges are merged as they arrive and therefore not returned in any particular order.
+ * Boundaries computed from a sample are approximate, so ranges may differ in size. Values of the scanned field should
+ * be of a single BSON type as range conditions only match values of the same type. Documents without a value for the
+ * field are read by the first range. Queries using {@link Query#skip(long) skip} or {@link Query#limit(int) limit}
+ * cannot be split.
+ *
+ * <pre class="code">
+ * try (Stream&lt;Person&gt; people = template.scan(new Query(), Person.class, ParallelScan.partitions(8))) {
+ * 	people.forEach(exporter::write);
+ * }
+ * </pre>
+ *
+ * @since 4.0
+ * @see MongoOperations#scan(Query, Class, ParallelScan)
+ * @see ReactiveMongoOperations#scan(Query, Class, ParallelScan)
+ */
+public final class ParallelScan {
+
+	private static final String DEFAULT_FIELD = "_id";
+	private static final int DEFAULT_SAMPLE_SIZE = 10000;
+	private static final int DEFAULT_BUFFER_SIZE = 1024;
+
+	private final int partitions;
+	private final String field;
+	private final int sampleSize;
+	private final int bufferSize;
+	private final @Nullable Executor executor;
+
+	private ParallelScan(int partitions, String field, int sampleSize, int bufferSize, @Nullable Executor executor) {
+
+		this.partitions = partitions;
+		this.field = field;
+		this.sampleSize = sampleSize;
+		this.bufferSize = bufferSize;
+		this.executor = executor;
+	}
+
+	/**
+	 * Create new {@link ParallelScan} splitting the query into the given number of {@literal _id} ranges.
+	 *
+	 * @param partitions must be greater than zero.
+	 * @return new instance of {@link ParallelScan}.
+	 */
+	public static ParallelScan partitions(int partitions) {
+
+		Assert.isTrue(partitions > 0, "Partitions must be greater than zero");
+
+		return new ParallelScan(partitions, DEFAULT_FIELD, DEFAULT_SAMPLE_SIZE, DEFAULT_BUFFER_SIZE, null);
+	}
+
+	/**
+	 * Split the query into ranges of the given property or field. The field should be indexed so that each range can be
+	 * read using an index scan.
+	 *
+	 * @param field must not be {@literal null} or empty.
+	 * @return new instance of {@link ParallelScan}.
+	 */
+	public ParallelScan field(String field) {
+
+		Assert.hasText(field, "Field must not be null or empty");
+
+		return new ParallelScan(partitions, field, sampleSize, bufferSize, executor);
+	}
+
+	/**
+	 * Compute range boundaries from a {@literal $sample} of the given size. {@literal Zero} computes exact boundaries
+	 * from all matching documents which requires reading the entire index.
+	 *
+	 * @param sampleSize must not be negative.
+	 * @return new instance of {@link ParallelScan}.
+	 */
+	public ParallelScan sampleSize(int sampleSize) {
+
+		Assert.isTrue(sampleSize >= 0, "Sample size must not be negative");
+
+		return new ParallelScan(partitions, field, sampleSize, bufferSize, executor);
+	}
+
+	/**
+	 * Buffer at most the given number of documents read ahead of the consumer of a blocking {@link java.util.stream.Stream}.
+	 *
+	 * @param bufferSize must be greater than zero.
+	 * @return new instance of {@link ParallelScan}.
+	 */
+	public ParallelScan bufferSize(int bufferSize) {
+
+		Assert.isTrue(bufferSize > 0, "Buffer size must be greater than zero");
+
+		return new ParallelScan(partitions, field, sampleSize, bufferSize, executor);
+	}
+
+	/**
+	 * Read the ranges of a blocking {@link java.util.stream.Stream} using the given {@link Executor}. The
+	 * {@link Executor} must run at least {@link #getPartitions() partitions} tasks concurrently. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor} starting a new thread per range.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return new instance of {@link ParallelScan}.
+	 */
+	public ParallelScan executor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		return new ParallelScan(partitions, field, sampleSize, bufferSize, executor);
+	}
+
+	/**
+	 * @return the number of ranges to read concurrently.
+	 */
+	public int getPartitions() {
+		return partitions;
+	}
+
+	/**
+	 * @return the property or field to split the query by.
+	 */
+	public String getField() {
+		return field;
+	}
+
+	/**
+	 * @return the sample size used to compute range boundaries. {@literal Zero} for exact boundaries.
+	 */
+	public int getSampleSize() {
+		return sampleSize;
+	}
+
+	/**
+	 * @return the maximum number of documents buffered ahead of the consumer.
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * @return the {@link Executor} reading the ranges of a blocking {@link java.util.stream.Stream}.
+	 */
+	Executor getExecutor() {
+		return executor != null ? executor : new SimpleAsyncTaskExecutor("parallel-scan-");
+	}
+
+	/**
+	 * Create the aggregation computing the range boundaries for the given {@link Query}. The aggregation results in one
+	 * document per range carrying the {@literal min} and {@literal max} value as {@literal _id}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @return {@literal null} if the query is not split.
+	 */
+	@Nullable
+	TypedAggregation<?> createBoundaryAggregation(Query query, Class<?> entityType) {
+
+		verify(query);
+
+		if (partitions == 1) {
+			return null;
+		}
+
+		List<AggregationOperation> operations = new ArrayList<>(3);
+
+		Document filter = query.getQueryObject();
+		if (!filter.isEmpty()) {
+			operations.add(context -> new Document("$match", context.getMappedObject(filter, entityType)));
+		}
+
+		if (sampleSize > 0) {
+			operations.add(Aggregation.sample(sampleSize));
+		}
+
+		operations.add(Aggregation.bucketAuto(field, partitions));
+
+		TypedAggregation<?> aggregation = Aggregation.newAggregation(entityType, operations);
+		return sampleSize > 0 ? aggregation
+				: aggregation.withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+	}
+
+	/**
+	 * Split the given {@link Query} into disjoint ranges using the results of the
+	 * {@link #createBoundaryAggregation(Query, Class) boundary aggregation}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param buckets the boundary aggregation results. Must not be {@literal null}.
+	 * @return the range queries. Never {@literal null} nor empty.
+	 */
+	List<Query> split(Query query, List<Document> buckets) {
+
+		verify(query);
+
+		List<Object> boundaries = new ArrayList<>(buckets.size());
+		for (int i = 1; i < buckets.size(); i++) {
+
+			Object bucket = buckets.get(i).get("_id");
+			if (bucket instanceof Document) {
+				boundaries.add(((Document) bucket).get("min"));
+			}
+		}
+
+		if (boundaries.isEmpty()) {
+			return Collections.singletonList(query);
+		}
+
+		List<Query> ranges = new ArrayList<>(boundaries.size() + 1);
+
+		ranges.add(createRange(query, new Document("$or",
+				Arrays.asList(new Document(field, new Document("$lt", boundaries.get(0))), new Document(field, null)))));
+
+		for (int i = 1; i < boundaries.size(); i++) {
+			ranges.add(createRange(query,
+					new Document(field, new Document("$gte", boundaries.get(i - 1)).append("$lt", boundaries.get(i)))));
+		}
+
+		ranges.add(createRange(query, new Document(field, new Document("$gte", boundaries.get(boundaries.size() - 1)))));
+
+		return ranges;
+	}
+
+	/**
+	 * Create a copy of the given {@link Query} restricted to the given {@code range} carrying over projection, sort,
+	 * collation, hint, {@link org.springframework.data.mongodb.core.query.Meta} and restricted types.
+	 */
+	private static Query createRange(Query query, Document range) {
+
+		Document filter = new Document(query.getQueryObject());
+		Document restrictedTypes = new Document();
+
+		filter.keySet().removeIf(key -> {
+
+			if (Query.isRestrictedTypeKey(key)) {
+				restrictedTypes.put(key, filter.get(key));
+				return true;
+			}
+			return false;
+		});
+
+		Document rangeFilter = filter.isEmpty() ? range : new Document("$and", Arrays.asList(filter, range));
+		rangeFilter.putAll(restrictedTypes);
+
+		BasicQuery rangeQuery = new BasicQuery(rangeFilter, query.getFieldsObject());
+		rangeQuery.setSortObject(query.getSortObject());
+		rangeQuery.setMeta(query.getMeta());
+		query.getCollation().ifPresent(rangeQuery::collation);
+
+		if (StringUtils.hasText(query.getHint())) {
+			rangeQuery.withHint(query.getHint());
+		}
+
+		return rangeQuery;
+	}
+
+	private static void verify(Query query) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.isTrue(query.getSkip() <= 0 && query.getLimit() <= 0,
+				"Queries using skip or limit cannot be split into ranges");
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link CloseableIterator} merging the results of range {@link Query queries} read concurrently on an
+ * {@link Executor}. Readers hand over results through a bounded queue blocking them if the consumer falls behind.
+ * Closing the iterator stops all readers and closes their cursors. A reader that fails or gets interrupted closes its
+ * cursor and fails the iteration.
+ *
+ * @param <T>
+ * @since 4.0
+ * @see ParallelScan
+ */
+class ParallelScanIterator<T> implements CloseableIterator<T> {
+
+	private static final Object END_OF_RANGE = new Object();
+
+	private final BlockingQueue<Object> queue;
+	private final int ranges;
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private final AtomicReference<Failure> failure = new AtomicReference<>();
+
+	private int completed;
+	private @Nullable Object next;
+
+	/**
+	 * Create a new {@link ParallelScanIterator} and start reading the given ranges.
+	 *
+	 * @param ranges the range queries. Must not be {@literal null}.
+	 * @param reader function opening a {@link Stream} for a range. Must not be {@literal null}.
+	 * @param executor the {@link Executor} running the readers. Must not be {@literal null}.
+	 * @param bufferSize the maximum number of buffered results.
+	 * @throws java.util.concurrent.RejectedExecutionException if the {@link Executor} rejects a reader. Readers already
+	 *           started are stopped.
+	 */
+	ParallelScanIterator(List<Query> ranges, Function<Query, Stream<T>> reader, Executor executor, int bufferSize) {
+
+		this.queue = new ArrayBlockingQueue<>(bufferSize);
+		this.ranges = ranges.size();
+
+		try {
+			for (Query range : ranges) {
+				executor.execute(() -> read(range, reader));
+			}
+		} catch (RuntimeException ex) {
+
+			close();
+			throw ex;
+		}
+	}
+
+	private void read(Query range, Function<Query, Stream<T>> reader) {
+
+		Object last = END_OF_RANGE;
+		boolean interrupted = false;
+
+		try (Stream<T> stream = reader.apply(range)) {
+
+			Iterator<T> iterator = stream.iterator();
+			while (!closed.get() && iterator.hasNext()) {
+
+				T element = iterator.next();
+				if (element != null) {
+					offer(element);
+				}
+			}
+		} catch (InterruptedException ex) {
+
+			interrupted = true;
+			last = new Failure(new DataAccessResourceFailureException("Interrupted while reading parallel scan range", ex));
+		} catch (RuntimeException | Error ex) {
+			last = new Failure(ex);
+		}
+
+		if (last instanceof Failure) {
+			failure.compareAndSet(null, (Failure) last);
+		}
+
+		try {
+			offer(last);
+		} catch (InterruptedException ex) {
+
+			interrupted = true;
+			failure.compareAndSet(null,
+					new Failure(new DataAccessResourceFailureException("Interrupted while completing parallel scan range", ex)));
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void offer(Object element) throws InterruptedException {
+
+		while (!closed.get()) {
+			if (queue.offer(element, 100, TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		while (next == null) {
+
+			if (completed == ranges || closed.get()) {
+				return false;
+			}
+
+			Object element = take();
+
+			if (element == END_OF_RANGE) {
+				completed++;
+			} else if (element instanceof Failure) {
+				close();
+				((Failure) element).rethrow();
+			} else {
+				next = element;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		T result = (T) next;
+		next = null;
+		return result;
+	}
+
+	@Override
+	public void close() {
+
+		if (closed.compareAndSet(false, true)) {
+			queue.clear();
+		}
+	}
+
+	private Object take() {
+
+		try {
+			while (!closed.get()) {
+
+				Object element = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (element != null) {
+					return element;
+				}
+
+				// readers failing to hand over their last element record the failure instead
+				Failure failure = this.failure.get();
+				if (failure != null) {
+					return failure;
+				}
+			}
+
+			return END_OF_RANGE;
+		} catch (InterruptedException ex) {
+
+			Thread.currentThread().interrupt();
+			close();
+			throw new DataAccessResourceFailureException("Interrupted while waiting for parallel scan results", ex);
+		}
+	}
+
+	private static class Failure {
+
+		private final Throwable cause;
+
+		Failure(Throwable cause) {
+			this.cause = cause;
+		}
+
+		void rethrow() {
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw (RuntimeException) cause;
+		}
+	}
+}
@@ -15,14 +15,44 @@
  */
 package org.springframework.data.mongodb.core;
 
-import org.bson.Document;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.Document;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.PersistentPropertyTranslator;
 import org.springframework.data.projection.EntityProjection;
+import org.springframework.data.util.Pair;
 import org.springframework.data.util.Predicates;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
 
 /**
  * Common operations performed on properties of an entity like extracting fields information for projection creation.
@@ -33,7 +63,11 @@ import org.springframework.data.util.Predicates;
  */
 class PropertyOperations {
 
+	private static final Log LOGGER = LogFactory.getLog(PropertyOperations.class);
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+	private final Map<Pair<TypeInformation<?>, TypeInformation<?>>, Optional<Document>> projectedFields = new ConcurrentHashMap<>();
 
 	PropertyOperations(MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
 		this.mappingContext = mappingContext;
@@ -41,40 +75,366 @@ class PropertyOperations {
 
 	/**
 	 * For cases where {@code fields} is {@link Document#isEmpty() empty} include only fields that are required for
-	 * creating the projection (target) type if the {@code EntityProjection} is a {@literal DTO projection} or a
-	 * {@literal closed interface projection}.
+	 * creating the projection (target) type if the {@code EntityProjection} is a {@literal DTO projection} or an
+	 * {@literal interface projection}. Nested interface projections contribute their nested fields, properties and
+	 * parameters using SpEL contribute the fields referenced by the expression. Projections that require the entire
+	 * document (e.g. by referencing the projection {@code target} as a whole) fall back to the given {@code fields}.
 	 *
 	 * @param projection must not be {@literal null}.
 	 * @param fields must not be {@literal null}.
 	 * @return {@link Document} with fields to be included.
 	 */
-	Document computeMappedFieldsForProjection(EntityProjection<?, ?> projection,
-			Document fields) {
+	Document computeMappedFieldsForProjection(EntityProjection<?, ?> projection, Document fields) {
 
-		if (!projection.isClosedProjection()) {
+		if (!projection.isProjection()) {
 			return fields;
 		}
 
-		Document projectedFields = new Document();
+		Optional<Document> projected = projectedFields.computeIfAbsent(
+				Pair.of(projection.getMappedType(), projection.getDomainType()), key -> computeProjectedFields(projection));
+
+		return projected.map(Document::new).orElse(fields);
+	}
+
+	private Optional<Document> computeProjectedFields(EntityProjection<?, ?> projection) {
+
+		MongoPersistentEntity<?> domainEntity = mappingContext.getRequiredPersistentEntity(projection.getDomainType());
+		FieldCollector collector = new FieldCollector();
 
 		if (projection.getMappedType().getType().isInterface()) {
-			projection.forEach(it -> {
-				projectedFields.put(it.getPropertyPath().getSegment(), 1);
-			});
+			collectInterfaceFields(projection, domainEntity, "", collector);
 		} else {
+			collectDtoFields(projection, domainEntity, collector);
+		}
+
+		if (collector.fullDocumentReason != null) {
+
+			if (LOGGER.isInfoEnabled()) {
+				LOGGER.info(String.format("Projection %s of %s requires the entire document to be fetched; %s",
+						projection.getMappedType().getType().getName(), projection.getDomainType().getType().getName(),
+						collector.fullDocumentReason));
+			}
+
+			return Optional.empty();
+		}
+
+		return Optional.of(collector.toDocument());
+	}
+
+	private void collectInterfaceFields(EntityProjection<?, ?> projection, MongoPersistentEntity<?> entity,
+			String prefix, FieldCollector collector) {
+
+		if (projection.isClosedProjection()) {
+			projection.forEach(it -> collectProjectionProperty(it, entity, prefix, collector));
+			return;
+		}
+
+		Class<?> projectionType = projection.getActualMappedType().getType();
+
+		for (Method method : projectionType.getMethods()) {
+
+			if (method.isDefault() || Modifier.isStatic(method.getModifiers())
+					|| method.getDeclaringClass().equals(Object.class)) {
+				continue;
+			}
+
+			Value value = AnnotatedElementUtils.findMergedAnnotation(method, Value.class);
+
+			if (value != null) {
+				collectExpressionFields(value.value(), true, entity, prefix, collector);
+				continue;
+			}
+
+			PropertyDescriptor descriptor = BeanUtils.findPropertyForMethod(method);
+
+			if (descriptor == null) {
+				collector.requireFullDocument(String.format("Cannot determine the property read by %s", method));
+				continue;
+			}
+
+			collectPropertyPath(List.of(descriptor.getName()), entity, prefix, collector);
+		}
+	}
+
+	private void collectProjectionProperty(EntityProjection.PropertyProjection<?, ?> propertyProjection,
+			MongoPersistentEntity<?> entity, String prefix, FieldCollector collector) {
+
+		String name = propertyProjection.getPropertyPath().getSegment();
+		MongoPersistentProperty property = entity.getPersistentProperty(name);
+
+		if (property == null) {
+			collector.include(prefix + name);
+			return;
+		}
+
+		if (property.isUnwrapped()) {
+			collectUnwrapped(property, prefix, collector);
+			return;
+		}
+
+		String field = prefix + property.getFieldName();
+
+		if (propertyProjection.isProjection() && propertyProjection.getActualMappedType().getType().isInterface()
+				&& !property.isAssociation() && !property.isMap()) {
+
+			MongoPersistentEntity<?> nested = mappingContext.getPersistentEntity(propertyProjection.getActualDomainType());
+
+			if (nested != null) {
+				collectInterfaceFields(propertyProjection, nested, field + ".", collector);
+				return;
+			}
+		}
+
+		collector.include(field);
+	}
+
+	private void collectDtoFields(EntityProjection<?, ?> projection, MongoPersistentEntity<?> domainEntity,
+			FieldCollector collector) {
+
+		// DTO projections use merged metadata between domain type and result type
+		PersistentPropertyTranslator translator = PersistentPropertyTranslator.create(domainEntity,
+				Predicates.negate(MongoPersistentProperty::hasExplicitFieldName));
+
+		MongoPersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(projection.getMappedType());
+
+		for (MongoPersistentProperty property : persistentEntity) {
+
+			String expression = property.getSpelExpression();
+
+			if (expression != null) {
+				collectExpressionFields(expression, false, domainEntity, "", collector);
+			} else {
+				collector.include(translator.translate(property).getFieldName());
+			}
+		}
+
+		PreferredConstructor<?, MongoPersistentProperty> constructor = persistentEntity.getPersistenceConstructor();
+
+		if (constructor == null) {
+			return;
+		}
+
+		for (Parameter<Object, MongoPersistentProperty> parameter : constructor.getParameters()) {
+
+			String expression = parameter.getSpelExpression();
+
+			if (expression != null) {
+				collectExpressionFields(expression, false, domainEntity, "", collector);
+			}
+		}
+	}
+
+	private void collectUnwrapped(MongoPersistentProperty property, String prefix, FieldCollector collector) {
+
+		MongoPersistentEntity<?> unwrapped = mappingContext.getRequiredPersistentEntity(property);
+
+		for (MongoPersistentProperty nested : unwrapped) {
+			collector.include(prefix + nested.getFieldName());
+		}
+	}
+
+	/**
+	 * Collect the fields referenced by a SpEL expression. Interface projections evaluate expressions against the
+	 * projection {@code target} using property names, DTO projections evaluate expressions against the raw document
+	 * using field names.
+	 */
+	private void collectExpressionFields(String expressionString, boolean template, MongoPersistentEntity<?> entity,
+			String prefix, FieldCollector collector) {
+
+		Expression expression;
+
+		try {
+			expression = template ? PARSER.parseExpression(expressionString, ParserContext.TEMPLATE_EXPRESSION)
+					: PARSER.parseExpression(expressionString);
+		} catch (ParseException e) {
+
+			collector.requireFullDocument(String.format("Cannot parse expression '%s'", expressionString));
+			return;
+		}
+
+		collectExpressionFields(expression, template, entity, prefix, collector);
+	}
+
+	private void collectExpressionFields(Expression expression, boolean interfaceProjection,
+			MongoPersistentEntity<?> entity, String prefix, FieldCollector collector) {
 
-			// DTO projections use merged metadata between domain type and result type
-			PersistentPropertyTranslator translator = PersistentPropertyTranslator.create(
-					mappingContext.getRequiredPersistentEntity(projection.getDomainType()),
-					Predicates.negate(MongoPersistentProperty::hasExplicitFieldName));
+		if (expression instanceof CompositeStringExpression composite) {
 
-			MongoPersistentEntity<?> persistentEntity = mappingContext
-					.getRequiredPersistentEntity(projection.getMappedType());
-			for (MongoPersistentProperty property : persistentEntity) {
-				projectedFields.put(translator.translate(property).getFieldName(), 1);
+			for (Expression nested : composite.getExpressions()) {
+				collectExpressionFields(nested, interfaceProjection, entity, prefix, collector);
 			}
+			return;
 		}
 
-		return projectedFields;
+		if (expression instanceof SpelExpression spelExpression) {
+			collectExpressionFields(spelExpression.getAST(), interfaceProjection, entity, prefix, collector);
+		}
+	}
+
+	private void collectExpressionFields(SpelNode node, boolean interfaceProjection, MongoPersistentEntity<?> entity,
+			String prefix, FieldCollector collector) {
+
+		if (!(node instanceof CompoundExpression || node instanceof PropertyOrFieldReference
+				|| node instanceof VariableReference)) {
+
+			for (int i = 0; i < node.getChildCount(); i++) {
+				collectExpressionFields(node.getChild(i), interfaceProjection, entity, prefix, collector);
+			}
+			return;
+		}
+
+		List<SpelNode> chain = new ArrayList<>();
+		if (node instanceof CompoundExpression) {
+			for (int i = 0; i < node.getChildCount(); i++) {
+				chain.add(node.getChild(i));
+			}
+		} else {
+			chain.add(node);
+		}
+
+		SpelNode root = chain.get(0);
+		List<String> path = new ArrayList<>();
+		int index = 0;
+
+		if (root instanceof VariableReference) {
+
+			String variable = root.toStringAST();
+			boolean documentRoot = !interfaceProjection && ("#root".equals(variable) || "#this".equals(variable));
+
+			if (!documentRoot) {
+				recurseChildren(chain, 0, interfaceProjection, entity, prefix, collector);
+				return;
+			}
+			index = 1;
+		} else if (interfaceProjection) {
+
+			if (!(root instanceof PropertyOrFieldReference)) {
+
+				// bean, type or literal roots such as @bean.method(target) only reference fields through their arguments
+				recurseChildren(chain, 0, interfaceProjection, entity, prefix, collector);
+				return;
+			}
+
+			String name = ((PropertyOrFieldReference) root).getName();
+
+			if ("args".equals(name)) {
+				recurseChildren(chain, 1, interfaceProjection, entity, prefix, collector);
+				return;
+			}
+
+			if (!"target".equals(name)) {
+				collector.requireFullDocument(String.format("Expression references unknown root '%s'", name));
+				return;
+			}
+			index = 1;
+		}
+
+		for (; index < chain.size() && chain.get(index) instanceof PropertyOrFieldReference; index++) {
+			path.add(((PropertyOrFieldReference) chain.get(index)).getName());
+		}
+
+		if (path.isEmpty()) {
+			collector.requireFullDocument(
+					String.format("Expression '%s' references the entire object", node.toStringAST()));
+			return;
+		}
+
+		if (interfaceProjection) {
+			collectPropertyPath(path, entity, prefix, collector);
+		} else {
+			collector.include(prefix + String.join(".", path));
+		}
+
+		recurseChildren(chain, index, interfaceProjection, entity, prefix, collector);
+	}
+
+	private void recurseChildren(List<SpelNode> chain, int from, boolean interfaceProjection,
+			MongoPersistentEntity<?> entity, String prefix, FieldCollector collector) {
+
+		for (int i = from; i < chain.size(); i++) {
+
+			SpelNode node = chain.get(i);
+
+			for (int j = 0; j < node.getChildCount(); j++) {
+				collectExpressionFields(node.getChild(j), interfaceProjection, entity, prefix, collector);
+			}
+		}
+	}
+
+	/**
+	 * Resolve a path of property names into field names and include the resulting field.
+	 */
+	private void collectPropertyPath(List<String> path, MongoPersistentEntity<?> entity, String prefix,
+			FieldCollector collector) {
+
+		StringBuilder field = new StringBuilder(prefix);
+		MongoPersistentEntity<?> current = entity;
+
+		for (String segment : path) {
+
+			MongoPersistentProperty property = current.getPersistentProperty(segment);
+
+			if (property == null) {
+
+				collector.requireFullDocument(
+						String.format("Cannot resolve property '%s' of %s", segment, current.getType().getName()));
+				return;
+			}
+
+			if (property.isUnwrapped()) {
+				collectUnwrapped(property, field.toString(), collector);
+				return;
+			}
+
+			if (field.length() > prefix.length()) {
+				field.append('.');
+			}
+			field.append(property.getFieldName());
+
+			current = property.isEntity() && !property.isAssociation() && !property.isMap()
+					? mappingContext.getPersistentEntity(property)
+					: null;
+
+			if (current == null) {
+				break;
+			}
+		}
+
+		collector.include(field.toString());
+	}
+
+	/**
+	 * Collects field paths avoiding path collisions between a field and its nested fields.
+	 */
+	private static class FieldCollector {
+
+		private final Set<String> fields = new TreeSet<>();
+		private @Nullable String fullDocumentReason;
+
+		void include(String field) {
+
+			for (String existing : fields) {
+				if (field.equals(existing) || field.startsWith(existing + ".")) {
+					return;
+				}
+			}
+
+			fields.removeIf(existing -> existing.startsWith(field + "."));
+			fields.add(field);
+		}
+
+		void requireFullDocument(String reason) {
+
+			if (fullDocumentReason == null) {
+				fullDocumentReason = reason;
+			}
+		}
+
+		Document toDocument() {
+
+			Document document = new Document();
+			fields.forEach(it -> document.put(it, 1));
+			return document;
+		}
 	}
 }
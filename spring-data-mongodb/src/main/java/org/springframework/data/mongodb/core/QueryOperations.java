@@ -85,6 +85,7 @@ class QueryOperations {
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final AggregationUtil aggregationUtil;
 	private final Map<Class<?>, Document> mappedShardKey = new ConcurrentHashMap<>(1);
+	private @Nullable ShardTargetingListener shardTargetingListener;
 
 	/**
 	 * Create a new instance of {@link QueryOperations}.
@@ -107,34 +108,67 @@ class QueryOperations {
 		this.aggregationUtil = new AggregationUtil(queryMapper, mappingContext);
 	}
 
+	/**
+	 * Set the {@link ShardTargetingListener} to notify about the {@link ShardTargeting routing} of operations against
+	 * collections of sharded entities.
+	 *
+	 * @param shardTargetingListener can be {@literal null}.
+	 * @since 4.0
+	 */
+	void setShardTargetingListener(@Nullable ShardTargetingListener shardTargetingListener) {
+		this.shardTargetingListener = shardTargetingListener;
+	}
+
+	/**
+	 * Classify the given mapped filter and notify the {@link ShardTargetingListener}, if any.
+	 *
+	 * @param operation must not be {@literal null}.
+	 * @param entity can be {@literal null}.
+	 * @param collectionName the collection the operation targets. Must not be {@literal null}.
+	 * @param filter the mapped filter. Must not be {@literal null}.
+	 */
+	private void reportShardTargeting(ShardTargeting.Operation operation, @Nullable MongoPersistentEntity<?> entity,
+			String collectionName, Document filter) {
+
+		if (shardTargetingListener == null || entity == null || !entity.isSharded()) {
+			return;
+		}
+
+		shardTargetingListener.onShardTargeting(
+				ShardTargeting.classify(operation, entity, collectionName, filter, getMappedShardKeyFields(entity)));
+	}
+
 	/**
 	 * Create a new {@link QueryContext} instance.
 	 *
 	 * @param query must not be {@literal null}.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link QueryContext}.
 	 */
-	QueryContext createQueryContext(Query query) {
-		return new QueryContext(query);
+	QueryContext createQueryContext(Query query, String collectionName) {
+		return new QueryContext(query, collectionName);
 	}
 
 	/**
 	 * Create a new {@link DistinctQueryContext} instance.
 	 *
 	 * @param query must not be {@literal null}.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link DistinctQueryContext}.
 	 */
-	DistinctQueryContext distinctQueryContext(Query query, String fieldName) {
-		return new DistinctQueryContext(query, fieldName);
+	DistinctQueryContext distinctQueryContext(Query query, String fieldName, String collectionName) {
+		return new DistinctQueryContext(query, fieldName, collectionName);
 	}
 
 	/**
 	 * Create a new {@link CountContext} instance.
 	 *
 	 * @param query must not be {@literal null}.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link CountContext}.
 	 */
-	CountContext countQueryContext(Query query) {
-		return new CountContext(query);
+	CountContext countQueryContext(Query query, String collectionName) {
+		return new CountContext(query, collectionName);
 	}
 
 	/**
@@ -143,10 +177,11 @@ class QueryOperations {
 	 * @param updateDefinition must not be {@literal null}.
 	 * @param query must not be {@literal null}.
 	 * @param upsert use {@literal true} to insert diff when no existing document found.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link UpdateContext}.
 	 */
-	UpdateContext updateContext(UpdateDefinition updateDefinition, Query query, boolean upsert) {
-		return new UpdateContext(updateDefinition, query, true, upsert);
+	UpdateContext updateContext(UpdateDefinition updateDefinition, Query query, boolean upsert, String collectionName) {
+		return new UpdateContext(updateDefinition, query, true, upsert, collectionName);
 	}
 
 	/**
@@ -155,10 +190,12 @@ class QueryOperations {
 	 * @param updateDefinition must not be {@literal null}.
 	 * @param query must not be {@literal null}.
 	 * @param upsert use {@literal true} to insert diff when no existing document found.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link UpdateContext}.
 	 */
-	UpdateContext updateSingleContext(UpdateDefinition updateDefinition, Query query, boolean upsert) {
-		return new UpdateContext(updateDefinition, query, false, upsert);
+	UpdateContext updateSingleContext(UpdateDefinition updateDefinition, Query query, boolean upsert,
+			String collectionName) {
+		return new UpdateContext(updateDefinition, query, false, upsert, collectionName);
 	}
 
 	/**
@@ -167,39 +204,97 @@ class QueryOperations {
 	 * @param updateDefinition must not be {@literal null}.
 	 * @param query must not be {@literal null}.
 	 * @param upsert use {@literal true} to insert diff when no existing document found.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link UpdateContext}.
 	 */
-	UpdateContext updateSingleContext(UpdateDefinition updateDefinition, Document query, boolean upsert) {
-		return new UpdateContext(updateDefinition, query, false, upsert);
+	UpdateContext updateSingleContext(UpdateDefinition updateDefinition, Document query, boolean upsert,
+			String collectionName) {
+		return new UpdateContext(updateDefinition, query, false, upsert, collectionName);
 	}
 
 	/**
 	 * @param replacement the {@link MappedDocument mapped replacement} document.
 	 * @param upsert use {@literal true} to insert diff when no existing document found.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link UpdateContext}.
 	 */
-	UpdateContext replaceSingleContext(MappedDocument replacement, boolean upsert) {
-		return new UpdateContext(replacement, upsert);
+	UpdateContext replaceSingleContext(MappedDocument replacement, boolean upsert, String collectionName) {
+		return new UpdateContext(replacement, upsert, collectionName);
+	}
+
+	/**
+	 * Check whether replacing documents of the given {@link MongoPersistentEntity} requires the stored
+	 * {@link MongoPersistentEntity#getShardKey() shard key} values because the shard key is neither
+	 * {@link ShardKey#isImmutable() immutable} nor the entities {@literal id}.
+	 *
+	 * @param entity can be {@literal null}.
+	 * @return {@literal true} if replacements need to look up the stored shard key.
+	 * @since 4.0
+	 */
+	boolean requiresShardKeyLookup(@Nullable MongoPersistentEntity<?> entity) {
+		return entity != null && entity.isSharded() && !entity.getShardKey().isImmutable() && !shardedById(entity);
+	}
+
+	/**
+	 * @param entity must not be {@literal null}.
+	 * @return the mapped field names of the {@link MongoPersistentEntity#getShardKey() shard key}.
+	 * @since 4.0
+	 */
+	Set<String> getMappedShardKeyFields(MongoPersistentEntity<?> entity) {
+		return getMappedShardKey(entity).keySet();
+	}
+
+	/**
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link MongoPersistentEntity#getShardKey() shard key} using mapped field names.
+	 * @since 4.0
+	 */
+	Document getMappedShardKey(MongoPersistentEntity<?> entity) {
+		return mappedShardKey.computeIfAbsent(entity.getType(),
+				key -> queryMapper.getMappedFields(entity.getShardKey().getDocument(), entity));
+	}
+
+	/**
+	 * @return {@literal true} if the {@link MongoPersistentEntity#getShardKey() shard key} is the entities
+	 *         {@literal id} property.
+	 * @since 3.0
+	 */
+	private static boolean shardedById(MongoPersistentEntity<?> domainType) {
+
+		ShardKey shardKey = domainType.getShardKey();
+		if (shardKey.size() != 1) {
+			return false;
+		}
+
+		String key = shardKey.getPropertyNames().iterator().next();
+		if ("_id".equals(key)) {
+			return true;
+		}
+
+		MongoPersistentProperty idProperty = domainType.getIdProperty();
+		return idProperty != null && idProperty.getName().equals(key);
 	}
 
 	/**
 	 * Create a new {@link DeleteContext} instance removing all matching documents.
 	 *
 	 * @param query must not be {@literal null}.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link QueryContext}.
 	 */
-	DeleteContext deleteQueryContext(Query query) {
-		return new DeleteContext(query, true);
+	DeleteContext deleteQueryContext(Query query, String collectionName) {
+		return new DeleteContext(query, true, collectionName);
 	}
 
 	/**
 	 * Create a new {@link DeleteContext} instance only the first matching document.
 	 *
 	 * @param query must not be {@literal null}.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link QueryContext}.
 	 */
-	DeleteContext deleteSingleContext(Query query) {
-		return new DeleteContext(query, false);
+	DeleteContext deleteSingleContext(Query query, String collectionName) {
+		return new DeleteContext(query, false, collectionName);
 	}
 
 	/**
@@ -207,11 +302,13 @@ class QueryOperations {
 	 *
 	 * @param aggregation must not be {@literal null}.
 	 * @param inputType fallback mapping type in case of untyped aggregation. Can be {@literal null}.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link AggregationDefinition}.
 	 * @since 3.2
 	 */
-	AggregationDefinition createAggregation(Aggregation aggregation, @Nullable Class<?> inputType) {
-		return new AggregationDefinition(aggregation, inputType);
+	AggregationDefinition createAggregation(Aggregation aggregation, @Nullable Class<?> inputType,
+			String collectionName) {
+		return new AggregationDefinition(aggregation, inputType, collectionName);
 	}
 
 	/**
@@ -219,12 +316,13 @@ class QueryOperations {
 	 *
 	 * @param aggregation must not be {@literal null}.
 	 * @param aggregationOperationContext the {@link AggregationOperationContext} to use. Can be {@literal null}.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 	 * @return new instance of {@link AggregationDefinition}.
 	 * @since 3.2
 	 */
 	AggregationDefinition createAggregation(Aggregation aggregation,
-			@Nullable AggregationOperationContext aggregationOperationContext) {
-		return new AggregationDefinition(aggregation, aggregationOperationContext);
+			@Nullable AggregationOperationContext aggregationOperationContext, String collectionName) {
+		return new AggregationDefinition(aggregation, aggregationOperationContext, collectionName);
 	}
 
 	/**
@@ -236,15 +334,20 @@ class QueryOperations {
 	class QueryContext {
 
 		private final Query query;
+		private final String collectionName;
+		private boolean shardTargetingReported = false;
 
 		/**
 		 * Create new a {@link QueryContext} instance from the given {@literal query} (can be either a {@link Query} or a
 		 * plain {@link Document}.
 		 *
 		 * @param query can be {@literal null}.
+		 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 		 */
-		private QueryContext(@Nullable Query query) {
+		private QueryContext(@Nullable Query query, String collectionName) {
+
 			this.query = query != null ? query : new Query();
+			this.collectionName = collectionName;
 		}
 
 		/**
@@ -285,7 +388,34 @@ class QueryOperations {
 		 * @return never {@literal null}.
 		 */
 		<T> Document getMappedQuery(@Nullable MongoPersistentEntity<T> entity) {
-			return queryMapper.getMappedObject(getQueryObject(), entity);
+
+			Document mappedQuery = queryMapper.getMappedObject(getQueryObject(), entity);
+
+			if (shardTargetingListener != null && entity != null && !shardTargetingReported) {
+
+				shardTargetingReported = true;
+				reportShardTargeting(getOperation(), entity, collectionName, getShardTargetingFilter(mappedQuery, entity));
+			}
+
+			return mappedQuery;
+		}
+
+		/**
+		 * @return the {@link ShardTargeting.Operation} to report for {@link ShardTargetingListener}.
+		 */
+		ShardTargeting.Operation getOperation() {
+			return ShardTargeting.Operation.FIND;
+		}
+
+		/**
+		 * Obtain the filter used to route the operation in a sharded cluster.
+		 *
+		 * @param mappedQuery the mapped query.
+		 * @param entity the sharded entity.
+		 * @return the {@code mappedQuery} by default.
+		 */
+		Document getShardTargetingFilter(Document mappedQuery, MongoPersistentEntity<?> entity) {
+			return mappedQuery;
 		}
 
 		Document getMappedFields(@Nullable MongoPersistentEntity<?> entity,
@@ -394,13 +524,19 @@ class QueryOperations {
 		 *
 		 * @param query can be {@literal null}.
 		 * @param fieldName must not be {@literal null}.
+		 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 		 */
-		private DistinctQueryContext(@Nullable Object query, String fieldName) {
+		private DistinctQueryContext(@Nullable Object query, String fieldName, String collectionName) {
 
-			super(query instanceof Document ? new BasicQuery((Document) query) : (Query) query);
+			super(query instanceof Document ? new BasicQuery((Document) query) : (Query) query, collectionName);
 			this.fieldName = fieldName;
 		}
 
+		@Override
+		ShardTargeting.Operation getOperation() {
+			return ShardTargeting.Operation.DISTINCT;
+		}
+
 		@Override
 		Document getMappedFields(@Nullable MongoPersistentEntity<?> entity,
 				EntityProjection<?, ?> projection) {
@@ -474,9 +610,15 @@ class QueryOperations {
 		 * Creates a new {@link CountContext} instance.
 		 *
 		 * @param query can be {@literal null}.
+		 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 		 */
-		CountContext(@Nullable Query query) {
-			super(query);
+		CountContext(@Nullable Query query, String collectionName) {
+			super(query, collectionName);
+		}
+
+		@Override
+		ShardTargeting.Operation getOperation() {
+			return ShardTargeting.Operation.COUNT;
 		}
 
 		/**
@@ -541,13 +683,19 @@ class QueryOperations {
 		 *
 		 * @param query can be {@literal null}.
 		 * @param multi use {@literal true} to remove all matching documents, {@literal false} for just the first one.
+		 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 		 */
-		DeleteContext(@Nullable Query query, boolean multi) {
+		DeleteContext(@Nullable Query query, boolean multi, String collectionName) {
 
-			super(query);
+			super(query, collectionName);
 			this.multi = multi;
 		}
 
+		@Override
+		ShardTargeting.Operation getOperation() {
+			return ShardTargeting.Operation.DELETE;
+		}
+
 		/**
 		 * Get the {@link DeleteOptions} applicable for the {@link Query}.
 		 *
@@ -602,9 +750,10 @@ class QueryOperations {
 		 * @param query must not be {@literal null}.
 		 * @param multi use {@literal true} to update all matching documents.
 		 * @param upsert use {@literal true} to insert a new document if none match.
+		 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 		 */
-		UpdateContext(UpdateDefinition update, Document query, boolean multi, boolean upsert) {
-			this(update, new BasicQuery(query), multi, upsert);
+		UpdateContext(UpdateDefinition update, Document query, boolean multi, boolean upsert, String collectionName) {
+			this(update, new BasicQuery(query), multi, upsert, collectionName);
 		}
 
 		/**
@@ -614,10 +763,12 @@ class QueryOperations {
 		 * @param query can be {@literal null}.
 		 * @param multi use {@literal true} to update all matching documents.
 		 * @param upsert use {@literal true} to insert a new document if none match.
+		 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 		 */
-		UpdateContext(UpdateDefinition update, @Nullable Query query, boolean multi, boolean upsert) {
+		UpdateContext(UpdateDefinition update, @Nullable Query query, boolean multi, boolean upsert,
+				String collectionName) {
 
-			super(query);
+			super(query, collectionName);
 
 			this.multi = multi;
 			this.upsert = upsert;
@@ -625,9 +776,9 @@ class QueryOperations {
 			this.mappedDocument = null;
 		}
 
-		UpdateContext(MappedDocument update, boolean upsert) {
+		UpdateContext(MappedDocument update, boolean upsert, String collectionName) {
 
-			super(new BasicQuery(BsonUtils.asDocument(update.getIdFilter())));
+			super(new BasicQuery(BsonUtils.asDocument(update.getIdFilter())), collectionName);
 			this.multi = false;
 			this.upsert = upsert;
 			this.mappedDocument = update;
@@ -714,6 +865,22 @@ class QueryOperations {
 			return mappedQuery;
 		}
 
+		@Override
+		ShardTargeting.Operation getOperation() {
+			return ShardTargeting.Operation.UPDATE;
+		}
+
+		/**
+		 * Replacements of a single document get the shard key appended before being sent to the server.
+		 */
+		@Override
+		Document getShardTargetingFilter(Document mappedQuery, MongoPersistentEntity<?> entity) {
+
+			boolean replacement = mappedDocument != null || update instanceof MappedDocument.MappedUpdate;
+			return replacement && requiresShardKey(mappedQuery, entity) ? applyShardKey(entity, mappedQuery, null)
+					: mappedQuery;
+		}
+
 		<T> Document applyShardKey(MongoPersistentEntity<T> domainType, Document filter, @Nullable Document existing) {
 
 			Document shardKeySource = existing != null ? existing
@@ -732,34 +899,12 @@ class QueryOperations {
 					&& !filter.keySet().containsAll(getMappedShardKeyFields(domainType));
 		}
 
-		/**
-		 * @return {@literal true} if the {@link MongoPersistentEntity#getShardKey() shard key} is the entities
-		 *         {@literal id} property.
-		 * @since 3.0
-		 */
-		private boolean shardedById(MongoPersistentEntity<?> domainType) {
-
-			ShardKey shardKey = domainType.getShardKey();
-			if (shardKey.size() != 1) {
-				return false;
-			}
-
-			String key = shardKey.getPropertyNames().iterator().next();
-			if ("_id".equals(key)) {
-				return true;
-			}
-
-			MongoPersistentProperty idProperty = domainType.getIdProperty();
-			return idProperty != null && idProperty.getName().equals(key);
-		}
-
 		Set<String> getMappedShardKeyFields(MongoPersistentEntity<?> entity) {
-			return getMappedShardKey(entity).keySet();
+			return QueryOperations.this.getMappedShardKeyFields(entity);
 		}
 
 		Document getMappedShardKey(MongoPersistentEntity<?> entity) {
-			return mappedShardKey.computeIfAbsent(entity.getType(),
-					key -> queryMapper.getMappedFields(entity.getShardKey().getDocument(), entity));
+			return QueryOperations.this.getMappedShardKey(entity);
 		}
 
 		/**
@@ -835,6 +980,7 @@ class QueryOperations {
 		private final Lazy<AggregationOperationContext> aggregationOperationContext;
 		private final Lazy<List<Document>> pipeline;
 		private final @Nullable Class<?> inputType;
+		private final String collectionName;
 
 		/**
 		 * Creates new instance of {@link AggregationDefinition} extracting the input type from either the
@@ -846,10 +992,13 @@ class QueryOperations {
 		 *
 		 * @param aggregation the source aggregation.
 		 * @param aggregationOperationContext can be {@literal null}.
+		 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 		 */
-		AggregationDefinition(Aggregation aggregation, @Nullable AggregationOperationContext aggregationOperationContext) {
+		AggregationDefinition(Aggregation aggregation, @Nullable AggregationOperationContext aggregationOperationContext,
+				String collectionName) {
 
 			this.aggregation = aggregation;
+			this.collectionName = collectionName;
 
 			if (aggregation instanceof TypedAggregation) {
 				this.inputType = ((TypedAggregation<?>) aggregation).getInputType();
@@ -861,7 +1010,7 @@ class QueryOperations {
 
 			this.aggregationOperationContext = Lazy.of(() -> aggregationOperationContext != null ? aggregationOperationContext
 					: aggregationUtil.createAggregationContext(aggregation, getInputType()));
-			this.pipeline = Lazy.of(() -> aggregationUtil.createPipeline(this.aggregation, getAggregationOperationContext()));
+			this.pipeline = Lazy.of(this::createPipeline);
 		}
 
 		/**
@@ -874,10 +1023,12 @@ class QueryOperations {
 		 *
 		 * @param aggregation the source aggregation.
 		 * @param inputType can be {@literal null}.
+		 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
 		 */
-		AggregationDefinition(Aggregation aggregation, @Nullable Class<?> inputType) {
+		AggregationDefinition(Aggregation aggregation, @Nullable Class<?> inputType, String collectionName) {
 
 			this.aggregation = aggregation;
+			this.collectionName = collectionName;
 
 			if (aggregation instanceof TypedAggregation) {
 				this.inputType = ((TypedAggregation<?>) aggregation).getInputType();
@@ -887,7 +1038,21 @@ class QueryOperations {
 
 			this.aggregationOperationContext = Lazy
 					.of(() -> aggregationUtil.createAggregationContext(aggregation, getInputType()));
-			this.pipeline = Lazy.of(() -> aggregationUtil.createPipeline(this.aggregation, getAggregationOperationContext()));
+			this.pipeline = Lazy.of(this::createPipeline);
+		}
+
+		private List<Document> createPipeline() {
+
+			List<Document> pipeline = aggregationUtil.createPipeline(this.aggregation, getAggregationOperationContext());
+
+			if (shardTargetingListener != null && inputType != null) {
+
+				Object match = pipeline.isEmpty() ? null : pipeline.get(0).get("$match");
+				reportShardTargeting(ShardTargeting.Operation.AGGREGATE, mappingContext.getPersistentEntity(inputType),
+						collectionName, match instanceof Document ? (Document) match : new Document());
+			}
+
+			return pipeline;
 		}
 
 		/**
@@ -19,6 +19,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -409,6 +411,52 @@ public interface ReactiveMongoOperations extends ReactiveFluentMongoOperations {
 	 */
 	<T> Flux<T> find(Query query, Class<T> entityClass, String collectionName);
 
+	/**
+	 * Map the results of an ad-hoc query on the collection for the entity class to a {@link Flux} of the specified type
+	 * using multiple cursors reading disjoint ranges concurrently as defined by the given {@link ParallelScan}. Results
+	 * of all ranges are merged in no particular order.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification. Must not use skip or limit. Must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link Flux}.
+	 * @param scan must not be {@literal null}.
+	 * @return the {@link Flux} of converted objects. Emits an {@link UnsupportedOperationException} when invoked on a
+	 *         {@link ClientSession} bound template as a session must not be used by concurrent cursors.
+	 * @since 4.0
+	 */
+	default <T> Flux<T> scan(Query query, Class<T> entityClass, ParallelScan scan) {
+		return scan(query, entityClass, getCollectionName(entityClass), scan);
+	}
+
+	/**
+	 * Map the results of an ad-hoc query on the specified collection to a {@link Flux} of the specified type using
+	 * multiple cursors reading disjoint ranges concurrently as defined by the given {@link ParallelScan}. Results of all
+	 * ranges are merged in no particular order.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification. Must not use skip or limit. Must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link Flux}.
+	 * @param collectionName name of the collection to retrieve the objects from. Must not be {@literal null}.
+	 * @param scan must not be {@literal null}.
+	 * @return the {@link Flux} of converted objects. Emits an {@link UnsupportedOperationException} when invoked on a
+	 *         {@link ClientSession} bound template as a session must not be used by concurrent cursors.
+	 * @since 4.0
+	 */
+	default <T> Flux<T> scan(Query query, Class<T> entityClass, String collectionName, ParallelScan scan) {
+
+		Assert.notNull(entityClass, "Entity class must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+		Assert.notNull(scan, "ParallelScan must not be null");
+
+		TypedAggregation<?> boundaries = scan.createBoundaryAggregation(query, entityClass);
+		Mono<List<Query>> ranges = boundaries != null
+				? aggregate(boundaries, collectionName, Document.class).collectList().map(buckets -> scan.split(query, buckets))
+				: Mono.just(Collections.singletonList(query));
+
+		return ranges.flatMapMany(it -> Flux.fromIterable(it) //
+				.flatMap(range -> find(range, entityClass, collectionName), it.size()));
+	}
+
 	/**
 	 * Returns a document with the given id mapped onto the given class. The collection the query is ran against will be
 	 * derived from the given target class as well.
@@ -193,11 +193,14 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private @Nullable ReadPreference readPreference;
 	private @Nullable ApplicationEventPublisher eventPublisher;
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
+	private EntityCallbackPresence callbackPresence = EntityCallbackPresence.unknown();
 	private @Nullable ReactiveMongoPersistentEntityIndexCreator indexCreator;
 
 	private SessionSynchronization sessionSynchronization = SessionSynchronization.ON_ACTUAL_TRANSACTION;
 
 	private CountExecution countExecution = this::doExactCount;
+	private @Nullable AdaptiveBatchSize adaptiveBatchSize;
+	private @Nullable ParallelConversion parallelConversion;
 
 	/**
 	 * Constructor used for a basic template configuration.
@@ -290,6 +293,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.sessionSynchronization = that.sessionSynchronization;
 		this.queryOperations = that.queryOperations;
 		this.eventDelegate = that.eventDelegate;
+		this.adaptiveBatchSize = that.adaptiveBatchSize;
+		this.parallelConversion = that.parallelConversion;
 	}
 
 	private void onCheckForIndexes(MongoPersistentEntity<?> entity, Consumer<Throwable> subscriptionExceptionHandler) {
@@ -354,6 +359,44 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.eventDelegate.setEventsEnabled(enabled);
 	}
 
+	/**
+	 * Configure a {@link ShardTargetingListener} notified about whether operations against collections of
+	 * {@link org.springframework.data.mongodb.core.mapping.Sharded sharded} entities target specific shards or are
+	 * broadcast to all of them. Operations are classified when mapping their filter. Defaults to {@literal null}.
+	 *
+	 * @param shardTargetingListener can be {@literal null}.
+	 * @since 4.0
+	 * @see ShardTargetingListener#logScatterGather()
+	 * @see ShardTargetingListener#failOnScatterGather()
+	 */
+	public void setShardTargetingListener(@Nullable ShardTargetingListener shardTargetingListener) {
+		this.queryOperations.setShardTargetingListener(shardTargetingListener);
+	}
+
+	/**
+	 * Configure {@link AdaptiveBatchSize adaptive cursor batch sizing} for find operations not defining an explicit
+	 * {@link Meta#getCursorBatchSize() cursor batch size}. The batch size is chosen before subscribing to the cursor
+	 * based on the size of documents observed in previous queries against the same collection. Demand requested from the
+	 * cursor is limited to a single batch at a time. Defaults to {@literal null} using the driver default.
+	 *
+	 * @param adaptiveBatchSize can be {@literal null}.
+	 * @since 4.0
+	 */
+	public void setAdaptiveBatchSize(@Nullable AdaptiveBatchSize adaptiveBatchSize) {
+		this.adaptiveBatchSize = adaptiveBatchSize;
+	}
+
+	/**
+	 * Configure {@link ParallelConversion} to convert documents read by find operations on multiple threads. Defaults to
+	 * {@literal null} converting documents one after another on the thread emitting the driver results.
+	 *
+	 * @param parallelConversion can be {@literal null}.
+	 * @since 4.0
+	 */
+	public void setParallelConversion(@Nullable ParallelConversion parallelConversion) {
+		this.parallelConversion = parallelConversion;
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 
@@ -364,6 +407,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		if (entityCallbacks == null) {
 			setEntityCallbacks(ReactiveEntityCallbacks.create(applicationContext));
+			callbackPresence = EntityCallbackPresence.of(applicationContext);
 		}
 
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
@@ -385,6 +429,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		Assert.notNull(entityCallbacks, "EntityCallbacks must not be null");
 		this.entityCallbacks = entityCallbacks;
+		this.callbackPresence = EntityCallbackPresence.unknown();
 	}
 
 	/**
@@ -756,7 +801,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		return createFlux(collectionName, collection -> {
 
-			QueryContext queryContext = queryOperations.createQueryContext(query);
+			QueryContext queryContext = queryOperations.createQueryContext(query, collectionName);
 			Document filter = queryContext.getMappedQuery(entityClass, this::getPersistentEntity);
 
 			FindPublisher<Document> findPublisher = collection.find(filter, Document.class)
@@ -818,7 +863,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		Assert.notNull(resultClass, "ResultClass must not be null");
 
 		MongoPersistentEntity<?> entity = getPersistentEntity(entityClass);
-		DistinctQueryContext distinctQueryContext = queryOperations.distinctQueryContext(query, field);
+		DistinctQueryContext distinctQueryContext = queryOperations.distinctQueryContext(query, field, collectionName);
 
 		Document mappedQuery = distinctQueryContext.getMappedQuery(entity);
 		String mappedFieldName = distinctQueryContext.getMappedFieldName(entity);
@@ -886,7 +931,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		AggregationOptions options = aggregation.getOptions();
 		Assert.isTrue(!options.isExplain(), "Cannot use explain option with streaming");
 
-		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, inputType);
+		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, inputType, collectionName);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(String.format("Streaming aggregation: %s in collection %s",
@@ -1016,7 +1061,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		Assert.isTrue(query.getSkip() <= 0, "Query must not define skip");
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
-		QueryContext queryContext = queryOperations.createQueryContext(query);
+		QueryContext queryContext = queryOperations.createQueryContext(query, collectionName);
 		EntityProjection<T, S> projection = operations.introspectProjection(resultType, entityType);
 
 		Document mappedQuery = queryContext.getMappedQuery(entity);
@@ -1088,7 +1133,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		return createMono(collectionName, collection -> {
 
-			CountContext countContext = queryOperations.countQueryContext(query);
+			CountContext countContext = queryOperations.countQueryContext(query, collectionName);
 
 			CountOptions options = countContext.getCountOptions(entityClass);
 			Document filter = countContext.getMappedQuery(entityClass, mappingContext::getPersistentEntity);
@@ -1136,7 +1181,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	@Override
 	public Mono<Long> exactCount(Query query, @Nullable Class<?> entityClass, String collectionName) {
 
-		CountContext countContext = queryOperations.countQueryContext(query);
+		CountContext countContext = queryOperations.countQueryContext(query, collectionName);
 
 		CountOptions options = countContext.getCountOptions(entityClass);
 		Document mappedQuery = countContext.getMappedQuery(entityClass, mappingContext::getPersistentEntity);
@@ -1276,25 +1321,23 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		Assert.notNull(writer, "MongoWriter must not be null");
 
-		Mono<List<Tuple2<AdaptibleEntity<T>, Document>>> prepareDocuments = Flux.fromIterable(batchToSave)
-				.flatMap(uninitialized -> {
+		Flux<T> toConvert = Flux.fromIterable(batchToSave)
+				.map(uninitialized -> maybeEmitEvent(new BeforeConvertEvent<T>(uninitialized, collectionName)).getSource());
 
-					BeforeConvertEvent<T> event = new BeforeConvertEvent<>(uninitialized, collectionName);
-					T toConvert = maybeEmitEvent(event).getSource();
+		Mono<List<Tuple2<AdaptibleEntity<T>, Document>>> prepareDocuments;
 
-					return maybeCallBeforeConvert(toConvert, collectionName).flatMap(it -> {
+		if (requiresBeforeInsertCallbacks(batchToSave)) {
 
-						AdaptibleEntity<T> entity = operations.forEntity(it, mongoConverter.getConversionService());
-						entity.assertUpdateableIdIfNotSet();
+			prepareDocuments = toConvert.flatMap(source -> maybeCallBeforeConvert(source, collectionName).flatMap(it -> {
 
-						T initialized = entity.initializeVersionProperty();
-						Document dbDoc = entity.toMappedDocument(writer).getDocument();
-
-						maybeEmitEvent(new BeforeSaveEvent<>(initialized, dbDoc, collectionName));
+				Tuple2<AdaptibleEntity<T>, Document> mapped = prepareInsert(it, collectionName, writer);
+				return maybeCallBeforeSave(mapped.getT1().getBean(), mapped.getT2(), collectionName).thenReturn(mapped);
+			})).collectList();
+		} else {
 
-						return maybeCallBeforeSave(initialized, dbDoc, collectionName).thenReturn(Tuples.of(entity, dbDoc));
-					});
-				}).collectList();
+			// no callbacks apply, map documents without reactive callback dispatch per element
+			prepareDocuments = toConvert.map(it -> prepareInsert(it, collectionName, writer)).collectList();
+		}
 
 		Flux<Tuple2<AdaptibleEntity<T>, Document>> insertDocuments = prepareDocuments.flatMapMany(tuples -> {
 
@@ -1314,6 +1357,36 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		});
 	}
 
+	private <T> Tuple2<AdaptibleEntity<T>, Document> prepareInsert(T toConvert, String collectionName,
+			MongoWriter<Object> writer) {
+
+		AdaptibleEntity<T> entity = operations.forEntity(toConvert, mongoConverter.getConversionService());
+		entity.assertUpdateableIdIfNotSet();
+
+		T initialized = entity.initializeVersionProperty();
+		Document dbDoc = entity.toMappedDocument(writer).getDocument();
+
+		maybeEmitEvent(new BeforeSaveEvent<>(initialized, dbDoc, collectionName));
+
+		return Tuples.of(entity, dbDoc);
+	}
+
+	private boolean requiresBeforeInsertCallbacks(Collection<?> batchToSave) {
+
+		if (entityCallbacks == null) {
+			return false;
+		}
+
+		for (Object element : batchToSave) {
+			if (callbackPresence.hasCallbacks(ReactiveBeforeConvertCallback.class, element.getClass())
+					|| callbackPresence.hasCallbacks(ReactiveBeforeSaveCallback.class, element.getClass())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	@Override
 	public <T> Mono<T> save(Mono<? extends T> objectToSave) {
 
@@ -1501,7 +1574,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			} else {
 
 				MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
-				UpdateContext updateContext = queryOperations.replaceSingleContext(mapped, true);
+				UpdateContext updateContext = queryOperations.replaceSingleContext(mapped, true, collectionName);
 				Document filter = updateContext.getMappedQuery(entity);
 				Document replacement = updateContext.getMappedUpdate(entity);
 
@@ -1591,8 +1664,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		MongoPersistentEntity<?> entity = entityClass == null ? null : getPersistentEntity(entityClass);
 
-		UpdateContext updateContext = multi ? queryOperations.updateContext(update, query, upsert)
-				: queryOperations.updateSingleContext(update, query, upsert);
+		UpdateContext updateContext = multi ? queryOperations.updateContext(update, query, upsert, collectionName)
+				: queryOperations.updateSingleContext(update, query, upsert, collectionName);
 		updateContext.increaseVersionForUpdateIfNecessary(entity);
 
 		Document queryObj = updateContext.getMappedQuery(entity);
@@ -1759,7 +1832,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		MongoPersistentEntity<?> entity = getPersistentEntity(entityClass);
 
-		DeleteContext deleteContext = queryOperations.deleteQueryContext(query);
+		DeleteContext deleteContext = queryOperations.deleteQueryContext(query, collectionName);
 		Document queryObject = deleteContext.getMappedQuery(entity);
 		DeleteOptions deleteOptions = deleteContext.getDeleteOptions(entityClass);
 		Document removeQuery = deleteContext.getMappedQuery(entity);
@@ -2125,7 +2198,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
 		QueryContext queryContext = queryOperations
-				.createQueryContext(new BasicQuery(query, fields != null ? fields : new Document()));
+				.createQueryContext(new BasicQuery(query, fields != null ? fields : new Document()), collectionName);
 		Document mappedFields = queryContext.getMappedFields(entity, EntityProjection.nonProjecting(entityClass));
 		Document mappedQuery = queryContext.getMappedQuery(entity);
 
@@ -2177,7 +2250,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
-		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
+		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields), collectionName);
 		Document mappedFields = queryContext.getMappedFields(entity, EntityProjection.nonProjecting(entityClass));
 		Document mappedQuery = queryContext.getMappedQuery(entity);
 
@@ -2202,7 +2275,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceClass);
 		EntityProjection<T, S> projection = operations.introspectProjection(targetClass, sourceClass);
 
-		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
+		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields), collectionName);
 		Document mappedFields = queryContext.getMappedFields(entity, projection);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
 
@@ -2254,7 +2327,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			Class<T> entityClass, UpdateDefinition update, FindAndModifyOptions options) {
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
-		UpdateContext updateContext = queryOperations.updateSingleContext(update, query, false);
+		UpdateContext updateContext = queryOperations.updateSingleContext(update, query, false, collectionName);
 		updateContext.increaseVersionForUpdateIfNecessary(entity);
 
 		return Mono.defer(() -> {
@@ -2347,7 +2420,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 	protected <T> Mono<T> maybeCallBeforeConvert(T object, String collection) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null
+				&& callbackPresence.hasCallbacks(ReactiveBeforeConvertCallback.class, object.getClass())) {
 			return entityCallbacks.callback(ReactiveBeforeConvertCallback.class, object, collection);
 		}
 
@@ -2356,7 +2430,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 	protected <T> Mono<T> maybeCallBeforeSave(T object, Document document, String collection) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null
+				&& callbackPresence.hasCallbacks(ReactiveBeforeSaveCallback.class, object.getClass())) {
 			return entityCallbacks.callback(ReactiveBeforeSaveCallback.class, object, document, collection);
 		}
 
@@ -2365,7 +2440,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 	protected <T> Mono<T> maybeCallAfterSave(T object, Document document, String collection) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null
+				&& callbackPresence.hasCallbacks(ReactiveAfterSaveCallback.class, object.getClass())) {
 			return entityCallbacks.callback(ReactiveAfterSaveCallback.class, object, document, collection);
 		}
 
@@ -2374,7 +2450,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 	protected <T> Mono<T> maybeCallAfterConvert(T object, Document document, String collection) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null
+				&& callbackPresence.hasCallbacks(ReactiveAfterConvertCallback.class, object.getClass())) {
 			return entityCallbacks.callback(ReactiveAfterConvertCallback.class, object, document, collection);
 		}
 
@@ -2504,11 +2581,40 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			@Nullable FindPublisherPreparer preparer, DocumentCallback<T> objectCallback, String collectionName) {
 
 		return createFlux(collectionName, collection -> {
-			return Flux.from(preparer.initiateFind(collection, collectionCallback::doInCollection))
-					.concatMap(objectCallback::doWith);
+
+			FindPublisher<Document> findPublisher = preparer.initiateFind(collection, collectionCallback::doInCollection);
+			AdaptiveBatchSize adaptiveBatchSize = hasCursorBatchSize(preparer) ? null : this.adaptiveBatchSize;
+
+			if (adaptiveBatchSize == null) {
+				return convert(Flux.from(findPublisher), objectCallback);
+			}
+
+			// size batches once before subscribing, the cursor reads the batch size when it is opened
+			int batchSize = adaptiveBatchSize.getBatchSize(collectionName);
+			if (batchSize > 0) {
+				findPublisher = findPublisher.batchSize(batchSize);
+			}
+
+			Flux<Document> documents = Flux.from(findPublisher) //
+					.doOnNext(document -> adaptiveBatchSize.recordDocument(collectionName, document));
+
+			return convert(batchSize > 0 ? documents.limitRate(batchSize) : documents, objectCallback);
 		});
 	}
 
+	private <T> Flux<T> convert(Flux<Document> documents, DocumentCallback<T> objectCallback) {
+
+		ParallelConversion parallelConversion = this.parallelConversion;
+
+		return parallelConversion != null ? parallelConversion.convert(documents, objectCallback::doWith)
+				: documents.concatMap(objectCallback::doWith);
+	}
+
+	private static boolean hasCursorBatchSize(@Nullable FindPublisherPreparer preparer) {
+		return preparer instanceof QueryFindPublisherPreparer
+				&& ((QueryFindPublisherPreparer) preparer).query.getMeta().getCursorBatchSize() != null;
+	}
+
 	/**
 	 * Exception translation {@link Function} intended for {@link Flux#onErrorMap(Function)} usage.
 	 *
@@ -2874,7 +2980,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		@Override
 		public Mono<T> doWith(Document document) {
 
-			maybeEmitEvent(new AfterLoadEvent<>(document, type, collectionName));
+			if (eventDelegate.hasListeners(AfterLoadEvent.class, type)) {
+				maybeEmitEvent(new AfterLoadEvent<>(document, type, collectionName));
+			}
 
 			T entity = reader.read(type, document);
 
@@ -2882,7 +2990,10 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 				throw new MappingException(String.format("EntityReader %s returned null", reader));
 			}
 
-			maybeEmitEvent(new AfterConvertEvent<>(document, entity, collectionName));
+			if (eventDelegate.hasListeners(AfterConvertEvent.class, entity.getClass())) {
+				maybeEmitEvent(new AfterConvertEvent<>(document, entity, collectionName));
+			}
+
 			return maybeCallAfterConvert(entity, document, collectionName);
 		}
 	}
@@ -2914,7 +3025,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		public Mono<T> doWith(Document document) {
 
 			Class<T> returnType = projection.getMappedType().getType();
-			maybeEmitEvent(new AfterLoadEvent<>(document, returnType, collectionName));
+			if (eventDelegate.hasListeners(AfterLoadEvent.class, returnType)) {
+				maybeEmitEvent(new AfterLoadEvent<>(document, returnType, collectionName));
+			}
 
 			Object entity = reader.project(projection, document);
 
@@ -2923,7 +3036,11 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			}
 
 			T castEntity = (T) entity;
-			maybeEmitEvent(new AfterConvertEvent<>(document, castEntity, collectionName));
+
+			if (eventDelegate.hasListeners(AfterConvertEvent.class, entity.getClass())) {
+				maybeEmitEvent(new AfterConvertEvent<>(document, castEntity, collectionName));
+			}
+
 			return maybeCallAfterConvert(castEntity, document, collectionName);
 		}
 	}
@@ -3125,6 +3242,12 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		protected Mono<Boolean> countCanBeEstimated(Document filter, CountOptions options) {
 			return Mono.just(false);
 		}
+
+		@Override
+		public <T> Flux<T> scan(Query query, Class<T> entityClass, String collectionName, ParallelScan scan) {
+			return Flux.error(new UnsupportedOperationException(
+					"Parallel scans cannot be run within a ClientSession as a session must not be used by concurrent cursors"));
+		}
 	}
 
 	class IndexCreatorEventListener implements ApplicationListener<MappingContextEvent<?, ?>> {
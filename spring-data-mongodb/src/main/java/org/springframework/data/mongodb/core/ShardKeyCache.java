@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Bounded, least recently used cache of the last known {@literal shard key} values of documents in sharded
+ * collections identified by their {@literal _id}. Used to avoid looking up the stored shard key before replacing
+ * documents of entities with a mutable shard key.
+ * <br />
+ * Cached values may be outdated if the shard key of a document was changed by another process. Replacing a document
+ * using an outdated shard key does not match the stored document and results in an upsert.
+ *
+ * @since 4.0
+ */
+class ShardKeyCache {
+
+	private final Map<CacheKey, Document> shardKeys;
+
+	/**
+	 * Create a new {@link ShardKeyCache} retaining at most {@code maxSize} entries.
+	 *
+	 * @param maxSize must be greater than zero.
+	 */
+	ShardKeyCache(int maxSize) {
+
+		Assert.isTrue(maxSize > 0, "Max size must be greater than zero");
+
+		this.shardKeys = new LinkedHashMap<>(Math.min(maxSize, 256), 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, Document> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Extract the values of the given {@code shardKeyFields} from the {@code source}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param shardKeyFields the mapped shard key field names. Must not be {@literal null}.
+	 * @return the shard key {@link Document} or {@literal null} if the {@code source} does not contain all fields.
+	 */
+	@Nullable
+	static Document extractShardKey(Document source, Collection<String> shardKeyFields) {
+
+		Document shardKey = new Document();
+
+		for (String field : shardKeyFields) {
+
+			if (!BsonUtils.hasValue(source, field)) {
+				return null;
+			}
+
+			shardKey.put(field, BsonUtils.resolveValue(source, field));
+		}
+
+		return shardKey;
+	}
+
+	/**
+	 * @param collectionName must not be {@literal null}.
+	 * @param id can be {@literal null}.
+	 * @return the last known shard key or {@literal null} if not cached.
+	 */
+	@Nullable
+	Document get(String collectionName, @Nullable Object id) {
+
+		if (id == null) {
+			return null;
+		}
+
+		synchronized (shardKeys) {
+			return shardKeys.get(new CacheKey(collectionName, id));
+		}
+	}
+
+	/**
+	 * Remember the shard key values contained in the given {@code source} document. Documents not containing all shard
+	 * key fields, e.g. due to a projection, are ignored.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param id can be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @param shardKeyFields the mapped shard key field names. Must not be {@literal null}.
+	 */
+	void put(String collectionName, @Nullable Object id, Document source, Collection<String> shardKeyFields) {
+
+		if (id == null) {
+			return;
+		}
+
+		Document shardKey = extractShardKey(source, shardKeyFields);
+
+		if (shardKey == null) {
+			return;
+		}
+
+		synchronized (shardKeys) {
+			shardKeys.put(new CacheKey(collectionName, id), shardKey);
+		}
+	}
+
+	/**
+	 * Remove all cached shard keys.
+	 */
+	void clear() {
+
+		synchronized (shardKeys) {
+			shardKeys.clear();
+		}
+	}
+
+	private static class CacheKey {
+
+		private final String collectionName;
+		private final Object id;
+
+		CacheKey(String collectionName, Object id) {
+
+			this.collectionName = collectionName;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) o;
+			return collectionName.equals(that.collectionName) && ObjectUtils.nullSafeEquals(id, that.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * collectionName.hashCode() + ObjectUtils.nullSafeHashCode(id);
+		}
+	}
+}
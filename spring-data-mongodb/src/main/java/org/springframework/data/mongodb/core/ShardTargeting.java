@@ -0,0 +1,223 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.SerializationUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Classification of an operation against the collection of a {@link org.springframework.data.mongodb.core.mapping.Sharded
+ * sharded} entity. An operation is {@link Routing#TARGETED targeted} if its mapped filter constrains every
+ * {@literal shard key} field to a fixed value (or a {@literal $in} list of values) allowing the router to send it to the
+ * shards owning the matching chunks. All other operations are {@link Routing#SCATTER_GATHER broadcast} to every shard.
+ * <br />
+ * The classification is derived from the mapped filter and does not consider the actual chunk distribution.
+ *
+ * @since 4.0
+ * @see ShardTargetingListener
+ */
+public final class ShardTargeting {
+
+	private final Operation operation;
+	private final Class<?> domainType;
+	private final String collectionName;
+	private final Document filter;
+	private final Collection<String> shardKeyFields;
+	private final Routing routing;
+
+	private ShardTargeting(Operation operation, Class<?> domainType, String collectionName, Document filter,
+			Collection<String> shardKeyFields, Routing routing) {
+
+		this.operation = operation;
+		this.domainType = domainType;
+		this.collectionName = collectionName;
+		this.filter = filter;
+		this.shardKeyFields = shardKeyFields;
+		this.routing = routing;
+	}
+
+	/**
+	 * Classify the given mapped {@code filter}.
+	 *
+	 * @param operation must not be {@literal null}.
+	 * @param entity the sharded entity. Must not be {@literal null}.
+	 * @param collectionName the name of the collection the operation targets. Must not be {@literal null}.
+	 * @param filter the mapped filter. Must not be {@literal null}.
+	 * @param shardKeyFields the mapped shard key field names. Must not be {@literal null}.
+	 * @return new instance of {@link ShardTargeting}.
+	 */
+	static ShardTargeting classify(Operation operation, MongoPersistentEntity<?> entity, String collectionName,
+			Document filter, Collection<String> shardKeyFields) {
+
+		Assert.notNull(operation, "Operation must not be null");
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(collectionName, "Collection name must not be null");
+		Assert.notNull(filter, "Filter must not be null");
+		Assert.notNull(shardKeyFields, "Shard key fields must not be null");
+
+		Routing routing = isTargeted(filter, shardKeyFields) ? Routing.TARGETED : Routing.SCATTER_GATHER;
+		return new ShardTargeting(operation, entity.getType(), collectionName, filter, shardKeyFields, routing);
+	}
+
+	private static boolean isTargeted(Document filter, Collection<String> shardKeyFields) {
+
+		if (shardKeyFields.isEmpty()) {
+			return false;
+		}
+
+		List<Document> conjunction = new ArrayList<>();
+		collectConjunction(filter, conjunction);
+
+		for (String field : shardKeyFields) {
+			if (!isConstrained(field, conjunction)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static void collectConjunction(Document filter, List<Document> target) {
+
+		target.add(filter);
+
+		Object and = filter.get("$and");
+		if (and instanceof Collection) {
+			for (Object element : (Collection<?>) and) {
+				if (element instanceof Document) {
+					collectConjunction((Document) element, target);
+				}
+			}
+		}
+	}
+
+	private static boolean isConstrained(String field, List<Document> conjunction) {
+
+		for (Document document : conjunction) {
+			if (document.containsKey(field) && isEqualityMatch(document.get(field))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isEqualityMatch(@Nullable Object value) {
+
+		if (value instanceof Pattern) {
+			return false;
+		}
+
+		if (!(value instanceof Document) || ((Document) value).isEmpty()) {
+			return true;
+		}
+
+		Document document = (Document) value;
+
+		if (!document.keySet().iterator().next().startsWith("$")) {
+			return true; // embedded document equality
+		}
+
+		return document.size() == 1 && (document.containsKey("$eq") || document.containsKey("$in"))
+				&& !(document.get("$eq") instanceof Pattern);
+	}
+
+	/**
+	 * @return the {@link Operation}.
+	 */
+	public Operation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the sharded domain type.
+	 */
+	public Class<?> getDomainType() {
+		return domainType;
+	}
+
+	/**
+	 * @return the name of the collection the operation targets.
+	 */
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	/**
+	 * @return the mapped filter.
+	 */
+	public Document getFilter() {
+		return filter;
+	}
+
+	/**
+	 * @return the mapped shard key field names.
+	 */
+	public Collection<String> getShardKeyFields() {
+		return shardKeyFields;
+	}
+
+	/**
+	 * @return the {@link Routing}.
+	 */
+	public Routing getRouting() {
+		return routing;
+	}
+
+	/**
+	 * @return {@literal true} if the operation is sent to all shards.
+	 */
+	public boolean isScatterGather() {
+		return routing == Routing.SCATTER_GATHER;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s on %s (%s) with filter %s and shard key %s is %s", operation, collectionName,
+				domainType.getName(), SerializationUtils.serializeToJsonSafely(filter), shardKeyFields, routing);
+	}
+
+	/**
+	 * Routing of an operation in a sharded cluster.
+	 */
+	public enum Routing {
+
+		/**
+		 * The operation is sent to the shards owning the matching shard key values only.
+		 */
+		TARGETED,
+
+		/**
+		 * The operation is broadcast to all shards.
+		 */
+		SCATTER_GATHER
+	}
+
+	/**
+	 * Operations classified by {@link ShardTargeting}.
+	 */
+	public enum Operation {
+		FIND, COUNT, DISTINCT, UPDATE, DELETE, AGGREGATE
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.util.Assert;
+
+/**
+ * Listener notified about the {@link ShardTargeting routing} of operations against collections of
+ * {@link org.springframework.data.mongodb.core.mapping.Sharded sharded} entities. Operations are classified when
+ * mapping their filter, that is before sending them to the server. Listeners may throw exceptions to prevent
+ * {@link ShardTargeting#isScatterGather() scatter-gather} operations from being executed.
+ *
+ * <pre class="code">
+ * template.setShardTargetingListener(ShardTargetingListener.logScatterGather());
+ * </pre>
+ *
+ * @since 4.0
+ * @see MongoTemplate#setShardTargetingListener(ShardTargetingListener)
+ * @see ReactiveMongoTemplate#setShardTargetingListener(ShardTargetingListener)
+ */
+@FunctionalInterface
+public interface ShardTargetingListener {
+
+	/**
+	 * Called for each classified operation.
+	 *
+	 * @param targeting never {@literal null}.
+	 */
+	void onShardTargeting(ShardTargeting targeting);
+
+	/**
+	 * Create a {@link ShardTargetingListener} logging {@link ShardTargeting#isScatterGather() scatter-gather} operations
+	 * on {@literal WARN} level.
+	 *
+	 * @return new instance of {@link ShardTargetingListener}.
+	 */
+	static ShardTargetingListener logScatterGather() {
+
+		Log logger = LogFactory.getLog(ShardTargetingListener.class);
+
+		return targeting -> {
+			if (targeting.isScatterGather() && logger.isWarnEnabled()) {
+				logger.warn(String.format("Scatter-gather operation detected: %s", targeting));
+			}
+		};
+	}
+
+	/**
+	 * Create a {@link ShardTargetingListener} rejecting {@link ShardTargeting#isScatterGather() scatter-gather}
+	 * operations with an {@link InvalidDataAccessApiUsageException}. Intended for tests.
+	 *
+	 * @return new instance of {@link ShardTargetingListener}.
+	 */
+	static ShardTargetingListener failOnScatterGather() {
+
+		return targeting -> {
+			if (targeting.isScatterGather()) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("Scatter-gather operation not allowed: %s", targeting));
+			}
+		};
+	}
+
+	/**
+	 * Compose this and the given {@link ShardTargetingListener}.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return new instance of {@link ShardTargetingListener} notifying this listener first.
+	 */
+	default ShardTargetingListener andThen(ShardTargetingListener other) {
+
+		Assert.notNull(other, "Other listener must not be null");
+
+		return targeting -> {
+			onShardTargeting(targeting);
+			other.onShardTargeting(targeting);
+		};
+	}
+}
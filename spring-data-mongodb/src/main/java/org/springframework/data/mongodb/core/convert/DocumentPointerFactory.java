@@ -18,7 +18,7 @@ package org.springframework.data.mongodb.core.convert;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -49,6 +49,7 @@ class DocumentPointerFactory {
 	private final ConversionService conversionService;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final Map<String, LinkageDocument> cache;
+	private final Map<String, Boolean> defaultLookups;
 
 	/**
 	 * A {@link Pattern} matching quoted and unquoted variants (with/out whitespaces) of
@@ -65,7 +66,8 @@ class DocumentPointerFactory {
 
 		this.conversionService = conversionService;
 		this.mappingContext = mappingContext;
-		this.cache = new WeakHashMap<>();
+		this.cache = new ConcurrentHashMap<>();
+		this.defaultLookups = new ConcurrentHashMap<>();
 	}
 
 	DocumentPointer<?> computePointer(
@@ -115,7 +117,8 @@ class DocumentPointerFactory {
 	private boolean usesDefaultLookup(MongoPersistentProperty property) {
 
 		if (property.isDocumentReference()) {
-			return DEFAULT_LOOKUP_PATTERN.matcher(property.getDocumentReference().lookup()).matches();
+			return defaultLookups.computeIfAbsent(property.getDocumentReference().lookup(),
+					lookup -> DEFAULT_LOOKUP_PATTERN.matcher(lookup).matches());
 		}
 
 		Reference atReference = property.findAnnotation(Reference.class);
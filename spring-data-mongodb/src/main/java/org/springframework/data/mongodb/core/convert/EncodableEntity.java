@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Entity to be encoded straight to BSON by the
+ * {@link MappingMongoConverter#createEntityEncoder(org.bson.codecs.configuration.CodecRegistry) entity encoder} along with
+ * the {@literal _id} to use if the entity does not carry an identifier value itself.
+ *
+ * @since 4.0
+ */
+public final class EncodableEntity {
+
+	private final Object entity;
+	private final @Nullable Object id;
+
+	private EncodableEntity(Object entity, @Nullable Object id) {
+
+		this.entity = entity;
+		this.id = id;
+	}
+
+	/**
+	 * Create a new {@link EncodableEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param id the {@literal _id} to use if the entity does not have an identifier value. Can be {@literal null}.
+	 * @return new instance of {@link EncodableEntity}.
+	 */
+	public static EncodableEntity of(Object entity, @Nullable Object id) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return new EncodableEntity(entity, id);
+	}
+
+	/**
+	 * @return the entity to encode.
+	 */
+	public Object getEntity() {
+		return entity;
+	}
+
+	/**
+	 * @return the {@literal _id} to use if the entity does not have an identifier value. Can be {@literal null}.
+	 */
+	@Nullable
+	public Object getId() {
+		return id;
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import org.bson.BsonWriter;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * {@link Encoder} writing {@link EncodableEntity entities} through the {@link MappingMongoConverter} without creating
+ * an intermediate {@link org.bson.Document}.
+ *
+ * @since 4.0
+ * @see MappingMongoConverter#createEntityEncoder(CodecRegistry)
+ */
+class EncodableEntityEncoder implements Encoder<EncodableEntity> {
+
+	private final MappingMongoConverter converter;
+	private final CodecRegistry codecRegistry;
+
+	EncodableEntityEncoder(MappingMongoConverter converter, CodecRegistry codecRegistry) {
+
+		this.converter = converter;
+		this.codecRegistry = codecRegistry;
+	}
+
+	@Override
+	public void encode(BsonWriter writer, EncodableEntity value, EncoderContext encoderContext) {
+		converter.encode(value, writer, encoderContext, codecRegistry);
+	}
+
+	@Override
+	public Class<EncodableEntity> getEncoderClass() {
+		return EncodableEntity.class;
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * Write plan for a {@link MongoPersistentEntity} capturing the writable properties along with the decisions that do
+ * not depend on the actual property values. Those are the target field name, whether {@literal null} values are
+ * written, whether the property is an association or encrypted and its {@link SimplePropertyConversion}. Plans are
+ * computed once per entity so that writing an entity does not need to evaluate mapping annotations for each property
+ * of each written object.
+ *
+ * @since 4.0
+ */
+final class EntityWritePlan {
+
+	private final @Nullable MongoPersistentProperty idProperty;
+	private final PropertyWrite[] properties;
+	private final boolean pathProperties;
+
+	private EntityWritePlan(@Nullable MongoPersistentProperty idProperty, PropertyWrite[] properties) {
+
+		this.idProperty = idProperty;
+		this.properties = properties;
+
+		boolean pathProperties = false;
+		for (PropertyWrite property : properties) {
+			pathProperties |= property.nested;
+		}
+		this.pathProperties = pathProperties;
+	}
+
+	/**
+	 * Create the {@link EntityWritePlan} for the given {@link MongoPersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param conversions function providing the {@link SimplePropertyConversion} of a property. Must not be
+	 *          {@literal null}.
+	 * @param encrypted predicate identifying encrypted properties. Must not be {@literal null}.
+	 * @return new instance of {@link EntityWritePlan}.
+	 */
+	static EntityWritePlan of(MongoPersistentEntity<?> entity,
+			Function<MongoPersistentProperty, SimplePropertyConversion> conversions,
+			Predicate<MongoPersistentProperty> encrypted) {
+
+		MongoPersistentProperty idProperty = entity.getIdProperty();
+		List<PropertyWrite> properties = new ArrayList<>();
+
+		for (MongoPersistentProperty property : entity) {
+
+			if (property.equals(idProperty) || !property.isWritable()) {
+				continue;
+			}
+
+			properties.add(new PropertyWrite(property, conversions.apply(property), encrypted.test(property)));
+		}
+
+		return new EntityWritePlan(idProperty, properties.toArray(new PropertyWrite[0]));
+	}
+
+	/**
+	 * @return the identifier property. Can be {@literal null}.
+	 */
+	@Nullable
+	MongoPersistentProperty getIdProperty() {
+		return idProperty;
+	}
+
+	/**
+	 * @return the writable properties except the identifier in mapping order.
+	 */
+	PropertyWrite[] getProperties() {
+		return properties;
+	}
+
+	/**
+	 * @return {@literal true} if any property is mapped to a path expression creating nested documents.
+	 */
+	boolean hasPathProperties() {
+		return pathProperties;
+	}
+
+	/**
+	 * Precomputed write decisions for a single {@link MongoPersistentProperty}.
+	 */
+	static final class PropertyWrite {
+
+		private final MongoPersistentProperty property;
+		private final String fieldName;
+		private final boolean nested;
+		private final boolean association;
+		private final boolean writeNullValues;
+		private final boolean encrypted;
+		private final SimplePropertyConversion conversion;
+
+		PropertyWrite(MongoPersistentProperty property, SimplePropertyConversion conversion, boolean encrypted) {
+
+			this.property = property;
+			this.fieldName = property.getFieldName();
+			this.nested = fieldName.contains(".");
+			this.association = property.isAssociation();
+			this.writeNullValues = property.writeNullValues();
+			this.encrypted = encrypted;
+			this.conversion = conversion;
+		}
+
+		MongoPersistentProperty getProperty() {
+			return property;
+		}
+
+		String getFieldName() {
+			return fieldName;
+		}
+
+		boolean isAssociation() {
+			return association;
+		}
+
+		boolean isWriteNullValues() {
+			return writeNullValues;
+		}
+
+		boolean isEncrypted() {
+			return encrypted;
+		}
+
+		SimplePropertyConversion getConversion() {
+			return conversion;
+		}
+
+		/**
+		 * Put the given value into the target document. Values of properties mapped to a plain field name are put
+		 * directly, path expressions are resolved through the {@link DocumentAccessor}.
+		 *
+		 * @param bson must not be {@literal null}.
+		 * @param accessor the {@link DocumentAccessor} for {@code bson}. Must not be {@literal null}.
+		 * @param value can be {@literal null}.
+		 */
+		void put(Bson bson, DocumentAccessor accessor, @Nullable Object value) {
+
+			if (nested) {
+				accessor.put(property, value);
+			} else {
+				BsonUtils.addToMap(bson, fieldName, value);
+			}
+		}
+	}
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.Binary;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.Encrypted;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.util.spel.ExpressionUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.vault.EncryptOptions;
+import com.mongodb.client.vault.ClientEncryption;
+
+/**
+ * Explicit Client-Side Field Level Encryption of {@link Encrypted} properties using {@link ClientEncryption}. Values of
+ * properties annotated with {@link Encrypted} are encrypted after conversion by {@link MappingMongoConverter} and
+ * decrypted before being read. In contrast to automatic encryption, commands are not subject to query analysis so that
+ * only the marked properties cause cryptographic work.
+ * <br />
+ * The {@literal algorithm} and {@literal keyId} are taken from the {@link Encrypted} annotation of the property and
+ * fall back to the one of the owning entity. The first resolved {@literal keyId} is used for encryption. Encryption
+ * settings are resolved once per property. Settings using {@link org.springframework.expression.Expression
+ * expressions} to compute the key are re-evaluated after the {@link #keyCacheTtl(Duration) key cache TTL} expired.
+ *
+ * <pre class="code">
+ * ClientEncryption clientEncryption = ClientEncryptions.create(clientEncryptionSettings);
+ * converter.setExplicitEncryption(ExplicitEncryption.of(clientEncryption).keyCacheTtl(Duration.ofMinutes(5)));
+ * </pre>
+ *
+ * @since 4.0
+ * @see MappingMongoConverter#setExplicitEncryption(ExplicitEncryption)
+ */
+public class ExplicitEncryption {
+
+	private static final Duration DEFAULT_KEY_CACHE_TTL = Duration.ofMinutes(1);
+	private static final String VALUE_KEY = "v";
+
+	private final ClientEncryption clientEncryption;
+	private final CodecRegistry codecRegistry;
+	private final Duration keyCacheTtl;
+	private final Clock clock;
+	private final Map<MongoPersistentProperty, EncryptionSettings> settings = new ConcurrentHashMap<>();
+
+	private ExplicitEncryption(ClientEncryption clientEncryption, CodecRegistry codecRegistry, Duration keyCacheTtl,
+			Clock clock) {
+
+		this.clientEncryption = clientEncryption;
+		this.codecRegistry = codecRegistry;
+		this.keyCacheTtl = keyCacheTtl;
+		this.clock = clock;
+	}
+
+	/**
+	 * Create a new {@link ExplicitEncryption} for the given {@link ClientEncryption}.
+	 *
+	 * @param clientEncryption must not be {@literal null}.
+	 * @return new instance of {@link ExplicitEncryption}.
+	 */
+	public static ExplicitEncryption of(ClientEncryption clientEncryption) {
+
+		Assert.notNull(clientEncryption, "ClientEncryption must not be null");
+
+		return new ExplicitEncryption(clientEncryption, MongoClientSettings.getDefaultCodecRegistry(),
+				DEFAULT_KEY_CACHE_TTL, Clock.systemUTC());
+	}
+
+	/**
+	 * Create a new {@link ExplicitEncryption} caching keys computed via
+	 * {@link org.springframework.expression.Expression expressions} for the given {@link Duration}. Defaults to
+	 * {@literal 1 minute}.
+	 *
+	 * @param keyCacheTtl must not be {@literal null} or negative.
+	 * @return new instance of {@link ExplicitEncryption}.
+	 */
+	public ExplicitEncryption keyCacheTtl(Duration keyCacheTtl) {
+
+		Assert.notNull(keyCacheTtl, "Key cache TTL must not be null");
+		Assert.isTrue(!keyCacheTtl.isNegative(), "Key cache TTL must not be negative");
+
+		return new ExplicitEncryption(clientEncryption, codecRegistry, keyCacheTtl, clock);
+	}
+
+	/**
+	 * Create a new {@link ExplicitEncryption} using the given {@link CodecRegistry} to transform values into their
+	 * {@link BsonValue} representation and back.
+	 *
+	 * @param codecRegistry must not be {@literal null}.
+	 * @return new instance of {@link ExplicitEncryption}.
+	 */
+	public ExplicitEncryption codecRegistry(CodecRegistry codecRegistry) {
+
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		return new ExplicitEncryption(clientEncryption, codecRegistry, keyCacheTtl, clock);
+	}
+
+	ExplicitEncryption clock(Clock clock) {
+		return new ExplicitEncryption(clientEncryption, codecRegistry, keyCacheTtl, clock);
+	}
+
+	/**
+	 * Properties annotated with {@link Encrypted} that do not resolve an {@literal algorithm}, e.g. because the
+	 * annotation only contributes to a {@link org.springframework.data.mongodb.core.schema.MongoJsonSchema JSON schema}
+	 * used for automatic encryption, are not considered to be encrypted explicitly.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return {@literal true} if values of the given {@link MongoPersistentProperty} are encrypted.
+	 */
+	public boolean isEncrypted(MongoPersistentProperty property) {
+		return getSettings(property) != EncryptionSettings.NONE;
+	}
+
+	/**
+	 * Encrypt the given {@code value} of the {@link MongoPersistentProperty} using the encryption settings of the
+	 * property.
+	 *
+	 * @param value the store native value. Must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @return the encrypted value.
+	 * @throws IllegalStateException if the property is not encrypted or the settings cannot be resolved.
+	 */
+	public BsonBinary encrypt(Object value, MongoPersistentProperty property) {
+
+		EncryptionSettings encryptionSettings = getSettings(property);
+
+		Assert.state(encryptionSettings != EncryptionSettings.NONE,
+				() -> String.format("Property %s is not encrypted", property));
+
+		return clientEncryption.encrypt(toBsonValue(value), encryptionSettings.getEncryptOptions(clock.instant()));
+	}
+
+	/**
+	 * Decrypt the given {@code value} if it {@link #isEncryptedValue(Object) is encrypted} and read for a
+	 * {@link #isEncrypted(MongoPersistentProperty) encrypted property}. Encrypted values of other properties are
+	 * returned as is.
+	 *
+	 * @param value can be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @return the decrypted value or the {@code value} itself if not encrypted.
+	 */
+	@Nullable
+	public Object decrypt(@Nullable Object value, MongoPersistentProperty property) {
+
+		if (!isEncryptedValue(value) || !isEncrypted(property)) {
+			return value;
+		}
+
+		BsonBinary binary = value instanceof BsonBinary ? (BsonBinary) value
+				: new BsonBinary(((Binary) value).getType(), ((Binary) value).getData());
+
+		return fromBsonValue(clientEncryption.decrypt(binary));
+	}
+
+	/**
+	 * @param value can be {@literal null}.
+	 * @return {@literal true} if the given {@code value} is an encrypted {@link Binary binary} value.
+	 */
+	public static boolean isEncryptedValue(@Nullable Object value) {
+
+		if (value instanceof Binary) {
+			return ((Binary) value).getType() == BsonBinarySubType.ENCRYPTED.getValue();
+		}
+
+		if (value instanceof BsonBinary) {
+			return ((BsonBinary) value).getType() == BsonBinarySubType.ENCRYPTED.getValue();
+		}
+
+		return false;
+	}
+
+	private EncryptionSettings getSettings(MongoPersistentProperty property) {
+
+		EncryptionSettings encryptionSettings = settings.get(property);
+
+		if (encryptionSettings == null) {
+			encryptionSettings = settings.computeIfAbsent(property, it -> EncryptionSettings.of(it, keyCacheTtl));
+		}
+
+		return encryptionSettings;
+	}
+
+	private BsonValue toBsonValue(Object value) {
+		return new Document(VALUE_KEY, value).toBsonDocument(BsonDocument.class, codecRegistry).get(VALUE_KEY);
+	}
+
+	private Object fromBsonValue(BsonValue value) {
+
+		BsonDocumentReader reader = new BsonDocumentReader(new BsonDocument(VALUE_KEY, value));
+		return codecRegistry.get(Document.class).decode(reader, DecoderContext.builder().build()).get(VALUE_KEY);
+	}
+
+	/**
+	 * Encryption settings of a single {@link MongoPersistentProperty}. Keys are resolved on first usage and cached
+	 * either for the lifetime of the settings or, if computed via expressions, for the key cache TTL.
+	 */
+	static class EncryptionSettings {
+
+		static final EncryptionSettings NONE = new EncryptionSettings(null, "", false, Duration.ZERO);
+
+		private final @Nullable MongoPersistentProperty property;
+		private final String algorithm;
+		private final boolean dynamicKeys;
+		private final Duration keyCacheTtl;
+
+		private volatile @Nullable ResolvedKey resolvedKey;
+
+		private EncryptionSettings(@Nullable MongoPersistentProperty property, String algorithm, boolean dynamicKeys,
+				Duration keyCacheTtl) {
+
+			this.property = property;
+			this.algorithm = algorithm;
+			this.dynamicKeys = dynamicKeys;
+			this.keyCacheTtl = keyCacheTtl;
+		}
+
+		static EncryptionSettings of(MongoPersistentProperty property, Duration keyCacheTtl) {
+
+			Encrypted encrypted = property.findAnnotation(Encrypted.class);
+
+			if (encrypted == null || property.isUnwrapped() || property.isAssociation() || property.isIdProperty()) {
+				return NONE;
+			}
+
+			Encrypted entityEncrypted = findEntityAnnotation(property);
+
+			String algorithm = encrypted.algorithm();
+			if (!StringUtils.hasText(algorithm) && entityEncrypted != null) {
+				algorithm = entityEncrypted.algorithm();
+			}
+
+			if (!StringUtils.hasText(algorithm)) {
+				return NONE;
+			}
+
+			boolean dynamicKeys = usesExpression(encrypted.keyId())
+					|| (ObjectUtils.isEmpty(encrypted.keyId()) && entityEncrypted != null
+							&& usesExpression(entityEncrypted.keyId()));
+
+			return new EncryptionSettings(property, algorithm, dynamicKeys, keyCacheTtl);
+		}
+
+		EncryptOptions getEncryptOptions(Instant now) {
+
+			ResolvedKey key = resolvedKey;
+
+			if (key == null || key.isExpired(now)) {
+
+				key = new ResolvedKey(createEncryptOptions(), dynamicKeys ? now.plus(keyCacheTtl) : null);
+				resolvedKey = key;
+			}
+
+			return key.options;
+		}
+
+		private EncryptOptions createEncryptOptions() {
+
+			Assert.state(property != null, "No property to resolve encryption key for");
+
+			Collection<Object> keyIds = property.getEncryptionKeyIds();
+
+			if (ObjectUtils.isEmpty(keyIds)) {
+
+				PersistentEntity<?, MongoPersistentProperty> owner = property.getOwner();
+				keyIds = owner instanceof MongoPersistentEntity ? ((MongoPersistentEntity<?>) owner).getEncryptionKeyIds()
+						: null;
+			}
+
+			if (ObjectUtils.isEmpty(keyIds)) {
+				throw new IllegalStateException(String.format("No encryption keyId defined for property %s", property));
+			}
+
+			return new EncryptOptions(algorithm).keyId(toBsonBinary(keyIds.iterator().next()));
+		}
+
+		private BsonBinary toBsonBinary(Object keyId) {
+
+			if (keyId instanceof BsonBinary) {
+				return (BsonBinary) keyId;
+			}
+
+			if (keyId instanceof Binary) {
+				return new BsonBinary(((Binary) keyId).getType(), ((Binary) keyId).getData());
+			}
+
+			if (keyId instanceof UUID) {
+				return new BsonBinary((UUID) keyId);
+			}
+
+			throw new IllegalStateException(
+					String.format("Cannot use %s as encryption keyId for property %s", keyId, property));
+		}
+
+		@Nullable
+		private static Encrypted findEntityAnnotation(MongoPersistentProperty property) {
+
+			PersistentEntity<?, MongoPersistentProperty> owner = property.getOwner();
+			return owner != null ? owner.findAnnotation(Encrypted.class) : null;
+		}
+
+		private static boolean usesExpression(String[] keyIds) {
+
+			for (String keyId : keyIds) {
+				if (ExpressionUtils.detectExpression(keyId) != null) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * A resolved key along with its expiry. {@literal null} expiry indicates keys that do not expire.
+	 */
+	private static class ResolvedKey {
+
+		private final EncryptOptions options;
+		private final @Nullable Instant expiry;
+
+		ResolvedKey(EncryptOptions options, @Nullable Instant expiry) {
+
+			this.options = options;
+			this.expiry = expiry;
+		}
+
+		boolean isExpired(Instant now) {
+			return expiry != null && !now.isBefore(expiry);
+		}
+	}
+}
@@ -41,6 +41,7 @@ import org.springframework.data.mongodb.LazyLoadingException;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.lang.Nullable;
 import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 
 import com.mongodb.DBRef;
@@ -60,7 +61,12 @@ public final class LazyLoadingProxyFactory {
 
 	private final PersistenceExceptionTranslator exceptionTranslator;
 
-	private LazyLoadingProxyFactory() {
+	/**
+	 * Create a new {@link LazyLoadingProxyFactory} that does not translate exceptions. Intended for
+	 * {@link #createLazyEmbeddedProxy(MongoPersistentProperty, DbRefResolverCallback, Object) lazy embedded values} that
+	 * do not access the database.
+	 */
+	LazyLoadingProxyFactory() {
 		this(ex -> null);
 	}
 
@@ -108,19 +114,36 @@ public final class LazyLoadingProxyFactory {
 	public Object createLazyLoadingProxy(MongoPersistentProperty property, DbRefResolverCallback callback,
 			Object source) {
 
-		Class<?> propertyType = property.getType();
-		LazyLoadingInterceptor interceptor = new LazyLoadingInterceptor(property, callback, source, exceptionTranslator);
+		return createProxy(property.getType(),
+				() -> new LazyLoadingInterceptor(property, callback, source, exceptionTranslator));
+	}
+
+	/**
+	 * Create a proxy for a {@link org.springframework.data.mongodb.core.mapping.LazyEmbedded} property that converts the
+	 * raw {@code source} value using the given {@link DbRefResolverCallback} on first access. Conversion failures are
+	 * reported for the embedded property and {@code equals}/{@code hashCode} are delegated to the converted value.
+	 *
+	 * @param property the lazy embedded property.
+	 * @param callback the callback converting the raw value.
+	 * @param source the raw value read from the document.
+	 * @return the proxy.
+	 * @since 4.0
+	 */
+	Object createLazyEmbeddedProxy(MongoPersistentProperty property, DbRefResolverCallback callback, Object source) {
+		return createProxy(property.getType(), () -> new LazyEmbeddedInterceptor(property, callback, source));
+	}
+
+	private Object createProxy(Class<?> propertyType, Supplier<LazyLoadingInterceptor> interceptor) {
 
 		if (!propertyType.isInterface()) {
 
 			Factory factory = (Factory) objenesis.newInstance(getEnhancedTypeFor(propertyType));
-			factory.setCallbacks(new Callback[] { interceptor });
+			factory.setCallbacks(new Callback[] { interceptor.get() });
 
 			return factory;
 		}
 
-		return prepareProxyFactory(propertyType,
-				() -> new LazyLoadingInterceptor(property, callback, source, exceptionTranslator)).getProxy();
+		return prepareProxyFactory(propertyType, interceptor).getProxy();
 	}
 
 	/**
@@ -250,7 +273,7 @@ public final class LazyLoadingProxyFactory {
 		}
 
 		@Nullable
-		private Object ensureResolved() {
+		Object ensureResolved() {
 
 			if (!resolved) {
 				this.result = resolve();
@@ -279,7 +302,7 @@ public final class LazyLoadingProxyFactory {
 			return description.toString();
 		}
 
-		private boolean proxyEquals(@Nullable Object proxy, Object that) {
+		boolean proxyEquals(@Nullable Object proxy, Object that) {
 
 			if (!(that instanceof LazyLoadingProxy)) {
 				return false;
@@ -292,7 +315,7 @@ public final class LazyLoadingProxyFactory {
 			return proxyToString(proxy).equals(that.toString());
 		}
 
-		private int proxyHashCode() {
+		int proxyHashCode() {
 			return proxyToString(source).hashCode();
 		}
 
@@ -345,16 +368,66 @@ public final class LazyLoadingProxyFactory {
 				return callback.resolve(property);
 
 			} catch (RuntimeException ex) {
+				throw resolutionFailure(ex);
+			}
+		}
 
-				DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(ex);
+		/**
+		 * Create the {@link LazyLoadingException} to throw when resolving the value failed.
+		 *
+		 * @param ex the failure raised by the {@link DbRefResolverCallback}.
+		 * @return the exception to throw.
+		 * @since 4.0
+		 */
+		LazyLoadingException resolutionFailure(RuntimeException ex) {
 
-				if (translatedException instanceof ClientSessionException) {
-					throw new LazyLoadingException("Unable to lazily resolve DBRef; Invalid session state", ex);
-				}
+			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(ex);
+
+			if (translatedException instanceof ClientSessionException) {
+				return new LazyLoadingException("Unable to lazily resolve DBRef; Invalid session state", ex);
+			}
+
+			return new LazyLoadingException("Unable to lazily resolve DBRef",
+					translatedException != null ? translatedException : ex);
+		}
+	}
 
-				throw new LazyLoadingException("Unable to lazily resolve DBRef",
-						translatedException != null ? translatedException : ex);
+	/**
+	 * {@link LazyLoadingInterceptor} converting a {@link org.springframework.data.mongodb.core.mapping.LazyEmbedded}
+	 * value on first access. Equality is defined by the converted value as the raw source does not identify it.
+	 *
+	 * @since 4.0
+	 */
+	static class LazyEmbeddedInterceptor extends LazyLoadingInterceptor {
+
+		private final MongoPersistentProperty property;
+
+		LazyEmbeddedInterceptor(MongoPersistentProperty property, DbRefResolverCallback callback, Object source) {
+
+			super(property, callback, source, ex -> null);
+			this.property = property;
+		}
+
+		@Override
+		boolean proxyEquals(@Nullable Object proxy, Object that) {
+
+			if (that == proxy) {
+				return true;
 			}
+
+			Object other = that instanceof LazyLoadingProxy ? ((LazyLoadingProxy) that).getTarget() : that;
+			return ObjectUtils.nullSafeEquals(ensureResolved(), other);
+		}
+
+		@Override
+		int proxyHashCode() {
+			return ObjectUtils.nullSafeHashCode(ensureResolved());
+		}
+
+		@Override
+		LazyLoadingException resolutionFailure(RuntimeException ex) {
+			return new LazyLoadingException(String.format("Unable to lazily convert embedded property %s.%s",
+					property.getOwner() != null ? property.getOwner().getName() : "unknown", property.getName()), ex);
 		}
 	}
 
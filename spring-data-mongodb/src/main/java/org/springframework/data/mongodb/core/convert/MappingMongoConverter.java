@@ -17,6 +17,8 @@ package org.springframework.data.mongodb.core.convert;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -27,14 +29,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.bson.json.JsonReader;
@@ -73,8 +79,10 @@ import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.data.mapping.model.SpELExpressionParameterValueProvider;
 import org.springframework.data.mongodb.CodecRegistryProvider;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.EntityWritePlan.PropertyWrite;
 import org.springframework.data.mongodb.core.mapping.BasicMongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.DocumentPointer;
+import org.springframework.data.mongodb.core.mapping.LazyEmbedded;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.PersistentPropertyTranslator;
@@ -96,6 +104,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 import com.mongodb.BasicDBList;
@@ -143,6 +152,12 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	private @Nullable EntityCallbacks entityCallbacks;
 	private final DocumentPointerFactory documentPointerFactory;
 	private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+	private final Map<MongoPersistentProperty, SimplePropertyConversion> simplePropertyConversions = new ConcurrentHashMap<>();
+	private final Map<MongoPersistentEntity<?>, EntityWritePlan> writePlans = new ConcurrentHashMap<>();
+	private final boolean simpleReadFastPathEnabled;
+	private final LazyLoadingProxyFactory lazyEmbeddedProxyFactory = new LazyLoadingProxyFactory();
+	private boolean lazyInterfaceProjections = false;
+	private @Nullable ExplicitEncryption explicitEncryption;
 
 	/**
 	 * Creates a new {@link MappingMongoConverter} given the new {@link DbRefResolver} and {@link MappingContext}.
@@ -175,6 +190,18 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 		this.referenceLookupDelegate = new ReferenceLookupDelegate(mappingContext, spELContext);
 		this.documentPointerFactory = new DocumentPointerFactory(conversionService, mappingContext);
+		this.simpleReadFastPathEnabled = isDeclaredHere("getConversionContext", ObjectPath.class)
+				&& isDeclaredHere("getPotentiallyConvertedSimpleRead", Object.class, TypeInformation.class);
+	}
+
+	/**
+	 * Check whether the method is not overridden by a subclass so that conversion shortcuts retain the semantics of the
+	 * actual implementation.
+	 */
+	private boolean isDeclaredHere(String methodName, Class<?>... parameterTypes) {
+
+		Method method = ReflectionUtils.findMethod(getClass(), methodName, parameterTypes);
+		return method != null && method.getDeclaringClass() == MappingMongoConverter.class;
 	}
 
 	/**
@@ -227,11 +254,46 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		return projectionFactory;
 	}
 
+	@Override
+	public void setCustomConversions(CustomConversions conversions) {
+
+		super.setCustomConversions(conversions);
+		this.simplePropertyConversions.clear();
+		this.writePlans.clear();
+	}
+
 	@Override
 	public CustomConversions getCustomConversions() {
 		return conversions;
 	}
 
+	/**
+	 * Configure whether interface projections should convert nested documents and arrays on first access of the
+	 * projection property instead of when creating the projection. Raw values are retained by the projection until they
+	 * are accessed. Defaults to {@literal false}.
+	 *
+	 * @param lazyInterfaceProjections {@literal true} to convert nested values of interface projections lazily.
+	 * @since 4.0
+	 */
+	public void setLazyInterfaceProjections(boolean lazyInterfaceProjections) {
+		this.lazyInterfaceProjections = lazyInterfaceProjections;
+	}
+
+	/**
+	 * Configure {@link ExplicitEncryption} to encrypt values of {@link org.springframework.data.mongodb.core.mapping.Encrypted}
+	 * properties when writing and to decrypt encrypted values when reading. Defaults to {@literal null} leaving
+	 * encryption to the driver.
+	 *
+	 * @param explicitEncryption can be {@literal null}.
+	 * @since 4.0
+	 */
+	public void setExplicitEncryption(@Nullable ExplicitEncryption explicitEncryption) {
+
+		this.explicitEncryption = explicitEncryption;
+		this.simplePropertyConversions.clear();
+		this.writePlans.clear();
+	}
+
 	/**
 	 * Configure the characters dots potentially contained in a {@link Map} shall be replaced with. By default we don't do
 	 * any translation but rather reject a {@link Map} with keys containing dots causing the conversion for the entire
@@ -326,15 +388,34 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 			PersistentPropertyTranslator propertyTranslator = PersistentPropertyTranslator.create(mappedEntity);
 			DocumentAccessor documentAccessor = new DocumentAccessor(bson);
-			PersistentPropertyAccessor<?> accessor = new MapPersistentPropertyAccessor();
+			PersistentPropertyAccessor<?> accessor = lazyInterfaceProjections
+					? new MapPersistentPropertyAccessor(new LazyPropertyMap())
+					: new MapPersistentPropertyAccessor();
 
 			PersistentPropertyAccessor<?> convertingAccessor = PropertyTranslatingPropertyAccessor
 					.create(new ConvertingPropertyAccessor<>(accessor, conversionService), propertyTranslator);
 			MongoDbPropertyValueProvider valueProvider = new MongoDbPropertyValueProvider(context, documentAccessor,
 					evaluator);
 
+			Predicate<MongoPersistentProperty> propertyFilter = Predicates.isTrue();
+
+			if (lazyInterfaceProjections) {
+
+				LazyPropertyMap properties = (LazyPropertyMap) accessor.getBean();
+
+				for (MongoPersistentProperty property : entity) {
+
+					if (isNestedValue(property, documentAccessor)) {
+						properties.putPending(property.getName(), () -> readProperties(context, entity, convertingAccessor,
+								documentAccessor, valueProvider, evaluator, property::equals));
+					}
+				}
+
+				propertyFilter = property -> !properties.isPending(property.getName());
+			}
+
 			readProperties(context, entity, convertingAccessor, documentAccessor, valueProvider, evaluator,
-					Predicates.isTrue());
+					propertyFilter);
 			return (R) projectionFactory.createProjection(mappedType.getType(), accessor.getBean());
 		}
 
@@ -384,9 +465,31 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		return readDocument(context, source, typeHint);
 	}
 
+	/**
+	 * @return {@literal true} if the raw value for the given {@link MongoPersistentProperty} is a nested document or an
+	 *         array that can be converted on first access.
+	 */
+	private static boolean isNestedValue(MongoPersistentProperty property, DocumentAccessor documentAccessor) {
+
+		if (property.isAssociation() || property.isUnwrapped() || property.getSpelExpression() != null) {
+			return false;
+		}
+
+		Object value = documentAccessor.get(property);
+		return value instanceof Collection || BsonUtils.supportsBson(value);
+	}
+
 	static class MapPersistentPropertyAccessor implements PersistentPropertyAccessor<Map<String, Object>> {
 
-		Map<String, Object> map = new LinkedHashMap<>();
+		final Map<String, Object> map;
+
+		MapPersistentPropertyAccessor() {
+			this(new LinkedHashMap<>());
+		}
+
+		MapPersistentPropertyAccessor(Map<String, Object> map) {
+			this.map = map;
+		}
 
 		@Override
 		public void setProperty(PersistentProperty<?> persistentProperty, Object o) {
@@ -404,6 +507,75 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		}
 	}
 
+	/**
+	 * {@link Map} backing interface projections that holds pending values for nested documents and arrays. Pending values
+	 * are converted on first access and replaced with the converted value. Access is synchronized as projections may be
+	 * handed to other threads before all pending values are resolved.
+	 *
+	 * @since 4.0
+	 */
+	static class LazyPropertyMap extends AbstractMap<String, Object> {
+
+		private final Map<String, Object> delegate = new LinkedHashMap<>();
+
+		synchronized void putPending(String key, Runnable resolver) {
+			delegate.put(key, new PendingValue(resolver));
+		}
+
+		synchronized boolean isPending(String key) {
+			return delegate.get(key) instanceof PendingValue;
+		}
+
+		@Override
+		public synchronized Object get(Object key) {
+
+			Object value = delegate.get(key);
+
+			if (!(value instanceof PendingValue pending)) {
+				return value;
+			}
+
+			pending.resolver.run();
+			value = delegate.get(key);
+
+			if (value instanceof PendingValue) {
+				delegate.remove(key);
+				return null;
+			}
+
+			return value;
+		}
+
+		@Override
+		public synchronized boolean containsKey(Object key) {
+			return delegate.containsKey(key);
+		}
+
+		@Override
+		public synchronized Object put(String key, Object value) {
+			return delegate.put(key, value);
+		}
+
+		@Override
+		public synchronized Set<Map.Entry<String, Object>> entrySet() {
+
+			for (Object key : new ArrayList<>(delegate.keySet())) {
+				get(key);
+			}
+
+			return new LinkedHashMap<>(delegate).entrySet();
+		}
+
+		private static class PendingValue {
+
+			private final Runnable resolver;
+
+			PendingValue(Runnable resolver) {
+				this.resolver = resolver;
+			}
+		}
+	}
+
 	public <S extends Object> S read(Class<S> clazz, Bson bson) {
 		return read(ClassTypeInformation.from(clazz), bson);
 	}
@@ -584,6 +756,10 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 				continue;
 			}
 
+			if (simpleReadFastPathEnabled && readSimpleProperty(accessor, documentAccessor, prop)) {
+				continue;
+			}
+
 			ConversionContext propertyContext = context.forProperty(prop);
 			MongoDbPropertyValueProvider valueProviderToUse = valueProvider.withContext(propertyContext);
 
@@ -620,10 +796,80 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 				continue;
 			}
 
+			if (isLazyEmbedded(prop, entity)) {
+
+				Object rawValue = documentAccessor.get(prop);
+				accessor.setProperty(prop, rawValue == null ? null
+						: lazyEmbeddedProxyFactory.createLazyEmbeddedProxy(prop, valueProviderToUse::getPropertyValue, rawValue));
+				continue;
+			}
+
 			accessor.setProperty(prop, valueProviderToUse.getPropertyValue(prop));
 		}
 	}
 
+	/**
+	 * Check whether the given {@link MongoPersistentProperty} is annotated with {@link LazyEmbedded} and can be
+	 * represented by a lazy loading proxy.
+	 */
+	private static boolean isLazyEmbedded(MongoPersistentProperty property, MongoPersistentEntity<?> entity) {
+
+		if (!property.isAnnotationPresent(LazyEmbedded.class) || entity.isConstructorArgument(property)) {
+			return false;
+		}
+
+		Class<?> type = property.getType();
+		return type.isInterface() || (!type.isArray() && !type.isPrimitive() && !Modifier.isFinal(type.getModifiers()));
+	}
+
+	/**
+	 * Read simple property values using the precomputed {@link SimplePropertyConversion} for the property.
+	 *
+	 * @return {@literal true} if the property was handled, {@literal false} to continue with the general conversion.
+	 */
+	private boolean readSimpleProperty(PersistentPropertyAccessor<?> accessor, DocumentAccessor documentAccessor,
+			MongoPersistentProperty property) {
+
+		SimplePropertyConversion conversion = getSimplePropertyConversion(property);
+
+		if (!conversion.isEnabled()) {
+			return false;
+		}
+
+		if (!documentAccessor.hasValue(property)) {
+			return true;
+		}
+
+		Object value = documentAccessor.get(property);
+
+		if (value == null) {
+			accessor.setProperty(property, null);
+			return true;
+		}
+
+		Object converted = conversion.read(value, conversionService, conversions);
+
+		if (converted == SimplePropertyConversion.NOT_CONVERTED) {
+			return false;
+		}
+
+		accessor.setProperty(property, converted);
+		return true;
+	}
+
+	private SimplePropertyConversion getSimplePropertyConversion(MongoPersistentProperty property) {
+
+		SimplePropertyConversion conversion = simplePropertyConversions.get(property);
+
+		if (conversion == null) {
+			conversion = simplePropertyConversions.computeIfAbsent(property,
+					it -> explicitEncryption != null && explicitEncryption.isEncrypted(it) ? SimplePropertyConversion.NONE
+							: SimplePropertyConversion.of(it, conversions));
+		}
+
+		return conversion;
+	}
+
 	private DbRefResolverCallback getDbRefResolverCallback(ConversionContext context, DocumentAccessor documentAccessor,
 			SpELExpressionEvaluator evaluator) {
 
@@ -831,7 +1077,8 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(obj);
 		DocumentAccessor dbObjectAccessor = new DocumentAccessor(bson);
-		MongoPersistentProperty idProperty = entity.getIdProperty();
+		EntityWritePlan plan = getWritePlan(entity);
+		MongoPersistentProperty idProperty = plan.getIdProperty();
 
 		if (idProperty != null && !dbObjectAccessor.hasValue(idProperty)) {
 
@@ -842,36 +1089,256 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			}
 		}
 
-		writeProperties(bson, entity, accessor, dbObjectAccessor, idProperty);
+		writeProperties(bson, plan, accessor, dbObjectAccessor);
 	}
 
-	private void writeProperties(Bson bson, MongoPersistentEntity<?> entity, PersistentPropertyAccessor<?> accessor,
-			DocumentAccessor dbObjectAccessor, @Nullable MongoPersistentProperty idProperty) {
+	private void writeProperties(Bson bson, EntityWritePlan plan, PersistentPropertyAccessor<?> accessor,
+			DocumentAccessor dbObjectAccessor) {
 
 		// Write the properties
-		for (MongoPersistentProperty prop : entity) {
+		for (PropertyWrite write : plan.getProperties()) {
+			writeProperty(bson, write, accessor, dbObjectAccessor);
+		}
+	}
 
-			if (prop.equals(idProperty) || !prop.isWritable()) {
-				continue;
-			}
-			if (prop.isAssociation()) {
+	private void writeProperty(Bson bson, PropertyWrite write, PersistentPropertyAccessor<?> accessor,
+			DocumentAccessor dbObjectAccessor) {
 
-				writeAssociation(prop.getRequiredAssociation(), accessor, dbObjectAccessor);
-				continue;
-			}
+		MongoPersistentProperty prop = write.getProperty();
 
-			Object value = accessor.getProperty(prop);
+		if (write.isAssociation()) {
 
-			if (value == null) {
-				if (prop.writeNullValues()) {
-					dbObjectAccessor.put(prop, null);
-				}
-			} else if (!conversions.isSimpleType(value.getClass())) {
+			writeAssociation(prop.getRequiredAssociation(), accessor, dbObjectAccessor);
+			return;
+		}
+
+		Object value = accessor.getProperty(prop);
+
+		if (value == null) {
+			if (write.isWriteNullValues()) {
+				write.put(bson, dbObjectAccessor, null);
+			}
+		} else if (!writeSimpleProperty(value, bson, dbObjectAccessor, write)) {
+
+			if (!conversions.isSimpleType(value.getClass())) {
 				writePropertyInternal(value, dbObjectAccessor, prop);
 			} else {
 				writeSimpleInternal(value, bson, prop);
 			}
+
+			ExplicitEncryption encryption = explicitEncryption;
+			if (write.isEncrypted() && encryption != null) {
+				encryptProperty(encryption, dbObjectAccessor, prop);
+			}
+		}
+	}
+
+	/**
+	 * Check whether objects of the given type can be {@link #createEntityEncoder(CodecRegistry) encoded directly}. That is
+	 * if the type is a persistent entity without a custom write target that does not map any property to a path
+	 * expression.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return {@literal true} if objects of the given type can be encoded directly.
+	 * @since 4.0
+	 */
+	public boolean canEncode(Class<?> type) {
+
+		Class<?> entityType = ClassUtils.getUserClass(type);
+
+		if (conversions.isSimpleType(entityType) || Map.class.isAssignableFrom(entityType)
+				|| Collection.class.isAssignableFrom(entityType)
+				|| conversions.getCustomWriteTarget(entityType, Document.class).isPresent()) {
+			return false;
+		}
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
+		return entity != null && !getWritePlan(entity).hasPathProperties();
+	}
+
+	/**
+	 * Create an {@link Encoder} writing {@link EncodableEntity entities} straight to a {@link BsonWriter} instead of
+	 * converting them into a {@link Document} first. Values of simple properties are encoded as they are written, all
+	 * other property values are converted as they would be by {@link #write(Object, Bson)} and encoded right away.
+	 * Entity types must be {@link #canEncode(Class) eligible} for direct encoding.
+	 *
+	 * @param codecRegistry the {@link CodecRegistry} to encode property values. Must not be {@literal null}.
+	 * @return new instance of {@link Encoder}.
+	 * @since 4.0
+	 */
+	public Encoder<EncodableEntity> createEntityEncoder(CodecRegistry codecRegistry) {
+
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		return new EncodableEntityEncoder(this, codecRegistry);
+	}
+
+	/**
+	 * Encode the given entity. Mirrors {@link #write(Object, Bson)} writing to a {@link BsonWriter}.
+	 */
+	void encode(EncodableEntity source, BsonWriter writer, EncoderContext context, CodecRegistry registry) {
+
+		Object obj = source.getEntity();
+		Object target = obj instanceof LazyLoadingProxy ? ((LazyLoadingProxy) obj).getTarget() : obj;
+		Class<?> entityType = ClassUtils.getUserClass(target.getClass());
+
+		MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityType);
+		EntityWritePlan plan = getWritePlan(entity);
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(target);
+		MongoPersistentProperty idProperty = plan.getIdProperty();
+
+		writer.writeStartDocument();
+
+		Object id = idProperty != null
+				? idMapper.convertId(accessor.getProperty(idProperty), idProperty.getFieldType())
+				: null;
+		id = id != null ? id : source.getId();
+
+		if (id != null) {
+			writer.writeName(BasicMongoPersistentProperty.ID_FIELD_NAME);
+			encodeValue(id, writer, context, registry);
+		}
+
+		Document buffer = new Document();
+		DocumentAccessor bufferAccessor = new DocumentAccessor(buffer);
+
+		for (PropertyWrite write : plan.getProperties()) {
+
+			if (!write.isAssociation() && encodeSimpleProperty(write, accessor, writer, context, registry)) {
+				continue;
+			}
+
+			writeProperty(buffer, write, accessor, bufferAccessor);
+			flush(buffer, writer, context, registry);
+		}
+
+		if (requiresTypeHint(entityType)) {
+
+			getTypeMapper().writeType(ClassTypeInformation.from(entityType), buffer);
+			flush(buffer, writer, context, registry);
+		}
+
+		writer.writeEndDocument();
+	}
+
+	/**
+	 * Encode {@literal null} values and values eligible for the precomputed {@link SimplePropertyConversion} straight to
+	 * the {@link BsonWriter}.
+	 *
+	 * @return {@literal true} if the property was handled, {@literal false} to continue with the general conversion.
+	 */
+	private boolean encodeSimpleProperty(PropertyWrite write, PersistentPropertyAccessor<?> accessor, BsonWriter writer,
+			EncoderContext context, CodecRegistry registry) {
+
+		Object value = accessor.getProperty(write.getProperty());
+
+		if (value == null) {
+
+			if (write.isWriteNullValues()) {
+				writer.writeNull(write.getFieldName());
+			}
+			return true;
+		}
+
+		SimplePropertyConversion conversion = write.getConversion();
+
+		if (!conversion.isEnabled()) {
+			return false;
 		}
+
+		Object converted = conversion.write(value, conversionService, conversions);
+
+		if (converted == SimplePropertyConversion.NOT_CONVERTED) {
+			return false;
+		}
+
+		writer.writeName(write.getFieldName());
+		encodeValue(converted, writer, context, registry);
+		return true;
+	}
+
+	private static void flush(Document buffer, BsonWriter writer, EncoderContext context, CodecRegistry registry) {
+
+		for (Map.Entry<String, Object> entry : buffer.entrySet()) {
+
+			writer.writeName(entry.getKey());
+			encodeValue(entry.getValue(), writer, context, registry);
+		}
+
+		buffer.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void encodeValue(@Nullable Object value, BsonWriter writer, EncoderContext context,
+			CodecRegistry registry) {
+
+		if (value == null) {
+			writer.writeNull();
+			return;
+		}
+
+		context.encodeWithChildContext((Codec<Object>) registry.get(value.getClass()), writer, value);
+	}
+
+	/**
+	 * Obtain the {@link EntityWritePlan} for the given {@link MongoPersistentEntity}. Plans of
+	 * {@link MongoPersistentEntity#isUnwrapped() unwrapped} entities are not cached as those are created for each
+	 * unwrapped property value.
+	 */
+	private EntityWritePlan getWritePlan(MongoPersistentEntity<?> entity) {
+
+		if (entity.isUnwrapped()) {
+			return createWritePlan(entity);
+		}
+
+		EntityWritePlan plan = writePlans.get(entity);
+
+		if (plan == null) {
+			plan = writePlans.computeIfAbsent(entity, this::createWritePlan);
+		}
+
+		return plan;
+	}
+
+	private EntityWritePlan createWritePlan(MongoPersistentEntity<?> entity) {
+
+		ExplicitEncryption encryption = explicitEncryption;
+		return EntityWritePlan.of(entity, this::getSimplePropertyConversion,
+				property -> encryption != null && encryption.isEncrypted(property));
+	}
+
+	private static void encryptProperty(ExplicitEncryption encryption, DocumentAccessor accessor,
+			MongoPersistentProperty property) {
+
+		Object value = accessor.get(property);
+
+		if (value != null) {
+			accessor.put(property, encryption.encrypt(value, property));
+		}
+	}
+
+	/**
+	 * Write simple property values using the precomputed {@link SimplePropertyConversion} for the property.
+	 *
+	 * @return {@literal true} if the property value was written, {@literal false} to continue with the general
+	 *         conversion.
+	 */
+	private boolean writeSimpleProperty(Object value, Bson bson, DocumentAccessor accessor, PropertyWrite write) {
+
+		SimplePropertyConversion conversion = write.getConversion();
+
+		if (!conversion.isEnabled()) {
+			return false;
+		}
+
+		Object converted = conversion.write(value, conversionService, conversions);
+
+		if (converted == SimplePropertyConversion.NOT_CONVERTED) {
+			return false;
+		}
+
+		write.put(bson, accessor, converted);
+		return true;
 	}
 
 	private void writeAssociation(Association<MongoPersistentProperty> association,
@@ -1775,6 +2242,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		target.defaultTypeMapper = defaultTypeMapper;
 		target.typeMapper = typeMapper;
 		target.setCodecRegistryProvider(dbFactory);
+		target.explicitEncryption = explicitEncryption;
 		target.afterPropertiesSet();
 
 		return target;
@@ -1887,6 +2355,15 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 				return null;
 			}
 
+			if (ExplicitEncryption.isEncryptedValue(value)) {
+
+				value = decrypt(value, property, context.getSourceConverter());
+
+				if (value == null) {
+					return null;
+				}
+			}
+
 			CustomConversions conversions = context.getCustomConversions();
 			if (conversions.hasValueConverter(property)) {
 				return (T) conversions.getPropertyValueConversions().getValueConverter(property).read(value,
@@ -1902,6 +2379,17 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 			return context == this.context ? this : new MongoDbPropertyValueProvider(context, accessor, evaluator);
 		}
+
+		@Nullable
+		private static Object decrypt(Object value, MongoPersistentProperty property, MongoConverter converter) {
+
+			if (!(converter instanceof MappingMongoConverter)) {
+				return value;
+			}
+
+			ExplicitEncryption encryption = ((MappingMongoConverter) converter).explicitEncryption;
+			return encryption != null ? encryption.decrypt(value, property) : value;
+		}
 	}
 
 	/**
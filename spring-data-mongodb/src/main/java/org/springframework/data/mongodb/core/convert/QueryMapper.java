@@ -17,7 +17,6 @@ package org.springframework.data.mongodb.core.convert;
 
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -1424,11 +1423,14 @@ public class QueryMapper {
 					return true;
 				}
 
-				Matcher matcher = POSITIONAL_OPERATOR.matcher(partial);
-				if (matcher.find()) {
+				if (isFilteredPositionalOperator(partial)) {
 					return true;
 				}
 
+				if (partial.isEmpty() || !Character.isDigit(partial.charAt(partial.length() - 1))) {
+					return false;
+				}
+
 				try {
 					Long.valueOf(partial);
 					return true;
@@ -1436,6 +1438,19 @@ public class QueryMapper {
 					return false;
 				}
 			}
+
+			/**
+			 * Checks for {@literal $[]} and {@literal $[identifier]} without going through {@link #POSITIONAL_OPERATOR}
+			 * regex matching as keys are evaluated for every property in the path.
+			 *
+			 * @param partial
+			 * @return
+			 */
+			private static boolean isFilteredPositionalOperator(String partial) {
+
+				int start = partial.indexOf("$[");
+				return start != -1 && partial.indexOf(']', start + 2) != -1;
+			}
 		}
 	}
 
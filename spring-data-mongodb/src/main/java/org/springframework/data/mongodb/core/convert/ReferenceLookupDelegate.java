@@ -26,7 +26,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
@@ -68,6 +71,7 @@ public final class ReferenceLookupDelegate {
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final SpELContext spELContext;
 	private final ParameterBindingDocumentCodec codec;
+	private final Map<MongoPersistentProperty, LookupTemplate> lookupTemplates = new ConcurrentHashMap<>();
 
 	/**
 	 * Create a new {@link ReferenceLookupDelegate}.
@@ -252,21 +256,19 @@ public final class ReferenceLookupDelegate {
 	@SuppressWarnings("unchecked")
 	DocumentReferenceQuery computeFilter(MongoPersistentProperty property, Object source, SpELContext spELContext) {
 
-		DocumentReference documentReference = property.isDocumentReference() ? property.getDocumentReference()
-				: ReferenceEmulatingDocumentReference.INSTANCE;
-
-		String lookup = documentReference.lookup();
+		LookupTemplate template = lookupTemplates.computeIfAbsent(property, it -> LookupTemplate.from(
+				it.isDocumentReference() ? it.getDocumentReference() : ReferenceEmulatingDocumentReference.INSTANCE, codec));
 
 		Object value = DocumentReferenceSource.getTargetSource(source);
 
-		Document sort = parseValueOrGet(documentReference.sort(), bindingContext(property, source, spELContext),
-				Document::new);
+		Document sort = template.hasStaticSort() ? template.getSort()
+				: parseValueOrGet(template.getSortDefinition(), bindingContext(property, source, spELContext), Document::new);
 
 		if (property.isCollectionLike() && (value instanceof Collection || value == null)) {
 
 			if (value == null) {
-				return new ListDocumentReferenceQuery(codec.decode(lookup, bindingContext(property, source, spELContext)),
-						sort);
+				return new ListDocumentReferenceQuery(codec.decode(template.getLookup(),
+						bindingContext(property, source, spELContext)), sort);
 			}
 
 			Collection<Object> objects = (Collection<Object>) value;
@@ -275,19 +277,22 @@ public final class ReferenceLookupDelegate {
 				return new ListDocumentReferenceQuery(NO_RESULTS_PREDICATE, sort);
 			}
 
-			List<Document> ors = new ArrayList<>(objects.size());
+			List<Document> filters = new ArrayList<>(objects.size());
 			for (Object entry : objects) {
+				filters.add(bindLookup(template, property, entry, spELContext));
+			}
 
-				Document decoded = codec.decode(lookup, bindingContext(property, entry, spELContext));
-				ors.add(decoded);
+			if (template.canBindAll(objects)) {
+				return new ListDocumentReferenceQuery(template.bindAll(objects), sort, filters);
 			}
 
-			return new ListDocumentReferenceQuery(new Document("$or", ors), sort);
+			return new ListDocumentReferenceQuery(new Document("$or", filters), sort);
 		}
 
 		if (property.isMap() && value instanceof Map) {
 
-			Set<Entry<Object, Object>> entries = ((Map<Object, Object>) value).entrySet();
+			Map<Object, Object> values = (Map<Object, Object>) value;
+			Set<Entry<Object, Object>> entries = values.entrySet();
 			if (entries.isEmpty()) {
 				return new MapDocumentReferenceQuery(NO_RESULTS_PREDICATE, sort, Collections.emptyMap());
 			}
@@ -295,15 +300,38 @@ public final class ReferenceLookupDelegate {
 			Map<Object, Document> filterMap = new LinkedHashMap<>(entries.size());
 
 			for (Entry<Object, Object> entry : entries) {
-
-				Document decoded = codec.decode(lookup, bindingContext(property, entry.getValue(), spELContext));
-				filterMap.put(entry.getKey(), decoded);
+				filterMap.put(entry.getKey(), bindLookup(template, property, entry.getValue(), spELContext));
 			}
 
-			return new MapDocumentReferenceQuery(new Document("$or", filterMap.values()), sort, filterMap);
+			Document query = template.canBindAll(values.values()) ? template.bindAll(values.values())
+					: new Document("$or", filterMap.values());
+
+			return new MapDocumentReferenceQuery(query, sort, filterMap);
 		}
 
-		return new SingleDocumentReferenceQuery(codec.decode(lookup, bindingContext(property, source, spELContext)), sort);
+		return new SingleDocumentReferenceQuery(bindLookup(template, property, source, spELContext), sort);
+	}
+
+	/**
+	 * Bind the lookup query of the given {@link LookupTemplate} against the given {@code source} either directly or by
+	 * decoding the lookup definition.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @param source can be {@literal null}.
+	 * @param spELContext must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	private Document bindLookup(LookupTemplate template, MongoPersistentProperty property, @Nullable Object source,
+			SpELContext spELContext) {
+
+		Object target = DocumentReferenceSource.getTargetSource(source);
+
+		if (template.canBind(target)) {
+			return template.bind(target);
+		}
+
+		return codec.decode(template.getLookup(), bindingContext(property, source, spELContext));
 	}
 
 	enum ReferenceEmulatingDocumentReference implements DocumentReference {
@@ -341,6 +369,146 @@ public final class ReferenceLookupDelegate {
 		}
 	}
 
+	/**
+	 * Lookup and sort definition of a reference defining {@link MongoPersistentProperty} parsed once and reused for each
+	 * reference read. Lookups of the form <code>{ 'field' : ?#{#target} }</code> bind the target value directly instead
+	 * of decoding the lookup query and allow to combine multiple references into a single {@literal $in} query.
+	 *
+	 * @since 4.0
+	 */
+	static class LookupTemplate {
+
+		/**
+		 * A {@link Pattern} matching quoted and unquoted field names followed by the plain <code>?#{#target}</code>
+		 * expression. Like: <code>{ '_id' : ?#{#target} }</code> or <code>{ name : ?#{ #target } }</code>.
+		 */
+		private static final Pattern TARGET_LOOKUP_PATTERN = Pattern
+				.compile("\\{\\s*(['\"]?)(?<field>[\\w.]+)\\1\\s*:\\s*\\?#\\{\\s*#target\\s*}\\s*}");
+
+		private final String lookup;
+		private final @Nullable String targetField;
+		private final String sortDefinition;
+		private final @Nullable Document sort;
+
+		private LookupTemplate(String lookup, @Nullable String targetField, String sortDefinition,
+				@Nullable Document sort) {
+
+			this.lookup = lookup;
+			this.targetField = targetField;
+			this.sortDefinition = sortDefinition;
+			this.sort = sort;
+		}
+
+		/**
+		 * Create a new {@link LookupTemplate} for the given {@link DocumentReference}.
+		 *
+		 * @param documentReference must not be {@literal null}.
+		 * @param codec the codec to decode static sort definitions. Must not be {@literal null}.
+		 * @return new instance of {@link LookupTemplate}.
+		 */
+		static LookupTemplate from(DocumentReference documentReference, ParameterBindingDocumentCodec codec) {
+
+			String lookup = documentReference.lookup();
+			String sortDefinition = documentReference.sort();
+
+			String targetField = null;
+			if (StringUtils.hasText(lookup)) {
+
+				Matcher matcher = TARGET_LOOKUP_PATTERN.matcher(lookup.trim());
+				if (matcher.matches()) {
+					targetField = matcher.group("field");
+				}
+			}
+
+			Document sort = null;
+			if (!StringUtils.hasText(sortDefinition)) {
+				sort = new Document();
+			} else if (BsonUtils.isJsonDocument(sortDefinition) && !sortDefinition.contains("?")) {
+				sort = codec.decode(sortDefinition, new Object[0]);
+			}
+
+			return new LookupTemplate(lookup, targetField, sortDefinition, sort);
+		}
+
+		String getLookup() {
+			return lookup;
+		}
+
+		String getSortDefinition() {
+			return sortDefinition;
+		}
+
+		/**
+		 * @return {@literal true} if the sort definition does not contain any placeholders.
+		 */
+		boolean hasStaticSort() {
+			return sort != null;
+		}
+
+		/**
+		 * @return a copy of the static sort.
+		 */
+		Document getSort() {
+
+			Assert.state(sort != null, "Sort definition is not static");
+			return new Document(sort);
+		}
+
+		/**
+		 * Check whether the given {@code target} value can be bound without evaluating the lookup query. {@literal null}
+		 * values and {@link String strings} representing documents require the lookup query to be decoded.
+		 *
+		 * @param target can be {@literal null}.
+		 * @return {@literal true} if the value can be bound directly.
+		 */
+		boolean canBind(@Nullable Object target) {
+			return targetField != null && target != null
+					&& !(target instanceof String && ((String) target).startsWith("{"));
+		}
+
+		/**
+		 * @param targets must not be {@literal null}.
+		 * @return {@literal true} if all of the given {@code targets} can be bound directly.
+		 * @see #canBind(Object)
+		 */
+		boolean canBindAll(Collection<?> targets) {
+
+			if (targetField == null) {
+				return false;
+			}
+
+			for (Object target : targets) {
+				if (!canBind(DocumentReferenceSource.getTargetSource(target))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * @param target must not be {@literal null}.
+		 * @return the lookup query for the given {@code target}.
+		 */
+		Document bind(Object target) {
+			return new Document(targetField, target);
+		}
+
+		/**
+		 * @param targets must not be {@literal null}.
+		 * @return a single {@literal $in} lookup query for all given {@code targets}.
+		 */
+		Document bindAll(Collection<?> targets) {
+
+			List<Object> values = new ArrayList<>(targets.size());
+			for (Object target : targets) {
+				values.add(DocumentReferenceSource.getTargetSource(target));
+			}
+
+			return new Document(targetField, new Document("$in", values));
+		}
+	}
+
 	/**
 	 * {@link DocumentReferenceQuery} implementation fetching a single {@link Document}.
 	 */
@@ -428,11 +596,25 @@ public final class ReferenceLookupDelegate {
 
 		private final Document query;
 		private final Document sort;
+		private final @Nullable List<Document> filters;
 
+		@SuppressWarnings("unchecked")
 		public ListDocumentReferenceQuery(Document query, Document sort) {
+			this(query, sort, query.containsKey("$or") ? query.get("$or", List.class) : null);
+		}
+
+		/**
+		 * @param query the query to execute.
+		 * @param sort the sort to apply.
+		 * @param filters the individual filter {@link Document documents} per reference used to restore the original
+		 *          order. Can be {@literal null}.
+		 * @since 4.0
+		 */
+		public ListDocumentReferenceQuery(Document query, Document sort, @Nullable List<Document> filters) {
 
 			this.query = query;
 			this.sort = sort;
+			this.filters = filters;
 		}
 
 		@Override
@@ -441,12 +623,12 @@ public final class ReferenceLookupDelegate {
 			List<Document> target = documents instanceof List ? (List<Document>) documents
 					: Streamable.of(documents).toList();
 
-			if (!sort.isEmpty() || !query.containsKey("$or")) {
+			if (!sort.isEmpty() || filters == null) {
 				return target;
 			}
 
-			List<Document> ors = query.get("$or", List.class);
-			return target.stream().sorted((o1, o2) -> compareAgainstReferenceIndex(ors, o1, o2)).collect(Collectors.toList());
+			return target.stream().sorted((o1, o2) -> compareAgainstReferenceIndex(filters, o1, o2))
+					.collect(Collectors.toList());
 		}
 
 		public Document getQuery() {
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import com.mongodb.DBObject;
+import com.mongodb.DBRef;
+
+/**
+ * Conversion strategy for simple (numeric, temporal, textual) property values. The strategy is determined once per
+ * {@link MongoPersistentProperty} and source type so that reading and writing values that require no conversion, a
+ * primitive widening or a single registered converter does not require to look up {@link CustomConversions} for each
+ * value.
+ * <p>
+ * Instances remember the last observed source type for reading and writing. A different source type causes the
+ * strategy to be recomputed, values that are not eligible for a fast path are reported as
+ * {@link #NOT_CONVERTED not converted} so that callers continue with the general conversion path.
+ *
+ * @since 4.0
+ */
+final class SimplePropertyConversion {
+
+	/**
+	 * Marker returned by {@link #read(Object, ConversionService, CustomConversions)} and
+	 * {@link #write(Object, ConversionService, CustomConversions)} if the value must be converted through the general
+	 * conversion path.
+	 */
+	static final Object NOT_CONVERTED = new Object();
+
+	static final SimplePropertyConversion NONE = new SimplePropertyConversion(Object.class, false);
+
+	private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(String.class, Boolean.class, Character.class,
+			Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, Date.class, Instant.class,
+			ObjectId.class);
+
+	private final Class<?> targetType;
+	private final Class<?> boxedTargetType;
+	private final boolean enabled;
+
+	private volatile Decision readDecision = Decision.UNDECIDED;
+	private volatile Decision writeDecision = Decision.UNDECIDED;
+
+	private SimplePropertyConversion(Class<?> targetType, boolean enabled) {
+
+		this.targetType = targetType;
+		this.boxedTargetType = ClassUtils.resolvePrimitiveIfNecessary(targetType);
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Create a {@link SimplePropertyConversion} for the given {@link MongoPersistentProperty}. Properties that use
+	 * SpEL, property value converters, explicit write targets, references or non-simple types are not eligible and get
+	 * {@link #NONE} assigned.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	static SimplePropertyConversion of(MongoPersistentProperty property, CustomConversions conversions) {
+
+		if (property.isAssociation() || property.isDbReference() || property.isDocumentReference()
+				|| property.isUnwrapped() || property.isEntity() || property.hasExplicitWriteTarget()
+				|| property.getSpelExpression() != null || conversions.hasValueConverter(property)) {
+			return NONE;
+		}
+
+		Class<?> type = property.getType();
+
+		if (!SUPPORTED_TYPES.contains(ClassUtils.resolvePrimitiveIfNecessary(type))) {
+			return NONE;
+		}
+
+		return new SimplePropertyConversion(type, true);
+	}
+
+	/**
+	 * @return {@literal true} if the property is eligible for the fast path.
+	 */
+	boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Read the given store value into the property type.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 * @return the converted value or {@link #NOT_CONVERTED}.
+	 */
+	Object read(Object value, ConversionService conversionService, CustomConversions conversions) {
+
+		Decision decision = readDecision;
+
+		if (decision.sourceType != value.getClass()) {
+			decision = decideRead(value.getClass(), conversions);
+			readDecision = decision;
+		}
+
+		return decision.apply(value, conversionService);
+	}
+
+	/**
+	 * Write the given property value into its store representation.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 * @return the converted value or {@link #NOT_CONVERTED}.
+	 */
+	Object write(Object value, ConversionService conversionService, CustomConversions conversions) {
+
+		Decision decision = writeDecision;
+
+		if (decision.sourceType != value.getClass()) {
+			decision = decideWrite(value.getClass(), conversions);
+			writeDecision = decision;
+		}
+
+		return decision.apply(value, conversionService);
+	}
+
+	private Decision decideRead(Class<?> sourceType, CustomConversions conversions) {
+
+		if (isContainer(sourceType)) {
+			return new Decision(sourceType, Strategy.DEFAULT, null);
+		}
+
+		if (conversions.hasCustomReadTarget(sourceType, targetType)) {
+			return new Decision(sourceType, Strategy.CONVERT, targetType);
+		}
+
+		if (ClassUtils.isAssignable(targetType, sourceType)) {
+			return new Decision(sourceType, Strategy.PASS_THROUGH, null);
+		}
+
+		if (boxedTargetType == Long.class && (sourceType == Integer.class || sourceType == Short.class
+				|| sourceType == Byte.class)) {
+			return new Decision(sourceType, Strategy.WIDEN_TO_LONG, null);
+		}
+
+		if (boxedTargetType == Double.class && (sourceType == Integer.class || sourceType == Long.class
+				|| sourceType == Float.class || sourceType == Short.class || sourceType == Byte.class)) {
+			return new Decision(sourceType, Strategy.WIDEN_TO_DOUBLE, null);
+		}
+
+		if (boxedTargetType == Instant.class && sourceType == Date.class) {
+			return new Decision(sourceType, Strategy.DATE_TO_INSTANT, null);
+		}
+
+		if (boxedTargetType == Date.class && sourceType == Instant.class) {
+			return new Decision(sourceType, Strategy.INSTANT_TO_DATE, null);
+		}
+
+		return new Decision(sourceType, Strategy.DEFAULT, null);
+	}
+
+	private static Decision decideWrite(Class<?> sourceType, CustomConversions conversions) {
+
+		if (isContainer(sourceType) || sourceType.isArray() || sourceType.isEnum()
+				|| !conversions.isSimpleType(sourceType)) {
+			return new Decision(sourceType, Strategy.DEFAULT, null);
+		}
+
+		Optional<Class<?>> customTarget = conversions.getCustomWriteTarget(sourceType);
+
+		return customTarget.isPresent() ? new Decision(sourceType, Strategy.CONVERT, customTarget.get())
+				: new Decision(sourceType, Strategy.PASS_THROUGH, null);
+	}
+
+	private static boolean isContainer(Class<?> sourceType) {
+
+		return Collection.class.isAssignableFrom(sourceType) || Map.class.isAssignableFrom(sourceType)
+				|| DBObject.class.isAssignableFrom(sourceType) || DBRef.class.isAssignableFrom(sourceType);
+	}
+
+	enum Strategy {
+		DEFAULT, PASS_THROUGH, CONVERT, WIDEN_TO_LONG, WIDEN_TO_DOUBLE, DATE_TO_INSTANT, INSTANT_TO_DATE
+	}
+
+	/**
+	 * The {@link Strategy} to apply for a particular source type.
+	 */
+	private static class Decision {
+
+		static final Decision UNDECIDED = new Decision(Void.class, Strategy.DEFAULT, null);
+
+		final Class<?> sourceType;
+		final Strategy strategy;
+		final @Nullable Class<?> conversionTarget;
+
+		Decision(Class<?> sourceType, Strategy strategy, @Nullable Class<?> conversionTarget) {
+
+			this.sourceType = sourceType;
+			this.strategy = strategy;
+			this.conversionTarget = conversionTarget;
+		}
+
+		@Nullable
+		@SuppressWarnings("ConstantConditions")
+		Object apply(Object value, ConversionService conversionService) {
+
+			switch (strategy) {
+				case PASS_THROUGH:
+					return value;
+				case CONVERT:
+					return conversionService.convert(value, conversionTarget);
+				case WIDEN_TO_LONG:
+					return ((Number) value).longValue();
+				case WIDEN_TO_DOUBLE:
+					return ((Number) value).doubleValue();
+				case DATE_TO_INSTANT:
+					return ((Date) value).toInstant();
+				case INSTANT_TO_DATE:
+					return Date.from((Instant) value);
+				default:
+					return NOT_CONVERTED;
+			}
+		}
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.mongodb.core.convert;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
+import java.util.Objects;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -32,8 +33,10 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update.Modifier;
 import org.springframework.data.mongodb.core.query.Update.Modifiers;
 import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * A subclass of {@link QueryMapper} that retains type information on the mongo types.
@@ -45,7 +48,10 @@ import org.springframework.lang.Nullable;
  */
 public class UpdateMapper extends QueryMapper {
 
+	private static final int FIELD_CACHE_SIZE = 512;
+
 	private final MongoConverter converter;
+	private final ConcurrentLruCache<FieldCacheKey, Field> fieldCache;
 
 	/**
 	 * Creates a new {@link UpdateMapper} using the given {@link MongoConverter}.
@@ -56,6 +62,8 @@ public class UpdateMapper extends QueryMapper {
 
 		super(converter);
 		this.converter = converter;
+		this.fieldCache = new ConcurrentLruCache<>(FIELD_CACHE_SIZE,
+				key -> new MetadataBackedUpdateField(key.entity, key.key, getMappingContext()));
 	}
 
 	@Override
@@ -238,8 +246,16 @@ public class UpdateMapper extends QueryMapper {
 	protected Field createPropertyField(MongoPersistentEntity<?> entity, String key,
 			MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
 
-		return entity == null ? super.createPropertyField(entity, key, mappingContext)
-				: new MetadataBackedUpdateField(entity, key, mappingContext);
+		if (entity == null) {
+			return super.createPropertyField(entity, key, mappingContext);
+		}
+
+		if (mappingContext != getMappingContext()) {
+			return new MetadataBackedUpdateField(entity, key, mappingContext);
+		}
+
+		// update shapes tend to repeat, so reuse the resolved property path and positional key mapping
+		return fieldCache.get(new FieldCacheKey(entity, key));
 	}
 
 	private static Document getSortObject(Sort sort) {
@@ -266,11 +282,12 @@ public class UpdateMapper extends QueryMapper {
 	private static class MetadataBackedUpdateField extends MetadataBackedField {
 
 		private final String key;
+		private final Lazy<String> mappedKey;
 
 		/**
 		 * Creates a new {@link MetadataBackedField} with the given {@link MongoPersistentEntity}, key and
 		 * {@link MappingContext}. We clean up the key before handing it up to the super class to make sure it continues to
-		 * work as expected.
+		 * work as expected. The mapped key is computed once and retained as the field is immutable otherwise.
 		 *
 		 * @param entity must not be {@literal null}.
 		 * @param key must not be {@literal null} or empty.
@@ -281,11 +298,12 @@ public class UpdateMapper extends QueryMapper {
 
 			super(key, entity, mappingContext);
 			this.key = key;
+			this.mappedKey = Lazy.of(() -> this.getPath() == null ? key : super.getMappedKey());
 		}
 
 		@Override
 		public String getMappedKey() {
-			return this.getPath() == null ? key : super.getMappedKey();
+			return mappedKey.get();
 		}
 
 		@Override
@@ -326,4 +344,39 @@ public class UpdateMapper extends QueryMapper {
 			}
 		}
 	}
+
+	/**
+	 * Cache key for {@link MetadataBackedUpdateField} instances.
+	 *
+	 * @since 4.0
+	 */
+	private static final class FieldCacheKey {
+
+		private final MongoPersistentEntity<?> entity;
+		private final String key;
+
+		FieldCacheKey(MongoPersistentEntity<?> entity, String key) {
+			this.entity = entity;
+			this.key = key;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof FieldCacheKey that)) {
+				return false;
+			}
+
+			return entity == that.entity && key.equals(that.key);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(System.identityHashCode(entity), key);
+		}
+	}
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link LazyEmbedded} marks a property holding an embedded document, an array or a map to be converted on first
+ * access instead of when reading the owning entity. The raw value of the source document is retained and converted
+ * into the property type once the property is accessed. <br />
+ * Lazily converted properties are represented by a
+ * {@link org.springframework.data.mongodb.core.convert.LazyLoadingProxy} and therefore require the property type to be
+ * an interface or a non-final class. <br />
+ * <b>NOTE</b> The annotation has no effect on constructor arguments, references and {@link Unwrapped unwrapped}
+ * properties which are always read eagerly.
+ *
+ * @since 4.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface LazyEmbedded {
+
+}
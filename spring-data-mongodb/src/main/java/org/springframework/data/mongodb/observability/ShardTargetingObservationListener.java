@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.Locale;
+
+import org.springframework.data.mongodb.core.ShardTargeting;
+import org.springframework.data.mongodb.core.ShardTargetingListener;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ShardTargetingListener} recording an {@link Observation} named {@value #NAME} for each classified operation.
+ * Observations carry the collection, operation and routing as low cardinality key values so that a meter handler
+ * registered with the {@link ObservationRegistry} counts targeted and scatter-gather operations per collection.
+ *
+ * @since 4.0
+ */
+public class ShardTargetingObservationListener implements ShardTargetingListener {
+
+	/**
+	 * Name of the recorded {@link Observation}.
+	 */
+	public static final String NAME = "spring.data.mongodb.shard.targeting";
+
+	static final String COLLECTION = "spring.data.mongodb.collection";
+	static final String OPERATION = "spring.data.mongodb.operation";
+	static final String ROUTING = "spring.data.mongodb.routing";
+
+	private final ObservationRegistry observationRegistry;
+
+	/**
+	 * Create a new {@link ShardTargetingObservationListener}.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 */
+	public ShardTargetingObservationListener(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+	}
+
+	@Override
+	public void onShardTargeting(ShardTargeting targeting) {
+
+		Observation.createNotStarted(NAME, observationRegistry) //
+				.lowCardinalityKeyValue(KeyValue.of(COLLECTION, targeting.getCollectionName())) //
+				.lowCardinalityKeyValue(KeyValue.of(OPERATION, targeting.getOperation().name().toLowerCase(Locale.ROOT))) //
+				.lowCardinalityKeyValue(KeyValue.of(ROUTING, targeting.getRouting().name().toLowerCase(Locale.ROOT))) //
+				.start() //
+				.stop();
+	}
+}
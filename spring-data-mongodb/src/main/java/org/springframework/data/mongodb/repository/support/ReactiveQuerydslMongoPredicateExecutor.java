@@ -38,6 +38,7 @@ import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.util.Assert;
 
 import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.FactoryExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 
@@ -117,6 +118,27 @@ public class ReactiveQuerydslMongoPredicateExecutor<T> extends QuerydslPredicate
 		return applySorting(createQueryFor(predicate), sort).fetch();
 	}
 
+	/**
+	 * Returns all entities matching the given {@link Predicate} applying the given {@link FactoryExpression projection},
+	 * e.g. a {@link com.querydsl.core.types.Projections#bean(Class, com.querydsl.core.types.Expression[]) bean
+	 * projection}, and the given {@link OrderSpecifier}s. Only the fields referenced by the projection are selected
+	 * server-side.
+	 *
+	 * @param predicate must not be {@literal null}.
+	 * @param projection must not be {@literal null}.
+	 * @param orders must not be {@literal null}.
+	 * @return {@link Flux} emitting the projected results or {@link Flux#empty()} if there are none.
+	 * @since 4.0
+	 */
+	public <R> Flux<R> findAll(Predicate predicate, FactoryExpression<R> projection, OrderSpecifier<?>... orders) {
+
+		Assert.notNull(predicate, "Predicate must not be null");
+		Assert.notNull(projection, "Projection must not be null");
+		Assert.notNull(orders, "Order specifiers must not be null");
+
+		return createQueryFor(predicate).orderBy(orders).fetch(projection);
+	}
+
 	@Override
 	public Flux<T> findAll(OrderSpecifier<?>... orders) {
 
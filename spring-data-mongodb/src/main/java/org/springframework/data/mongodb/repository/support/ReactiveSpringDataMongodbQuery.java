@@ -42,6 +42,7 @@ import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.QueryModifiers;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.FactoryExpression;
 import com.querydsl.core.types.Operation;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Path;
@@ -63,6 +64,7 @@ class ReactiveSpringDataMongodbQuery<K> extends SpringDataMongodbQuerySupport<Re
 
 	private final ReactiveMongoOperations mongoOperations;
 	private final Consumer<BasicQuery> queryCustomizer;
+	private final ReactiveFindOperation.FindWithProjection<?> findWithProjection;
 	private final ReactiveFindOperation.FindWithQuery<K> find;
 
 	ReactiveSpringDataMongodbQuery(ReactiveMongoOperations mongoOperations, Class<? extends K> entityClass) {
@@ -77,8 +79,10 @@ class ReactiveSpringDataMongodbQuery<K> extends SpringDataMongodbQuerySupport<Re
 
 		this.mongoOperations = mongoOperations;
 		this.queryCustomizer = queryCustomizer;
-		this.find = (StringUtils.hasText(collection) ? mongoOperations.query(domainType).inCollection(collection)
-				: mongoOperations.query(domainType)).as((Class<K>) resultType);
+		this.findWithProjection = StringUtils.hasText(collection)
+				? mongoOperations.query(domainType).inCollection(collection)
+				: mongoOperations.query(domainType);
+		this.find = findWithProjection.as((Class<K>) resultType);
 	}
 
 	/**
@@ -90,6 +94,21 @@ class ReactiveSpringDataMongodbQuery<K> extends SpringDataMongodbQuerySupport<Re
 		return createQuery().flatMapMany(it -> find.matching(it).all());
 	}
 
+	/**
+	 * Fetch all matching query results applying the given {@link FactoryExpression projection}. The projection fields
+	 * are selected server-side and results are read into the {@link FactoryExpression#getType() projection type}.
+	 *
+	 * @param projection must not be {@literal null}.
+	 * @return {@link Flux} emitting all projected query results or {@link Flux#empty()} if there are none.
+	 * @since 4.0
+	 */
+	@SuppressWarnings("unchecked")
+	<R> Flux<R> fetch(FactoryExpression<R> projection) {
+
+		ReactiveFindOperation.FindWithQuery<R> projectingFind = findWithProjection.as((Class<R>) projection.getType());
+		return createQuery(projection).flatMapMany(it -> projectingFind.matching(it).all());
+	}
+
 	/**
 	 * Fetch all matching query results as page.
 	 *
@@ -133,11 +152,20 @@ class ReactiveSpringDataMongodbQuery<K> extends SpringDataMongodbQuerySupport<Re
 	}
 
 	protected Mono<Query> createQuery() {
+		return createQuery(getQueryMixin().getMetadata().getProjection());
+	}
+
+	private Mono<Query> createQuery(@Nullable Expression<?> projection) {
 
 		QueryMetadata metadata = getQueryMixin().getMetadata();
+		Predicate keysetFilter = createKeysetFilter(metadata);
+		Mono<Predicate> filter = createReactiveFilter(metadata);
+
+		if (keysetFilter != null) {
+			filter = filter.map(it -> ExpressionUtils.allOf(it, keysetFilter)).defaultIfEmpty(keysetFilter);
+		}
 
-		return createQuery(createReactiveFilter(metadata), metadata.getProjection(), metadata.getModifiers(),
-				metadata.getOrderBy());
+		return createQuery(filter, projection, metadata.getModifiers(), metadata.getOrderBy());
 	}
 
 	/**
@@ -172,6 +200,7 @@ class ReactiveSpringDataMongodbQuery<K> extends SpringDataMongodbQuerySupport<Re
 						basicQuery.setSortObject(createSort(orderBy));
 					}
 
+					applyQueryOptions(basicQuery);
 					queryCustomizer.accept(basicQuery);
 
 					return basicQuery;
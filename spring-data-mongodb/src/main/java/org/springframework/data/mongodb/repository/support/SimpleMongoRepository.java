@@ -108,7 +108,36 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 			return new ArrayList<>(mongoOperations.insert(result, entityInformation.getCollectionName()));
 		}
 
-		return source.stream().map(this::save).collect(Collectors.toList());
+		if (!mongoOperations.requiresShardKeyLookup(entityInformation.getJavaType())) {
+			return source.stream().map(this::save).collect(Collectors.toList());
+		}
+
+		List<S> result = new ArrayList<>(source.toList());
+		List<S> toSave = new ArrayList<>(result.size());
+		List<Integer> positions = new ArrayList<>(result.size());
+
+		for (int i = 0; i < result.size(); i++) {
+
+			S entity = result.get(i);
+
+			if (entityInformation.isNew(entity)) {
+				result.set(i, mongoOperations.insert(entity, entityInformation.getCollectionName()));
+			} else {
+				toSave.add(entity);
+				positions.add(i);
+			}
+		}
+
+		List<S> saved = mongoOperations.saveAll(toSave, entityInformation.getCollectionName());
+
+		Assert.state(saved.size() == toSave.size(),
+				() -> String.format("Expected %d saved entities but got %d", toSave.size(), saved.size()));
+
+		for (int i = 0; i < positions.size(); i++) {
+			result.set(positions.get(i), saved.get(i));
+		}
+
+		return result;
 	}
 
 	@Override
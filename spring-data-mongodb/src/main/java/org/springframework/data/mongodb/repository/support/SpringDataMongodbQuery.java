@@ -40,6 +40,8 @@ import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.QueryModifiers;
 import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.FactoryExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 
@@ -56,6 +58,7 @@ public class SpringDataMongodbQuery<T> extends SpringDataMongodbQuerySupport<Spr
 
 	private final MongoOperations mongoOperations;
 	private final Consumer<BasicQuery> queryCustomizer;
+	private final ExecutableFindOperation.FindWithProjection<?> findWithProjection;
 	private final ExecutableFindOperation.FindWithQuery<T> find;
 
 	/**
@@ -96,7 +99,8 @@ public class SpringDataMongodbQuery<T> extends SpringDataMongodbQuerySupport<Spr
 		Class<T> resultType1 = (Class<T>) resultType;
 		this.mongoOperations = operations;
 		this.queryCustomizer = queryCustomizer;
-		this.find = mongoOperations.query(domainType).inCollection(collectionName).as(resultType1);
+		this.findWithProjection = mongoOperations.query(domainType).inCollection(collectionName);
+		this.find = findWithProjection.as(resultType1);
 	}
 
 	@Override
@@ -143,6 +147,25 @@ public class SpringDataMongodbQuery<T> extends SpringDataMongodbQuerySupport<Spr
 		}
 	}
 
+	/**
+	 * Stream the query results applying the given {@link FactoryExpression projection}. The projection fields are
+	 * selected server-side and results are read into the {@link FactoryExpression#getType() projection type}, so the
+	 * projection arguments are expected to be paths matching the properties of the projection type, like
+	 * {@code Projections.bean(PersonSummary.class, person.firstname, person.lastname)}.
+	 *
+	 * @param projection must not be {@literal null}.
+	 * @return the result {@link Stream}, that needs to be closed.
+	 * @since 4.0
+	 */
+	public <R> Stream<R> stream(FactoryExpression<R> projection) {
+
+		try {
+			return findProjecting(projection).stream();
+		} catch (RuntimeException e) {
+			return handleException(e, Stream.empty());
+		}
+	}
+
 	@Override
 	public List<T> fetch() {
 		try {
@@ -152,6 +175,23 @@ public class SpringDataMongodbQuery<T> extends SpringDataMongodbQuerySupport<Spr
 		}
 	}
 
+	/**
+	 * Fetch the query results applying the given {@link FactoryExpression projection}.
+	 *
+	 * @param projection must not be {@literal null}.
+	 * @return the projected results.
+	 * @since 4.0
+	 * @see #stream(FactoryExpression)
+	 */
+	public <R> List<R> fetch(FactoryExpression<R> projection) {
+
+		try {
+			return findProjecting(projection).all();
+		} catch (RuntimeException e) {
+			return handleException(e, Collections.emptyList());
+		}
+	}
+
 	/**
 	 * Fetch a {@link Page}.
 	 *
@@ -191,9 +231,18 @@ public class SpringDataMongodbQuery<T> extends SpringDataMongodbQuerySupport<Spr
 	@Override
 	public QueryResults<T> fetchResults() {
 
-		long total = fetchCount();
-		return total > 0L ? new QueryResults<>(fetch(), getQueryMixin().getMetadata().getModifiers(), total)
-				: QueryResults.emptyResults();
+		QueryModifiers modifiers = getQueryMixin().getMetadata().getModifiers();
+		List<T> content = fetch();
+
+		long offset = modifiers.getOffset() != null ? modifiers.getOffset() : 0L;
+		Long limit = modifiers.getLimit();
+
+		// the total is known without counting if the last chunk of results has been read
+		long total = (!content.isEmpty() || offset == 0L) && (limit == null || content.size() < limit)
+				? offset + content.size()
+				: fetchCount();
+
+		return total > 0L ? new QueryResults<>(content, modifiers, total) : QueryResults.emptyResults();
 	}
 
 	@Override
@@ -206,11 +255,20 @@ public class SpringDataMongodbQuery<T> extends SpringDataMongodbQuerySupport<Spr
 	}
 
 	protected org.springframework.data.mongodb.core.query.Query createQuery() {
+		return createQuery(getQueryMixin().getMetadata().getProjection());
+	}
+
+	private org.springframework.data.mongodb.core.query.Query createQuery(@Nullable Expression<?> projection) {
 
 		QueryMetadata metadata = getQueryMixin().getMetadata();
+		Predicate filter = ExpressionUtils.allOf(createFilter(metadata), createKeysetFilter(metadata));
+
+		return createQuery(filter, projection, metadata.getModifiers(), metadata.getOrderBy());
+	}
 
-		return createQuery(createFilter(metadata), metadata.getProjection(), metadata.getModifiers(),
-				metadata.getOrderBy());
+	@SuppressWarnings("unchecked")
+	private <R> ExecutableFindOperation.TerminatingFind<R> findProjecting(FactoryExpression<R> projection) {
+		return findWithProjection.as((Class<R>) projection.getType()).matching(createQuery(projection));
 	}
 
 	protected org.springframework.data.mongodb.core.query.Query createQuery(@Nullable Predicate filter,
@@ -232,6 +290,7 @@ public class SpringDataMongodbQuery<T> extends SpringDataMongodbQuerySupport<Spr
 			basicQuery.setSortObject(createSort(orderBy));
 		}
 
+		applyQueryOptions(basicQuery);
 		queryCustomizer.accept(basicQuery);
 
 		return basicQuery;
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.mongodb.repository.support;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.bson.Document;
@@ -23,10 +25,19 @@ import org.bson.json.JsonMode;
 import org.bson.json.JsonWriterSettings;
 
 import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 import com.mongodb.MongoClientSettings;
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.support.QueryMixin;
+import com.querydsl.core.types.ConstantImpl;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.mongodb.document.AbstractMongodbQuery;
 import com.querydsl.mongodb.document.MongodbDocumentSerializer;
 
@@ -47,6 +58,9 @@ abstract class SpringDataMongodbQuerySupport<Q extends SpringDataMongodbQuerySup
 
 	private final MongodbDocumentSerializer serializer;
 
+	private @Nullable Integer batchSize;
+	private @Nullable Object[] keyset;
+
 	@SuppressWarnings("unchecked")
 	SpringDataMongodbQuerySupport(MongodbDocumentSerializer serializer) {
 		super(serializer);
@@ -129,6 +143,99 @@ abstract class SpringDataMongodbQuerySupport<Q extends SpringDataMongodbQuerySup
 		return asDocument().toJson(settings);
 	}
 
+	/**
+	 * Set the number of documents to return per batch when iterating over the query results. Reading large results in
+	 * batches keeps the memory footprint of the cursor bounded.
+	 *
+	 * @param batchSize the number of documents to return per batch. Use {@literal 0} to apply the server default.
+	 * @return the query.
+	 * @since 4.0
+	 * @see Query#cursorBatchSize(int)
+	 */
+	public Q batchSize(int batchSize) {
+
+		Assert.isTrue(batchSize >= 0, "BatchSize must not be negative");
+
+		this.batchSize = batchSize;
+		return superQueryMixin.getSelf();
+	}
+
+	/**
+	 * Continue the query after the given keyset. The keyset consists of the values of the {@link OrderSpecifier order
+	 * specifiers} of the last result of a previous query, in the order defined via {@code orderBy(…)}. Keyset
+	 * continuation reads consecutive chunks of a large result without skipping over previously read documents.
+	 *
+	 * <pre class="code">
+	 * query.orderBy(person.lastname.asc(), person.id.asc()).limit(100).after(last.getLastname(), last.getId());
+	 * </pre>
+	 *
+	 * The order specifiers should identify documents uniquely, e.g. by including the identifier.
+	 *
+	 * @param keyset the values of the last result. Must not be {@literal null} or contain {@literal null} values.
+	 * @return the query.
+	 * @since 4.0
+	 */
+	public Q after(Object... keyset) {
+
+		Assert.notEmpty(keyset, "Keyset must not be null or empty");
+		Assert.noNullElements(keyset, "Keyset must not contain null values");
+
+		this.keyset = keyset;
+		return superQueryMixin.getSelf();
+	}
+
+	/**
+	 * Apply query options such as the cursor batch size to the given {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @since 4.0
+	 */
+	protected void applyQueryOptions(Query query) {
+
+		if (batchSize != null) {
+			query.cursorBatchSize(batchSize);
+		}
+	}
+
+	/**
+	 * Compute the filter continuing the query after the keyset given via {@link #after(Object...)}.
+	 *
+	 * @param metadata must not be {@literal null}.
+	 * @return the keyset filter or {@literal null} if no keyset has been set.
+	 * @since 4.0
+	 */
+	@Nullable
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected Predicate createKeysetFilter(QueryMetadata metadata) {
+
+		if (keyset == null) {
+			return null;
+		}
+
+		List<OrderSpecifier<?>> orderBy = metadata.getOrderBy();
+		Assert.state(orderBy.size() == keyset.length, () -> String.format(
+				"Keyset %s does not match the order specifiers %s", Arrays.toString(keyset), orderBy));
+
+		// (o1 > k1) or (o1 = k1 and o2 > k2) or …
+		List<Predicate> alternatives = new ArrayList<>(orderBy.size());
+		for (int i = 0; i < orderBy.size(); i++) {
+
+			List<Predicate> conditions = new ArrayList<>(i + 1);
+			for (int j = 0; j < i; j++) {
+				conditions
+						.add(ExpressionUtils.eq((Expression) orderBy.get(j).getTarget(), ConstantImpl.create(keyset[j])));
+			}
+
+			OrderSpecifier<?> order = orderBy.get(i);
+			conditions.add(ExpressionUtils.predicate(order.isAscending() ? Ops.GT : Ops.LT, order.getTarget(),
+					ConstantImpl.create(keyset[i])));
+
+			alternatives.add(ExpressionUtils.allOf(conditions));
+		}
+
+		return ExpressionUtils.anyOf(alternatives);
+	}
+
 	/**
 	 * Compute the sort {@link Document} from the given list of {@link OrderSpecifier order specifiers}.
 	 *
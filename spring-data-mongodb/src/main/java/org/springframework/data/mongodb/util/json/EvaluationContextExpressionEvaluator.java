@@ -27,6 +27,8 @@ import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * @author Christoph Strobl
@@ -34,6 +36,16 @@ import org.springframework.lang.Nullable;
  */
 class EvaluationContextExpressionEvaluator implements SpELExpressionEvaluator {
 
+	private static final SpelExpressionParser DEFAULT_PARSER = new SpelExpressionParser();
+
+	/**
+	 * Parsed expressions per {@link ExpressionParser}. Reusing {@link SpelExpression} instances avoids parsing the same
+	 * expression text on each evaluation and allows SpEL to compile expressions according to the
+	 * {@link org.springframework.expression.spel.SpelCompilerMode} of the parser.
+	 */
+	private static final Map<ExpressionParser, ConcurrentLruCache<String, SpelExpression>> PARSED_EXPRESSIONS =
+			new ConcurrentReferenceHashMap<>();
+
 	ValueProvider valueProvider;
 	ExpressionParser expressionParser;
 	Supplier<EvaluationContext> evaluationContext;
@@ -57,8 +69,12 @@ class EvaluationContextExpressionEvaluator implements SpELExpressionEvaluator {
 	}
 
 	public SpelExpression getParsedExpression(String expressionString) {
-		return (SpelExpression) (expressionParser != null ? expressionParser : new SpelExpressionParser())
-				.parseExpression(expressionString);
+
+		ExpressionParser parser = expressionParser != null ? expressionParser : DEFAULT_PARSER;
+
+		return PARSED_EXPRESSIONS
+				.computeIfAbsent(parser, key -> new ConcurrentLruCache<>(256, it -> (SpelExpression) key.parseExpression(it)))
+				.get(expressionString);
 	}
 
 	public <T> T evaluateExpression(String expressionString, Map<String, Object> variables) {
@@ -46,6 +46,7 @@ import org.springframework.data.spel.ExpressionDependencies;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.NumberUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -71,6 +72,12 @@ public class ParameterBindingDocumentCodec implements CollectibleCodec<Document>
 			asList(new ValueCodecProvider(), new BsonValueCodecProvider(), new DocumentCodecProvider()));
 	private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new BsonTypeClassMap();
 
+	/**
+	 * {@link ExpressionDependencies} only depend on the JSON source and the parser and are captured once per source.
+	 */
+	private static final Map<ExpressionParser, Map<String, ExpressionDependencies>> CAPTURED_DEPENDENCIES =
+			new ConcurrentReferenceHashMap<>();
+
 	private final BsonTypeCodecMap bsonTypeCodecMap;
 	private final CodecRegistry registry;
 	private final IdGenerator idGenerator;
@@ -198,12 +205,23 @@ public class ParameterBindingDocumentCodec implements CollectibleCodec<Document>
 			return ExpressionDependencies.none();
 		}
 
-		DependencyCapturingExpressionEvaluator expressionEvaluator = new DependencyCapturingExpressionEvaluator(
-				expressionParser);
-		this.decode(new ParameterBindingJsonReader(json, new ParameterBindingContext(valueProvider, expressionEvaluator)),
-				DecoderContext.builder().build());
+		Map<String, ExpressionDependencies> dependencies = CAPTURED_DEPENDENCIES.computeIfAbsent(expressionParser,
+				key -> new ConcurrentReferenceHashMap<>());
+
+		ExpressionDependencies captured = dependencies.get(json);
+
+		if (captured == null) {
+
+			DependencyCapturingExpressionEvaluator expressionEvaluator = new DependencyCapturingExpressionEvaluator(
+					expressionParser);
+			this.decode(new ParameterBindingJsonReader(json, new ParameterBindingContext(valueProvider, expressionEvaluator)),
+					DecoderContext.builder().build());
+
+			captured = expressionEvaluator.getCapturedDependencies();
+			dependencies.put(json, captured);
+		}
 
-		return expressionEvaluator.getCapturedDependencies();
+		return captured;
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -45,6 +45,7 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Base64Utils;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.NumberUtils;
 import org.springframework.util.ObjectUtils;
 
@@ -70,6 +71,9 @@ public class ParameterBindingJsonReader extends AbstractBsonReader {
 	private static final Pattern EXPRESSION_BINDING_PATTERN = Pattern.compile("[\\?:]#\\{.*\\}");
 	private static final Pattern SPEL_PARAMETER_BINDING_PATTERN = Pattern.compile("('\\?(\\d+)'|\\?(\\d+))");
 
+	private static final ConcurrentLruCache<String, ExpressionBinding> EXPRESSION_BINDINGS = new ConcurrentLruCache<>(
+			256, ExpressionBinding::parse);
+
 	private final ParameterBindingContext bindingContext;
 
 	private final JsonScanner scanner;
@@ -375,26 +379,10 @@ public class ParameterBindingJsonReader extends AbstractBsonReader {
 			if (regexMatcher.find()) {
 
 				String binding = regexMatcher.group();
-				String expression = binding.substring(3, binding.length() - 1);
-
-				Matcher inSpelMatcher = SPEL_PARAMETER_BINDING_PATTERN.matcher(expression); // ?0 '?0'
-				Map<String, Object> innerSpelVariables = new HashMap<>();
-
-				while (inSpelMatcher.find()) {
-
-					String group = inSpelMatcher.group();
-					int index = computeParameterIndex(group);
-					Object value = getBindableValueForIndex(index);
-					String varName = "__QVar" + innerSpelVariables.size();
-					expression = expression.replace(group, "#" + varName);
-					if(group.startsWith("'")) { // retain the string semantic
-						innerSpelVariables.put(varName, nullSafeToString(value));
-					} else {
-						innerSpelVariables.put(varName, value);
-					}
-				}
+				ExpressionBinding expressionBinding = EXPRESSION_BINDINGS.get(binding.substring(3, binding.length() - 1));
 
-				Object value = evaluateExpression(expression, innerSpelVariables);
+				Object value = evaluateExpression(expressionBinding.getExpression(),
+						expressionBinding.bindVariables(bindingContext));
 				bindableValue.setValue(value);
 				bindableValue.setType(bsonTypeForValue(value));
 				return bindableValue;
@@ -421,26 +409,10 @@ public class ParameterBindingJsonReader extends AbstractBsonReader {
 		while (regexMatcher.find()) {
 
 			String binding = regexMatcher.group();
-			String expression = binding.substring(3, binding.length() - 1);
+			ExpressionBinding expressionBinding = EXPRESSION_BINDINGS.get(binding.substring(3, binding.length() - 1));
 
-			Matcher inSpelMatcher = SPEL_PARAMETER_BINDING_PATTERN.matcher(expression);
-			Map<String, Object> innerSpelVariables = new HashMap<>();
-
-			while (inSpelMatcher.find()) {
-
-				String group = inSpelMatcher.group();
-				int index = computeParameterIndex(group);
-				Object value = getBindableValueForIndex(index);
-				String varName = "__QVar" + innerSpelVariables.size();
-				expression = expression.replace(group, "#" + varName);
-				if(group.startsWith("'")) { // retain the string semantic
-					innerSpelVariables.put(varName, nullSafeToString(value));
-				} else {
-					innerSpelVariables.put(varName, value);
-				}
-			}
-
-			computedValue = computedValue.replace(binding, nullSafeToString(evaluateExpression(expression, innerSpelVariables)));
+			computedValue = computedValue.replace(binding, nullSafeToString(
+					evaluateExpression(expressionBinding.getExpression(), expressionBinding.bindVariables(bindingContext))));
 
 			bindableValue.setValue(computedValue);
 			bindableValue.setType(BsonType.STRING);
@@ -1623,6 +1595,78 @@ public class ParameterBindingJsonReader extends AbstractBsonReader {
 		return (Context) super.getContext();
 	}
 
+	/**
+	 * A SpEL expression taken from a {@code ?#{…}} or {@code :#{…}} binding with its inner parameter placeholders
+	 * ({@code ?0}, {@code '?0'}) replaced by variables. Parsed once per expression text and reused across readers.
+	 *
+	 * @since 4.0
+	 */
+	static class ExpressionBinding {
+
+		private final String expression;
+		private final String[] variableNames;
+		private final int[] parameterIndexes;
+		private final boolean[] quoted;
+
+		private ExpressionBinding(String expression, String[] variableNames, int[] parameterIndexes, boolean[] quoted) {
+
+			this.expression = expression;
+			this.variableNames = variableNames;
+			this.parameterIndexes = parameterIndexes;
+			this.quoted = quoted;
+		}
+
+		static ExpressionBinding parse(String source) {
+
+			String expression = source;
+			Matcher inSpelMatcher = SPEL_PARAMETER_BINDING_PATTERN.matcher(source); // ?0 '?0'
+
+			List<String> variableNames = new ArrayList<>();
+			List<Integer> parameterIndexes = new ArrayList<>();
+			List<Boolean> quoted = new ArrayList<>();
+
+			while (inSpelMatcher.find()) {
+
+				String group = inSpelMatcher.group();
+				String varName = "__QVar" + variableNames.size();
+				expression = expression.replace(group, "#" + varName);
+
+				variableNames.add(varName);
+				parameterIndexes.add(computeParameterIndex(group));
+				quoted.add(group.startsWith("'")); // retain the string semantic
+			}
+
+			boolean[] quotedArray = new boolean[quoted.size()];
+			for (int i = 0; i < quotedArray.length; i++) {
+				quotedArray[i] = quoted.get(i);
+			}
+
+			return new ExpressionBinding(expression, variableNames.toArray(new String[0]),
+					parameterIndexes.stream().mapToInt(Integer::intValue).toArray(), quotedArray);
+		}
+
+		String getExpression() {
+			return expression;
+		}
+
+		Map<String, Object> bindVariables(ParameterBindingContext bindingContext) {
+
+			if (variableNames.length == 0) {
+				return Collections.emptyMap();
+			}
+
+			Map<String, Object> variables = new HashMap<>(variableNames.length * 2);
+
+			for (int i = 0; i < variableNames.length; i++) {
+
+				Object value = bindingContext.bindableValueForIndex(parameterIndexes[i]);
+				variables.put(variableNames[i], quoted[i] ? nullSafeToString(value) : value);
+			}
+
+			return variables;
+		}
+	}
+
 	protected class Mark extends AbstractBsonReader.Mark {
 		private final JsonToken pushedToken;
 		private final Object currentValue;
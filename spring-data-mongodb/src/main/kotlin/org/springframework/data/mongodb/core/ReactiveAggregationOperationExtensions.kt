@@ -35,3 +35,22 @@ inline fun <reified T : Any> ReactiveAggregationOperation.aggregateAndReturn():
  */
 fun <T : Any> ReactiveAggregationOperation.TerminatingAggregationOperation<T>.flow(): Flow<T> =
 		all().asFlow()
+
+/**
+ * Coroutines [Flow] variant of [ReactiveAggregationOperation.TerminatingAggregationOperation.all] requesting
+ * [batchSize] results at a time. Unless the aggregation options define a cursor batch size, the driver fetches cursor
+ * batches matching the demand of the collector.
+ *
+ * @since 4.0
+ */
+fun <T : Any> ReactiveAggregationOperation.TerminatingAggregationOperation<T>.flow(batchSize: Int): Flow<T> =
+		all().asBatchedFlow(batchSize)
+
+/**
+ * Coroutines [Flow] variant of [ReactiveAggregationOperation.TerminatingAggregationOperation.all] emitting chunks of
+ * at most [chunkSize] results.
+ *
+ * @since 4.0
+ */
+fun <T : Any> ReactiveAggregationOperation.TerminatingAggregationOperation<T>.chunkedFlow(chunkSize: Int): Flow<List<T>> =
+		all().asChunkedFlow(chunkSize)
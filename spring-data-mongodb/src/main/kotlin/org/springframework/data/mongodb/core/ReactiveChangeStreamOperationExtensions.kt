@@ -16,6 +16,8 @@
 package org.springframework.data.mongodb.core
 
 import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.onEach
 import kotlinx.coroutines.reactive.asFlow
 
 /**
@@ -46,3 +48,22 @@ inline fun <reified T : Any> ReactiveChangeStreamOperation.ChangeStreamWithFilte
 fun <T : Any> ReactiveChangeStreamOperation.TerminatingChangeStream<T>.flow(): Flow<ChangeStreamEvent<T>> =
 		listen().asFlow()
 
+/**
+ * Coroutines [Flow] variant of [ReactiveChangeStreamOperation.TerminatingChangeStream.listen] requesting [batchSize]
+ * events at a time.
+ *
+ * @since 4.0
+ */
+fun <T : Any> ReactiveChangeStreamOperation.TerminatingChangeStream<T>.flow(batchSize: Int): Flow<ChangeStreamEvent<T>> =
+		listen().asBatchedFlow(batchSize)
+
+/**
+ * Coroutines variant of [ReactiveChangeStreamOperation.TerminatingChangeStream.listen] invoking the suspending
+ * [listener] for each [ChangeStreamEvent]. Events are requested one at a time so that a slow listener applies
+ * backpressure to the change stream. Suspends until the change stream completes or the calling coroutine gets
+ * cancelled, which closes the change stream.
+ *
+ * @since 4.0
+ */
+suspend fun <T : Any> ReactiveChangeStreamOperation.TerminatingChangeStream<T>.listen(listener: suspend (ChangeStreamEvent<T>) -> Unit) =
+		listen().asBatchedFlow(1).onEach { listener(it) }.collect()
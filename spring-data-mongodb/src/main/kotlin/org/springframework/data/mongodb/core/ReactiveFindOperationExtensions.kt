@@ -131,6 +131,24 @@ suspend fun <T : Any> ReactiveFindOperation.TerminatingFind<T>.awaitExists(): Bo
 fun <T : Any> ReactiveFindOperation.TerminatingFind<T>.flow(): Flow<T> =
 		all().asFlow()
 
+/**
+ * Coroutines [Flow] variant of [ReactiveFindOperation.TerminatingFind.all] requesting [batchSize] documents at a time.
+ * Unless the query defines a cursor batch size, the driver fetches cursor batches matching the demand of the collector.
+ *
+ * @since 4.0
+ */
+fun <T : Any> ReactiveFindOperation.TerminatingFind<T>.flow(batchSize: Int): Flow<T> =
+		all().asBatchedFlow(batchSize)
+
+/**
+ * Coroutines [Flow] variant of [ReactiveFindOperation.TerminatingFind.all] emitting chunks of at most [chunkSize]
+ * documents. The next chunk is requested once the collector is ready to process it.
+ *
+ * @since 4.0
+ */
+fun <T : Any> ReactiveFindOperation.TerminatingFind<T>.chunkedFlow(chunkSize: Int): Flow<List<T>> =
+		all().asChunkedFlow(chunkSize)
+
 /**
  * Coroutines [Flow] variant of [ReactiveFindOperation.TerminatingFind.tail].
  *
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core
+
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.reactive.asFlow
+import reactor.core.publisher.Flux
+
+/**
+ * Convert the [Flux] into a [Flow] requesting [batchSize] elements at a time. The driver sizes cursor batches by the
+ * requested demand unless the query defines a cursor batch size.
+ *
+ * @since 4.0
+ */
+internal fun <T : Any> Flux<T>.asBatchedFlow(batchSize: Int): Flow<T> {
+
+	require(batchSize > 0) { "Batch size must be greater than zero" }
+	return asFlow().buffer(batchSize)
+}
+
+/**
+ * Convert the [Flux] into a [Flow] of chunks with at most [chunkSize] elements requesting one chunk at a time.
+ *
+ * @since 4.0
+ */
+internal fun <T : Any> Flux<T>.asChunkedFlow(chunkSize: Int): Flow<List<T>> {
+
+	require(chunkSize > 0) { "Chunk size must be greater than zero" }
+	return buffer(chunkSize).asFlow().buffer(1)
+}
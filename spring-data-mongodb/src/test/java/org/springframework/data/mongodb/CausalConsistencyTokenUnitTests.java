@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.session.ClientSession;
+
+/**
+ * Unit tests for {@link CausalConsistencyToken}.
+ */
+class CausalConsistencyTokenUnitTests {
+
+	@Test
+	void serializesAndParsesToken() {
+
+		CausalConsistencyToken token = CausalConsistencyToken.of(new BsonTimestamp(10, 1), clusterTime(10, 2));
+
+		CausalConsistencyToken parsed = CausalConsistencyToken.parse(token.serialize());
+
+		assertThat(parsed).isEqualTo(token);
+		assertThat(parsed.getOperationTime()).isEqualTo(new BsonTimestamp(10, 1));
+	}
+
+	@Test
+	void parsesEmptyTokenAsNone() {
+
+		assertThat(CausalConsistencyToken.parse(null)).isSameAs(CausalConsistencyToken.none());
+		assertThat(CausalConsistencyToken.parse("")).isSameAs(CausalConsistencyToken.none());
+		assertThat(CausalConsistencyToken.none().serialize()).isEmpty();
+	}
+
+	@Test
+	void rejectsInvalidToken() {
+		assertThatIllegalArgumentException().isThrownBy(() -> CausalConsistencyToken.parse("not-a-token"));
+	}
+
+	@Test
+	void capturesAndAppliesSessionState() {
+
+		ClientSession source = mock(ClientSession.class);
+		when(source.getOperationTime()).thenReturn(new BsonTimestamp(10, 1));
+		when(source.getClusterTime()).thenReturn(clusterTime(10, 2));
+
+		ClientSession target = mock(ClientSession.class);
+		CausalConsistencyToken.of(source).applyTo(target);
+
+		verify(target).advanceClusterTime(clusterTime(10, 2));
+		verify(target).advanceOperationTime(new BsonTimestamp(10, 1));
+	}
+
+	@Test
+	void emptyTokenDoesNotAdvanceSession() {
+
+		ClientSession target = mock(ClientSession.class);
+		CausalConsistencyToken.none().applyTo(target);
+
+		verifyNoInteractions(target);
+	}
+
+	@Test
+	void combinesLatestState() {
+
+		CausalConsistencyToken older = CausalConsistencyToken.of(new BsonTimestamp(10, 1), clusterTime(20, 1));
+		CausalConsistencyToken newer = CausalConsistencyToken.of(new BsonTimestamp(15, 1), clusterTime(15, 1));
+
+		CausalConsistencyToken latest = older.latest(newer);
+
+		assertThat(latest.getOperationTime()).isEqualTo(new BsonTimestamp(15, 1));
+		assertThat(latest.getClusterTime()).isEqualTo(clusterTime(20, 1));
+		assertThat(newer.latest(CausalConsistencyToken.none())).isSameAs(newer);
+	}
+
+	private static BsonDocument clusterTime(int seconds, int increment) {
+
+		return new BsonDocument("clusterTime", new BsonTimestamp(seconds, increment)).append("signature",
+				new BsonDocument("hash", new BsonBinary(new byte[] { 1, 2, 3 })));
+	}
+}
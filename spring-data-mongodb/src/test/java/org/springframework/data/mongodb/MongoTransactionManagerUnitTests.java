@@ -18,6 +18,11 @@ package org.springframework.data.mongodb;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,16 +30,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.mongodb.MongoTransactionRetryPolicy.RetryListener;
+import org.springframework.data.mongodb.MongoTransactionRetryPolicy.RetryReason;
 import org.springframework.data.mongodb.core.MongoExceptionTranslator;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
 import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.CallbackPreferringPlatformTransactionManager;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import com.mongodb.MongoException;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.session.ServerSession;
@@ -333,4 +343,137 @@ class MongoTransactionManagerUnitTests {
 		verify(session).abortTransaction();
 		verify(session).close();
 	}
+
+	@Test
+	void retriesCommitWithUnknownResultWhenRetryPolicyConfigured() {
+
+		List<RetryReason> retries = new ArrayList<>();
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+		txManager.setRetryPolicy(MongoTransactionRetryPolicy.maxAttempts(3).backoff(Duration.ZERO, Duration.ZERO)
+				.listener(new RetryListener() {
+
+					@Override
+					public void onRetry(RetryReason reason, int attempt, Duration backoff, MongoException cause) {
+						retries.add(reason);
+					}
+				}));
+
+		doThrow(labeledException(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL)).doNothing().when(session)
+				.commitTransaction();
+
+		TransactionStatus txStatus = txManager.getTransaction(new DefaultTransactionDefinition());
+		txManager.commit(txStatus);
+
+		verify(session, times(2)).commitTransaction();
+		verify(session).close();
+		assertThat(retries).containsExactly(RetryReason.UNKNOWN_TRANSACTION_COMMIT_RESULT);
+	}
+
+	@Test
+	void doesNotRetryCommitWithoutRetryPolicy() {
+
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+
+		doThrow(labeledException(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL)).when(session)
+				.commitTransaction();
+
+		TransactionStatus txStatus = txManager.getTransaction(new DefaultTransactionDefinition());
+
+		assertThatExceptionOfType(TransactionSystemException.class).isThrownBy(() -> txManager.commit(txStatus));
+		verify(session).commitTransaction();
+	}
+
+	@Test
+	void retriesWholeTransactionOnTransientTransactionError() {
+
+		List<Integer> retries = new ArrayList<>();
+		RetryingMongoTransactionManager txManager = new RetryingMongoTransactionManager(dbFactory,
+				MongoTransactionRetryPolicy.maxAttempts(3).backoff(Duration.ZERO, Duration.ZERO)
+				.listener(new RetryListener() {
+
+					@Override
+					public void onRetry(RetryReason reason, int attempt, Duration backoff, MongoException cause) {
+						retries.add(attempt);
+					}
+				}));
+
+		AtomicInteger invocations = new AtomicInteger();
+
+		String result = new TransactionTemplate(txManager).execute(status -> {
+
+			if (invocations.incrementAndGet() == 1) {
+				throw labeledException(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+			}
+			return "done";
+		});
+
+		assertThat(result).isEqualTo("done");
+		assertThat(invocations).hasValue(2);
+		assertThat(retries).containsExactly(1);
+
+		verify(session).abortTransaction();
+		verify(session).close();
+		verify(session2).commitTransaction();
+		verify(session2).close();
+	}
+
+	@Test
+	void notifiesListenerWhenTransactionRetriesAreExhausted() {
+
+		List<Integer> exhausted = new ArrayList<>();
+		RetryingMongoTransactionManager txManager = new RetryingMongoTransactionManager(dbFactory,
+				MongoTransactionRetryPolicy.maxAttempts(2).backoff(Duration.ZERO, Duration.ZERO)
+				.listener(new RetryListener() {
+
+					@Override
+					public void onRetriesExhausted(RetryReason reason, int attempts, MongoException cause) {
+						exhausted.add(attempts);
+					}
+				}));
+
+		AtomicInteger invocations = new AtomicInteger();
+
+		assertThatExceptionOfType(MongoException.class).isThrownBy(() -> new TransactionTemplate(txManager).execute(status -> {
+
+			invocations.incrementAndGet();
+			throw labeledException(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+		}));
+
+		assertThat(invocations).hasValue(2);
+		assertThat(exhausted).containsExactly(2);
+	}
+
+	@Test
+	void doesNotRetryTransactionWithoutRetryPolicy() {
+
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+		AtomicInteger invocations = new AtomicInteger();
+
+		assertThatExceptionOfType(MongoException.class).isThrownBy(() -> new TransactionTemplate(txManager).execute(status -> {
+
+			invocations.incrementAndGet();
+			throw labeledException(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+		}));
+
+		assertThat(invocations).hasValue(1);
+		verify(session).abortTransaction();
+	}
+
+	@Test
+	void doesNotPreferCallbacksWithoutRetryingTransactionManager() {
+
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+		txManager.setRetryPolicy(MongoTransactionRetryPolicy.maxAttempts(3));
+
+		assertThat(txManager).isNotInstanceOf(CallbackPreferringPlatformTransactionManager.class);
+		assertThat(new RetryingMongoTransactionManager(dbFactory, MongoTransactionRetryPolicy.maxAttempts(3)))
+				.isInstanceOf(CallbackPreferringPlatformTransactionManager.class);
+	}
+
+	private static MongoException labeledException(String label) {
+
+		MongoException exception = new MongoException("boom");
+		exception.addLabel(label);
+		return exception;
+	}
 }
@@ -20,6 +20,9 @@ import static org.mockito.Mockito.*;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +34,7 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import com.mongodb.MongoException;
 import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import com.mongodb.session.ServerSession;
@@ -249,4 +253,62 @@ class ReactiveMongoTransactionManagerUnitTests {
 		verify(session).commitTransaction();
 		verify(session).close();
 	}
+
+	@Test
+	void retriesCommitWithUnknownResultWhenRetryPolicyConfigured() {
+
+		ReactiveMongoTransactionManager txManager = new ReactiveMongoTransactionManager(databaseFactory);
+		txManager.setRetryPolicy(MongoTransactionRetryPolicy.maxAttempts(3).backoff(Duration.ZERO, Duration.ZERO));
+		ReactiveMongoTemplate template = new ReactiveMongoTemplate(databaseFactory);
+		when(session.commitTransaction()).thenReturn(
+				Mono.error(labeledException(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL)), Mono.empty());
+
+		TransactionalOperator operator = TransactionalOperator.create(txManager, new DefaultTransactionDefinition());
+
+		template.execute(db -> {
+			db.drop();
+			return Mono.empty();
+		}).as(operator::transactional) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		verify(session, times(2)).commitTransaction();
+		verify(session).close();
+	}
+
+	@Test
+	void retriesWholeTransactionOnTransientTransactionError() {
+
+		ReactiveMongoTransactionManager txManager = new ReactiveMongoTransactionManager(databaseFactory);
+		txManager.setRetryPolicy(MongoTransactionRetryPolicy.maxAttempts(3).backoff(Duration.ZERO, Duration.ZERO));
+		ReactiveMongoTemplate template = new ReactiveMongoTemplate(databaseFactory);
+
+		when(databaseFactory.withSession(session2)).thenReturn(databaseFactory);
+		when(session.abortTransaction()).thenReturn(Mono.empty());
+		when(session2.commitTransaction()).thenReturn(Mono.empty());
+
+		AtomicInteger invocations = new AtomicInteger();
+
+		txManager.execute(new DefaultTransactionDefinition(), status -> template.execute(db -> {
+			db.drop();
+			return Mono.just("done");
+		}).flatMap(it -> invocations.incrementAndGet() == 1
+				? Mono.error(labeledException(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL))
+				: Mono.just(it))) //
+				.as(StepVerifier::create) //
+				.expectNext("done") //
+				.verifyComplete();
+
+		verify(session).abortTransaction();
+		verify(session).close();
+		verify(session2).commitTransaction();
+		verify(session2).close();
+	}
+
+	private static MongoException labeledException(String label) {
+
+		MongoException exception = new MongoException("boom");
+		exception.addLabel(label);
+		return exception;
+	}
 }
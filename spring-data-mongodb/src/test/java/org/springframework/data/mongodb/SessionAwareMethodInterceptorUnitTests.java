@@ -104,6 +104,27 @@ public class SessionAwareMethodInterceptorUnitTests {
 		verify(targetCollection).getReadPreference();
 	}
 
+	@Test
+	public void passesArgumentsAndReturnValueOfMethodWithSession() {
+
+		Document filter = new Document("name", "luke");
+		when(targetCollection.countDocuments(eq(session), eq(filter))).thenReturn(42L);
+
+		assertThat(collection.countDocuments(filter)).isEqualTo(42L);
+		assertThat(collection.countDocuments(filter)).isEqualTo(42L);
+
+		verify(targetCollection, times(2)).countDocuments(eq(session), eq(filter));
+	}
+
+	@Test
+	public void propagatesExceptionOfMethodWithSession() {
+
+		IllegalStateException exception = new IllegalStateException("boom");
+		doThrow(exception).when(targetCollection).drop(eq(session));
+
+		assertThatIllegalStateException().isThrownBy(() -> collection.drop()).isSameAs(exception);
+	}
+
 	@Test // DATAMONGO-1880
 	public void usesCacheForMethodLookup() {
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AdaptiveBatchSize}.
+ */
+class AdaptiveBatchSizeUnitTests {
+
+	@Test
+	void usesDriverDefaultForUnboundedDemandWithoutSamples() {
+		assertThat(AdaptiveBatchSize.defaults().getBatchSize("coll")).isZero();
+	}
+
+	@Test
+	void followsDemandWithoutSamples() {
+
+		AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.defaults();
+
+		assertThat(adaptiveBatchSize.getBatchSize("coll", 50)).isEqualTo(50);
+		assertThat(adaptiveBatchSize.getBatchSize("coll", 1)).isEqualTo(2);
+	}
+
+	@Test
+	void boundsBatchSizeByObservedDocumentSize() {
+
+		AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.bounded(10_000);
+		adaptiveBatchSize.recordDocumentSize("coll", 100);
+
+		assertThat(adaptiveBatchSize.getBatchSize("coll")).isEqualTo(100);
+		assertThat(adaptiveBatchSize.getBatchSize("coll", 20)).isEqualTo(20);
+		assertThat(adaptiveBatchSize.getBatchSize("other")).isZero();
+	}
+
+	@Test
+	void appliesMinAndMaxBatchSize() {
+
+		AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.bounded(10_000).minBatchSize(10).maxBatchSize(50);
+
+		adaptiveBatchSize.recordDocumentSize("small", 1);
+		adaptiveBatchSize.recordDocumentSize("large", 5_000);
+
+		assertThat(adaptiveBatchSize.getBatchSize("small")).isEqualTo(50);
+		assertThat(adaptiveBatchSize.getBatchSize("large")).isEqualTo(10);
+	}
+
+	@Test
+	void samplesEveryNthDocument() {
+
+		AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.defaults().sampleRate(2);
+		Document document = new Document("_id", 1).append("name", "luke");
+
+		adaptiveBatchSize.recordDocument("coll", document);
+		double firstSample = adaptiveBatchSize.getAverageDocumentSize("coll").getAsDouble();
+
+		adaptiveBatchSize.recordDocument("coll", new Document("_id", 2).append("name", "a much longer name"));
+
+		assertThat(firstSample).isPositive();
+		assertThat(adaptiveBatchSize.getAverageDocumentSize("coll")).hasValue(firstSample);
+	}
+
+	@Test
+	void movesAverageTowardsNewSamples() {
+
+		AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.defaults();
+
+		adaptiveBatchSize.recordDocumentSize("coll", 100);
+		adaptiveBatchSize.recordDocumentSize("coll", 200);
+
+		assertThat(adaptiveBatchSize.getAverageDocumentSize("coll").getAsDouble()).isBetween(100D, 200D);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Mono;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeConvertCallback;
+
+/**
+ * Unit tests for {@link EntityCallbackPresence}.
+ */
+class EntityCallbackPresenceUnitTests {
+
+	@Test
+	void unknownPresenceReportsCallbacksForAllTypes() {
+		assertThat(EntityCallbackPresence.unknown().hasCallbacks(BeforeConvertCallback.class, Planet.class)).isTrue();
+	}
+
+	@Test
+	void considersCallbackAndEntityType() {
+
+		StaticApplicationContext ctx = new StaticApplicationContext();
+		ctx.registerSingleton("planetCallback", PlanetBeforeConvertCallback.class);
+		ctx.refresh();
+
+		EntityCallbackPresence presence = EntityCallbackPresence.of(ctx);
+
+		assertThat(presence.hasCallbacks(BeforeConvertCallback.class, Planet.class)).isTrue();
+		assertThat(presence.hasCallbacks(BeforeConvertCallback.class, Moon.class)).isFalse();
+		assertThat(presence.hasCallbacks(BeforeSaveCallback.class, Planet.class)).isFalse();
+		assertThat(presence.hasCallbacks(ReactiveBeforeConvertCallback.class, Planet.class)).isFalse();
+	}
+
+	@Test
+	void considersCallbacksForSupertypes() {
+
+		StaticApplicationContext ctx = new StaticApplicationContext();
+		ctx.registerSingleton("reactiveCallback", ObjectReactiveBeforeConvertCallback.class);
+		ctx.refresh();
+
+		assertThat(EntityCallbackPresence.of(ctx).hasCallbacks(ReactiveBeforeConvertCallback.class, Moon.class)).isTrue();
+	}
+
+	@Test
+	void assumesCallbacksIfEntityTypeCannotBeResolved() {
+
+		BeforeConvertCallback<Object> callback = (entity, collection) -> entity;
+
+		StaticApplicationContext ctx = new StaticApplicationContext();
+		ctx.registerBean(BeforeConvertCallback.class, () -> callback);
+		ctx.refresh();
+
+		assertThat(EntityCallbackPresence.of(ctx).hasCallbacks(BeforeConvertCallback.class, Moon.class)).isTrue();
+	}
+
+	static class Planet {}
+
+	static class Moon {}
+
+	static class PlanetBeforeConvertCallback implements BeforeConvertCallback<Planet> {
+
+		@Override
+		public Planet onBeforeConvert(Planet entity, String collection) {
+			return entity;
+		}
+	}
+
+	static class ObjectReactiveBeforeConvertCallback implements ReactiveBeforeConvertCallback<Object> {
+
+		@Override
+		public Mono<Object> onBeforeConvert(Object entity, String collection) {
+			return Mono.just(entity);
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+
+/**
+ * Unit tests for {@link EntityLifecycleEventDelegate}.
+ */
+class EntityLifecycleEventDelegateUnitTests {
+
+	@Test
+	void publishesEventsToPlainPublisher() {
+
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+		delegate.setPublisher(publisher);
+
+		AfterLoadEvent<Planet> event = new AfterLoadEvent<>(new Document(), Planet.class, "planet");
+		delegate.publishEvent(event);
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Planet.class)).isTrue();
+		verify(publisher).publishEvent(event);
+	}
+
+	@Test
+	void doesNotReportListenersWhenEventsAreDisabled() {
+
+		EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+		delegate.setPublisher(mock(ApplicationEventPublisher.class));
+		delegate.setEventsEnabled(false);
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Planet.class)).isFalse();
+	}
+
+	@Test
+	void considersDomainTypeOfMongoEventListeners() {
+
+		CapturingListener<Planet> listener = new CapturingListener<Planet>() {};
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.addApplicationListener(listener);
+		context.refresh();
+
+		EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+		delegate.setPublisher(context);
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Planet.class)).isTrue();
+		assertThat(delegate.hasListeners(AfterConvertEvent.class, Moon.class)).isFalse();
+
+		delegate.publishEvent(new AfterConvertEvent<>(new Document(), new Moon(), "moon"));
+		delegate.publishEvent(new AfterConvertEvent<>(new Document(), new Planet(), "planet"));
+
+		assertThat(listener.events).hasSize(1).first().extracting(MongoMappingEvent::getSource)
+				.isInstanceOf(Planet.class);
+	}
+
+	@Test
+	void reevaluatesListenersOnContextEvent() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+
+		EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+		delegate.setPublisher(context);
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Moon.class)).isFalse();
+
+		context.addApplicationListener(new CapturingListener<Moon>() {});
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Moon.class)).isFalse();
+
+		context.start();
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Moon.class)).isTrue();
+	}
+
+	@Test
+	void inspectsListenersOnceContextIsRefreshed() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+
+		EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+		delegate.setPublisher(context);
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Moon.class)).isTrue();
+
+		context.refresh();
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Moon.class)).isFalse();
+
+		context.close();
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Moon.class)).isTrue();
+	}
+
+	@Test
+	void assumesListenersBeforeContextIsRunning() {
+
+		EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+		delegate.setPublisher(new GenericApplicationContext());
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Moon.class)).isTrue();
+	}
+
+	static class Planet {}
+
+	static class Moon {}
+
+	static class CapturingListener<E> extends AbstractMongoEventListener<E> {
+
+		final List<MongoMappingEvent<?>> events = new ArrayList<>();
+
+		@Override
+		public void onAfterConvert(AfterConvertEvent<E> event) {
+			events.add(event);
+		}
+	}
+}
@@ -40,6 +40,8 @@ import java.util.regex.Pattern;
 
 import org.assertj.core.api.Assertions;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
@@ -74,6 +76,7 @@ import org.springframework.data.mongodb.core.aggregation.*;
 import org.springframework.data.mongodb.core.aggregation.ComparisonOperators.Gte;
 import org.springframework.data.mongodb.core.aggregation.ConditionalOperators.Switch.CaseOperator;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.EncodableEntity;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
@@ -113,6 +116,7 @@ import com.mongodb.ServerAddress;
 import com.mongodb.ServerCursor;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ClientSession;
 import com.mongodb.client.DistinctIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MapReduceIterable;
@@ -1052,14 +1056,61 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 	}
 
 	@Test // DATAMONGO-1733
-	void doesNotApplyFieldsWhenInterfaceProjectionIsOpen() {
+	void appliesFieldsReferencedByOpenInterfaceProjection() {
 
 		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonSpELProjection.class,
 				CursorPreparer.NO_OP_PREPARER);
 
+		verify(findIterable).projection(eq(new Document("firstname", 1)));
+	}
+
+	@Test
+	void doesNotApplyFieldsWhenOpenInterfaceProjectionReferencesEntireTarget() {
+
+		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonTargetProjection.class,
+				CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable).projection(eq(BsonUtils.EMPTY_DOCUMENT));
+	}
+
+	@Test
+	void appliesFieldsReferencedInArgumentsOfTypeAndLiteralRootedExpressions() {
+
+		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonMethodProjection.class,
+				CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable).projection(eq(new Document("firstname", 1)));
+	}
+
+	@Test
+	void doesNotApplyFieldsWhenBeanRootedExpressionReceivesEntireTarget() {
+
+		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonBeanProjection.class,
+				CursorPreparer.NO_OP_PREPARER);
+
 		verify(findIterable).projection(eq(BsonUtils.EMPTY_DOCUMENT));
 	}
 
+	@Test
+	void appliesMappedFieldNamesToClosedInterfaceProjection() {
+
+		template.doFind("star-wars", new Document(), new Document(), Jedi.class, JediProjection.class,
+				CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable).projection(eq(new Document("firstname", 1)));
+	}
+
+	@Test
+	void reusesComputedFieldsForRepeatedProjections() {
+
+		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonSpELProjection.class,
+				CursorPreparer.NO_OP_PREPARER);
+		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonSpELProjection.class,
+				CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable, times(2)).projection(eq(new Document("firstname", 1)));
+	}
+
 	@Test // DATAMONGO-1733, DATAMONGO-2041
 	void appliesFieldsToDtoProjection() {
 
@@ -2003,6 +2054,145 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(findIterable).projection(new Document("country", 1).append("userid", 1));
 	}
 
+	@Test
+	void shouldReportScatterGatherQueryOnShardedCollection() {
+
+		List<ShardTargeting> reported = new ArrayList<>();
+		template.setShardTargetingListener(reported::add);
+
+		template.find(Query.query(Criteria.where("country").is("AT")), ShardedEntityWithNonDefaultShardKey.class);
+
+		assertThat(reported).hasSize(1);
+		assertThat(reported.get(0).getOperation()).isEqualTo(ShardTargeting.Operation.FIND);
+		assertThat(reported.get(0).isScatterGather()).isTrue();
+	}
+
+	@Test
+	void shouldReportCollectionTargetedByOperation() {
+
+		List<ShardTargeting> reported = new ArrayList<>();
+		template.setShardTargetingListener(reported::add);
+
+		template.find(Query.query(Criteria.where("country").is("AT")), ShardedEntityWithNonDefaultShardKey.class,
+				"custom-collection");
+
+		assertThat(reported).hasSize(1);
+		assertThat(reported.get(0).getCollectionName()).isEqualTo("custom-collection");
+	}
+
+	@Test
+	void shouldReportSaveWithAppendedShardKeyAsTargeted() {
+
+		List<ShardTargeting> reported = new ArrayList<>();
+		template.setShardTargetingListener(reported::add);
+
+		template.save(new ShardedEntityWithNonDefaultShardKey("id-1", "AT", 4230));
+
+		assertThat(reported).hasSize(1);
+		assertThat(reported.get(0).getOperation()).isEqualTo(ShardTargeting.Operation.UPDATE);
+		assertThat(reported.get(0).getRouting()).isEqualTo(ShardTargeting.Routing.TARGETED);
+	}
+
+	@Test
+	void shouldRejectScatterGatherOperationBeforeExecution() {
+
+		template.setShardTargetingListener(ShardTargetingListener.failOnScatterGather());
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(
+				() -> template.remove(Query.query(Criteria.where("country").is("AT")), ShardedEntityWithNonDefaultShardKey.class));
+
+		verify(collection, never()).deleteMany(any(), any(DeleteOptions.class));
+	}
+
+	@Test
+	void saveAllShouldLookUpShardKeysOfBatchUsingSingleQuery() {
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1").append("country", "US").append("userid", 4230));
+
+		template.saveAll(Arrays.asList(new ShardedEntityWithNonDefaultShardKey("id-1", "AT", 4230),
+				new ShardedEntityWithNonDefaultShardKey("id-2", "DE", 4231)), "sharded");
+
+		verify(collection).find(new Document("_id", new Document("$in", Arrays.asList("id-1", "id-2"))), Document.class);
+		verify(findIterable).projection(new Document("country", 1).append("userid", 1));
+		verify(findIterable, never()).first();
+
+		ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+		verify(collection, times(2)).replaceOne(filter.capture(), any(), any());
+
+		assertThat(filter.getAllValues()).containsExactly(
+				new Document("_id", "id-1").append("country", "US").append("userid", 4230),
+				new Document("_id", "id-2").append("country", "DE").append("userid", 4231));
+	}
+
+	@Test
+	void saveAllShouldLookUpShardKeysOfConvertedEntities() {
+
+		template.setEntityCallbacks(EntityCallbacks.create(new IdPrefixingBeforeConvertCallback()));
+
+		template.saveAll(Arrays.asList(new ShardedEntityWithNonDefaultShardKey("id-1", "AT", 4230),
+				new ShardedEntityWithNonDefaultShardKey("id-2", "DE", 4231)), "sharded");
+
+		verify(collection).find(
+				new Document("_id", new Document("$in", Arrays.asList("converted-id-1", "converted-id-2"))), Document.class);
+		verify(findIterable, never()).first();
+	}
+
+	@Test
+	void sessionBoundTemplateShouldUseShardKeyCache() {
+
+		ClientSession session = mock(ClientSession.class);
+		when(factory.withSession(session)).thenReturn(factory);
+
+		template.setShardKeyCacheSize(10);
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1").append("country", "US").append("userid", 4230));
+
+		template.findAll(ShardedEntityWithNonDefaultShardKey.class);
+		template.withSession(session).save(new ShardedEntityWithNonDefaultShardKey("id-1", "AT", 4230));
+
+		ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+		verify(collection).replaceOne(filter.capture(), any(), any());
+
+		assertThat(filter.getValue()).isEqualTo(new Document("_id", "id-1").append("country", "US").append("userid", 4230));
+		verify(findIterable, never()).first();
+	}
+
+	@Test
+	void saveShouldUseShardKeyRememberedFromPreviousRead() {
+
+		template.setShardKeyCacheSize(10);
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1").append("country", "US").append("userid", 4230));
+
+		template.findAll(ShardedEntityWithNonDefaultShardKey.class);
+		template.save(new ShardedEntityWithNonDefaultShardKey("id-1", "AT", 4230));
+
+		ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+		verify(collection).replaceOne(filter.capture(), any(), any());
+
+		assertThat(filter.getValue()).isEqualTo(new Document("_id", "id-1").append("country", "US").append("userid", 4230));
+		verify(findIterable, never()).first();
+	}
+
+	@Test
+	void saveShouldUseShardKeyRememberedFromPreviousSave() {
+
+		template.setShardKeyCacheSize(10);
+
+		template.save(new ShardedEntityWithNonDefaultShardKey("id-1", "AT", 4230));
+		template.save(new ShardedEntityWithNonDefaultShardKey("id-1", "DE", 4230));
+
+		ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+		verify(collection, times(2)).replaceOne(filter.capture(), any(), any());
+
+		assertThat(filter.getAllValues().get(1))
+				.isEqualTo(new Document("_id", "id-1").append("country", "AT").append("userid", 4230));
+		verify(findIterable, times(1)).first();
+	}
+
 	@Test // DATAMONGO-2479
 	void findShouldInvokeAfterConvertCallback() {
 
@@ -2312,6 +2502,119 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 				.isEqualTo(new com.mongodb.client.model.TimeSeriesOptions("time_stamp").toString());
 	}
 
+	@Test
+	void findReturnsRawDocumentsWithoutConversion() {
+
+		ObjectId id = new ObjectId();
+		RawBsonDocument raw = RawBsonDocument.parse("{ '_id' : 'luke', 'firstname' : 'luke' }");
+		when(findIterable.into(any())).thenReturn(new ArrayList<>(Collections.singletonList(raw)));
+
+		List<RawBsonDocument> result = template.find(new BasicQuery(new Document("_id", id.toHexString())),
+				RawBsonDocument.class, "star-wars");
+
+		assertThat(result).containsExactly(raw);
+		verify(collection).find(eq(new Document("_id", id)), eq(RawBsonDocument.class));
+		verify(converter, never()).read(any(), any());
+	}
+
+	@Test
+	void fluentFindReturningRawDocumentsMapsQueryAgainstDomainType() {
+
+		when(findIterable.into(any())).thenReturn(new ArrayList<>());
+
+		template.query(Jedi.class).as(RawBsonDocument.class).matching(Query.query(Criteria.where("name").is("luke"))).all();
+
+		verify(collection).find(eq(new Document("firstname", "luke")), eq(RawBsonDocument.class));
+	}
+
+	@Test
+	void insertPassesRawDocumentThrough() {
+
+		MongoCollection<RawBsonDocument> rawCollection = mock(MongoCollection.class);
+		when(collection.withDocumentClass(RawBsonDocument.class)).thenReturn(rawCollection);
+
+		RawBsonDocument raw = RawBsonDocument.parse("{ '_id' : 'luke', 'firstname' : 'luke' }");
+		template.insert(raw, "star-wars");
+
+		verify(rawCollection).insertOne(raw);
+		verify(converter, never()).write(any(), any());
+	}
+
+	@Test
+	void insertEncodesEntityDirectlyIfEnabled() {
+
+		MongoCollection<EncodableEntity> encodingCollection = mock(MongoCollection.class);
+		when(collection.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+		when(collection.withDocumentClass(EncodableEntity.class)).thenReturn(encodingCollection);
+		when(encodingCollection.withCodecRegistry(any())).thenReturn(encodingCollection);
+
+		template.setDirectEntityEncoding(true);
+		Person saved = template.insert(new Person(null, "luke"));
+
+		ArgumentCaptor<EncodableEntity> captor = ArgumentCaptor.forClass(EncodableEntity.class);
+		verify(encodingCollection).insertOne(captor.capture());
+		verify(converter, never()).write(any(), any());
+
+		assertThat(captor.getValue().getEntity()).isSameAs(saved);
+		assertThat(captor.getValue().getId()).isInstanceOf(ObjectId.class);
+		assertThat(saved.getId()).isEqualTo(captor.getValue().getId().toString());
+
+		ArgumentCaptor<CodecRegistry> registry = ArgumentCaptor.forClass(CodecRegistry.class);
+		verify(encodingCollection).withCodecRegistry(registry.capture());
+		assertThat(registry.getValue().get(EncodableEntity.class).getEncoderClass()).isEqualTo(EncodableEntity.class);
+	}
+
+	@Test
+	void insertConvertsToDocumentIfBeforeSaveCallbackPresent() {
+
+		template.setEntityCallbacks(EntityCallbacks.create(new ValueCapturingBeforeSaveCallback()));
+		template.setDirectEntityEncoding(true);
+
+		template.insert(new Person(null, "luke"));
+
+		verify(collection).insertOne(any(Document.class));
+		verify(collection, never()).withDocumentClass(EncodableEntity.class);
+	}
+
+	@Test
+	void aggregateReturnsRawDocuments() {
+
+		template.aggregate(newAggregation(match(Criteria.where("name").is("luke"))), "star-wars",
+				RawBsonDocument.class);
+
+		verify(collection).aggregate(anyList(), eq(RawBsonDocument.class));
+		verify(aggregateIterable, never()).map(any());
+	}
+
+	@Test
+	void streamShouldUseAdaptiveBatchSizeOnceDocumentSizeIsKnown() {
+
+		when(findIterable.batchSize(anyInt())).thenReturn(findIterable);
+
+		AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.bounded(1000);
+		adaptiveBatchSize.recordDocumentSize("star-wars", 100);
+		template.setAdaptiveBatchSize(adaptiveBatchSize);
+
+		template.stream(new Query(), Person.class, "star-wars");
+
+		verify(findIterable).batchSize(10);
+	}
+
+	@Test
+	void streamShouldPreferExplicitCursorBatchSizeOverAdaptiveOne() {
+
+		when(findIterable.batchSize(anyInt())).thenReturn(findIterable);
+
+		AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.bounded(1000);
+		adaptiveBatchSize.recordDocumentSize("star-wars", 100);
+		template.setAdaptiveBatchSize(adaptiveBatchSize);
+
+		template.stream(new Query().cursorBatchSize(1234), Person.class, "star-wars");
+
+		verify(findIterable).batchSize(1234);
+		verify(findIterable, never()).batchSize(10);
+	}
+
 	class AutogenerateableId {
 
 		@Id BigInteger id;
@@ -2373,6 +2676,31 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		String getName();
 	}
 
+	public interface PersonMethodProjection {
+
+		@Value("#{T(String).valueOf(target.firstname)}")
+		String getName();
+
+		@Value("#{'x'.concat(target.firstname)}")
+		String getPrefixedName();
+	}
+
+	public interface PersonBeanProjection {
+
+		@Value("#{@greeter.greet(target)}")
+		String getGreeting();
+	}
+
+	public interface PersonTargetProjection {
+
+		@Value("#{target}")
+		Person getPerson();
+	}
+
+	interface JediProjection {
+		String getName();
+	}
+
 	@Data
 	static class Human {
 		@Id String id;
@@ -2510,6 +2838,16 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		}
 	}
 
+	static class IdPrefixingBeforeConvertCallback implements BeforeConvertCallback<ShardedEntityWithNonDefaultShardKey> {
+
+		@Override
+		public ShardedEntityWithNonDefaultShardKey onBeforeConvert(ShardedEntityWithNonDefaultShardKey entity,
+				String collection) {
+			return new ShardedEntityWithNonDefaultShardKey("converted-" + entity.getId(), entity.getCountry(),
+					entity.getUserId());
+		}
+	}
+
 	static class ValueCapturingBeforeSaveCallback extends ValueCapturingEntityCallback<Person>
 			implements BeforeSaveCallback<Person> {
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ParallelConversion}.
+ */
+class ParallelConversionUnitTests {
+
+	List<Integer> values = IntStream.range(0, 500).boxed().collect(Collectors.toList());
+	Flux<Document> documents = Flux.fromIterable(values).map(value -> new Document("value", value));
+
+	@Test
+	void retainsOrderByDefault() {
+
+		ParallelConversion conversion = ParallelConversion.on(Schedulers.parallel()).parallelism(4).prefetch(8);
+
+		conversion.convert(documents, this::slowConversion).collectList() //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual).containsExactlyElementsOf(values)) //
+				.verifyComplete();
+	}
+
+	@Test
+	void emitsAllResultsWhenUnordered() {
+
+		ParallelConversion conversion = ParallelConversion.on(Schedulers.parallel()).parallelism(4).unordered();
+
+		conversion.convert(documents, this::slowConversion).collectList() //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual).containsExactlyInAnyOrderElementsOf(values)) //
+				.verifyComplete();
+	}
+
+	@Test
+	void convertsOnScheduler() {
+
+		ParallelConversion conversion = ParallelConversion.on(Schedulers.newParallel("conversion", 2)).parallelism(2);
+
+		conversion.convert(documents.take(10), document -> Mono.just(Thread.currentThread().getName())) //
+				.as(StepVerifier::create) //
+				.thenConsumeWhile(thread -> thread.startsWith("conversion")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void skipsDocumentsConvertedToEmpty() {
+
+		ParallelConversion conversion = ParallelConversion.on(Schedulers.parallel()).parallelism(3);
+
+		conversion.convert(documents, document -> {
+			int value = document.getInteger("value");
+			return value % 2 == 0 ? Mono.just(value) : Mono.empty();
+		}).collectList() //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual).hasSize(250).isSorted()) //
+				.verifyComplete();
+	}
+
+	private Mono<Integer> slowConversion(Document document) {
+
+		int value = document.getInteger("value");
+
+		// vary conversion time to let later documents overtake earlier ones
+		long spin = (value % 7) * 1000L;
+		for (long i = 0; i < spin; i++) {
+			Thread.onSpinWait();
+		}
+
+		return Mono.just(value);
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Unit tests for {@link ParallelScan} and {@link ParallelScanIterator}.
+ */
+class ParallelScanUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void createsBoundaryAggregationFromSample() {
+
+		TypedAggregation<?> aggregation = ParallelScan.partitions(4).sampleSize(100)
+				.createBoundaryAggregation(new Query(Criteria.where("age").gt(18)), Person.class);
+
+		assertThat(aggregation.toPipeline(Aggregation.DEFAULT_CONTEXT)).containsExactly( //
+				new Document("$match", new Document("age", new Document("$gt", 18))), //
+				new Document("$sample", new Document("size", 100L)), //
+				new Document("$bucketAuto", new Document("groupBy", "$_id").append("buckets", 4)));
+		assertThat(aggregation.getOptions().isAllowDiskUse()).isFalse();
+	}
+
+	@Test
+	void createsExactBoundaryAggregationWithoutSample() {
+
+		TypedAggregation<?> aggregation = ParallelScan.partitions(2).sampleSize(0).field("age")
+				.createBoundaryAggregation(new Query(), Person.class);
+
+		assertThat(aggregation.toPipeline(Aggregation.DEFAULT_CONTEXT)).containsExactly(
+				new Document("$bucketAuto", new Document("groupBy", "$age").append("buckets", 2)));
+		assertThat(aggregation.getOptions().isAllowDiskUse()).isTrue();
+	}
+
+	@Test
+	void doesNotSplitSinglePartition() {
+		assertThat(ParallelScan.partitions(1).createBoundaryAggregation(new Query(), Person.class)).isNull();
+	}
+
+	@Test
+	void rejectsQueriesUsingSkipOrLimit() {
+
+		ParallelScan scan = ParallelScan.partitions(4);
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> scan.createBoundaryAggregation(new Query().limit(10), Person.class));
+		assertThatIllegalArgumentException().isThrownBy(() -> scan.split(new Query().skip(10), Collections.emptyList()));
+	}
+
+	@Test
+	void splitsQueryIntoDisjointRanges() {
+
+		Query query = new Query(Criteria.where("age").gt(18)).with(Sort.by("age"));
+
+		List<Query> ranges = ParallelScan.partitions(3).split(query,
+				Arrays.asList(bucket(1, 10), bucket(10, 20), bucket(20, 30)));
+
+		assertThat(ranges).hasSize(3);
+		assertThat(ranges.get(0).getQueryObject()).isEqualTo(and(new Document("$or",
+				Arrays.asList(new Document("_id", new Document("$lt", 10)), new Document("_id", null)))));
+		assertThat(ranges.get(1).getQueryObject())
+				.isEqualTo(and(new Document("_id", new Document("$gte", 10).append("$lt", 20))));
+		assertThat(ranges.get(2).getQueryObject()).isEqualTo(and(new Document("_id", new Document("$gte", 20))));
+		assertThat(ranges).allSatisfy(range -> assertThat(range.getSortObject()).isEqualTo(new Document("age", 1)));
+	}
+
+	@Test
+	void rangesRetainQuerySettings() {
+
+		Query query = new Query(Criteria.where("age").gt(18)).withHint("age_1").collation(Collation.of("en"))
+				.comment("export").cursorBatchSize(100).maxTime(Duration.ofSeconds(5)).noCursorTimeout()
+				.restrict(Person.class);
+		query.fields().include("age");
+
+		List<Query> ranges = ParallelScan.partitions(2).split(query, Arrays.asList(bucket(1, 10), bucket(10, 20)));
+
+		assertThat(ranges).hasSize(2).allSatisfy(range -> {
+
+			assertThat(range.getQueryObject()).containsKey("$and");
+			assertThat(range.getQueryObject().keySet()).anyMatch(Query::isRestrictedTypeKey);
+			assertThat(range.getFieldsObject()).isEqualTo(new Document("age", 1));
+			assertThat(range.getHint()).isEqualTo("age_1");
+			assertThat(range.getCollation()).contains(Collation.of("en"));
+			assertThat(range.getMeta()).isEqualTo(query.getMeta());
+		});
+	}
+
+	@Test
+	void usesOriginalQueryWithoutBoundaries() {
+
+		Query query = new Query();
+
+		assertThat(ParallelScan.partitions(3).split(query, Collections.emptyList())).containsExactly(query);
+		assertThat(ParallelScan.partitions(3).split(query, Collections.singletonList(bucket(1, 10)))).containsExactly(query);
+	}
+
+	@Test
+	void mergesResultsOfAllRanges() {
+
+		List<Query> ranges = IntStream.range(0, 4).mapToObj(it -> new Query()).collect(Collectors.toList());
+
+		try (CloseableIterator<Integer> iterator = new ParallelScanIterator<>(ranges,
+				range -> IntStream.range(0, 1000).boxed(), executor, 16)) {
+
+			assertThat(iterator.stream().count()).isEqualTo(4000);
+		}
+	}
+
+	@Test
+	void propagatesFailureOfRange() {
+
+		List<Query> ranges = Arrays.asList(new Query(), new Query(Criteria.where("fail").is(true)));
+
+		CloseableIterator<Integer> iterator = new ParallelScanIterator<>(ranges, range -> {
+
+			if (range.getQueryObject().containsKey("fail")) {
+				throw new IllegalStateException("o_O");
+			}
+			return Stream.of(1, 2, 3);
+		}, executor, 16);
+
+		assertThatIllegalStateException().isThrownBy(() -> iterator.forEachRemaining(it -> {})).withMessage("o_O");
+	}
+
+	@Test
+	void closeStopsReaders() throws InterruptedException {
+
+		List<Query> ranges = Arrays.asList(new Query(), new Query());
+		List<Boolean> closed = Collections.synchronizedList(new ArrayList<>());
+
+		CloseableIterator<Integer> iterator = new ParallelScanIterator<>(ranges,
+				range -> Stream.iterate(0, it -> it + 1).onClose(() -> closed.add(true)), executor, 4);
+
+		assertThat(iterator.next()).isNotNull();
+		iterator.close();
+
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(closed).hasSize(2);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	void failsIterationWhenReaderIsInterrupted() throws InterruptedException {
+
+		List<Query> ranges = Arrays.asList(new Query(), new Query());
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch closed = new CountDownLatch(2);
+
+		CloseableIterator<Integer> iterator = new ParallelScanIterator<>(ranges, range -> {
+
+			started.countDown();
+			return Stream.iterate(0, it -> it + 1).onClose(closed::countDown);
+		}, executor, 1);
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		executor.shutdownNow();
+
+		assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThatExceptionOfType(DataAccessResourceFailureException.class)
+				.isThrownBy(() -> iterator.forEachRemaining(it -> {}));
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	void stopsStartedReadersWhenExecutorRejectsRange() throws InterruptedException {
+
+		List<Query> ranges = Arrays.asList(new Query(), new Query());
+		CountDownLatch closed = new CountDownLatch(1);
+		AtomicInteger submitted = new AtomicInteger();
+
+		assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> new ParallelScanIterator<>(ranges,
+				range -> Stream.iterate(0, it -> it + 1).onClose(closed::countDown), command -> {
+
+					if (submitted.incrementAndGet() > 1) {
+						throw new RejectedExecutionException();
+					}
+					executor.execute(command);
+				}, 1));
+
+		assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private static Document bucket(Object min, Object max) {
+		return new Document("_id", new Document("min", min).append("max", max)).append("count", 10);
+	}
+
+	private static Document and(Document range) {
+		return new Document("$and", Arrays.asList(new Document("age", new Document("$gt", 18)), range));
+	}
+
+	static class Person {
+
+		String id;
+		int age;
+	}
+}
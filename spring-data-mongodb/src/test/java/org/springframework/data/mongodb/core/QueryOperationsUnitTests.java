@@ -67,7 +67,7 @@ class QueryOperationsUnitTests {
 	void createAggregationContextUsesRelaxedOneForUntypedAggregationsWhenNoInputTypeProvided() {
 
 		Aggregation aggregation = Aggregation.newAggregation(Aggregation.project("name"));
-		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, (Class<?>) null);
+		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, (Class<?>) null, "person");
 
 		assertThat(ctx.getAggregationOperationContext()).isInstanceOf(RelaxedTypeBasedAggregationOperationContext.class);
 	}
@@ -76,7 +76,7 @@ class QueryOperationsUnitTests {
 	void createAggregationContextUsesRelaxedOneForTypedAggregationsWhenNoInputTypeProvided() {
 
 		Aggregation aggregation = Aggregation.newAggregation(Person.class, Aggregation.project("name"));
-		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, (Class<?>) null);
+		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, (Class<?>) null, "person");
 
 		assertThat(ctx.getAggregationOperationContext()).isInstanceOf(RelaxedTypeBasedAggregationOperationContext.class);
 	}
@@ -85,7 +85,7 @@ class QueryOperationsUnitTests {
 	void createAggregationContextUsesRelaxedOneForUntypedAggregationsWhenInputTypeProvided() {
 
 		Aggregation aggregation = Aggregation.newAggregation(Aggregation.project("name"));
-		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, Person.class);
+		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, Person.class, "person");
 
 		assertThat(ctx.getAggregationOperationContext()).isInstanceOf(RelaxedTypeBasedAggregationOperationContext.class);
 	}
@@ -94,7 +94,7 @@ class QueryOperationsUnitTests {
 	void createAggregationContextUsesDefaultIfNoMappingDesired() {
 
 		Aggregation aggregation = Aggregation.newAggregation(Aggregation.project("name")).withOptions(NO_MAPPING);
-		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, Person.class);
+		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, Person.class, "person");
 
 		assertThat(ctx.getAggregationOperationContext()).isEqualTo(Aggregation.DEFAULT_CONTEXT);
 	}
@@ -104,7 +104,7 @@ class QueryOperationsUnitTests {
 
 		Aggregation aggregation = Aggregation.newAggregation(Person.class, Aggregation.project("name"))
 				.withOptions(STRICT_MAPPING);
-		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, (Class<?>) null);
+		AggregationDefinition ctx = queryOperations.createAggregation(aggregation, (Class<?>) null, "person");
 
 		assertThat(ctx.getAggregationOperationContext()).isInstanceOf(TypeBasedAggregationOperationContext.class);
 	}
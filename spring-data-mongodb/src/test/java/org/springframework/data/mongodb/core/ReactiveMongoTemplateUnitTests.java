@@ -25,6 +25,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
@@ -35,6 +36,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -46,6 +48,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -1485,6 +1488,99 @@ public class ReactiveMongoTemplateUnitTests {
 						.granularity(TimeSeriesGranularity.HOURS).toString());
 	}
 
+	@Test
+	void shouldReportCollectionTargetedByFindOne() {
+
+		List<ShardTargeting> reported = new ArrayList<>();
+		template.setShardTargetingListener(reported::add);
+
+		template.findOne(Query.query(Criteria.where("country").is("AT")), ShardedEntityWithNonDefaultShardKey.class,
+				"custom-collection").subscribe();
+
+		assertThat(reported).extracting(ShardTargeting::getCollectionName).containsExactly("custom-collection");
+	}
+
+	@Test
+	void findShouldSizeBatchBeforeSubscribingWhenAdaptive() {
+
+		List<Long> requests = new CopyOnWriteArrayList<>();
+		Publisher<Document> realPublisher = Flux.range(0, 500).map(i -> new Document("_id", "id-" + i))
+				.doOnRequest(requests::add);
+		doAnswer(invocation -> {
+			realPublisher.subscribe(invocation.getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+		when(findPublisher.batchSize(anyInt())).thenReturn(findPublisher);
+
+		AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.bounded(10_000);
+		adaptiveBatchSize.recordDocumentSize("star-wars", 100);
+		template.setAdaptiveBatchSize(adaptiveBatchSize);
+
+		template.find(new Query(), Person.class).as(StepVerifier::create) //
+				.expectNextCount(500) //
+				.verifyComplete();
+
+		InOrder inOrder = inOrder(findPublisher);
+		inOrder.verify(findPublisher).batchSize(100);
+		inOrder.verify(findPublisher).subscribe(any());
+		assertThat(requests).isNotEmpty().allSatisfy(request -> assertThat(request).isLessThanOrEqualTo(100));
+	}
+
+	@Test
+	void findShouldUseDriverDefaultBatchSizeWithoutSamples() {
+
+		stubFindSubscribe(new Document("_id", "id-1").append("firstname", "luke"));
+
+		template.setAdaptiveBatchSize(AdaptiveBatchSize.defaults());
+
+		template.find(new Query(), Person.class).as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		verify(findPublisher, never()).batchSize(anyInt());
+	}
+
+	@Test
+	void findShouldNotUseAdaptiveBatchSizeWhenCursorBatchSizeIsPresent() {
+
+		when(findPublisher.batchSize(anyInt())).thenReturn(findPublisher);
+		stubFindSubscribe(new Document("_id", "id-1").append("firstname", "luke"));
+
+		AdaptiveBatchSize adaptiveBatchSize = AdaptiveBatchSize.bounded(10_000);
+		adaptiveBatchSize.recordDocumentSize("star-wars", 100);
+		template.setAdaptiveBatchSize(adaptiveBatchSize);
+
+		template.find(new Query().cursorBatchSize(1234), Person.class).as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		verify(findPublisher).batchSize(1234);
+		verify(findPublisher, never()).batchSize(100);
+	}
+
+	@Test
+	void findShouldConvertInParallelRetainingOrder() {
+
+		Publisher<Document> realPublisher = Flux.range(0, 100)
+				.map(i -> new Document("_id", "id-" + i).append("firstname", "luke-" + i));
+		doAnswer(invocation -> {
+			realPublisher.subscribe(invocation.getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		template.setParallelConversion(ParallelConversion.on(Schedulers.parallel()).parallelism(4));
+
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			expected.add("id-" + i);
+		}
+
+		template.find(new Query(), Person.class).map(Person::getId).collectList() //
+				.as(StepVerifier::create) //
+				.assertNext(ids -> assertThat(ids).containsExactlyElementsOf(expected)) //
+				.verifyComplete();
+	}
+
 	private void stubFindSubscribe(Document document) {
 
 		Publisher<Document> realPublisher = Flux.just(document);
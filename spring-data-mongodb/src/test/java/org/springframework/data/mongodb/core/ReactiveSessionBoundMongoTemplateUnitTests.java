@@ -24,6 +24,8 @@ import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyString;
 
+import reactor.test.StepVerifier;
+
 import java.lang.reflect.Proxy;
 
 import org.bson.Document;
@@ -146,6 +148,15 @@ public class ReactiveSessionBoundMongoTemplateUnitTests {
 		verify(collection).find(eq(clientSession));
 	}
 
+	@Test
+	public void scanIsRejected() {
+
+		template.scan(new Query(), Person.class, COLLECTION_NAME, ParallelScan.partitions(2)) //
+				.as(StepVerifier::create) //
+				.verifyError(UnsupportedOperationException.class);
+		verifyNoInteractions(collection);
+	}
+
 	@Test // DATAMONGO-1880
 	public void executeUsesProxiedDatabaseInCallback() {
 
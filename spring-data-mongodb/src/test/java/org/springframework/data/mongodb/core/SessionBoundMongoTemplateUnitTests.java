@@ -21,6 +21,7 @@ import static org.springframework.data.mongodb.test.util.Assertions.*;
 import java.lang.reflect.Proxy;
 import java.util.Collections;
 
+import org.bson.BsonTimestamp;
 import org.bson.Document;
 import org.bson.codecs.BsonValueCodec;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -33,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.geo.Metrics;
 import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.CausalConsistencyToken;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate.SessionBoundMongoTemplate;
@@ -44,6 +46,8 @@ import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.DistinctIterable;
@@ -328,6 +332,14 @@ public class SessionBoundMongoTemplateUnitTests {
 		assertThat(template.getDb()).isNotInstanceOf(Proxy.class);
 	}
 
+	@Test
+	public void scanIsRejected() {
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> template.scan(new Query(), Person.class, COLLECTION_NAME, ParallelScan.partitions(2)));
+		verifyNoInteractions(collection);
+	}
+
 	@Test // DATAMONGO-1880
 	public void indexOpsShouldUseProxiedCollection() {
 
@@ -355,4 +367,22 @@ public class SessionBoundMongoTemplateUnitTests {
 
 		verify(database).runCommand(eq(clientSession), any());
 	}
+
+	@Test
+	public void causallyConsistentExecutionAdvancesSessionAndAppliesReadPreference() {
+
+		when(client.startSession(any(ClientSessionOptions.class))).thenReturn(clientSession);
+		when(collection.withReadPreference(any())).thenReturn(collection);
+
+		BsonTimestamp operationTime = new BsonTimestamp(10, 1);
+		MongoTemplate template = new MongoTemplate(factory, converter);
+
+		template.withCausalConsistency(CausalConsistencyToken.of(operationTime, null), ReadPreference.secondaryPreferred())
+				.execute(operations -> operations.find(new Query(), Document.class, COLLECTION_NAME));
+
+		verify(clientSession).advanceOperationTime(operationTime);
+		verify(collection).withReadPreference(ReadPreference.secondaryPreferred());
+		verify(collection).find(eq(clientSession), any(), any());
+		verify(clientSession).close();
+	}
 }
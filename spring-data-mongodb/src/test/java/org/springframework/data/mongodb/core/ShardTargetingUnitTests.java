@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.mongodb.core.ShardTargeting.Operation;
+import org.springframework.data.mongodb.core.ShardTargeting.Routing;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+
+/**
+ * Unit tests for {@link ShardTargeting} and {@link ShardTargetingListener}.
+ */
+class ShardTargetingUnitTests {
+
+	static final List<String> SHARD_KEY = Arrays.asList("country", "userid");
+
+	MongoPersistentEntity<?> entity = new MongoMappingContext()
+			.getRequiredPersistentEntity(ShardedEntityWithNonDefaultShardKey.class);
+
+	@Test
+	void classifiesEqualityOnAllShardKeyFieldsAsTargeted() {
+
+		assertThat(classify(new Document("country", "AT").append("userid", 4230)).getRouting())
+				.isEqualTo(Routing.TARGETED);
+		assertThat(classify(new Document("country", new Document("$in", Arrays.asList("AT", "DE"))).append("userid",
+				new Document("$eq", 4230))).getRouting()).isEqualTo(Routing.TARGETED);
+	}
+
+	@Test
+	void considersConditionsNestedInAnd() {
+
+		Document filter = new Document("$and",
+				Arrays.asList(new Document("country", "AT"), new Document("userid", 4230), new Document("name", "foo")));
+
+		assertThat(classify(filter).getRouting()).isEqualTo(Routing.TARGETED);
+	}
+
+	@Test
+	void classifiesMissingShardKeyFieldAsScatterGather() {
+
+		ShardTargeting targeting = classify(new Document("_id", "id-1").append("country", "AT"));
+
+		assertThat(targeting.isScatterGather()).isTrue();
+		assertThat(targeting.getCollectionName()).isEqualTo("shardedEntityWithNonDefaultShardKey");
+		assertThat(targeting.getDomainType()).isEqualTo(ShardedEntityWithNonDefaultShardKey.class);
+	}
+
+	@Test
+	void classifiesRangeAndRegexConditionsAsScatterGather() {
+
+		assertThat(classify(new Document("country", "AT").append("userid", new Document("$gt", 10))).isScatterGather())
+				.isTrue();
+		assertThat(classify(new Document("country", Pattern.compile("^A")).append("userid", 4230)).isScatterGather())
+				.isTrue();
+		assertThat(classify(new Document("$or", Arrays.asList(new Document("country", "AT"), new Document("userid", 1))))
+				.isScatterGather()).isTrue();
+	}
+
+	@Test
+	void failFastListenerRejectsScatterGather() {
+
+		ShardTargetingListener listener = ShardTargetingListener.failOnScatterGather();
+
+		listener.onShardTargeting(classify(new Document("country", "AT").append("userid", 4230)));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> listener.onShardTargeting(classify(new Document("country", "AT"))))
+				.withMessageContaining("shardedEntityWithNonDefaultShardKey");
+	}
+
+	private ShardTargeting classify(Document filter) {
+		return ShardTargeting.classify(Operation.FIND, entity, entity.getCollection(), filter, SHARD_KEY);
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.EncryptionAlgorithms;
+import org.springframework.data.mongodb.core.mapping.Encrypted;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.client.model.vault.EncryptOptions;
+import com.mongodb.client.vault.ClientEncryption;
+
+/**
+ * Unit tests for {@link ExplicitEncryption}.
+ */
+class ExplicitEncryptionUnitTests {
+
+	static final BsonBinary ENCRYPTED = new BsonBinary(BsonBinarySubType.ENCRYPTED, new byte[] { 1, 2, 3 });
+
+	ClientEncryption clientEncryption = mock(ClientEncryption.class);
+	MutableClock clock = new MutableClock();
+	MongoMappingContext mappingContext;
+	MappingMongoConverter converter;
+
+	@BeforeEach
+	void beforeEach() {
+
+		mappingContext = new MongoMappingContext();
+		mappingContext.afterPropertiesSet();
+
+		converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.setExplicitEncryption(ExplicitEncryption.of(clientEncryption).clock(clock));
+		converter.afterPropertiesSet();
+
+		when(clientEncryption.encrypt(any(), any())).thenReturn(ENCRYPTED);
+	}
+
+	@Test
+	void encryptsAnnotatedPropertiesOnWrite() {
+
+		Patient patient = new Patient();
+		patient.name = "Walter";
+		patient.ssn = "123-45-6789";
+
+		Document target = new Document();
+		converter.write(patient, target);
+
+		ArgumentCaptor<EncryptOptions> options = ArgumentCaptor.forClass(EncryptOptions.class);
+		verify(clientEncryption).encrypt(eq(new BsonString("123-45-6789")), options.capture());
+
+		assertThat(target).containsEntry("name", "Walter").containsEntry("ssn", ENCRYPTED);
+		assertThat(options.getValue().getAlgorithm())
+				.isEqualTo(EncryptionAlgorithms.AEAD_AES_256_CBC_HMAC_SHA_512_Deterministic);
+		assertThat(options.getValue().getKeyId()).isNotNull();
+	}
+
+	@Test
+	void doesNotEncryptNullValues() {
+
+		converter.write(new Patient(), new Document());
+
+		verifyNoInteractions(clientEncryption);
+	}
+
+	@Test
+	void decryptsEncryptedValuesOnRead() {
+
+		when(clientEncryption.decrypt(ENCRYPTED)).thenReturn(new BsonString("123-45-6789"));
+
+		Document source = new Document("name", "Walter").append("ssn",
+				new Binary(BsonBinarySubType.ENCRYPTED, ENCRYPTED.getData()));
+
+		Patient patient = converter.read(Patient.class, source);
+
+		assertThat(patient.name).isEqualTo("Walter");
+		assertThat(patient.ssn).isEqualTo("123-45-6789");
+	}
+
+	@Test
+	void reusesEncryptionSettingsForStaticKeys() {
+
+		Patient patient = new Patient();
+		patient.ssn = "123-45-6789";
+
+		converter.write(patient, new Document());
+		clock.advance(Duration.ofHours(1));
+		converter.write(patient, new Document());
+
+		ArgumentCaptor<EncryptOptions> options = ArgumentCaptor.forClass(EncryptOptions.class);
+		verify(clientEncryption, times(2)).encrypt(any(), options.capture());
+
+		assertThat(options.getAllValues().get(0)).isSameAs(options.getAllValues().get(1));
+	}
+
+	@Test
+	void resolvesExpressionKeysAgainAfterTtl() {
+
+		Patient patient = new Patient();
+		patient.pin = "1234";
+
+		converter.write(patient, new Document());
+		clock.advance(Duration.ofSeconds(30));
+		converter.write(patient, new Document());
+		clock.advance(Duration.ofSeconds(31));
+		converter.write(patient, new Document());
+
+		ArgumentCaptor<EncryptOptions> options = ArgumentCaptor.forClass(EncryptOptions.class);
+		verify(clientEncryption, times(3)).encrypt(any(), options.capture());
+
+		assertThat(options.getAllValues().get(0)).isSameAs(options.getAllValues().get(1));
+		assertThat(options.getAllValues().get(2)).isNotSameAs(options.getAllValues().get(1));
+		assertThat(options.getAllValues().get(2).getAlgorithm())
+				.isEqualTo(EncryptionAlgorithms.AEAD_AES_256_CBC_HMAC_SHA_512_Random);
+	}
+
+	@Test
+	void detectsEncryptedValues() {
+
+		assertThat(ExplicitEncryption.isEncryptedValue(ENCRYPTED)).isTrue();
+		assertThat(ExplicitEncryption.isEncryptedValue(new Binary(BsonBinarySubType.ENCRYPTED, new byte[0]))).isTrue();
+		assertThat(ExplicitEncryption.isEncryptedValue(new Binary(new byte[0]))).isFalse();
+		assertThat(ExplicitEncryption.isEncryptedValue("secret")).isFalse();
+		assertThat(ExplicitEncryption.isEncryptedValue(null)).isFalse();
+	}
+
+	@Test
+	void doesNotEncryptPropertiesWithoutAlgorithm() {
+
+		ExplicitEncryption encryption = ExplicitEncryption.of(clientEncryption);
+
+		NoAlgorithm source = new NoAlgorithm();
+		source.value = "schema-only";
+
+		Document target = new Document();
+		converter.write(source, target);
+
+		assertThat(encryption.isEncrypted(
+				mappingContext.getRequiredPersistentEntity(NoAlgorithm.class).getRequiredPersistentProperty("value")))
+				.isFalse();
+		assertThat(target).containsEntry("value", "schema-only");
+		verifyNoInteractions(clientEncryption);
+	}
+
+	@Test
+	void doesNotDecryptValuesOfUnencryptedProperties() {
+
+		Binary payload = new Binary(BsonBinarySubType.ENCRYPTED, ENCRYPTED.getData());
+
+		Envelope envelope = converter.read(Envelope.class, new Document("payload", payload));
+
+		assertThat(envelope.payload).isEqualTo(payload);
+		verifyNoInteractions(clientEncryption);
+	}
+
+	@Encrypted(keyId = "4fPYFM9qSgyRAjgQ2u+IMQ==", algorithm = EncryptionAlgorithms.AEAD_AES_256_CBC_HMAC_SHA_512_Deterministic)
+	static class Patient {
+
+		String id;
+		String name;
+
+		@Encrypted String ssn;
+
+		@Encrypted(keyId = "#{'4fPYFM9qSgyRAjgQ2u+IMQ=='}",
+				algorithm = EncryptionAlgorithms.AEAD_AES_256_CBC_HMAC_SHA_512_Random) String pin;
+	}
+
+	static class NoAlgorithm {
+
+		@Encrypted(keyId = "4fPYFM9qSgyRAjgQ2u+IMQ==") String value;
+	}
+
+	static class Envelope {
+
+		Object payload;
+	}
+
+	static class MutableClock extends Clock {
+
+		Instant instant = Instant.parse("2022-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.mongodb.core.convert;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import org.bson.Document;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -26,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.mongodb.LazyLoadingException;
+import org.springframework.data.mongodb.core.convert.LazyLoadingProxyFactory.LazyEmbeddedInterceptor;
 import org.springframework.data.mongodb.core.convert.LazyLoadingProxyFactory.LazyLoadingInterceptor;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 
@@ -55,6 +57,19 @@ class LazyLoadingInterceptorUnitTests {
 		}).withCause(npe);
 	}
 
+	@Test
+	void lazyEmbeddedInterceptorReportsEmbeddedPropertyOnFailure() throws Throwable {
+
+		IllegalStateException failure = new IllegalStateException("o_O");
+		when(propertyMock.getName()).thenReturn("home");
+		when(callbackMock.resolve(propertyMock)).thenThrow(failure);
+
+		assertThatExceptionOfType(LazyLoadingException.class).isThrownBy(() -> {
+			new LazyEmbeddedInterceptor(propertyMock, callbackMock, new Document()).intercept(null,
+					LazyLoadingProxy.class.getMethod("getTarget"), null, null);
+		}).withMessage("Unable to lazily convert embedded property unknown.home").withCause(failure);
+	}
+
 	static class NullExceptionTranslator implements PersistenceExceptionTranslator {
 
 		@Override
@@ -28,12 +28,17 @@ import lombok.RequiredArgsConstructor;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URL;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.types.Binary;
 import org.bson.types.Code;
 import org.bson.types.Decimal128;
@@ -83,6 +88,7 @@ import org.springframework.data.mongodb.core.geo.Sphere;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.FieldType;
+import org.springframework.data.mongodb.core.mapping.LazyEmbedded;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.PersonPojoStringId;
@@ -98,6 +104,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.DBObject;
 import com.mongodb.DBRef;
 
@@ -2831,6 +2838,301 @@ class MappingMongoConverterUnitTests {
 		assertThat(converter.read(Cyclic.class, source).cycle.value).isEqualTo("v2");
 	}
 
+	@Test
+	void readsSimpleValuesRequiringWideningOrTemporalConversion() {
+
+		Date date = new Date();
+		org.bson.Document source = new org.bson.Document("primitiveLong", 1).append("boxedDouble", 2L)
+				.append("instant", date).append("date", date).append("text", "value").append("primitiveInt", 3);
+
+		WithSimpleValues target = converter.read(WithSimpleValues.class, source);
+
+		assertThat(target.primitiveLong).isEqualTo(1L);
+		assertThat(target.boxedDouble).isEqualTo(2D);
+		assertThat(target.instant).isEqualTo(date.toInstant());
+		assertThat(target.date).isEqualTo(date);
+		assertThat(target.text).isEqualTo("value");
+		assertThat(target.primitiveInt).isEqualTo(3);
+	}
+
+	@Test
+	void readsSimpleValuesWithChangingSourceTypes() {
+
+		assertThat(converter.read(WithSimpleValues.class, new org.bson.Document("primitiveLong", 1)).primitiveLong)
+				.isEqualTo(1L);
+		assertThat(converter.read(WithSimpleValues.class, new org.bson.Document("primitiveLong", 2L)).primitiveLong)
+				.isEqualTo(2L);
+		assertThat(converter.read(WithSimpleValues.class, new org.bson.Document("primitiveLong", 3D)).primitiveLong)
+				.isEqualTo(3L);
+	}
+
+	@Test
+	void writesSimpleValuesConsideringCustomWriteTargets() {
+
+		WithSimpleValues source = new WithSimpleValues();
+		source.primitiveLong = 1L;
+		source.boxedDouble = 2D;
+		source.instant = Instant.now();
+		source.text = "value";
+
+		org.bson.Document target = new org.bson.Document();
+		converter.write(source, target);
+
+		assertThat(target.get("primitiveLong")).isEqualTo(1L);
+		assertThat(target.get("boxedDouble")).isEqualTo(2D);
+		assertThat(target.get("instant")).isEqualTo(Date.from(source.instant));
+		assertThat(target.get("text")).isEqualTo("value");
+		assertThat(target).doesNotContainKey("date");
+	}
+
+	@Test
+	void readsSimpleValuesUsingRegisteredReadingConverter() {
+
+		converter = new MappingMongoConverter(resolver, mappingContext);
+		converter.setCustomConversions(new MongoCustomConversions(
+				Collections.singletonList(new IntegerToStringConverter())));
+		converter.afterPropertiesSet();
+
+		assertThat(converter.read(WithSimpleValues.class, new org.bson.Document("text", 42)).text)
+				.isEqualTo("int-42");
+	}
+
+	@Test
+	void readsLazyEmbeddedPropertiesOnFirstAccess() {
+
+		List<org.bson.Document> addresses = Collections.singletonList(new org.bson.Document("street", "hwy"));
+		org.bson.Document home = new org.bson.Document("street", "main");
+		org.bson.Document source = new org.bson.Document("addresses", addresses).append("home", home).append("name",
+				"walter");
+
+		WithLazyEmbedded target = converter.read(WithLazyEmbedded.class, source);
+
+		assertThat(target.name).isEqualTo("walter");
+		assertThat(target.addresses).isInstanceOf(LazyLoadingProxy.class);
+		assertThat(((LazyLoadingProxy) target.addresses).getSource()).isSameAs(addresses);
+		assertThat(target.home).isInstanceOf(LazyLoadingProxy.class);
+
+		assertThat(target.addresses).extracting(LazyEmbeddedAddress::getStreet).containsExactly("hwy");
+		assertThat(target.home.getStreet()).isEqualTo("main");
+	}
+
+	@Test
+	void lazyEmbeddedProxiesUseEqualityOfConvertedValue() {
+
+		org.bson.Document source = new org.bson.Document("home", new org.bson.Document("street", "main"));
+
+		WithLazyEmbedded first = converter.read(WithLazyEmbedded.class, source);
+		WithLazyEmbedded second = converter.read(WithLazyEmbedded.class, source);
+
+		assertThat(first.home).isEqualTo(first.home).isNotEqualTo(second.home);
+		assertThat(first.home.hashCode()).isEqualTo(((LazyLoadingProxy) first.home).getTarget().hashCode());
+	}
+
+	@Test
+	void writesResolvedLazyEmbeddedProperties() {
+
+		org.bson.Document source = new org.bson.Document("addresses",
+				Collections.singletonList(new org.bson.Document("street", "hwy"))).append("home",
+						new org.bson.Document("street", "main"));
+
+		WithLazyEmbedded read = converter.read(WithLazyEmbedded.class, source);
+
+		org.bson.Document target = new org.bson.Document();
+		converter.write(read, target);
+
+		assertThat(target.get("addresses", List.class)).hasSize(1);
+		assertThat(((org.bson.Document) target.get("addresses", List.class).get(0)).get("street")).isEqualTo("hwy");
+		assertThat(target.get("home", org.bson.Document.class).get("street")).isEqualTo("main");
+	}
+
+	@Test
+	void projectShouldReadNestedProjectionLazilyIfConfigured() {
+
+		converter.setLazyInterfaceProjections(true);
+
+		org.bson.Document source = new org.bson.Document("addresses",
+				Collections.singletonList(new org.bson.Document("s", "hwy"))).append("foo", "Walter");
+
+		EntityProjectionIntrospector introspector = EntityProjectionIntrospector.create(converter.getProjectionFactory(),
+				EntityProjectionIntrospector.ProjectionPredicate.typeHierarchy()
+						.and((target, underlyingType) -> !converter.conversions.isSimpleType(target)),
+				mappingContext);
+
+		EntityProjection<WithNestedProjection, Person> projection = introspector.introspect(WithNestedProjection.class,
+				Person.class);
+		WithNestedProjection person = converter.project(projection, source);
+
+		assertThat(person.getAddresses()).extracting(AddressProjection::getStreet).hasSize(1).containsOnly("hwy");
+	}
+
+	@Test
+	void lazyPropertyMapResolvesPendingValuesOnAccess() {
+
+		MappingMongoConverter.LazyPropertyMap map = new MappingMongoConverter.LazyPropertyMap();
+		map.put("simple", "value");
+		map.putPending("nested", () -> map.put("nested", "resolved"));
+
+		assertThat(map.isPending("nested")).isTrue();
+		assertThat(map.get("nested")).isEqualTo("resolved");
+		assertThat(map.isPending("nested")).isFalse();
+		assertThat(map).containsEntry("simple", "value").containsEntry("nested", "resolved");
+	}
+
+	static class WithLazyEmbedded {
+
+		String name;
+		@LazyEmbedded List<LazyEmbeddedAddress> addresses;
+		@LazyEmbedded LazyEmbeddedAddress home;
+	}
+
+	static class LazyEmbeddedAddress {
+
+		String street;
+
+		public String getStreet() {
+			return street;
+		}
+	}
+
+	@Test
+	void writesPropertiesUsingWritePlan() {
+
+		WithWritePlanProperties source = new WithWritePlanProperties();
+		source.id = "id-1";
+		source.nestedValue = "nested";
+		source.count = 42;
+
+		org.bson.Document target = new org.bson.Document();
+		converter.write(source, target);
+
+		assertThat(target).containsEntry("_id", "id-1").containsEntry("renamed", 42).containsEntry("writeAlways", null)
+				.doesNotContainKey("writeNonNull");
+		assertThat(target.get("nested", org.bson.Document.class)).containsEntry("value", "nested");
+	}
+
+	@Test
+	void recomputesWritePlanWhenConversionsChange() {
+
+		WithSimpleValues source = new WithSimpleValues();
+		source.instant = Instant.ofEpochMilli(1000);
+
+		org.bson.Document target = new org.bson.Document();
+		converter.write(source, target);
+		assertThat(target.get("instant")).isEqualTo(new Date(1000));
+
+		converter.setCustomConversions(
+				new MongoCustomConversions(Collections.singletonList(new InstantToEpochMilliConverter())));
+		converter.afterPropertiesSet();
+
+		target = new org.bson.Document();
+		converter.write(source, target);
+		assertThat(target.get("instant")).isEqualTo(1000L);
+	}
+
+	@Test
+	void encodesEntityLikeWrittenDocument() {
+
+		CodecRegistry registry = MongoClientSettings.getDefaultCodecRegistry();
+
+		Address address = new Address();
+		address.street = "Lombard Street";
+		address.city = "San Francisco";
+
+		WithEncodableProperties source = new WithEncodableProperties();
+		source.id = new ObjectId().toHexString();
+		source.count = 42;
+		source.instant = Instant.ofEpochMilli(1000);
+		source.sampleEnum = SampleEnum.FIRST;
+		source.tags = Arrays.asList("a", "b");
+		source.address = address;
+		source.contact = address;
+		source.attributes = Collections.singletonMap("key", "value");
+
+		org.bson.Document document = new org.bson.Document();
+		converter.write(source, document);
+
+		BsonDocument encoded = new BsonDocument();
+		converter.createEntityEncoder(registry).encode(new BsonDocumentWriter(encoded), EncodableEntity.of(source, null),
+				EncoderContext.builder().build());
+
+		assertThat(encoded).isEqualTo(document.toBsonDocument(org.bson.Document.class, registry));
+		assertThat(new ArrayList<>(encoded.keySet())).containsExactlyElementsOf(document.keySet());
+	}
+
+	@Test
+	void encodesGivenIdIfEntityDoesNotHaveOne() {
+
+		ObjectId id = new ObjectId();
+
+		BsonDocument encoded = new BsonDocument();
+		converter.createEntityEncoder(MongoClientSettings.getDefaultCodecRegistry()).encode(
+				new BsonDocumentWriter(encoded), EncodableEntity.of(new WithEncodableProperties(), id),
+				EncoderContext.builder().build());
+
+		assertThat(encoded.getObjectId("_id").getValue()).isEqualTo(id);
+		assertThat(encoded.isNull("nothing")).isTrue();
+		assertThat(encoded).doesNotContainKey("count");
+	}
+
+	@Test
+	void doesNotEncodeEntitiesWithPathProperties() {
+
+		assertThat(converter.canEncode(WithEncodableProperties.class)).isTrue();
+		assertThat(converter.canEncode(WithWritePlanProperties.class)).isFalse();
+		assertThat(converter.canEncode(org.bson.Document.class)).isFalse();
+		assertThat(converter.canEncode(String.class)).isFalse();
+	}
+
+	static class WithEncodableProperties {
+
+		String id;
+		Integer count;
+		Instant instant;
+		SampleEnum sampleEnum;
+		List<String> tags;
+		Address address;
+		InterfaceType contact;
+		Map<String, String> attributes;
+		@Field(write = Field.Write.ALWAYS) String nothing;
+	}
+
+	@WritingConverter
+	static class InstantToEpochMilliConverter implements Converter<Instant, Long> {
+
+		@Override
+		public Long convert(Instant source) {
+			return source.toEpochMilli();
+		}
+	}
+
+	static class WithWritePlanProperties {
+
+		String id;
+		@Field("nested.value") String nestedValue;
+		@Field("renamed") Integer count;
+		@Field(write = Field.Write.ALWAYS) String writeAlways;
+		String writeNonNull;
+	}
+
+	@ReadingConverter
+	static class IntegerToStringConverter implements Converter<Integer, String> {
+
+		@Override
+		public String convert(Integer source) {
+			return "int-" + source;
+		}
+	}
+
+	static class WithSimpleValues {
+
+		long primitiveLong;
+		int primitiveInt;
+		Double boxedDouble;
+		Instant instant;
+		Date date;
+		String text;
+	}
+
 	static class GenericType<T> {
 		T content;
 	}
@@ -18,8 +18,12 @@ package org.springframework.data.mongodb.core.convert;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,12 +32,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.SpELContext;
+import org.springframework.data.mongodb.core.convert.ReferenceLoader.DocumentReferenceQuery;
+import org.springframework.data.mongodb.core.convert.ReferenceLookupDelegate.LookupFunction;
 import org.springframework.data.mongodb.core.convert.ReferenceResolver.MongoEntityReader;
 import org.springframework.data.mongodb.core.mapping.DocumentReference;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 /**
  * Unit tests for {@link ReferenceLookupDelegate}.
@@ -76,4 +83,84 @@ class ReferenceLookupDelegateUnitTests {
 			return Collections.emptyList();
 		}, entityReader);
 	}
+
+	@Test
+	void shouldCombineSimpleTargetLookupsIntoSingleInQuery() {
+
+		DocumentReference documentReference = mock(DocumentReference.class);
+		MongoPersistentEntity entity = mock(MongoPersistentEntity.class);
+		MongoPersistentProperty property = mock(MongoPersistentProperty.class);
+
+		doReturn(entity).when(mappingContext).getRequiredPersistentEntity((Class) any());
+
+		when(property.isDocumentReference()).thenReturn(true);
+		when(property.isCollectionLike()).thenReturn(true);
+		when(property.getDocumentReference()).thenReturn(documentReference);
+		when(documentReference.lookup()).thenReturn("{ 'name' : ?#{#target} }");
+
+		lookupDelegate.readReference(property, Arrays.asList("one", "two"), (referenceQuery, referenceCollection) -> {
+
+			assertThat(referenceQuery.getQuery())
+					.isEqualTo(new Document("name", new Document("$in", Arrays.asList("one", "two"))));
+			assertThat(referenceQuery.restoreOrder(Arrays.asList(new Document("name", "two"), new Document("name", "one"))))
+					.containsExactly(new Document("name", "one"), new Document("name", "two"));
+			return Collections.emptyList();
+		}, entityReader);
+	}
+
+	@Test
+	void shouldReuseLookupTemplateForProperty() {
+
+		DocumentReference documentReference = mock(DocumentReference.class);
+		MongoPersistentEntity entity = mock(MongoPersistentEntity.class);
+		MongoPersistentProperty property = mock(MongoPersistentProperty.class);
+
+		doReturn(entity).when(mappingContext).getRequiredPersistentEntity((Class) any());
+
+		when(property.isDocumentReference()).thenReturn(true);
+		when(property.getDocumentReference()).thenReturn(documentReference);
+		when(documentReference.lookup()).thenReturn("{ '_id' : ?#{#target} }");
+		when(documentReference.sort()).thenReturn("{ 'name' : -1 }");
+
+		List<DocumentReferenceQuery> queries = new ArrayList<>();
+		LookupFunction lookupFunction = (referenceQuery, referenceCollection) -> {
+
+			queries.add(referenceQuery);
+			return Collections.emptyList();
+		};
+
+		lookupDelegate.readReference(property, "one", lookupFunction, entityReader);
+		lookupDelegate.readReference(property, "two", lookupFunction, entityReader);
+
+		assertThat(queries).extracting(DocumentReferenceQuery::getQuery).containsExactly(new Document("_id", "one"),
+				new Document("_id", "two"));
+		assertThat(queries).extracting(DocumentReferenceQuery::getSort).containsOnly(new Document("name", -1));
+		verify(documentReference, times(1)).lookup();
+		verify(documentReference, times(1)).sort();
+	}
+
+	@Test
+	void shouldFallBackToOrQueryForComplexLookups() {
+
+		DocumentReference documentReference = mock(DocumentReference.class);
+		MongoPersistentEntity entity = mock(MongoPersistentEntity.class);
+		MongoPersistentProperty property = mock(MongoPersistentProperty.class);
+
+		doReturn(entity).when(mappingContext).getRequiredPersistentEntity((Class) any());
+		when(spELContext.getEvaluationContext(any())).thenReturn(new StandardEvaluationContext());
+
+		when(property.isDocumentReference()).thenReturn(true);
+		when(property.isCollectionLike()).thenReturn(true);
+		when(property.getName()).thenReturn("books");
+		when(property.getDocumentReference()).thenReturn(documentReference);
+		when(documentReference.lookup()).thenReturn("{ 'name' : ?#{#target}, 'active' : true }");
+
+		lookupDelegate.readReference(property, Arrays.asList("one", "two"), (referenceQuery, referenceCollection) -> {
+
+			assertThat(referenceQuery.getQuery()).isEqualTo(new Document("$or",
+					Arrays.asList(new Document("name", "one").append("active", true),
+							new Document("name", "two").append("active", true))));
+			return Collections.emptyList();
+		}, entityReader);
+	}
 }
@@ -53,6 +53,7 @@ import org.springframework.data.mongodb.core.convert.UpdateMapper;
 import org.springframework.data.mongodb.core.mapping.DocumentReference;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.Unwrapped;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -1352,6 +1353,32 @@ class UpdateMapperUnitTests {
 		assertThat(mappedUpdate).isEqualTo("{ $set : { 'text' : 'eulav' } }");
 	}
 
+	@Test
+	void reusesResolvedFieldForRepeatedUpdateKeys() {
+
+		MongoPersistentEntity<?> entity = context.getPersistentEntity(ParentClass.class);
+
+		QueryMapper.Field first = mapper.createPropertyField(entity, "list.$[element].value", context);
+		QueryMapper.Field second = mapper.createPropertyField(entity, "list.$[element].value", context);
+
+		assertThat(second).isSameAs(first);
+		assertThat(second.getMappedKey()).isEqualTo("aliased.$[element].value");
+	}
+
+	@Test
+	void mapsRepeatedPositionalUpdatesConsistently() {
+
+		for (int i = 0; i < 3; i++) {
+
+			Update update = new Update().set("list.$[element].value", "v" + i).inc("list.$.otherValue", i);
+			Document mappedUpdate = mapper.getMappedObject(update.getUpdateObject(),
+					context.getPersistentEntity(ParentClass.class));
+
+			assertThat(mappedUpdate).isEqualTo(new Document("$set", new Document("aliased.$[element].value", "v" + i))
+					.append("$inc", new Document("aliased.$.otherValue", i)));
+		}
+	}
+
 	static class DomainTypeWrappingConcreteyTypeHavingListOfInterfaceTypeAttributes {
 		ListModelWrapper concreteTypeWithListAttributeOfInterfaceType;
 	}
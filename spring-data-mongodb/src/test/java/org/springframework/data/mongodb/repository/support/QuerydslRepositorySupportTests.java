@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.*;
 import lombok.Data;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
@@ -41,6 +43,9 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.util.StringUtils;
 
+import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.Projections;
+
 /**
  * Unit tests for {@link QuerydslRepositorySupport}.
  *
@@ -280,6 +285,64 @@ public class QuerydslRepositorySupportTests {
 				"find({\"lastname\":\"Matthews\",\"coworker\":{\"$ref\":\"user\",\"$id\":\"id\"}}).sort({\"firstname\":1}).skip(1).limit(5)");
 	}
 
+	@Test
+	public void appliesCursorBatchSize() {
+
+		QPerson p = QPerson.person;
+		SpringDataMongodbQuery<Person> query = repoSupport.from(p).where(p.lastname.eq("Matthews")).batchSize(10);
+
+		assertThat(query.createQuery().getMeta().getCursorBatchSize()).isEqualTo(10);
+		assertThat(query.fetch()).containsExactly(person);
+	}
+
+	@Test
+	public void continuesAfterKeyset() {
+
+		operations.save(new Person("Carter", "Beauford"));
+		operations.save(new Person("Boyd", "Tinsley"));
+
+		QPerson p = QPerson.person;
+
+		List<Person> firstChunk = repoSupport.from(p).orderBy(p.firstname.asc()).limit(2).fetch();
+		assertThat(firstChunk).extracting(Person::getFirstname).containsExactly("Boyd", "Carter");
+
+		Person last = firstChunk.get(1);
+		List<Person> secondChunk = repoSupport.from(p).orderBy(p.firstname.asc()).limit(2).after(last.getFirstname())
+				.fetch();
+
+		assertThat(secondChunk).extracting(Person::getFirstname).containsExactly("Dave");
+	}
+
+	@Test
+	public void streamsServerSideProjection() {
+
+		QPerson p = QPerson.person;
+
+		try (Stream<PersonSummary> stream = repoSupport.from(p).where(p.lastname.eq("Matthews"))
+				.stream(Projections.bean(PersonSummary.class, p.firstname))) {
+
+			assertThat(stream).extracting(PersonSummary::getFirstname, PersonSummary::getLastname)
+					.containsExactly(tuple("Dave", null));
+		}
+	}
+
+	@Test
+	public void fetchResultsComputesTotalOfLastChunk() {
+
+		QPerson p = QPerson.person;
+		QueryResults<Person> results = repoSupport.from(p).where(p.lastname.eq("Matthews")).limit(10).fetchResults();
+
+		assertThat(results.getResults()).containsExactly(person);
+		assertThat(results.getTotal()).isEqualTo(1L);
+	}
+
+	@Data
+	public static class PersonSummary {
+
+		String firstname;
+		String lastname;
+	}
+
 	@Data
 	@Document
 	public static class Outer {
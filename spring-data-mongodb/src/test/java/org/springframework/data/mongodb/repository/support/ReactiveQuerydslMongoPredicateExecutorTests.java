@@ -17,6 +17,7 @@ package org.springframework.data.mongodb.repository.support;
 
 import static org.assertj.core.api.Assertions.*;
 
+import lombok.Data;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -56,6 +57,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import com.mongodb.MongoException;
+import com.querydsl.core.types.Projections;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
@@ -441,4 +443,23 @@ public class ReactiveQuerydslMongoPredicateExecutorTests {
 				.expectNext(false) //
 				.verifyComplete();
 	}
+
+	@Test
+	public void findAllShouldApplyFactoryExpressionProjection() {
+
+		repository.findAll(person.lastname.eq(oliver.getLastname()), Projections.bean(PersonSummary.class, person.firstname),
+				person.firstname.asc()) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it).extracting(PersonSummary::getFirstname, PersonSummary::getLastname)
+						.containsExactly(dave.getFirstname(), null)) //
+				.assertNext(it -> assertThat(it.getFirstname()).isEqualTo(oliver.getFirstname())) //
+				.verifyComplete();
+	}
+
+	@Data
+	public static class PersonSummary {
+
+		String firstname;
+		String lastname;
+	}
 }
@@ -19,10 +19,14 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -133,8 +137,47 @@ public class SimpleMongoRepositoryUnitTests {
 		assertThat(query.getValue().getCollation()).contains(collation);
 	}
 
+	@Test
+	void saveAllSavesEntitiesOneByOneInOrderWithoutShardKeyLookup() {
+
+		TestDummy first = new TestDummy();
+		TestDummy second = new TestDummy();
+
+		doReturn(TestDummy.class).when(entityInformation).getJavaType();
+		when(entityInformation.getCollectionName()).thenReturn("dummy");
+		when(entityInformation.isNew(first)).thenReturn(false);
+		when(entityInformation.isNew(second)).thenReturn(true);
+		when(mongoOperations.save(first, "dummy")).thenReturn(first);
+		when(mongoOperations.insert(second, "dummy")).thenReturn(second);
+
+		assertThat(repository.saveAll(Arrays.asList(first, second))).containsExactly(first, second);
+
+		InOrder inOrder = inOrder(mongoOperations);
+		inOrder.verify(mongoOperations).save(first, "dummy");
+		inOrder.verify(mongoOperations).insert(second, "dummy");
+		verify(mongoOperations, never()).saveAll(any(), any());
+	}
+
+	@Test
+	void saveAllRejectsIncompleteBatchResultForShardedEntities() {
+
+		ShardedDummy dummy = new ShardedDummy();
+
+		doReturn(ShardedDummy.class).when(entityInformation).getJavaType();
+		when(mongoOperations.requiresShardKeyLookup(ShardedDummy.class)).thenReturn(true);
+		when(entityInformation.getCollectionName()).thenReturn("sharded");
+		when(entityInformation.isNew(dummy)).thenReturn(false);
+		when(mongoOperations.saveAll(anyCollection(), eq("sharded"))).thenReturn(Collections.emptyList());
+
+		assertThatIllegalStateException().isThrownBy(() -> repository.saveAll(Collections.singletonList(dummy)));
+	}
+
 	static class TestDummy {
 
 	}
 
+	static class ShardedDummy {
+
+	}
+
 }
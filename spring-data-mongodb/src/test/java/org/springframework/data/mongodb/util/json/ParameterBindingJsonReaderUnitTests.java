@@ -547,6 +547,41 @@ class ParameterBindingJsonReaderUnitTests {
 		assertThat(target.get("arg0")).isEqualTo(source);
 	}
 
+	@Test
+	void reusesExpressionBindingForRepeatedEvaluation() {
+
+		String json = "{ 'name' : ?#{ ?0 + '?1' } }";
+
+		assertThat(parse(json, 1, 2)).isEqualTo(new Document("name", "12"));
+		assertThat(parse(json, 3, 4)).isEqualTo(new Document("name", "34"));
+	}
+
+	@Test
+	void rewritesPlaceholdersOfExpressionBinding() {
+
+		ParameterBindingJsonReader.ExpressionBinding binding = ParameterBindingJsonReader.ExpressionBinding
+				.parse(" ?0 + '?1' ");
+		ParameterBindingContext bindingContext = new ParameterBindingContext(index -> index == 0 ? 1 : null,
+				new SpelExpressionParser(), new StandardEvaluationContext());
+
+		assertThat(binding.getExpression()).isEqualTo(" #__QVar0 + #__QVar1 ");
+		assertThat(binding.bindVariables(bindingContext)).containsEntry("__QVar0", 1).containsEntry("__QVar1", "null");
+	}
+
+	@Test
+	void capturesExpressionDependenciesOncePerSource() {
+
+		SpelExpressionParser parser = new SpelExpressionParser();
+		String json = "{ hello: ?#{hasRole('foo')} }";
+
+		ExpressionDependencies first = new ParameterBindingDocumentCodec().captureExpressionDependencies(json,
+				it -> new Object(), parser);
+		ExpressionDependencies second = new ParameterBindingDocumentCodec().captureExpressionDependencies(json,
+				it -> new Object(), parser);
+
+		assertThat(second).isSameAs(first);
+	}
+
 	private static Document parse(String json, Object... args) {
 
 		ParameterBindingJsonReader reader = new ParameterBindingJsonReader(json, args);
@@ -55,4 +55,18 @@ class ReactiveAggregationOperationExtensionsTests {
 		}
 	}
 
+	@Test
+	fun terminatingAggregationOperationAllAsChunkedFlow() {
+
+		val spec = mockk<ReactiveAggregationOperation.TerminatingAggregationOperation<String>>()
+		every { spec.all() } returns Flux.just("foo", "bar", "baz")
+
+		runBlocking {
+			assertThat(spec.chunkedFlow(2).toList()).containsExactly(listOf("foo", "bar"), listOf("baz"))
+		}
+
+		verify {
+			spec.all()
+		}
+	}
 }
@@ -61,5 +61,23 @@ class ReactiveChangeStreamOperationExtensionsTests {
 		}
 	}
 
+	@Test
+	fun `TerminatingChangeStream#listen(listener) suspending extension`() {
+
+		val doc1 = mockk<ChangeStreamEvent<Document>>()
+		val doc2 = mockk<ChangeStreamEvent<Document>>()
+
+		val spec = mockk<ReactiveChangeStreamOperation.TerminatingChangeStream<Document>>()
+		every { spec.listen() } returns Flux.just(doc1, doc2)
+
+		val events = mutableListOf<ChangeStreamEvent<Document>>()
+
+		runBlocking {
+			spec.listen { events.add(it) }
+		}
+
+		assertThat(events).containsExactly(doc1, doc2)
+	}
+
 	data class Last(val id: String)
 }
@@ -299,5 +299,39 @@ class ReactiveFindOperationExtensionsTests {
 		}
 	}
 
+	@Test
+	fun terminatingFindAllAsFlowWithBatchSize() {
+
+		val requests = mutableListOf<Long>()
+		val spec = mockk<ReactiveFindOperation.TerminatingFind<String>>()
+		every { spec.all() } returns Flux.just("foo", "bar", "baz").doOnRequest { requests.add(it) }
+
+		runBlocking {
+			assertThat(spec.flow(2).toList()).containsExactly("foo", "bar", "baz")
+		}
+
+		assertThat(requests).isNotEmpty().allMatch { it <= 2 }
+	}
+
+	@Test
+	fun terminatingFindAllAsChunkedFlow() {
+
+		val spec = mockk<ReactiveFindOperation.TerminatingFind<String>>()
+		every { spec.all() } returns Flux.just("foo", "bar", "baz")
+
+		runBlocking {
+			assertThat(spec.chunkedFlow(2).toList()).containsExactly(listOf("foo", "bar"), listOf("baz"))
+		}
+	}
+
+	@Test
+	fun terminatingFindAllAsFlowRejectsInvalidBatchSize() {
+
+		val spec = mockk<ReactiveFindOperation.TerminatingFind<String>>()
+		every { spec.all() } returns Flux.just("foo")
+
+		assertThatExceptionOfType(IllegalArgumentException::class.java).isThrownBy { spec.flow(0) }
+	}
+
 	data class KotlinUser(val username: String)
 }